@@ -0,0 +1,41 @@
+package ovh.equino.actracker.application;
+
+import ovh.equino.actracker.domain.EntitySortCriteria;
+import ovh.equino.actracker.domain.exception.InvalidSortFieldException;
+
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+import static ovh.equino.actracker.domain.EntitySortCriteria.Order.ASC;
+import static ovh.equino.actracker.domain.EntitySortCriteria.Order.DESC;
+import static ovh.equino.actracker.domain.EntitySortCriteria.irrelevant;
+
+public final class OrderByParser {
+
+    private static final String DESCENDING_PREFIX = "-";
+
+    private OrderByParser() {
+    }
+
+    /**
+     * @param orderBy name of the sort field, prefixed with "-" for descending order, e.g. "-startTime". Entities are
+     *                ordered by ID only, if blank.
+     * @param fields  sort fields supported by the searched entity, by their names.
+     */
+    public static EntitySortCriteria parse(String orderBy, Map<String, EntitySortCriteria.Field> fields) {
+        if (isNull(orderBy) || orderBy.isBlank()) {
+            return irrelevant();
+        }
+        String fieldName = orderBy.trim();
+        EntitySortCriteria.Order order = ASC;
+        if (fieldName.startsWith(DESCENDING_PREFIX)) {
+            fieldName = fieldName.substring(DESCENDING_PREFIX.length());
+            order = DESC;
+        }
+        EntitySortCriteria.Field field = fields.get(fieldName);
+        if (field == null) {
+            throw new InvalidSortFieldException(orderBy);
+        }
+        return new EntitySortCriteria(new EntitySortCriteria.Level(field, order));
+    }
+}
@@ -3,6 +3,7 @@ package ovh.equino.actracker.application.activity;
 import ovh.equino.actracker.application.SearchResult;
 import ovh.equino.actracker.domain.EntitySearchCriteria;
 import ovh.equino.actracker.domain.EntitySearchResult;
+import ovh.equino.actracker.domain.EntitySortCriteria;
 import ovh.equino.actracker.domain.activity.*;
 import ovh.equino.actracker.domain.exception.EntityNotFoundException;
 import ovh.equino.actracker.domain.tag.MetricId;
@@ -13,13 +14,20 @@ import ovh.equino.actracker.domain.user.User;
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
 import static java.time.Instant.now;
+import static ovh.equino.actracker.application.OrderByParser.parse;
+import static ovh.equino.actracker.domain.activity.ActivitySortField.START_TIME;
 
 public class ActivityApplicationService {
 
+    private static final Map<String, EntitySortCriteria.Field> SORT_FIELDS = Map.of(
+            "startTime", START_TIME
+    );
+
     private final ActivityFactory activityFactory;
     private final ActivityRepository activityRepository;
     private final ActivityDataSource activityDataSource;
@@ -95,10 +103,7 @@ public class ActivityApplicationService {
         activityRepository.add(activity);
         activityNotifier.notifyChanged(activity.forChangeNotification());
 
-        return findActivityResult(activity.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find created activity with ID=%s".formatted(activity.id())
-                ));
+        return toActivityResult(activity.forClient());
     }
 
     public SearchResult<ActivityResult> searchActivities(SearchActivitiesQuery searchActivitiesQuery) {
@@ -111,7 +116,8 @@ public class ActivityApplicationService {
                 searchActivitiesQuery.timeRangeStart(),
                 searchActivitiesQuery.timeRangeEnd(),
                 searchActivitiesQuery.excludeFilter(),
-                searchActivitiesQuery.tags()
+                searchActivitiesQuery.tags(),
+                parse(searchActivitiesQuery.orderBy(), SORT_FIELDS)
         );
 
         EntitySearchResult<ActivityDto> searchResult = activitySearchEngine.findActivities(searchCriteria);
@@ -156,10 +162,7 @@ public class ActivityApplicationService {
         activityRepository.add(newActivity);
         activityNotifier.notifyChanged(newActivity.forChangeNotification());
 
-        return findActivityResult(newActivity.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find created activity with ID=%s".formatted(newActivity.id())
-                ));
+        return toActivityResult(newActivity.forClient());
     }
 
     private void finishAllAt(Instant switchTime, List<ActivityId> activitiesToFinish) {
@@ -183,10 +186,7 @@ public class ActivityApplicationService {
         activityRepository.save(activity);
         activityNotifier.notifyChanged(activity.forChangeNotification());
 
-        return findActivityResult(activity.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated activity with ID=%s".formatted(activity.id())
-                ));
+        return toActivityResult(activity.forClient());
     }
 
     public ActivityResult startActivity(Instant startTime, UUID activityId) {
@@ -197,10 +197,7 @@ public class ActivityApplicationService {
         activityRepository.save(activity);
         activityNotifier.notifyChanged(activity.forChangeNotification());
 
-        return findActivityResult(activity.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated activity with ID=%s".formatted(activity.id())
-                ));
+        return toActivityResult(activity.forClient());
     }
 
     public ActivityResult finishActivity(Instant endTime, UUID activityId) {
@@ -211,10 +208,7 @@ public class ActivityApplicationService {
         activityRepository.save(activity);
         activityNotifier.notifyChanged(activity.forChangeNotification());
 
-        return findActivityResult(activity.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated activity with ID=%s".formatted(activity.id())
-                ));
+        return toActivityResult(activity.forClient());
     }
 
     public ActivityResult updateActivityComment(String newComment, UUID activityId) {
@@ -225,10 +219,7 @@ public class ActivityApplicationService {
         activityRepository.save(activity);
         activityNotifier.notifyChanged(activity.forChangeNotification());
 
-        return findActivityResult(activity.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated activity with ID=%s".formatted(activity.id())
-                ));
+        return toActivityResult(activity.forClient());
     }
 
     public ActivityResult addTagToActivity(UUID tagId, UUID activityId) {
@@ -239,10 +230,7 @@ public class ActivityApplicationService {
         activityRepository.save(activity);
         activityNotifier.notifyChanged(activity.forChangeNotification());
 
-        return findActivityResult(activity.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated activity with ID=%s".formatted(activity.id())
-                ));
+        return toActivityResult(activity.forClient());
     }
 
     public ActivityResult removeTagFromActivity(UUID tagId, UUID activityId) {
@@ -253,10 +241,7 @@ public class ActivityApplicationService {
         activityRepository.save(activity);
         activityNotifier.notifyChanged(activity.forChangeNotification());
 
-        return findActivityResult(activity.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated activity with ID=%s".formatted(activity.id())
-                ));
+        return toActivityResult(activity.forClient());
     }
 
     public ActivityResult setMetricValue(UUID metricId, BigDecimal value, UUID activityId) {
@@ -267,10 +252,7 @@ public class ActivityApplicationService {
         activityRepository.save(activity);
         activityNotifier.notifyChanged(activity.forChangeNotification());
 
-        return findActivityResult(activity.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated activity with ID=%s".formatted(activity.id())
-                ));
+        return toActivityResult(activity.forClient());
     }
 
     public ActivityResult unsetMetricValue(UUID metricId, UUID activityId) {
@@ -281,10 +263,7 @@ public class ActivityApplicationService {
         activityRepository.save(activity);
         activityNotifier.notifyChanged(activity.forChangeNotification());
 
-        return findActivityResult(activity.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated activity with ID=%s".formatted(activity.id())
-                ));
+        return toActivityResult(activity.forClient());
     }
 
     public void deleteActivity(UUID activityId) {
@@ -13,7 +13,8 @@ public record SearchActivitiesQuery(Integer pageSize,
                                     Instant timeRangeStart,
                                     Instant timeRangeEnd,
                                     Set<UUID> tags,
-                                    Set<UUID> excludeFilter) {
+                                    Set<UUID> excludeFilter,
+                                    String orderBy) {
 
     public SearchActivitiesQuery {
         tags = requireNonNullElse(tags, emptySet());
@@ -0,0 +1,33 @@
+package ovh.equino.actracker.application.dashboard;
+
+import ovh.equino.actracker.domain.activity.ActivityChangedNotification;
+import ovh.equino.actracker.domain.activity.ActivityNotifier;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Invalidates generated dashboards affected by changed activities, once the change is committed.
+ */
+public class CacheInvalidatingActivityNotifier implements ActivityNotifier {
+
+    private final ActivityNotifier notifier;
+    private final DashboardGenerationCache dashboardGenerationCache;
+    private final Executor afterCommitExecutor;
+
+    public CacheInvalidatingActivityNotifier(ActivityNotifier notifier,
+                                             DashboardGenerationCache dashboardGenerationCache,
+                                             Executor afterCommitExecutor) {
+
+        this.notifier = notifier;
+        this.dashboardGenerationCache = dashboardGenerationCache;
+        this.afterCommitExecutor = afterCommitExecutor;
+    }
+
+    @Override
+    public void notifyChanged(ActivityChangedNotification activityChangedNotification) {
+        notifier.notifyChanged(activityChangedNotification);
+        afterCommitExecutor.execute(
+                () -> dashboardGenerationCache.activityChanged(activityChangedNotification.activity())
+        );
+    }
+}
@@ -0,0 +1,33 @@
+package ovh.equino.actracker.application.dashboard;
+
+import ovh.equino.actracker.domain.dashboard.DashboardChangedNotification;
+import ovh.equino.actracker.domain.dashboard.DashboardNotifier;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Invalidates generated dashboards of changed dashboards, once the change is committed.
+ */
+public class CacheInvalidatingDashboardNotifier implements DashboardNotifier {
+
+    private final DashboardNotifier notifier;
+    private final DashboardGenerationCache dashboardGenerationCache;
+    private final Executor afterCommitExecutor;
+
+    public CacheInvalidatingDashboardNotifier(DashboardNotifier notifier,
+                                              DashboardGenerationCache dashboardGenerationCache,
+                                              Executor afterCommitExecutor) {
+
+        this.notifier = notifier;
+        this.dashboardGenerationCache = dashboardGenerationCache;
+        this.afterCommitExecutor = afterCommitExecutor;
+    }
+
+    @Override
+    public void notifyChanged(DashboardChangedNotification dashboardChangedNotification) {
+        notifier.notifyChanged(dashboardChangedNotification);
+        afterCommitExecutor.execute(
+                () -> dashboardGenerationCache.dashboardChanged(dashboardChangedNotification.dashboard())
+        );
+    }
+}
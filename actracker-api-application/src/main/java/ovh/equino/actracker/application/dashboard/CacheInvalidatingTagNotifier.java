@@ -0,0 +1,31 @@
+package ovh.equino.actracker.application.dashboard;
+
+import ovh.equino.actracker.domain.tag.TagChangedNotification;
+import ovh.equino.actracker.domain.tag.TagNotifier;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Invalidates generated dashboards affected by changed tags, once the change is committed.
+ */
+public class CacheInvalidatingTagNotifier implements TagNotifier {
+
+    private final TagNotifier notifier;
+    private final DashboardGenerationCache dashboardGenerationCache;
+    private final Executor afterCommitExecutor;
+
+    public CacheInvalidatingTagNotifier(TagNotifier notifier,
+                                        DashboardGenerationCache dashboardGenerationCache,
+                                        Executor afterCommitExecutor) {
+
+        this.notifier = notifier;
+        this.dashboardGenerationCache = dashboardGenerationCache;
+        this.afterCommitExecutor = afterCommitExecutor;
+    }
+
+    @Override
+    public void notifyChanged(TagChangedNotification tagChangedNotification) {
+        notifier.notifyChanged(tagChangedNotification);
+        afterCommitExecutor.execute(() -> dashboardGenerationCache.tagChanged(tagChangedNotification.tag()));
+    }
+}
@@ -22,6 +22,7 @@ public class DashboardApplicationService {
     private final DashboardDataSource dashboardDataSource;
     private final DashboardSearchEngine dashboardSearchEngine;
     private final DashboardGenerationEngine dashboardGenerationEngine;
+    private final DashboardGenerationCache dashboardGenerationCache;
     private final DashboardNotifier dashboardNotifier;
     private final TenantDataSource tenantDataSource;
     private final ActorExtractor actorExtractor;
@@ -31,6 +32,7 @@ public class DashboardApplicationService {
                                        DashboardDataSource dashboardDataSource,
                                        DashboardSearchEngine dashboardSearchEngine,
                                        DashboardGenerationEngine dashboardGenerationEngine,
+                                       DashboardGenerationCache dashboardGenerationCache,
                                        DashboardNotifier dashboardNotifier,
                                        TenantDataSource tenantDataSource,
                                        ActorExtractor actorExtractor) {
@@ -40,6 +42,7 @@ public class DashboardApplicationService {
         this.dashboardDataSource = dashboardDataSource;
         this.dashboardSearchEngine = dashboardSearchEngine;
         this.dashboardGenerationEngine = dashboardGenerationEngine;
+        this.dashboardGenerationCache = dashboardGenerationCache;
         this.dashboardNotifier = dashboardNotifier;
         this.tenantDataSource = tenantDataSource;
         this.actorExtractor = actorExtractor;
@@ -97,10 +100,7 @@ public class DashboardApplicationService {
         dashboardRepository.add(dashboard);
         dashboardNotifier.notifyChanged(dashboard.forChangeNotification());
 
-        return findDashboardResult(dashboard.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find created dashboard with ID=%s".formatted(dashboard.id())
-                ));
+        return toDashboardResult(dashboard.forClient());
     }
 
     public SearchResult<DashboardResult> searchDashboards(SearchDashboardsQuery searchDashboardsQuery) {
@@ -133,10 +133,7 @@ public class DashboardApplicationService {
         dashboardRepository.save(dashboard);
         dashboardNotifier.notifyChanged(dashboard.forChangeNotification());
 
-        return findDashboardResult(dashboard.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated dashboard with ID=%s".formatted(dashboard.id())
-                ));
+        return toDashboardResult(dashboard.forClient());
     }
 
     public void deleteDashboard(UUID dashboardId) {
@@ -163,10 +160,7 @@ public class DashboardApplicationService {
         dashboardRepository.save(dashboard);
         dashboardNotifier.notifyChanged(dashboard.forChangeNotification());
 
-        return findDashboardResult(dashboard.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated dashboard with ID=%s".formatted(dashboard.id())
-                ));
+        return toDashboardResult(dashboard.forClient());
     }
 
     public DashboardResult deleteChart(UUID chartId, UUID dashboardId) {
@@ -177,10 +171,7 @@ public class DashboardApplicationService {
         dashboardRepository.save(dashboard);
         dashboardNotifier.notifyChanged(dashboard.forChangeNotification());
 
-        return findDashboardResult(dashboard.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated dashboard with ID=%s".formatted(dashboard.id())
-                ));
+        return toDashboardResult(dashboard.forClient());
     }
 
     public DashboardResult shareDashboard(String newGrantee, UUID dashboardId) {
@@ -192,10 +183,7 @@ public class DashboardApplicationService {
         dashboardRepository.save(dashboard);
         dashboardNotifier.notifyChanged(dashboard.forChangeNotification());
 
-        return findDashboardResult(dashboard.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated dashboard with ID=%s".formatted(dashboard.id())
-                ));
+        return toDashboardResult(dashboard.forClient());
     }
 
     public DashboardResult unshareDashboard(String granteeName, UUID dashboardId) {
@@ -206,10 +194,7 @@ public class DashboardApplicationService {
         dashboardRepository.save(dashboard);
         dashboardNotifier.notifyChanged(dashboard.forChangeNotification());
 
-        return findDashboardResult(dashboard.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated dashboard with ID=%s".formatted(dashboard.id())
-                ));
+        return toDashboardResult(dashboard.forClient());
     }
 
     public DashboardGenerationResult generateDashboard(GenerateDashboardQuery generateDashboardQuery) {
@@ -226,8 +211,18 @@ public class DashboardApplicationService {
         Dashboard dashboard = dashboardRepository.get(new DashboardId(dashboardId))
                 .orElseThrow(() -> new EntityNotFoundException(Dashboard.class, dashboardId));
 
-        DashboardData dashboardData = dashboardGenerationEngine.generateDashboard(dashboard.forStorage(), generationCriteria);
-        return toGenerationResult(dashboardData);
+        DashboardDto dashboardDto = dashboard.forStorage();
+        DashboardGenerationCache.Key cacheKey = DashboardGenerationCache.Key.of(dashboardDto, generationCriteria);
+        Optional<DashboardGenerationResult> cachedResult = dashboardGenerationCache.find(cacheKey);
+        if (cachedResult.isPresent()) {
+            return cachedResult.get();
+        }
+
+        long cacheStamp = dashboardGenerationCache.stamp();
+        DashboardData dashboardData = dashboardGenerationEngine.generateDashboard(dashboardDto, generationCriteria);
+        DashboardGenerationResult generationResult = toGenerationResult(dashboardData);
+        dashboardGenerationCache.put(cacheKey, generationResult, cacheStamp);
+        return generationResult;
     }
 
     // TODO extract to share resolver service
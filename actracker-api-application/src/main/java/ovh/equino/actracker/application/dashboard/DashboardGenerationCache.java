@@ -0,0 +1,249 @@
+package ovh.equino.actracker.application.dashboard;
+
+import ovh.equino.actracker.domain.activity.ActivityDto;
+import ovh.equino.actracker.domain.activity.MetricValue;
+import ovh.equino.actracker.domain.dashboard.Chart;
+import ovh.equino.actracker.domain.dashboard.DashboardDto;
+import ovh.equino.actracker.domain.dashboard.generation.BucketType;
+import ovh.equino.actracker.domain.dashboard.generation.DashboardGenerationCriteria;
+import ovh.equino.actracker.domain.share.Share;
+import ovh.equino.actracker.domain.tag.TagDto;
+import ovh.equino.actracker.domain.user.User;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import static java.util.Collections.disjoint;
+
+/**
+ * Generated dashboards, least recently used evicted once their estimated size exceeds the limit.
+ * <p>
+ * Entries are invalidated once a change is committed, for a user they may depend on: entries of the creator of a
+ * changed activity, and entries with buckets of any of its tags or metrics; entries of the creator and grantees of a
+ * changed tag, and entries with buckets of it; entries of a changed dashboard. Notifications carry only the state after
+ * the change, so entries also expire after the time to live, e.g. when a tag is removed from an activity shared with
+ * another user.
+ * <p>
+ * Dashboards generated while entries were invalidated are not stored, as they may have been generated from the data
+ * before the change. Dashboards generated from the data before a change and stored before it was committed are
+ * removed by the invalidation following the commit.
+ */
+public final class DashboardGenerationCache {
+
+    private static final long ENTRY_BYTES = 512;
+    private static final long CHART_BYTES = 128;
+    private static final long BUCKET_BYTES = 256;
+    private static final Set<String> DEPENDENCY_BUCKET_TYPES = Set.of(BucketType.TAG.name(), BucketType.METRIC.name());
+
+    private final long maxBytes;
+    private final long timeToLiveNanos;
+
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes = 0;
+    private long invalidations = 0;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidatedEntries = new LongAdder();
+
+    /**
+     * @param maxBytes    limit of the estimated size of stored dashboards, 0 disables the cache.
+     * @param timeToLive  time after which stored dashboards are generated again.
+     */
+    public DashboardGenerationCache(long maxBytes, Duration timeToLive) {
+        this.maxBytes = maxBytes;
+        this.timeToLiveNanos = timeToLive.toNanos();
+    }
+
+    public synchronized Optional<DashboardGenerationResult> find(Key key) {
+        Entry entry = entries.get(key);
+        if (entry != null && System.nanoTime() - entry.storedNanos() >= timeToLiveNanos) {
+            remove(key);
+            entry = null;
+        }
+        if (entry == null) {
+            misses.increment();
+            return Optional.empty();
+        }
+        hits.increment();
+        return Optional.of(entry.result());
+    }
+
+    /**
+     * @return stamp to {@link #put} a dashboard generated after calling this method with
+     */
+    public synchronized long stamp() {
+        return invalidations;
+    }
+
+    /**
+     * Stores the generated dashboard, unless entries were invalidated since the stamp was taken.
+     */
+    public void put(Key key, DashboardGenerationResult result, long stamp) {
+        long resultBytes = estimatedBytes(result);
+        if (resultBytes > maxBytes) {
+            return;
+        }
+        Set<UUID> dependencies = dependenciesOf(result);
+        synchronized (this) {
+            if (stamp != invalidations) {
+                return;
+            }
+            remove(key);
+            entries.put(key, new Entry(result, resultBytes, dependencies, System.nanoTime()));
+            bytes += resultBytes;
+            evictExceedingEntries();
+        }
+    }
+
+    public boolean isEnabled() {
+        return maxBytes > 0;
+    }
+
+    public void activityChanged(ActivityDto activity) {
+        Set<UUID> activityDependencies = new HashSet<>(activity.tags());
+        activity.metricValues()
+                .stream()
+                .map(MetricValue::metricId)
+                .forEach(activityDependencies::add);
+        invalidate(entry -> entry.getKey().generator().id().equals(activity.creatorId())
+                || !disjoint(entry.getValue().dependencies(), activityDependencies)
+        );
+    }
+
+    public void tagChanged(TagDto tag) {
+        Set<UUID> affectedUsers = new HashSet<>();
+        affectedUsers.add(tag.creatorId());
+        tag.shares()
+                .stream()
+                .map(Share::grantee)
+                .filter(Objects::nonNull)
+                .map(User::id)
+                .forEach(affectedUsers::add);
+        invalidate(entry -> affectedUsers.contains(entry.getKey().generator().id())
+                || entry.getValue().dependencies().contains(tag.id())
+        );
+    }
+
+    public void dashboardChanged(DashboardDto dashboard) {
+        invalidate(entry -> entry.getKey().dashboardId().equals(dashboard.id()));
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRatio() {
+        long hitCount = getHits();
+        long requestCount = hitCount + getMisses();
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    public long getInvalidations() {
+        return invalidatedEntries.sum();
+    }
+
+    public synchronized int getSize() {
+        return entries.size();
+    }
+
+    public synchronized long getEstimatedBytes() {
+        return bytes;
+    }
+
+    private synchronized void invalidate(Predicate<Map.Entry<Key, Entry>> affected) {
+        invalidations++;
+        Iterator<Map.Entry<Key, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, Entry> entry = iterator.next();
+            if (affected.test(entry)) {
+                bytes -= entry.getValue().bytes();
+                iterator.remove();
+                invalidatedEntries.increment();
+            }
+        }
+    }
+
+    private void evictExceedingEntries() {
+        Iterator<Entry> leastRecentlyUsed = entries.values().iterator();
+        while (bytes > maxBytes) {
+            bytes -= leastRecentlyUsed.next().bytes();
+            leastRecentlyUsed.remove();
+            evictions.increment();
+        }
+    }
+
+    private void remove(Key key) {
+        Entry removedEntry = entries.remove(key);
+        if (removedEntry != null) {
+            bytes -= removedEntry.bytes();
+        }
+    }
+
+    private static Set<UUID> dependenciesOf(DashboardGenerationResult result) {
+        Set<UUID> dependencies = new HashSet<>();
+        result.charts().forEach(chart -> addDependencies(chart.buckets(), dependencies));
+        return dependencies;
+    }
+
+    private static void addDependencies(Collection<GeneratedBucket> buckets, Set<UUID> dependencies) {
+        for (GeneratedBucket bucket : buckets) {
+            if (DEPENDENCY_BUCKET_TYPES.contains(bucket.bucketType())) {
+                dependencies.add(UUID.fromString(bucket.id()));
+            }
+            addDependencies(bucket.buckets(), dependencies);
+        }
+    }
+
+    private static long estimatedBytes(DashboardGenerationResult result) {
+        return ENTRY_BYTES + result.charts()
+                .stream()
+                .mapToLong(chart -> CHART_BYTES + estimatedBytes(chart.buckets()))
+                .sum();
+    }
+
+    private static long estimatedBytes(Collection<GeneratedBucket> buckets) {
+        return buckets.stream()
+                .mapToLong(bucket -> BUCKET_BYTES + estimatedBytes(bucket.buckets()))
+                .sum();
+    }
+
+    /**
+     * Generated dashboard with its name and charts, so that a dashboard changed concurrently is not taken from cache.
+     */
+    public record Key(UUID dashboardId,
+                      String dashboardName,
+                      List<Chart> charts,
+                      User generator,
+                      Instant timeRangeStart,
+                      Instant timeRangeEnd,
+                      Set<UUID> tags) {
+
+        public static Key of(DashboardDto dashboard, DashboardGenerationCriteria generationCriteria) {
+            return new Key(
+                    dashboard.id(),
+                    dashboard.name(),
+                    List.copyOf(dashboard.charts()),
+                    generationCriteria.generator(),
+                    generationCriteria.timeRangeStart(),
+                    generationCriteria.timeRangeEnd(),
+                    Set.copyOf(generationCriteria.tags())
+            );
+        }
+    }
+
+    private record Entry(DashboardGenerationResult result, long bytes, Set<UUID> dependencies, long storedNanos) {
+    }
+}
@@ -9,7 +9,8 @@ import static java.util.Objects.requireNonNullElse;
 public record SearchTagsQuery(Integer pageSize,
                               String pageId,
                               String term,
-                              Set<UUID> excludeFilter) {
+                              Set<UUID> excludeFilter,
+                              String orderBy) {
 
     public SearchTagsQuery {
         excludeFilter = requireNonNullElse(excludeFilter, emptySet());
@@ -3,6 +3,7 @@ package ovh.equino.actracker.application.tag;
 import ovh.equino.actracker.application.SearchResult;
 import ovh.equino.actracker.domain.EntitySearchCriteria;
 import ovh.equino.actracker.domain.EntitySearchResult;
+import ovh.equino.actracker.domain.EntitySortCriteria;
 import ovh.equino.actracker.domain.exception.EntityNotFoundException;
 import ovh.equino.actracker.domain.share.Share;
 import ovh.equino.actracker.domain.tag.*;
@@ -11,14 +12,21 @@ import ovh.equino.actracker.domain.user.ActorExtractor;
 import ovh.equino.actracker.domain.user.User;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
 import static java.util.stream.Collectors.toUnmodifiableSet;
+import static ovh.equino.actracker.application.OrderByParser.parse;
+import static ovh.equino.actracker.domain.tag.TagSortField.NAME;
 
 public class TagApplicationService {
 
+    private static final Map<String, EntitySortCriteria.Field> SORT_FIELDS = Map.of(
+            "name", NAME
+    );
+
     private final TagFactory tagFactory;
     private final MetricFactory metricFactory;
     private final TagRepository tagRepository;
@@ -89,10 +97,7 @@ public class TagApplicationService {
         tagRepository.add(tag);
         tagNotifier.notifyChanged(tag.forChangeNotification());
 
-        return findTagResult(tag.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find created tag with ID=%s".formatted(tag.id())
-                ));
+        return toTagResult(tag.forClient());
     }
 
     public List<TagResult> resolveTags(Set<UUID> tagIds) {
@@ -118,7 +123,8 @@ public class TagApplicationService {
                 null,
                 null,
                 searchTagsQuery.excludeFilter(),
-                null
+                null,
+                parse(searchTagsQuery.orderBy(), SORT_FIELDS)
         );
         EntitySearchResult<TagDto> searchResult = tagSearchEngine.findTags(searchCriteria);
         List<TagResult> resultForClient = searchResult.results()
@@ -137,10 +143,7 @@ public class TagApplicationService {
         tagRepository.save(tag);
         tagNotifier.notifyChanged(tag.forChangeNotification());
 
-        return findTagResult(tag.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated tag with ID=%s".formatted(tag.id())
-                ));
+        return toTagResult(tag.forClient());
     }
 
     public void deleteTag(UUID tagId) {
@@ -160,10 +163,7 @@ public class TagApplicationService {
         tagRepository.save(tag);
         tagNotifier.notifyChanged(tag.forChangeNotification());
 
-        return findTagResult(tag.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated tag with ID=%s".formatted(tag.id())
-                ));
+        return toTagResult(tag.forClient());
     }
 
     public TagResult deleteMetric(UUID metricId, UUID tagId) {
@@ -174,10 +174,7 @@ public class TagApplicationService {
         tagRepository.save(tag);
         tagNotifier.notifyChanged(tag.forChangeNotification());
 
-        return findTagResult(tag.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated tag with ID=%s".formatted(tag.id())
-                ));
+        return toTagResult(tag.forClient());
     }
 
     public TagResult renameMetric(String newName, UUID metricId, UUID tagId) {
@@ -188,10 +185,7 @@ public class TagApplicationService {
         tagRepository.save(tag);
         tagNotifier.notifyChanged(tag.forChangeNotification());
 
-        return findTagResult(tag.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated tag with ID=%s".formatted(tag.id())
-                ));
+        return toTagResult(tag.forClient());
     }
 
     public TagResult shareTag(String newGrantee, UUID tagId) {
@@ -203,10 +197,7 @@ public class TagApplicationService {
         tagRepository.save(tag);
         tagNotifier.notifyChanged(tag.forChangeNotification());
 
-        return findTagResult(tag.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated tag with ID=%s".formatted(tag.id())
-                ));
+        return toTagResult(tag.forClient());
     }
 
     public TagResult unshareTag(String granteeName, UUID tagId) {
@@ -217,10 +208,7 @@ public class TagApplicationService {
         tagRepository.save(tag);
         tagNotifier.notifyChanged(tag.forChangeNotification());
 
-        return findTagResult(tag.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated tag with ID=%s".formatted(tag.id())
-                ));
+        return toTagResult(tag.forClient());
     }
 
     // TODO extract to share resolver service
@@ -59,10 +59,7 @@ public class TagSetApplicationService {
         tagSetRepository.add(newTagSet);
         tagSetNotifier.notifyChanged(newTagSet.forChangeNotification());
 
-        return findTagSetResult(newTagSet.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find created tag set with ID=%s".formatted(newTagSet.id())
-                ));
+        return toTagSetResult(newTagSet.forClient());
     }
 
     private Set<TagId> toTagIds(Collection<UUID> uuids) {
@@ -100,10 +97,7 @@ public class TagSetApplicationService {
         tagSetRepository.save(tagSet);
         tagSetNotifier.notifyChanged(tagSet.forChangeNotification());
 
-        return findTagSetResult(tagSet.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated tag set with ID=%s".formatted(tagSet.id())
-                ));
+        return toTagSetResult(tagSet.forClient());
     }
 
     public TagSetResult addTagToSet(UUID tagId, UUID tagSetId) {
@@ -114,10 +108,7 @@ public class TagSetApplicationService {
         tagSetRepository.save(tagSet);
         tagSetNotifier.notifyChanged(tagSet.forChangeNotification());
 
-        return findTagSetResult(tagSet.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated tag set with ID=%s".formatted(tagSet.id())
-                ));
+        return toTagSetResult(tagSet.forClient());
     }
 
     public TagSetResult removeTagFromSet(UUID tagId, UUID tagSetId) {
@@ -128,10 +119,7 @@ public class TagSetApplicationService {
         tagSetRepository.save(tagSet);
         tagSetNotifier.notifyChanged(tagSet.forChangeNotification());
 
-        return findTagSetResult(tagSet.id())
-                .orElseThrow(() -> new RuntimeException(
-                        "Could not find updated tag set with ID=%s".formatted(tagSet.id())
-                ));
+        return toTagSetResult(tagSet.forClient());
     }
 
     public void deleteTagSet(UUID tagSetId) {
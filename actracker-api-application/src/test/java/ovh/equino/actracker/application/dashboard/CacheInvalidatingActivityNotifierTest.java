@@ -0,0 +1,95 @@
+package ovh.equino.actracker.application.dashboard;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ovh.equino.actracker.domain.activity.ActivityChangedNotification;
+import ovh.equino.actracker.domain.activity.ActivityDto;
+import ovh.equino.actracker.domain.dashboard.DashboardDto;
+import ovh.equino.actracker.domain.dashboard.generation.DashboardGenerationCriteria;
+import ovh.equino.actracker.domain.user.User;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheInvalidatingActivityNotifierTest {
+
+    private static final User OWNER = new User(UUID.randomUUID());
+    private static final DashboardDto DASHBOARD = new DashboardDto(
+            UUID.randomUUID(), OWNER.id(), "dashboard", emptyList(), emptyList(), false
+    );
+    private static final DashboardGenerationCache.Key KEY = DashboardGenerationCache.Key.of(
+            DASHBOARD,
+            new DashboardGenerationCriteria(DASHBOARD.id(), OWNER, null, null, emptySet())
+    );
+    private static final DashboardGenerationResult RESULT = new DashboardGenerationResult("dashboard", emptyList());
+
+    private final List<Runnable> commandsAfterCommit = new ArrayList<>();
+    private final List<ActivityChangedNotification> writtenNotifications = new ArrayList<>();
+    private DashboardGenerationCache cache;
+    private CacheInvalidatingActivityNotifier notifier;
+
+    @BeforeEach
+    void init() {
+        cache = new DashboardGenerationCache(1_000_000, Duration.ofMinutes(5));
+        notifier = new CacheInvalidatingActivityNotifier(writtenNotifications::add, cache, commandsAfterCommit::add);
+    }
+
+    @Test
+    void shouldInvalidateDashboardGeneratedBetweenNotificationAndCommit() {
+        // given
+        cache.put(KEY, RESULT, cache.stamp());
+        ActivityChangedNotification notification = new ActivityChangedNotification(activity());
+
+        // when
+        notifier.notifyChanged(notification);
+        cache.put(KEY, RESULT, cache.stamp());
+        commit();
+
+        // then
+        assertThat(writtenNotifications).containsExactly(notification);
+        assertThat(cache.find(KEY)).isEmpty();
+    }
+
+    @Test
+    void shouldNotStoreDashboardGeneratedBeforeCommitAndStoredAfterIt() {
+        // given
+        notifier.notifyChanged(new ActivityChangedNotification(activity()));
+        long stamp = cache.stamp();
+
+        // when
+        commit();
+        cache.put(KEY, RESULT, stamp);
+
+        // then
+        assertThat(cache.find(KEY)).isEmpty();
+    }
+
+    @Test
+    void shouldNotInvalidateDashboardsBeforeCommit() {
+        // given
+        cache.put(KEY, RESULT, cache.stamp());
+
+        // when
+        notifier.notifyChanged(new ActivityChangedNotification(activity()));
+
+        // then
+        assertThat(cache.find(KEY)).containsSame(RESULT);
+    }
+
+    private void commit() {
+        commandsAfterCommit.forEach(Runnable::run);
+        commandsAfterCommit.clear();
+    }
+
+    private static ActivityDto activity() {
+        return new ActivityDto(
+                UUID.randomUUID(), OWNER.id(), "activity", null, null, null, emptySet(), emptyList(), false
+        );
+    }
+}
@@ -0,0 +1,270 @@
+package ovh.equino.actracker.application.dashboard;
+
+import org.junit.jupiter.api.Test;
+import ovh.equino.actracker.domain.activity.ActivityDto;
+import ovh.equino.actracker.domain.activity.MetricValue;
+import ovh.equino.actracker.domain.dashboard.AnalysisMetric;
+import ovh.equino.actracker.domain.dashboard.Chart;
+import ovh.equino.actracker.domain.dashboard.DashboardDto;
+import ovh.equino.actracker.domain.dashboard.GroupBy;
+import ovh.equino.actracker.domain.dashboard.generation.DashboardGenerationCriteria;
+import ovh.equino.actracker.domain.share.Share;
+import ovh.equino.actracker.domain.tag.TagDto;
+import ovh.equino.actracker.domain.user.User;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DashboardGenerationCacheTest {
+
+    private static final long MAX_BYTES = 1_000_000;
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+
+    private static final User OWNER = new User(UUID.randomUUID());
+    private static final User GRANTEE = new User(UUID.randomUUID());
+    private static final UUID TAG_ID = UUID.randomUUID();
+
+    private static final DashboardDto DASHBOARD = new DashboardDto(
+            UUID.randomUUID(),
+            OWNER.id(),
+            "dashboard",
+            List.of(new Chart("chart", GroupBy.DAY, AnalysisMetric.TAG_DURATION, emptySet())),
+            emptyList(),
+            false
+    );
+    private static final DashboardGenerationCache.Key OWNER_KEY = key(DASHBOARD, OWNER);
+    private static final DashboardGenerationCache.Key GRANTEE_KEY = key(DASHBOARD, GRANTEE);
+    private static final DashboardGenerationResult RESULT = result(10);
+
+    @Test
+    void shouldFindStoredDashboard() {
+        // given
+        DashboardGenerationCache cache = new DashboardGenerationCache(MAX_BYTES, TIME_TO_LIVE);
+        cache.put(OWNER_KEY, RESULT, cache.stamp());
+
+        // when
+        Optional<DashboardGenerationResult> foundResult = cache.find(OWNER_KEY);
+
+        // then
+        assertThat(foundResult).containsSame(RESULT);
+        assertThat(cache.find(GRANTEE_KEY)).isEmpty();
+        assertThat(cache.getHits()).isEqualTo(1);
+        assertThat(cache.getMisses()).isEqualTo(1);
+        assertThat(cache.getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    void shouldNotFindDashboardWithChangedCharts() {
+        // given
+        DashboardGenerationCache cache = new DashboardGenerationCache(MAX_BYTES, TIME_TO_LIVE);
+        cache.put(OWNER_KEY, RESULT, cache.stamp());
+        DashboardDto changedDashboard = new DashboardDto(
+                DASHBOARD.id(),
+                DASHBOARD.creatorId(),
+                DASHBOARD.name(),
+                List.of(new Chart("chart", GroupBy.WEEK, AnalysisMetric.TAG_DURATION, emptySet())),
+                emptyList(),
+                false
+        );
+
+        // when
+        Optional<DashboardGenerationResult> foundResult = cache.find(key(changedDashboard, OWNER));
+
+        // then
+        assertThat(foundResult).isEmpty();
+    }
+
+    @Test
+    void shouldInvalidateDashboardsOfActivityCreatorAndOfActivityTags() {
+        // given
+        DashboardGenerationCache cache = new DashboardGenerationCache(MAX_BYTES, TIME_TO_LIVE);
+        DashboardGenerationCache.Key otherUserKey = key(DASHBOARD, new User(UUID.randomUUID()));
+        cache.put(OWNER_KEY, RESULT, cache.stamp());
+        cache.put(GRANTEE_KEY, result(TAG_ID), cache.stamp());
+        cache.put(otherUserKey, result(UUID.randomUUID()), cache.stamp());
+
+        // when
+        cache.activityChanged(activity(OWNER, TAG_ID));
+
+        // then
+        assertThat(cache.find(OWNER_KEY)).isEmpty();
+        assertThat(cache.find(GRANTEE_KEY)).isEmpty();
+        assertThat(cache.find(otherUserKey)).isPresent();
+        assertThat(cache.getInvalidations()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldInvalidateDashboardsOfActivityMetrics() {
+        // given
+        DashboardGenerationCache cache = new DashboardGenerationCache(MAX_BYTES, TIME_TO_LIVE);
+        UUID metricId = UUID.randomUUID();
+        DashboardGenerationResult metricResult = new DashboardGenerationResult(
+                "dashboard",
+                List.of(new GeneratedChart("chart", List.of(bucket(metricId.toString(), "METRIC"))))
+        );
+        cache.put(GRANTEE_KEY, metricResult, cache.stamp());
+        ActivityDto activity = new ActivityDto(
+                UUID.randomUUID(),
+                OWNER.id(),
+                "activity",
+                null,
+                null,
+                null,
+                emptySet(),
+                List.of(new MetricValue(metricId, BigDecimal.ONE)),
+                false
+        );
+
+        // when
+        cache.activityChanged(activity);
+
+        // then
+        assertThat(cache.find(GRANTEE_KEY)).isEmpty();
+    }
+
+    @Test
+    void shouldInvalidateDashboardsOfTagCreatorGranteesAndFormerGrantees() {
+        // given
+        DashboardGenerationCache cache = new DashboardGenerationCache(MAX_BYTES, TIME_TO_LIVE);
+        User formerGrantee = new User(UUID.randomUUID());
+        DashboardGenerationCache.Key formerGranteeKey = key(DASHBOARD, formerGrantee);
+        DashboardGenerationCache.Key otherUserKey = key(DASHBOARD, new User(UUID.randomUUID()));
+        cache.put(OWNER_KEY, RESULT, cache.stamp());
+        cache.put(GRANTEE_KEY, RESULT, cache.stamp());
+        cache.put(formerGranteeKey, result(TAG_ID), cache.stamp());
+        cache.put(otherUserKey, RESULT, cache.stamp());
+        TagDto tag = new TagDto(TAG_ID, OWNER.id(), "tag", emptyList(), List.of(new Share(GRANTEE, "grantee")), false);
+
+        // when
+        cache.tagChanged(tag);
+
+        // then
+        assertThat(cache.find(OWNER_KEY)).isEmpty();
+        assertThat(cache.find(GRANTEE_KEY)).isEmpty();
+        assertThat(cache.find(formerGranteeKey)).isEmpty();
+        assertThat(cache.find(otherUserKey)).isPresent();
+    }
+
+    @Test
+    void shouldInvalidateDashboardsOfChangedDashboard() {
+        // given
+        DashboardGenerationCache cache = new DashboardGenerationCache(MAX_BYTES, TIME_TO_LIVE);
+        DashboardDto otherDashboard = new DashboardDto(
+                UUID.randomUUID(), OWNER.id(), "other", DASHBOARD.charts(), emptyList(), false
+        );
+        cache.put(OWNER_KEY, RESULT, cache.stamp());
+        cache.put(GRANTEE_KEY, RESULT, cache.stamp());
+        cache.put(key(otherDashboard, OWNER), RESULT, cache.stamp());
+
+        // when
+        cache.dashboardChanged(DASHBOARD);
+
+        // then
+        assertThat(cache.find(OWNER_KEY)).isEmpty();
+        assertThat(cache.find(GRANTEE_KEY)).isEmpty();
+        assertThat(cache.find(key(otherDashboard, OWNER))).isPresent();
+    }
+
+    @Test
+    void shouldNotStoreDashboardGeneratedWhileInvalidated() {
+        // given
+        DashboardGenerationCache cache = new DashboardGenerationCache(MAX_BYTES, TIME_TO_LIVE);
+        long stamp = cache.stamp();
+        cache.activityChanged(activity(new User(UUID.randomUUID()), UUID.randomUUID()));
+
+        // when
+        cache.put(OWNER_KEY, RESULT, stamp);
+
+        // then
+        assertThat(cache.find(OWNER_KEY)).isEmpty();
+        assertThat(cache.getSize()).isZero();
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedDashboardsExceedingMaxBytes() {
+        // given
+        DashboardGenerationCache cache = new DashboardGenerationCache(3_000, TIME_TO_LIVE);
+        DashboardGenerationCache.Key otherUserKey = key(DASHBOARD, new User(UUID.randomUUID()));
+        cache.put(OWNER_KEY, result(2), cache.stamp());
+        cache.put(GRANTEE_KEY, result(2), cache.stamp());
+        cache.find(OWNER_KEY);
+
+        // when
+        cache.put(otherUserKey, result(2), cache.stamp());
+
+        // then
+        assertThat(cache.find(GRANTEE_KEY)).isEmpty();
+        assertThat(cache.find(OWNER_KEY)).isPresent();
+        assertThat(cache.find(otherUserKey)).isPresent();
+        assertThat(cache.getEvictions()).isEqualTo(1);
+        assertThat(cache.getEstimatedBytes()).isLessThanOrEqualTo(3_000);
+    }
+
+    @Test
+    void shouldNotFindExpiredDashboard() {
+        // given
+        DashboardGenerationCache cache = new DashboardGenerationCache(MAX_BYTES, Duration.ZERO);
+        cache.put(OWNER_KEY, RESULT, cache.stamp());
+
+        // when
+        Optional<DashboardGenerationResult> foundResult = cache.find(OWNER_KEY);
+
+        // then
+        assertThat(foundResult).isEmpty();
+        assertThat(cache.getEstimatedBytes()).isZero();
+    }
+
+    @Test
+    void shouldNotStoreDashboardsWhenDisabled() {
+        // given
+        DashboardGenerationCache cache = new DashboardGenerationCache(0, TIME_TO_LIVE);
+
+        // when
+        cache.put(OWNER_KEY, RESULT, cache.stamp());
+
+        // then
+        assertThat(cache.isEnabled()).isFalse();
+        assertThat(cache.find(OWNER_KEY)).isEmpty();
+    }
+
+    private static DashboardGenerationCache.Key key(DashboardDto dashboard, User generator) {
+        return DashboardGenerationCache.Key.of(
+                dashboard,
+                new DashboardGenerationCriteria(dashboard.id(), generator, null, null, emptySet())
+        );
+    }
+
+    private static DashboardGenerationResult result(int bucketCount) {
+        List<GeneratedBucket> buckets = new ArrayList<>();
+        for (int i = 0; i < bucketCount; i++) {
+            buckets.add(bucket("bucket" + i, "DAY"));
+        }
+        return new DashboardGenerationResult("dashboard", List.of(new GeneratedChart("chart", buckets)));
+    }
+
+    private static DashboardGenerationResult result(UUID tagId) {
+        GeneratedBucket dayBucket = new GeneratedBucket(
+                "day", null, null, "DAY", null, null, List.of(bucket(tagId.toString(), "TAG"))
+        );
+        return new DashboardGenerationResult("dashboard", List.of(new GeneratedChart("chart", List.of(dayBucket))));
+    }
+
+    private static GeneratedBucket bucket(String id, String bucketType) {
+        return new GeneratedBucket(id, null, null, bucketType, null, null, emptyList());
+    }
+
+    private static ActivityDto activity(User creator, UUID tagId) {
+        return new ActivityDto(
+                UUID.randomUUID(), creator.id(), "activity", null, null, null, Set.of(tagId), emptyList(), false
+        );
+    }
+}
@@ -0,0 +1,108 @@
+package ovh.equino.actracker.dashboard.generation.repository;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import ovh.equino.actracker.domain.activity.ActivityDto;
+import ovh.equino.actracker.domain.activity.MetricValue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static ovh.equino.actracker.domain.dashboard.generation.DashboardUtils.*;
+
+/**
+ * Aggregation of tag durations and metric values within a time range, with primitive accumulators compared to
+ * {@link Duration} and {@link BigDecimal} arithmetic. Allocation rates are reported with {@code -prof gc}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AggregationBenchmark {
+
+    private static final Instant RANGE_START = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant RANGE_END = endOfDay(RANGE_START.plus(Duration.ofDays(29)));
+    private static final int TAG_COUNT = 50;
+    private static final int METRIC_COUNT = 50;
+
+    @Param({"1000", "100000"})
+    private int activityCount;
+
+    private List<ActivityDto> activities;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(0);
+        List<UUID> tags = new ArrayList<>();
+        List<UUID> metrics = new ArrayList<>();
+        for (int i = 0; i < TAG_COUNT; i++) {
+            tags.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+        for (int i = 0; i < METRIC_COUNT; i++) {
+            metrics.add(new UUID(random.nextLong(), random.nextLong()));
+        }
+
+        activities = new ArrayList<>(activityCount);
+        long rangeSeconds = Duration.between(RANGE_START, RANGE_END).toSeconds();
+        for (int i = 0; i < activityCount; i++) {
+            Instant startTime = RANGE_START.plusSeconds(random.nextLong(rangeSeconds)).minus(Duration.ofHours(1));
+            int firstTag = random.nextInt(TAG_COUNT);
+            int secondTag = (firstTag + 1 + random.nextInt(TAG_COUNT - 1)) % TAG_COUNT;
+            activities.add(new ActivityDto(
+                    null,
+                    null,
+                    "activity",
+                    startTime,
+                    startTime.plusSeconds(random.nextInt(4 * 3600)),
+                    null,
+                    Set.of(tags.get(firstTag), tags.get(secondTag)),
+                    List.of(
+                            new MetricValue(metrics.get(random.nextInt(METRIC_COUNT)), BigDecimal.valueOf(random.nextInt(100_000), 3)),
+                            new MetricValue(metrics.get(random.nextInt(METRIC_COUNT)), BigDecimal.valueOf(random.nextInt(100_000), 3))
+                    ),
+                    false
+            ));
+        }
+    }
+
+    @Benchmark
+    public ActivityIndex primitiveAccumulators() {
+        return new ActivityIndex(activities, RANGE_START, RANGE_END);
+    }
+
+    /**
+     * Accumulation as done before primitive accumulators, creating a {@link Duration} and a {@link BigDecimal} for
+     * every added activity.
+     */
+    @Benchmark
+    public void durationAndBigDecimalArithmetic(Blackhole blackhole) {
+        Map<UUID, Duration> durationByTag = new HashMap<>();
+        Map<UUID, BigDecimal> valuesSumByMetric = new HashMap<>();
+        Map<UUID, Long> valuesCountByMetric = new HashMap<>();
+        for (ActivityDto activity : activities) {
+            if (activity.startTime().isAfter(RANGE_END)
+                    || activity.endTime() != null && activity.endTime().isBefore(RANGE_START)) {
+                continue;
+            }
+            Duration duration = Duration.between(
+                    latestOf(activity.startTime(), RANGE_START),
+                    earliestOf(activity.endTime(), RANGE_END)
+            );
+            for (UUID tag : activity.tags()) {
+                durationByTag.merge(tag, duration, Duration::plus);
+            }
+            for (MetricValue metricValue : activity.metricValues()) {
+                valuesSumByMetric.merge(metricValue.metricId(), metricValue.value(), BigDecimal::add);
+                valuesCountByMetric.merge(metricValue.metricId(), 1L, Long::sum);
+            }
+        }
+        blackhole.consume(durationByTag);
+        blackhole.consume(valuesSumByMetric);
+        blackhole.consume(valuesCountByMetric);
+    }
+}
@@ -0,0 +1,89 @@
+package ovh.equino.actracker.dashboard.generation.repository;
+
+import org.openjdk.jmh.annotations.*;
+import ovh.equino.actracker.domain.dashboard.DashboardDto;
+import ovh.equino.actracker.domain.dashboard.GroupBy;
+import ovh.equino.actracker.domain.dashboard.generation.DashboardData;
+import ovh.equino.actracker.domain.dashboard.generation.DashboardGenerationCriteria;
+import ovh.equino.actracker.domain.user.User;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static ovh.equino.actracker.domain.dashboard.generation.DashboardUtils.endOfDay;
+
+/**
+ * Whole dashboard generation by {@link RepositoryDashboardGenerationEngine}, including reading through search engines,
+ * over synthetic datasets. Reports throughput and the distribution of latencies. Every group-by type is measured
+ * unless narrowed down, e.g. with {@code -p groupBy=DAY}. Charts are generated one after another, or in parallel for
+ * {@code chartParallelism} above one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class DashboardGenerationBenchmark {
+
+    private static final Instant RANGE_START = Instant.parse("2024-01-01T00:00:00Z");
+
+    @Param({"1000", "100000"})
+    private int activityCount;
+
+    @Param({"10", "1000"})
+    private int tagCount;
+
+    @Param({"1", "5"})
+    private int chartCount;
+
+    @Param
+    private GroupBy groupBy;
+
+    @Param({"30", "365"})
+    private int rangeDays;
+
+    @Param({"1", "4"})
+    private int chartParallelism;
+
+    private ChartExecutor chartExecutor;
+    private RepositoryDashboardGenerationEngine engine;
+    private DashboardDto dashboard;
+    private DashboardGenerationCriteria generationCriteria;
+
+    @Setup
+    public void setUp() {
+        Instant rangeEnd = endOfDay(RANGE_START.plus(Duration.ofDays(rangeDays - 1)));
+        SyntheticDataset dataset =
+                new SyntheticDataset(activityCount, tagCount, chartCount, groupBy, RANGE_START, rangeEnd);
+
+        chartExecutor = chartParallelism > 1 ? ChartExecutor.parallel(chartParallelism) : ChartExecutor.sequential();
+        engine = new RepositoryDashboardGenerationEngine(
+                new StubTagSearchEngine(dataset.tags()),
+                new StubActivitySearchEngine(dataset.activities()),
+                chartExecutor,
+                (chartGroupBy, chartPosition, nanos) -> {
+                }
+        );
+        dashboard = dataset.dashboard();
+        generationCriteria = new DashboardGenerationCriteria(
+                dashboard.id(),
+                new User(UUID.randomUUID()),
+                RANGE_START,
+                rangeEnd,
+                null
+        );
+    }
+
+    @TearDown
+    public void tearDown() {
+        chartExecutor.close();
+    }
+
+    @Benchmark
+    public DashboardData generateDashboard() {
+        return engine.generateDashboard(dashboard, generationCriteria);
+    }
+}
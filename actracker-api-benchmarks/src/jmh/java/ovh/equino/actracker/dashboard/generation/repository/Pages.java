@@ -0,0 +1,22 @@
+package ovh.equino.actracker.dashboard.generation.repository;
+
+import ovh.equino.actracker.domain.EntitySearchCriteria;
+import ovh.equino.actracker.domain.EntitySearchResult;
+
+import java.util.List;
+
+final class Pages {
+
+    private Pages() {
+    }
+
+    /**
+     * @return page of entities starting at the offset given as page ID, with the offset of the next page as its ID
+     */
+    static <T> EntitySearchResult<T> page(List<T> entities, EntitySearchCriteria searchCriteria) {
+        int offset = searchCriteria.pageId().isEmpty() ? 0 : Integer.parseInt(searchCriteria.pageId());
+        int end = Math.min(offset + searchCriteria.pageSize(), entities.size());
+        String nextPageId = end < entities.size() ? String.valueOf(end) : null;
+        return new EntitySearchResult<>(nextPageId, entities.subList(offset, end));
+    }
+}
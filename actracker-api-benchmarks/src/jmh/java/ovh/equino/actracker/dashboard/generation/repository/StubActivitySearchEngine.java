@@ -0,0 +1,38 @@
+package ovh.equino.actracker.dashboard.generation.repository;
+
+import ovh.equino.actracker.domain.EntitySearchCriteria;
+import ovh.equino.actracker.domain.EntitySearchResult;
+import ovh.equino.actracker.domain.activity.ActivityDto;
+import ovh.equino.actracker.domain.activity.ActivitySearchEngine;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static java.util.Comparator.comparing;
+
+/**
+ * Serves activities from memory, in pages, the way database search engines do. Activities are expected to be
+ * generated within the searched time range and with the searched tags, so that they are not filtered.
+ */
+final class StubActivitySearchEngine implements ActivitySearchEngine {
+
+    private final List<ActivityDto> activities;
+    private final List<ActivityDto> activitiesByStartTime;
+
+    StubActivitySearchEngine(List<ActivityDto> activities) {
+        this.activities = activities;
+        this.activitiesByStartTime = activities.stream()
+                .sorted(comparing(ActivityDto::startTime))
+                .toList();
+    }
+
+    @Override
+    public EntitySearchResult<ActivityDto> findActivities(EntitySearchCriteria searchCriteria) {
+        return Pages.page(activities, searchCriteria);
+    }
+
+    @Override
+    public void forEachStartedActivity(EntitySearchCriteria searchCriteria, Consumer<ActivityDto> consumer) {
+        activitiesByStartTime.forEach(consumer);
+    }
+}
@@ -0,0 +1,25 @@
+package ovh.equino.actracker.dashboard.generation.repository;
+
+import ovh.equino.actracker.domain.EntitySearchCriteria;
+import ovh.equino.actracker.domain.EntitySearchResult;
+import ovh.equino.actracker.domain.tag.TagDto;
+import ovh.equino.actracker.domain.tag.TagSearchEngine;
+
+import java.util.List;
+
+/**
+ * Serves tags from memory, in pages, the way database search engines do.
+ */
+final class StubTagSearchEngine implements TagSearchEngine {
+
+    private final List<TagDto> tags;
+
+    StubTagSearchEngine(List<TagDto> tags) {
+        this.tags = tags;
+    }
+
+    @Override
+    public EntitySearchResult<TagDto> findTags(EntitySearchCriteria searchCriteria) {
+        return Pages.page(tags, searchCriteria);
+    }
+}
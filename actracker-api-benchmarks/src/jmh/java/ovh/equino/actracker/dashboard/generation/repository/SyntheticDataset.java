@@ -0,0 +1,115 @@
+package ovh.equino.actracker.dashboard.generation.repository;
+
+import ovh.equino.actracker.domain.activity.ActivityDto;
+import ovh.equino.actracker.domain.activity.MetricValue;
+import ovh.equino.actracker.domain.dashboard.AnalysisMetric;
+import ovh.equino.actracker.domain.dashboard.Chart;
+import ovh.equino.actracker.domain.dashboard.DashboardDto;
+import ovh.equino.actracker.domain.dashboard.GroupBy;
+import ovh.equino.actracker.domain.tag.MetricDto;
+import ovh.equino.actracker.domain.tag.TagDto;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+import static ovh.equino.actracker.domain.tag.MetricType.NUMERIC;
+
+/**
+ * Tags, activities and a dashboard generated from a fixed seed, so that every benchmark run works on the same data.
+ * Every tag has a numeric metric and every activity has one to three tags, with a value of metric of each of them.
+ * Charts use analysis metrics in turn and include all tags.
+ */
+final class SyntheticDataset {
+
+    private static final long SEED = 0;
+    private static final int MAX_TAGS_PER_ACTIVITY = 3;
+    private static final long MAX_ACTIVITY_SECONDS = Duration.ofHours(4).toSeconds();
+    private static final int MAX_METRIC_VALUE_THOUSANDTHS = 100_000;
+
+    private final Random random = new Random(SEED);
+    private final List<TagDto> tags;
+    private final List<ActivityDto> activities;
+    private final DashboardDto dashboard;
+
+    SyntheticDataset(int activityCount,
+                     int tagCount,
+                     int chartCount,
+                     GroupBy groupBy,
+                     Instant rangeStart,
+                     Instant rangeEnd) {
+
+        this.tags = generateTags(tagCount);
+        this.activities = generateActivities(activityCount, rangeStart, rangeEnd);
+        this.dashboard = generateDashboard(chartCount, groupBy);
+    }
+
+    List<TagDto> tags() {
+        return tags;
+    }
+
+    List<ActivityDto> activities() {
+        return activities;
+    }
+
+    DashboardDto dashboard() {
+        return dashboard;
+    }
+
+    private List<TagDto> generateTags(int tagCount) {
+        List<TagDto> generatedTags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            MetricDto metric = new MetricDto(nextUuid(), "metric" + i, NUMERIC);
+            generatedTags.add(new TagDto(nextUuid(), null, "tag" + i, List.of(metric), emptyList(), false));
+        }
+        return generatedTags;
+    }
+
+    private List<ActivityDto> generateActivities(int activityCount, Instant rangeStart, Instant rangeEnd) {
+        List<ActivityDto> generatedActivities = new ArrayList<>(activityCount);
+        long rangeSeconds = Duration.between(rangeStart, rangeEnd).toSeconds();
+        for (int i = 0; i < activityCount; i++) {
+            Instant startTime = rangeStart.plusSeconds(random.nextLong(rangeSeconds));
+            Instant endTime = startTime.plusSeconds(1 + random.nextLong(MAX_ACTIVITY_SECONDS));
+            Set<UUID> activityTags = new HashSet<>();
+            List<MetricValue> metricValues = new ArrayList<>();
+            int activityTagCount = 1 + random.nextInt(Math.min(MAX_TAGS_PER_ACTIVITY, tags.size()));
+            while (activityTags.size() < activityTagCount) {
+                TagDto tag = tags.get(random.nextInt(tags.size()));
+                if (activityTags.add(tag.id())) {
+                    MetricDto metric = tag.metrics().iterator().next();
+                    BigDecimal value = BigDecimal.valueOf(random.nextInt(MAX_METRIC_VALUE_THOUSANDTHS), 3);
+                    metricValues.add(new MetricValue(metric.id(), value));
+                }
+            }
+            generatedActivities.add(new ActivityDto(
+                    nextUuid(),
+                    null,
+                    "activity" + i,
+                    startTime,
+                    endTime,
+                    null,
+                    activityTags,
+                    metricValues,
+                    false
+            ));
+        }
+        return generatedActivities;
+    }
+
+    private DashboardDto generateDashboard(int chartCount, GroupBy groupBy) {
+        AnalysisMetric[] analysisMetrics = AnalysisMetric.values();
+        List<Chart> charts = new ArrayList<>(chartCount);
+        for (int i = 0; i < chartCount; i++) {
+            AnalysisMetric analysisMetric = analysisMetrics[i % analysisMetrics.length];
+            charts.add(new Chart("chart" + i, groupBy, analysisMetric, null));
+        }
+        return new DashboardDto(nextUuid(), null, "dashboard", charts, emptyList(), false);
+    }
+
+    private UUID nextUuid() {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+}
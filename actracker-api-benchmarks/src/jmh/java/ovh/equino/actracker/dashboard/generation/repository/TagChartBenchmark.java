@@ -0,0 +1,111 @@
+package ovh.equino.actracker.dashboard.generation.repository;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import ovh.equino.actracker.domain.activity.ActivityDto;
+import ovh.equino.actracker.domain.activity.MetricValue;
+import ovh.equino.actracker.domain.dashboard.AnalysisMetric;
+import ovh.equino.actracker.domain.dashboard.Chart;
+import ovh.equino.actracker.domain.dashboard.GroupBy;
+import ovh.equino.actracker.domain.tag.MetricDto;
+import ovh.equino.actracker.domain.tag.TagDto;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.emptyList;
+import static ovh.equino.actracker.domain.dashboard.generation.DashboardUtils.endOfDay;
+import static ovh.equino.actracker.domain.tag.MetricType.NUMERIC;
+
+/**
+ * Scaling of tag and metric charts with the number of tags accessible for the generating user, while charts include
+ * a fixed number of them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TagChartBenchmark {
+
+    private static final Instant RANGE_START = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Instant RANGE_END = endOfDay(RANGE_START.plus(Duration.ofDays(29)));
+    private static final int INCLUDED_TAGS = 10;
+
+    @Param({"100", "1000", "10000"})
+    private int tagCount;
+
+    @Param({"10000"})
+    private int activityCount;
+
+    private List<TagDto> tags;
+    private List<ActivityDto> activities;
+    private Chart tagDurationChart;
+    private Chart metricValueChart;
+    private DashboardActivities indexedActivities;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(0);
+        tags = new ArrayList<>(tagCount);
+        for (int i = 0; i < tagCount; i++) {
+            MetricDto metric = new MetricDto(new UUID(random.nextLong(), random.nextLong()), "metric", NUMERIC);
+            tags.add(new TagDto(new UUID(random.nextLong(), random.nextLong()), null, "tag", List.of(metric), emptyList(), false));
+        }
+
+        activities = new ArrayList<>(activityCount);
+        long rangeSeconds = Duration.between(RANGE_START, RANGE_END).toSeconds();
+        for (int i = 0; i < activityCount; i++) {
+            Instant startTime = RANGE_START.plusSeconds(random.nextLong(rangeSeconds));
+            TagDto tag = tags.get(random.nextInt(tagCount));
+            activities.add(new ActivityDto(
+                    null,
+                    null,
+                    "activity",
+                    startTime,
+                    startTime.plusSeconds(random.nextInt(4 * 3600)),
+                    null,
+                    Set.of(tag.id()),
+                    List.of(new MetricValue(tag.metrics().iterator().next().id(), BigDecimal.valueOf(random.nextInt(1000)))),
+                    false
+            ));
+        }
+
+        Set<UUID> includedTags = new HashSet<>();
+        tags.stream().limit(INCLUDED_TAGS).map(TagDto::id).forEach(includedTags::add);
+        tagDurationChart = new Chart("tags", GroupBy.SELF, AnalysisMetric.TAG_DURATION, includedTags);
+        metricValueChart = new Chart("metrics", GroupBy.SELF, AnalysisMetric.METRIC_VALUE, includedTags);
+
+        indexedActivities = new DashboardActivities(activities, RANGE_START, RANGE_END);
+        indexedActivities.wholeRangeIndex();
+    }
+
+    @Benchmark
+    public void indexAndGenerateCharts(Blackhole blackhole) {
+        DashboardActivities dashboardActivities = new DashboardActivities(activities, RANGE_START, RANGE_END);
+        blackhole.consume(
+                new SelfGroupedChartGenerator(tagDurationChart, dashboardActivities, tags, TagChartGenerator::new)
+                        .generate()
+        );
+        blackhole.consume(
+                new SelfGroupedChartGenerator(metricValueChart, dashboardActivities, tags, MetricValueChartGenerator::new)
+                        .generate()
+        );
+    }
+
+    @Benchmark
+    public void generateChartsFromSharedIndex(Blackhole blackhole) {
+        blackhole.consume(
+                new SelfGroupedChartGenerator(tagDurationChart, indexedActivities, tags, TagChartGenerator::new)
+                        .generate()
+        );
+        blackhole.consume(
+                new SelfGroupedChartGenerator(metricValueChart, indexedActivities, tags, MetricValueChartGenerator::new)
+                        .generate()
+        );
+    }
+}
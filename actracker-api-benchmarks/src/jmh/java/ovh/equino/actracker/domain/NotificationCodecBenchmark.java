@@ -0,0 +1,134 @@
+package ovh.equino.actracker.domain;
+
+import org.openjdk.jmh.annotations.*;
+import ovh.equino.actracker.domain.activity.ActivityChangedNotification;
+import ovh.equino.actracker.domain.activity.ActivityDto;
+import ovh.equino.actracker.domain.activity.MetricValue;
+import ovh.equino.actracker.domain.dashboard.*;
+import ovh.equino.actracker.domain.exception.ParseException;
+import ovh.equino.actracker.domain.share.Share;
+import ovh.equino.actracker.domain.user.User;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Encoding and decoding of notifications written to the outbox and published, with payloads of an activity with
+ * {@code itemCount} tags and metric values, or of a dashboard with {@code itemCount} charts.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class NotificationCodecBenchmark {
+
+    public enum Payload {
+        ACTIVITY,
+        DASHBOARD
+    }
+
+    @Param
+    private Payload payload;
+
+    @Param({"1", "20"})
+    private int itemCount;
+
+    private Notification<?> notification;
+    private Notification<?> encodedNotification;
+    private String json;
+    private String dataJson;
+
+    @Setup
+    public void setUp() throws ParseException {
+        notification = switch (payload) {
+            case ACTIVITY -> new Notification<>(UUID.randomUUID(), activityChangedNotification());
+            case DASHBOARD -> new Notification<>(UUID.randomUUID(), dashboardChangedNotification());
+        };
+        json = notification.toJson();
+        dataJson = notification.toJsonData();
+        encodedNotification = new Notification<>(
+                notification.id(),
+                notification.version(),
+                new EncodedNotificationData(dataJson),
+                notification.notificationType()
+        );
+    }
+
+    @Benchmark
+    public String encode() throws ParseException {
+        return notification.toJson();
+    }
+
+    /**
+     * Notification published after being read from the outbox with its data left encoded.
+     */
+    @Benchmark
+    public byte[] encodeBytesOfEncodedData() throws ParseException {
+        return encodedNotification.toJsonBytes();
+    }
+
+    @Benchmark
+    public byte[] encodeBytes() throws ParseException {
+        return notification.toJsonBytes();
+    }
+
+    @Benchmark
+    public String encodeData() throws ParseException {
+        return notification.toJsonData();
+    }
+
+    @Benchmark
+    public Notification<?> decode() throws ParseException {
+        return Notification.fromJson(json);
+    }
+
+    @Benchmark
+    public Object decodeData() throws ParseException {
+        return Notification.fromJsonData(dataJson, notification.notificationType());
+    }
+
+    private ActivityChangedNotification activityChangedNotification() {
+        Set<UUID> tags = new HashSet<>();
+        List<MetricValue> metricValues = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            tags.add(UUID.randomUUID());
+            metricValues.add(new MetricValue(UUID.randomUUID(), BigDecimal.valueOf(i, 2)));
+        }
+        Instant startTime = Instant.parse("2024-01-01T10:00:00Z");
+        return new ActivityChangedNotification(new ActivityDto(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "activity",
+                startTime,
+                startTime.plusSeconds(3600),
+                "comment",
+                tags,
+                metricValues,
+                false
+        ));
+    }
+
+    private DashboardChangedNotification dashboardChangedNotification() {
+        List<Chart> charts = new ArrayList<>();
+        for (int i = 0; i < itemCount; i++) {
+            GroupBy groupBy = GroupBy.values()[i % GroupBy.values().length];
+            charts.add(new Chart("chart" + i, groupBy, AnalysisMetric.TAG_DURATION, Set.of(UUID.randomUUID())));
+        }
+        return new DashboardChangedNotification(new DashboardDto(
+                UUID.randomUUID(),
+                UUID.randomUUID(),
+                "dashboard",
+                charts,
+                List.of(new Share(new User(UUID.randomUUID()), "grantee")),
+                false
+        ));
+    }
+}
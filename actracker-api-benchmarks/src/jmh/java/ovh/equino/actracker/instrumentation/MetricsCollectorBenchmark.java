@@ -0,0 +1,99 @@
+package ovh.equino.actracker.instrumentation;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Overhead of timing a call of an application service, compared with the call without timing, and with timing the
+ * call by a timer looked up by its name, as done before timers were kept by method. Meters are configured with
+ * percentiles, as in the application properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class MetricsCollectorBenchmark {
+
+    @Param({"0", "0.1", "1"})
+    private double histogramSampleRate;
+
+    private MeterRegistry meterRegistry;
+    private MetricsCollector metricsCollector;
+    private ProceedingJoinPoint joinPoint;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        meterRegistry = new SimpleMeterRegistry();
+        meterRegistry.config()
+                .meterFilter(propertiesFilter())
+                .meterFilter(new ApplicationServiceTimerFilter());
+        metricsCollector = new MetricsCollector(meterRegistry, histogramSampleRate);
+        BenchmarkApplicationService service = new BenchmarkApplicationService();
+        joinPoint = new FakeJoinPoint(service, BenchmarkApplicationService.class.getMethod("call"), service::call);
+    }
+
+    @Benchmark
+    public Object proceed() throws Throwable {
+        return joinPoint.proceed();
+    }
+
+    @Benchmark
+    public Object measureAndExecute() throws Throwable {
+        return metricsCollector.measureAndExecute(joinPoint);
+    }
+
+    @Benchmark
+    public Object measureAndExecuteWithTimerLookedUpByName() throws Throwable {
+        String methodName = joinPoint.getSignature().getName();
+        String className = joinPoint.getTarget().getClass().getSimpleName();
+        String metricName = "%s.%s".formatted(className, methodName);
+
+        Callable<Object> procedure = () -> {
+            try {
+                return joinPoint.proceed();
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        };
+
+        try {
+            return meterRegistry.timer(metricName).recordCallable(procedure);
+        } catch (RuntimeException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Percentiles of all meters, as configured in the application properties.
+     */
+    private static MeterFilter propertiesFilter() {
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                return DistributionStatisticConfig.builder()
+                        .percentiles(0.5, 0.75, 0.95, 0.99)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    public static class BenchmarkApplicationService {
+
+        private long calls;
+
+        public Object call() {
+            return ++calls;
+        }
+    }
+}
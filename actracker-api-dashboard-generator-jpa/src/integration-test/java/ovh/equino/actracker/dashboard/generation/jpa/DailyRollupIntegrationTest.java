@@ -0,0 +1,402 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ovh.equino.actracker.domain.activity.ActivityDto;
+import ovh.equino.actracker.domain.activity.MetricValue;
+import ovh.equino.actracker.domain.dashboard.*;
+import ovh.equino.actracker.domain.dashboard.generation.ChartBucketData;
+import ovh.equino.actracker.domain.dashboard.generation.DashboardData;
+import ovh.equino.actracker.domain.dashboard.generation.DashboardGenerationCriteria;
+import ovh.equino.actracker.domain.tag.MetricDto;
+import ovh.equino.actracker.domain.tag.TagDto;
+import ovh.equino.actracker.domain.tenant.TenantDto;
+import ovh.equino.actracker.domain.user.User;
+import ovh.equino.actracker.jpa.IntegrationTestConfiguration;
+import ovh.equino.actracker.jpa.JpaIntegrationTest;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static java.time.ZoneOffset.UTC;
+import static java.util.Collections.emptyList;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static ovh.equino.actracker.dashboard.generation.jpa.SqlValues.toBigDecimal;
+import static ovh.equino.actracker.domain.dashboard.AnalysisMetric.*;
+import static ovh.equino.actracker.domain.dashboard.GroupBy.*;
+import static ovh.equino.actracker.jpa.TestUtil.nextUUID;
+
+abstract class DailyRollupIntegrationTest extends JpaIntegrationTest {
+
+    // 2024-02-05T00:00:00Z, Monday
+    private static final long DAY_1 = 1707091200L;
+    private static final long ONE_DAY = 86400L;
+    private static final long HOUR = 3600L;
+
+    private static final IntegrationTestConfiguration testConfiguration = new IntegrationTestConfiguration();
+    private static TenantDto generatorTenant;
+    private static User generator;
+    private static TagDto ownTagWithMetric;
+    private static TagDto ownTag;
+    private static TagDto movedTag;
+    private static TagDto concurrentlyRefreshedTag;
+    private static TagDto concurrentlyRebuiltTag;
+    private static TenantDto sharingUser;
+
+    private DailyRollup dailyRollup;
+    private JpaDashboardGenerationEngine engine;
+
+    @BeforeEach
+    void init() throws SQLException {
+        this.dailyRollup = new DailyRollup(entityManager);
+        this.engine = new JpaDashboardGenerationEngine(entityManager);
+        testConfiguration.persistIn(database());
+        dailyRollup.selectUserIds().forEach(userId -> inTransaction(() -> dailyRollup.rebuild(userId)));
+    }
+
+    @Test
+    void shouldGenerateSameChartsFromRollupAsFromActivities() {
+        // given
+        List<Chart> charts = new ArrayList<>();
+        for (GroupBy groupBy : List.of(DAY, WEEK, MONTH)) {
+            for (AnalysisMetric analysisMetric : AnalysisMetric.values()) {
+                charts.add(new Chart("chart", groupBy, analysisMetric, null));
+            }
+        }
+        DashboardDto dashboard = new DashboardDto(nextUUID(), generator.id(), "dashboard", charts, emptyList(), false);
+        DashboardGenerationCriteria criteria = new DashboardGenerationCriteria(
+                dashboard.id(), generator, Instant.ofEpochSecond(DAY_1), null, null
+        );
+
+        // when
+        DashboardData generatedFromRollup = generate(dashboard, criteria);
+        clearRollup();
+        DashboardData generatedFromActivities = generate(dashboard, criteria);
+
+        // then
+        assertThat(generatedFromRollup).isEqualTo(generatedFromActivities);
+    }
+
+    @Test
+    void shouldReadPastDaysFromRollup() {
+        // given
+        inTransaction(() -> entityManager.createNativeQuery("""
+                        UPDATE tag_duration_daily
+                        SET duration_seconds = duration_seconds + 1000
+                        WHERE user_id = :userId AND tag_id = :tagId AND rollup_day = :rollupDay
+                        """)
+                .setParameter("userId", generator.id().toString())
+                .setParameter("tagId", ownTagWithMetric.id().toString())
+                .setParameter("rollupDay", dayOf(DAY_1))
+                .executeUpdate()
+        );
+        Chart chart = new Chart("chart", DAY, TAG_DURATION, null);
+        DashboardDto dashboard = new DashboardDto(nextUUID(), generator.id(), "dashboard", List.of(chart), emptyList(), false);
+        DashboardGenerationCriteria criteria = new DashboardGenerationCriteria(
+                dashboard.id(), generator, Instant.ofEpochSecond(DAY_1), null, null
+        );
+
+        // when
+        DashboardData dashboardData = generate(dashboard, criteria);
+
+        // then
+        ChartBucketData firstDay = dashboardData.charts().iterator().next().buckets().iterator().next();
+        BigDecimal ownTagWithMetricDuration = firstDay.buckets().stream()
+                .filter(bucket -> bucket.id().equals(ownTagWithMetric.id().toString()))
+                .map(ChartBucketData::value)
+                .findFirst()
+                .orElseThrow();
+        // 2 hours rolled up, 1 hour of activity lasting until the next day
+        assertThat(ownTagWithMetricDuration).isEqualByComparingTo("11799");
+    }
+
+    @Test
+    void shouldRollUpActivitiesLastingWithinDay() {
+        assertThat(rolledUpDuration(ownTagWithMetric, DAY_1)).contains(new BigDecimal("7200"));
+        assertThat(rolledUpDuration(ownTag, DAY_1 + ONE_DAY)).contains(new BigDecimal("57599"));
+        assertThat(rolledUpDuration(ownTag, DAY_1 + 2 * ONE_DAY)).isEmpty();
+        assertThat(rolledUpValues(DAY_1)).contains(List.of(new BigDecimal("10"), new BigDecimal("1")));
+        assertThat(rolledUpValues(DAY_1 + 7 * ONE_DAY)).contains(List.of(new BigDecimal("30"), new BigDecimal("1")));
+    }
+
+    @Test
+    void shouldMoveActivityBetweenDaysWhenRefreshed() throws SQLException {
+        // given
+        ActivityDto activity = newActivity(generatorTenant)
+                .startedAt(DAY_1 + 3 * ONE_DAY + HOUR)
+                .finishedAt(DAY_1 + 3 * ONE_DAY + 2 * HOUR)
+                .withTags(movedTag)
+                .withMetricValues()
+                .build();
+        database().addActivities(activity);
+        inTransaction(() -> dailyRollup.refresh(activity));
+        assertThat(rolledUpDuration(movedTag, DAY_1 + 3 * ONE_DAY)).contains(new BigDecimal("3600"));
+
+        // when
+        ActivityDto movedActivity = new ActivityDto(
+                activity.id(),
+                activity.creatorId(),
+                activity.title(),
+                Instant.ofEpochSecond(DAY_1 + 4 * ONE_DAY + HOUR),
+                Instant.ofEpochSecond(DAY_1 + 4 * ONE_DAY + 4 * HOUR),
+                activity.comment(),
+                activity.tags(),
+                activity.metricValues(),
+                activity.deleted()
+        );
+        inTransaction(() -> {
+            entityManager.createNativeQuery(
+                            "UPDATE activity SET start_time = :startTime, end_time = :endTime WHERE id = :activityId"
+                    )
+                    .setParameter("startTime", SqlValues.toTimestamp(movedActivity.startTime()))
+                    .setParameter("endTime", SqlValues.toTimestamp(movedActivity.endTime()))
+                    .setParameter("activityId", movedActivity.id().toString())
+                    .executeUpdate();
+            dailyRollup.refresh(movedActivity);
+        });
+
+        // then
+        assertThat(rolledUpDuration(movedTag, DAY_1 + 3 * ONE_DAY)).isEmpty();
+        assertThat(rolledUpDuration(movedTag, DAY_1 + 4 * ONE_DAY)).contains(new BigDecimal("10800"));
+    }
+
+    @Test
+    void shouldRefreshSameDayConcurrently() throws Exception {
+        // given
+        long day = DAY_1 + 5 * ONE_DAY;
+        ActivityDto firstActivity = newActivity(generatorTenant)
+                .startedAt(day + HOUR)
+                .finishedAt(day + 2 * HOUR)
+                .withTags(concurrentlyRefreshedTag)
+                .withMetricValues()
+                .build();
+        ActivityDto secondActivity = newActivity(generatorTenant)
+                .startedAt(day + 3 * HOUR)
+                .finishedAt(day + 5 * HOUR)
+                .withTags(concurrentlyRefreshedTag)
+                .withMetricValues()
+                .build();
+        database().addActivities(firstActivity, secondActivity);
+
+        // when
+        entityManager.getTransaction().begin();
+        dailyRollup.refresh(firstActivity);
+        CompletableFuture<Void> concurrentRefresh = CompletableFuture.runAsync(() -> {
+            try (EntityManager concurrentEntityManager = entityManager.getEntityManagerFactory().createEntityManager()) {
+                concurrentEntityManager.getTransaction().begin();
+                new DailyRollup(concurrentEntityManager).refresh(secondActivity);
+                concurrentEntityManager.getTransaction().commit();
+            }
+        });
+        // Lets the concurrent refresh reach the day refreshed by the first transaction before it commits
+        Thread.sleep(300);
+        entityManager.getTransaction().commit();
+        concurrentRefresh.get(10, SECONDS);
+
+        // then
+        assertThat(rolledUpDuration(concurrentlyRefreshedTag, day)).contains(new BigDecimal("10800"));
+    }
+
+    @Test
+    void shouldRebuildUserWhileDaysAreRefreshed() throws Exception {
+        // given
+        long day = DAY_1 + 6 * ONE_DAY;
+        ActivityDto refreshedActivity = newActivity(generatorTenant)
+                .startedAt(day + HOUR)
+                .finishedAt(day + 2 * HOUR)
+                .withTags(concurrentlyRebuiltTag)
+                .withMetricValues()
+                .build();
+        database().addActivities(refreshedActivity);
+
+        // when
+        entityManager.getTransaction().begin();
+        dailyRollup.refresh(refreshedActivity);
+        CompletableFuture<Void> concurrentRebuild = CompletableFuture.runAsync(() -> {
+            try (EntityManager concurrentEntityManager = entityManager.getEntityManagerFactory().createEntityManager()) {
+                concurrentEntityManager.getTransaction().begin();
+                new DailyRollup(concurrentEntityManager).rebuild(generator.id().toString());
+                concurrentEntityManager.getTransaction().commit();
+            }
+        });
+        // Lets the concurrent rebuild reach the user's days refreshed by the first transaction before it commits
+        Thread.sleep(300);
+        entityManager.getTransaction().commit();
+        concurrentRebuild.get(10, SECONDS);
+
+        // then
+        assertThat(rolledUpDuration(concurrentlyRebuiltTag, day)).contains(new BigDecimal("3600"));
+        assertThat(rolledUpDuration(ownTagWithMetric, DAY_1)).contains(new BigDecimal("7200"));
+    }
+
+    @Test
+    void shouldRebuildOnlyDaysOfUser() {
+        // given
+        String sharingUserId = sharingUser.id().toString();
+        long sharingUserRows = rolledUpActivityCount(sharingUserId);
+        inTransaction(() -> entityManager.createNativeQuery(
+                        "DELETE FROM daily_rollup_activity WHERE user_id = :userId"
+                )
+                .setParameter("userId", generator.id().toString())
+                .executeUpdate()
+        );
+
+        // when
+        inTransaction(() -> dailyRollup.rebuild(generator.id().toString()));
+
+        // then
+        assertThat(rolledUpDuration(ownTagWithMetric, DAY_1)).contains(new BigDecimal("7200"));
+        assertThat(rolledUpActivityCount(sharingUserId)).isEqualTo(sharingUserRows).isPositive();
+    }
+
+    private long rolledUpActivityCount(String userId) {
+        Object count = entityManager.createNativeQuery(
+                        "SELECT COUNT(*) FROM daily_rollup_activity WHERE user_id = :userId"
+                )
+                .setParameter("userId", userId)
+                .getSingleResult();
+        return ((Number) count).longValue();
+    }
+
+    private DashboardData generate(DashboardDto dashboard, DashboardGenerationCriteria criteria) {
+        List<DashboardData> generated = new ArrayList<>();
+        inTransaction(() -> generated.add(engine.generateDashboard(dashboard, criteria)));
+        return generated.get(0);
+    }
+
+    private void clearRollup() {
+        inTransaction(() -> {
+            entityManager.createNativeQuery("DELETE FROM metric_value_daily").executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM tag_duration_daily").executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM daily_rollup_activity").executeUpdate();
+        });
+    }
+
+    private Optional<BigDecimal> rolledUpDuration(TagDto tag, long dayStart) {
+        List<?> results = entityManager.createNativeQuery("""
+                        SELECT duration_seconds
+                        FROM tag_duration_daily
+                        WHERE user_id = :userId AND tag_id = :tagId AND rollup_day = :rollupDay
+                        """)
+                .setParameter("userId", generator.id().toString())
+                .setParameter("tagId", tag.id().toString())
+                .setParameter("rollupDay", dayOf(dayStart))
+                .getResultList();
+        return results.stream()
+                .map(duration -> toBigDecimal(duration).setScale(0))
+                .findFirst();
+    }
+
+    private Optional<List<BigDecimal>> rolledUpValues(long dayStart) {
+        List<?> results = entityManager.createNativeQuery("""
+                        SELECT value_sum, value_count
+                        FROM metric_value_daily
+                        WHERE user_id = :userId AND rollup_day = :rollupDay
+                        """)
+                .setParameter("userId", generator.id().toString())
+                .setParameter("rollupDay", dayOf(dayStart))
+                .getResultList();
+        return results.stream()
+                .map(Object[].class::cast)
+                .map(row -> List.of(
+                        toBigDecimal(row[0]).setScale(0),
+                        toBigDecimal(row[1]).setScale(0)
+                ))
+                .findFirst();
+    }
+
+    private static LocalDate dayOf(long epochSeconds) {
+        return LocalDate.ofInstant(Instant.ofEpochSecond(epochSeconds), UTC);
+    }
+
+    @BeforeAll
+    static void setUp() {
+        generatorTenant = newUser().build();
+        sharingUser = newUser().build();
+        generator = new User(generatorTenant.id());
+
+        testConfiguration.addUser(generatorTenant);
+        testConfiguration.addUser(sharingUser);
+
+        MetricDto ownMetric = newMetric(generatorTenant).build();
+        ownTagWithMetric = newTag(generatorTenant).withMetrics(ownMetric).build();
+        ownTag = newTag(generatorTenant).withMetrics().build();
+        movedTag = newTag(generatorTenant).withMetrics().build();
+        concurrentlyRefreshedTag = newTag(generatorTenant).withMetrics().build();
+        concurrentlyRebuiltTag = newTag(generatorTenant).withMetrics().build();
+        TagDto sharedTag = newTag(sharingUser).withMetrics().sharedWith(generatorTenant).build();
+
+        testConfiguration.tags.add(ownTagWithMetric);
+        testConfiguration.tags.add(ownTag);
+        testConfiguration.tags.add(movedTag);
+        testConfiguration.tags.add(concurrentlyRefreshedTag);
+        testConfiguration.tags.add(concurrentlyRebuiltTag);
+        testConfiguration.tags.add(sharedTag);
+
+        // Rolled up
+        testConfiguration.activities.add(newActivity(generatorTenant)
+                .startedAt(DAY_1 + 10 * HOUR)
+                .finishedAt(DAY_1 + 12 * HOUR)
+                .withTags(ownTagWithMetric)
+                .withMetricValues(new MetricValue(ownMetric.id(), new BigDecimal("10")))
+                .build());
+        // Lasting until the next day
+        testConfiguration.activities.add(newActivity(generatorTenant)
+                .startedAt(DAY_1 + 23 * HOUR)
+                .finishedAt(DAY_1 + ONE_DAY + HOUR)
+                .withTags(ownTagWithMetric, ownTag)
+                .withMetricValues(new MetricValue(ownMetric.id(), new BigDecimal("20")))
+                .build());
+        // Rolled up, ending in the last second of a day
+        testConfiguration.activities.add(newActivity(generatorTenant)
+                .startedAt(DAY_1 + ONE_DAY + 8 * HOUR)
+                .finishedAt(DAY_1 + 2 * ONE_DAY - 1)
+                .withTags(ownTag)
+                .withMetricValues()
+                .build());
+        // Ending at the start of the next day
+        testConfiguration.activities.add(newActivity(generatorTenant)
+                .startedAt(DAY_1 + 2 * ONE_DAY)
+                .finishedAt(DAY_1 + 3 * ONE_DAY)
+                .withTags(ownTag)
+                .withMetricValues()
+                .build());
+        // Rolled up, in the next week
+        testConfiguration.activities.add(newActivity(generatorTenant)
+                .startedAt(DAY_1 + 7 * ONE_DAY + 9 * HOUR)
+                .finishedAt(DAY_1 + 7 * ONE_DAY + 10 * HOUR)
+                .withTags(ownTagWithMetric)
+                .withMetricValues(new MetricValue(ownMetric.id(), new BigDecimal("30")))
+                .build());
+        // Not finished
+        testConfiguration.activities.add(newActivity(generatorTenant)
+                .startedAt(DAY_1 + 8 * ONE_DAY + 12 * HOUR)
+                .withTags(ownTag)
+                .withMetricValues()
+                .build());
+        // Deleted
+        testConfiguration.activities.add(newActivity(generatorTenant)
+                .startedAt(DAY_1 + HOUR)
+                .finishedAt(DAY_1 + 2 * HOUR)
+                .withTags(ownTagWithMetric)
+                .withMetricValues(new MetricValue(ownMetric.id(), new BigDecimal("100")))
+                .deleted()
+                .build());
+        // Of another user, with shared tag
+        testConfiguration.activities.add(newActivity(sharingUser)
+                .startedAt(DAY_1 + ONE_DAY + 8 * HOUR)
+                .finishedAt(DAY_1 + ONE_DAY + 9 * HOUR)
+                .withTags(sharedTag)
+                .withMetricValues()
+                .build());
+    }
+}
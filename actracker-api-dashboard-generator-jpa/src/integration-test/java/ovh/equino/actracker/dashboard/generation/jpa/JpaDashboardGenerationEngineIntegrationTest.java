@@ -0,0 +1,223 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ovh.equino.actracker.domain.activity.MetricValue;
+import ovh.equino.actracker.domain.dashboard.*;
+import ovh.equino.actracker.domain.dashboard.generation.*;
+import ovh.equino.actracker.domain.tag.MetricDto;
+import ovh.equino.actracker.domain.tag.TagDto;
+import ovh.equino.actracker.domain.tenant.TenantDto;
+import ovh.equino.actracker.domain.user.User;
+import ovh.equino.actracker.jpa.IntegrationTestConfiguration;
+import ovh.equino.actracker.jpa.JpaIntegrationTest;
+
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.*;
+
+import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static ovh.equino.actracker.domain.dashboard.AnalysisMetric.*;
+import static ovh.equino.actracker.domain.dashboard.GroupBy.*;
+import static ovh.equino.actracker.jpa.TestUtil.nextUUID;
+
+abstract class JpaDashboardGenerationEngineIntegrationTest extends JpaIntegrationTest {
+
+    // 2024-01-01T00:00:00Z, Monday
+    private static final long DAY_1 = 1704067200L;
+    private static final long DAY_2 = DAY_1 + 86400L;
+    private static final long HOUR = 3600L;
+
+    private static final IntegrationTestConfiguration testConfiguration = new IntegrationTestConfiguration();
+    private static User generator;
+    private static User userWithoutTags;
+    private static TagDto ownTagWithMetric;
+    private static TagDto ownTag;
+    private static TagDto sharedTag;
+    private static MetricDto ownMetric;
+
+    private JpaDashboardGenerationEngine engine;
+
+    @BeforeEach
+    void init() throws SQLException {
+        this.engine = new JpaDashboardGenerationEngine(entityManager);
+        testConfiguration.persistIn(database());
+    }
+
+    @Test
+    void shouldSumTagDurationsOfWholeRange() {
+        DashboardData dashboardData = generate(chart(SELF, TAG_DURATION), null);
+
+        Collection<ChartBucketData> buckets = singleChart(dashboardData).buckets();
+        assertThat(valueOf(ownTagWithMetric, buckets)).isEqualByComparingTo("14400");
+        assertThat(valueOf(ownTag, buckets)).isEqualByComparingTo("7200");
+        assertThat(valueOf(sharedTag, buckets)).isEqualByComparingTo("3600");
+    }
+
+    @Test
+    void shouldSplitTagDurationsIntoDays() {
+        DashboardData dashboardData = generate(chart(DAY, TAG_DURATION), null);
+
+        List<ChartBucketData> days = new ArrayList<>(singleChart(dashboardData).buckets());
+        assertThat(days).hasSize(2);
+        assertThat(days.get(0).rangeStart()).isEqualTo(Instant.ofEpochSecond(DAY_1));
+        assertThat(days.get(0).bucketType()).isEqualTo(BucketType.DAY);
+        assertThat(valueOf(ownTagWithMetric, days.get(0).buckets())).isEqualByComparingTo("10799");
+        assertThat(valueOf(ownTag, days.get(0).buckets())).isEqualByComparingTo("3599");
+        assertThat(valueOf(sharedTag, days.get(0).buckets())).isEqualByComparingTo("0");
+        assertThat(days.get(1).rangeStart()).isEqualTo(Instant.ofEpochSecond(DAY_2));
+        assertThat(valueOf(ownTagWithMetric, days.get(1).buckets())).isEqualByComparingTo("3600");
+        assertThat(valueOf(ownTag, days.get(1).buckets())).isEqualByComparingTo("3600");
+        assertThat(valueOf(sharedTag, days.get(1).buckets())).isEqualByComparingTo("3600");
+    }
+
+    @Test
+    void shouldComputeTagPercentagesWithinWeek() {
+        DashboardData dashboardData = generate(chart(WEEK, TAG_PERCENTAGE, ownTagWithMetric, sharedTag), null);
+
+        List<ChartBucketData> weeks = new ArrayList<>(singleChart(dashboardData).buckets());
+        assertThat(weeks).hasSize(1);
+        assertThat(weeks.get(0).buckets()).hasSize(2);
+        assertThat(weeks.get(0).buckets())
+                .extracting(ChartBucketData::percentage)
+                .containsExactlyInAnyOrder(new BigDecimal("0.800"), new BigDecimal("0.200"));
+        assertThat(valueOf(ownTagWithMetric, weeks.get(0).buckets())).isEqualByComparingTo("0.8");
+    }
+
+    @Test
+    void shouldAverageMetricValues() {
+        DashboardData dashboardData = generate(chart(SELF, METRIC_VALUE), null);
+
+        Collection<ChartBucketData> buckets = singleChart(dashboardData).buckets();
+        assertThat(buckets).hasSize(1);
+        ChartBucketData metricBucket = buckets.iterator().next();
+        assertThat(metricBucket.id()).isEqualTo(ownMetric.id().toString());
+        assertThat(metricBucket.bucketType()).isEqualTo(BucketType.METRIC);
+        assertThat(metricBucket.value()).isEqualByComparingTo("15");
+    }
+
+    @Test
+    void shouldTakeOnlyActivitiesInRequestedTimeRange() {
+        DashboardData dashboardData = generate(chart(SELF, TAG_DURATION), Instant.ofEpochSecond(DAY_2));
+
+        Collection<ChartBucketData> buckets = singleChart(dashboardData).buckets();
+        assertThat(valueOf(ownTagWithMetric, buckets)).isEqualByComparingTo("3600");
+        assertThat(valueOf(ownTag, buckets)).isEqualByComparingTo("3600");
+        assertThat(valueOf(sharedTag, buckets)).isEqualByComparingTo("3600");
+    }
+
+    @Test
+    void shouldGenerateEmptyChartsWithoutAccessibleTags() {
+        DashboardDto dashboard = dashboardWith(chart(DAY, TAG_DURATION));
+        DashboardGenerationCriteria criteria = new DashboardGenerationCriteria(
+                dashboard.id(), userWithoutTags, null, null, null
+        );
+
+        inTransaction(() -> {
+            DashboardData dashboardData = engine.generateDashboard(dashboard, criteria);
+            assertThat(singleChart(dashboardData).buckets()).isEmpty();
+        });
+    }
+
+    private DashboardData generate(Chart chart, Instant timeRangeStart) {
+        DashboardDto dashboard = dashboardWith(chart);
+        DashboardGenerationCriteria criteria = new DashboardGenerationCriteria(
+                dashboard.id(), generator, timeRangeStart, null, null
+        );
+        List<DashboardData> generated = new ArrayList<>();
+        inTransaction(() -> generated.add(engine.generateDashboard(dashboard, criteria)));
+        return generated.get(0);
+    }
+
+    private static Chart chart(GroupBy groupBy, AnalysisMetric analysisMetric, TagDto... includedTags) {
+        Set<UUID> includedTagIds = new HashSet<>();
+        Arrays.stream(includedTags).map(TagDto::id).forEach(includedTagIds::add);
+        return new Chart("chart", groupBy, analysisMetric, includedTagIds);
+    }
+
+    private static DashboardDto dashboardWith(Chart chart) {
+        return new DashboardDto(nextUUID(), generator.id(), "dashboard", List.of(chart), emptyList(), false);
+    }
+
+    private static DashboardChartData singleChart(DashboardData dashboardData) {
+        assertThat(dashboardData.charts()).hasSize(1);
+        return dashboardData.charts().iterator().next();
+    }
+
+    private static BigDecimal valueOf(TagDto tag, Collection<ChartBucketData> buckets) {
+        return buckets.stream()
+                .filter(bucket -> bucket.id().equals(tag.id().toString()))
+                .map(ChartBucketData::value)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    @BeforeAll
+    static void setUp() {
+        TenantDto generatorTenant = newUser().build();
+        TenantDto sharingUser = newUser().build();
+        TenantDto tenantWithoutTags = newUser().build();
+        generator = new User(generatorTenant.id());
+        userWithoutTags = new User(tenantWithoutTags.id());
+
+        testConfiguration.addUser(generatorTenant);
+        testConfiguration.addUser(sharingUser);
+        testConfiguration.addUser(tenantWithoutTags);
+
+        ownMetric = newMetric(generatorTenant).build();
+        MetricDto foreignMetric = newMetric(sharingUser).build();
+
+        ownTagWithMetric = newTag(generatorTenant).withMetrics(ownMetric).build();
+        ownTag = newTag(generatorTenant).withMetrics().build();
+        sharedTag = newTag(sharingUser).withMetrics().sharedWith(generatorTenant).build();
+        TagDto foreignTag = newTag(sharingUser).withMetrics(foreignMetric).build();
+        TagDto deletedTag = newTag(generatorTenant).withMetrics().deleted().build();
+
+        testConfiguration.tags.add(ownTagWithMetric);
+        testConfiguration.tags.add(ownTag);
+        testConfiguration.tags.add(sharedTag);
+        testConfiguration.tags.add(foreignTag);
+        testConfiguration.tags.add(deletedTag);
+
+        testConfiguration.activities.add(newActivity(generatorTenant)
+                .startedAt(DAY_1 + 10 * HOUR)
+                .finishedAt(DAY_1 + 12 * HOUR)
+                .withTags(ownTagWithMetric)
+                .withMetricValues(new MetricValue(ownMetric.id(), new BigDecimal("10")))
+                .build());
+        testConfiguration.activities.add(newActivity(generatorTenant)
+                .startedAt(DAY_1 + 23 * HOUR)
+                .finishedAt(DAY_2 + HOUR)
+                .withTags(ownTagWithMetric, ownTag)
+                .withMetricValues(new MetricValue(ownMetric.id(), new BigDecimal("20")))
+                .build());
+        testConfiguration.activities.add(newActivity(sharingUser)
+                .startedAt(DAY_2 + 8 * HOUR)
+                .finishedAt(DAY_2 + 9 * HOUR)
+                .withTags(sharedTag)
+                .withMetricValues()
+                .build());
+        testConfiguration.activities.add(newActivity(sharingUser)
+                .startedAt(DAY_1)
+                .finishedAt(DAY_2)
+                .withTags(foreignTag)
+                .withMetricValues(new MetricValue(foreignMetric.id(), new BigDecimal("100")))
+                .build());
+        testConfiguration.activities.add(newActivity(generatorTenant)
+                .startedAt(DAY_1)
+                .finishedAt(DAY_2)
+                .withTags(ownTagWithMetric)
+                .withMetricValues(new MetricValue(ownMetric.id(), new BigDecimal("100")))
+                .deleted()
+                .build());
+        testConfiguration.activities.add(newActivity(generatorTenant)
+                .startedAt(DAY_1)
+                .finishedAt(DAY_2)
+                .withTags(deletedTag)
+                .withMetricValues()
+                .build());
+    }
+}
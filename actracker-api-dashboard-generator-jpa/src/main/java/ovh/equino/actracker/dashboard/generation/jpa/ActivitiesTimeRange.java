@@ -0,0 +1,6 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import java.time.Instant;
+
+record ActivitiesTimeRange(Instant earliestStartTime, Instant latestEndTime) {
+}
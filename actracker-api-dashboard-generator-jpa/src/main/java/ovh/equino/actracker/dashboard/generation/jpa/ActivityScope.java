@@ -0,0 +1,115 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import jakarta.persistence.Query;
+import ovh.equino.actracker.domain.dashboard.generation.DashboardGenerationCriteria;
+
+import java.util.UUID;
+
+import static java.util.Objects.nonNull;
+import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
+import static ovh.equino.actracker.dashboard.generation.jpa.SqlValues.toTimestamp;
+
+/**
+ * Common table expressions selecting tags and activities taken into account while generating a dashboard:
+ * <ul>
+ *     <li>{@code accessible_tag} - not deleted tags owned by, or shared with the generating user,</li>
+ *     <li>{@code scoped_activity} - not deleted, started activities accessible for the generating user, having
+ *     at least one accessible tag and matching the time range and tags of the generation criteria.</li>
+ * </ul>
+ * Selected rows are the same as those the repository generation engine obtains through search engines.
+ * <p>
+ * Expressions do not reference each other, as H2 loses bound parameters of a common table expression referenced
+ * from another one.
+ */
+final class ActivityScope {
+
+    private final DashboardGenerationCriteria generationCriteria;
+
+    ActivityScope(DashboardGenerationCriteria generationCriteria) {
+        this.generationCriteria = generationCriteria;
+    }
+
+    String withClause() {
+        StringBuilder sql = new StringBuilder()
+                .append("""
+                        WITH accessible_tag AS (
+                            SELECT t.id, t.creator_id
+                            FROM tag t
+                            WHERE t.deleted = false
+                              AND (t.creator_id = :generatorId
+                                   OR EXISTS (SELECT 1 FROM tag_share s WHERE s.tag_id = t.id AND s.grantee_id = :generatorId))
+                        ),
+                        scoped_activity AS (
+                            SELECT a.id, a.start_time, a.end_time
+                            FROM activity a
+                            WHERE a.deleted = false
+                              AND a.start_time IS NOT NULL
+                              AND (a.creator_id = :generatorId
+                                   OR EXISTS (SELECT 1
+                                              FROM activity_tag act_tag
+                                              JOIN tag t ON t.id = act_tag.tag_id
+                                              JOIN tag_share s ON s.tag_id = t.id
+                                              WHERE act_tag.activity_id = a.id
+                                                AND t.deleted = false
+                                                AND s.grantee_id = :generatorId))
+                              AND EXISTS (SELECT 1
+                                          FROM activity_tag act_tag
+                                          JOIN tag t ON t.id = act_tag.tag_id
+                                          WHERE act_tag.activity_id = a.id
+                                            AND t.deleted = false
+                                            AND (t.creator_id = :generatorId
+                                                 OR EXISTS (SELECT 1
+                                                            FROM tag_share s
+                                                            WHERE s.tag_id = t.id AND s.grantee_id = :generatorId)))
+                        """);
+        if (hasTimeRangeStart()) {
+            sql.append("      AND (a.end_time IS NULL OR a.end_time >= :timeRangeStart)\n");
+        }
+        if (hasTimeRangeEnd()) {
+            sql.append("      AND a.start_time <= :timeRangeEnd\n");
+        }
+        if (hasRequiredTags()) {
+            sql.append("""
+                          AND EXISTS (SELECT 1
+                                      FROM activity_tag act_tag
+                                      JOIN tag t ON t.id = act_tag.tag_id
+                                      WHERE act_tag.activity_id = a.id
+                                        AND t.deleted = false
+                                        AND act_tag.tag_id IN (:requiredTagIds))
+                    """);
+        }
+        return sql.append(")\n").toString();
+    }
+
+    void bindTo(Query query) {
+        query.setParameter("generatorId", generationCriteria.generator().id().toString());
+        if (hasTimeRangeStart()) {
+            query.setParameter("timeRangeStart", toTimestamp(generationCriteria.timeRangeStart()));
+        }
+        if (hasTimeRangeEnd()) {
+            query.setParameter("timeRangeEnd", toTimestamp(generationCriteria.timeRangeEnd()));
+        }
+        if (hasRequiredTags()) {
+            query.setParameter(
+                    "requiredTagIds",
+                    generationCriteria.tags().stream().map(UUID::toString).toList()
+            );
+        }
+    }
+
+    DashboardGenerationCriteria generationCriteria() {
+        return generationCriteria;
+    }
+
+    private boolean hasTimeRangeStart() {
+        return nonNull(generationCriteria.timeRangeStart());
+    }
+
+    private boolean hasTimeRangeEnd() {
+        return nonNull(generationCriteria.timeRangeEnd());
+    }
+
+    private boolean hasRequiredTags() {
+        return isNotEmpty(generationCriteria.tags());
+    }
+}
@@ -0,0 +1,30 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import java.math.BigDecimal;
+
+import static java.math.RoundingMode.HALF_UP;
+
+/**
+ * Sum of values aggregated within a bucket, with the number of summed values. The number is tracked for metric values
+ * only, as they are averaged.
+ */
+record AggregatedValue(BigDecimal sum, long count) {
+
+    static AggregatedValue ofSum(BigDecimal sum) {
+        return new AggregatedValue(sum, 0);
+    }
+
+    AggregatedValue plus(AggregatedValue other) {
+        return new AggregatedValue(sum.add(other.sum), count + other.count);
+    }
+
+    /**
+     * @return average of values, rounded to four decimal places, or null if no values were summed
+     */
+    BigDecimal average() {
+        if (count == 0) {
+            return null;
+        }
+        return sum.divide(BigDecimal.valueOf(count), 4, HALF_UP);
+    }
+}
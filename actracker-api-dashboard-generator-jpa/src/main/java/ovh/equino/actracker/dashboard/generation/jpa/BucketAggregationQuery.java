@@ -0,0 +1,99 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import java.util.*;
+
+import static ovh.equino.actracker.dashboard.generation.jpa.SqlValues.*;
+
+/**
+ * Aggregates values of scoped activities within many time buckets in a single query. Buckets are passed as
+ * a {@code bucket(bucket_no, bucket_start, bucket_end, rolled_up)} common table expression, so that activities
+ * spanning several buckets are split between them by the database.
+ * <p>
+ * Activities of the generating user rolled up into days of a rolled up bucket are skipped, as they are read from the
+ * daily rollup instead.
+ */
+abstract class BucketAggregationQuery {
+
+    private static final int BUCKETS_PER_QUERY = 200;
+
+    protected static final String BUCKET_OVERLAP_CONDITION = """
+            a.start_time <= b.bucket_end AND (a.end_time IS NULL OR a.end_time >= b.bucket_start)
+                AND (b.rolled_up = 0
+                     OR NOT EXISTS (SELECT 1
+                                    FROM daily_rollup_activity r
+                                    WHERE r.activity_id = a.id AND r.user_id = :generatorId))""";
+
+    private final EntityManager entityManager;
+    private final ActivityScope scope;
+
+    protected BucketAggregationQuery(EntityManager entityManager, ActivityScope scope) {
+        this.entityManager = entityManager;
+        this.scope = scope;
+    }
+
+    /**
+     * @param buckets         time ranges by bucket number
+     * @param rolledUpBuckets numbers of buckets read from the daily rollup
+     * @return aggregated values by ID of aggregated entity, by bucket number
+     */
+    Map<Integer, Map<UUID, AggregatedValue>> execute(Map<Integer, BucketRange> buckets, Set<Integer> rolledUpBuckets) {
+        Map<Integer, Map<UUID, AggregatedValue>> valuesByBucket = new HashMap<>();
+        List<Map.Entry<Integer, BucketRange>> allBuckets = new ArrayList<>(buckets.entrySet());
+
+        for (int chunkStart = 0; chunkStart < allBuckets.size(); chunkStart += BUCKETS_PER_QUERY) {
+            List<Map.Entry<Integer, BucketRange>> chunk = allBuckets.subList(
+                    chunkStart,
+                    Math.min(chunkStart + BUCKETS_PER_QUERY, allBuckets.size())
+            );
+            Query query = entityManager.createNativeQuery(
+                    scope.withClause() + bucketsClause(chunk, rolledUpBuckets) + selectClause()
+            );
+            scope.bindTo(query);
+            bindBuckets(query, chunk);
+            bindTo(query);
+
+            for (Object result : query.getResultList()) {
+                Object[] row = (Object[]) result;
+                valuesByBucket
+                        .computeIfAbsent(toInt(row[0]), bucket -> new HashMap<>())
+                        .put(toUUID(row[1]), toValue(row));
+            }
+        }
+        return valuesByBucket;
+    }
+
+    /**
+     * Selects rows of bucket number, aggregated entity ID and any further columns required by {@link #toValue}.
+     */
+    protected abstract String selectClause();
+
+    protected abstract void bindTo(Query query);
+
+    protected abstract AggregatedValue toValue(Object[] row);
+
+    private String bucketsClause(List<Map.Entry<Integer, BucketRange>> bucketsChunk, Set<Integer> rolledUpBuckets) {
+        StringJoiner buckets = new StringJoiner(
+                "\n    UNION ALL\n    ",
+                ", bucket AS (\n    ",
+                "\n)\n"
+        );
+        for (int i = 0; i < bucketsChunk.size(); i++) {
+            int bucketNo = bucketsChunk.get(i).getKey();
+            buckets.add(
+                    "SELECT %d AS bucket_no, CAST(:bucketStart%d AS TIMESTAMP) AS bucket_start, CAST(:bucketEnd%d AS TIMESTAMP) AS bucket_end, %d AS rolled_up"
+                            .formatted(bucketNo, i, i, rolledUpBuckets.contains(bucketNo) ? 1 : 0)
+            );
+        }
+        return buckets.toString();
+    }
+
+    private void bindBuckets(Query query, List<Map.Entry<Integer, BucketRange>> buckets) {
+        for (int i = 0; i < buckets.size(); i++) {
+            query.setParameter("bucketStart%d".formatted(i), toTimestamp(buckets.get(i).getValue().start()));
+            query.setParameter("bucketEnd%d".formatted(i), toTimestamp(buckets.get(i).getValue().end()));
+        }
+    }
+}
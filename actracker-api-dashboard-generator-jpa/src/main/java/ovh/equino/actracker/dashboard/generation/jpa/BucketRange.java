@@ -0,0 +1,19 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import java.time.Instant;
+import java.util.Optional;
+
+record BucketRange(Instant start, Instant end) {
+
+    /**
+     * Part of the bucket lying within the given range. Empty if the bucket does not overlap the range.
+     */
+    Optional<BucketRange> alignedTo(Instant rangeStart, Instant rangeEnd) {
+        Instant alignedStart = start.isAfter(rangeStart) ? start : rangeStart;
+        Instant alignedEnd = end.isBefore(rangeEnd) ? end : rangeEnd;
+        if (alignedStart.isAfter(alignedEnd)) {
+            return Optional.empty();
+        }
+        return Optional.of(new BucketRange(alignedStart, alignedEnd));
+    }
+}
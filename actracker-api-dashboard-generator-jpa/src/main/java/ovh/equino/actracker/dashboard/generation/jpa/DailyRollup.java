@@ -0,0 +1,243 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import ovh.equino.actracker.domain.activity.ActivityDto;
+import ovh.equino.actracker.jpa.JpaDAO;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+
+import static java.time.ZoneOffset.UTC;
+import static ovh.equino.actracker.dashboard.generation.jpa.SqlValues.toInstant;
+import static ovh.equino.actracker.dashboard.generation.jpa.SqlValues.toLocalDate;
+import static ovh.equino.actracker.domain.dashboard.generation.DashboardUtils.startOfNextDay;
+
+/**
+ * Daily totals of activities, by creator and day: durations of tags in {@code tag_duration_daily} and sums of metric
+ * values in {@code metric_value_daily}.
+ * <p>
+ * Only finished activities lasting within a single day (UTC) and ending at least a millisecond before its end are
+ * rolled up. Every time bucket made of whole days contains such an activity entirely or does not overlap it at all,
+ * so a bucket sums up days of the rollup exactly as it would sum up the activities. Days the activities are rolled up
+ * into are tracked in {@code daily_rollup_activity}, so that the day an activity contributed to before its change is
+ * known.
+ * <p>
+ * Refreshes and rebuilds of days of the same user are serialized by locking the user's row until the transaction
+ * ends, as days are recomputed by deleting and inserting their totals.
+ */
+public class DailyRollup extends JpaDAO {
+
+    private static final int ACTIVITIES_PER_PAGE = 1000;
+
+    private static final String INSERT_TAG_DURATIONS = """
+            INSERT INTO tag_duration_daily (user_id, tag_id, rollup_day, duration_seconds)
+            SELECT r.user_id,
+                   act_tag.tag_id,
+                   r.rollup_day,
+                   SUM(EXTRACT(EPOCH FROM a.end_time) - EXTRACT(EPOCH FROM a.start_time))
+            FROM daily_rollup_activity r
+            JOIN activity a ON a.id = r.activity_id
+            JOIN activity_tag act_tag ON act_tag.activity_id = a.id
+            %s
+            GROUP BY r.user_id, act_tag.tag_id, r.rollup_day
+            """;
+
+    private static final String INSERT_METRIC_VALUES = """
+            INSERT INTO metric_value_daily (user_id, metric_id, rollup_day, value_sum, value_count)
+            SELECT r.user_id,
+                   mv.metric_id,
+                   r.rollup_day,
+                   SUM(mv.metric_value),
+                   COUNT(mv.metric_value)
+            FROM daily_rollup_activity r
+            JOIN metric_value mv ON mv.activity_id = r.activity_id
+            WHERE mv.metric_value IS NOT NULL
+              %s
+            GROUP BY r.user_id, mv.metric_id, r.rollup_day
+            """;
+
+    public DailyRollup(EntityManager entityManager) {
+        super(entityManager);
+    }
+
+    /**
+     * Brings up to date the days the activity contributed to, before and after its change.
+     */
+    public void refresh(ActivityDto activity) {
+        // Totals are computed from activities stored in the database
+        entityManager.flush();
+        lockDaysOf(activity.creatorId().toString());
+
+        Optional<UserDay> previousDay = selectRolledUpDay(activity.id());
+        Optional<UserDay> currentDay = activity.deleted()
+                ? Optional.empty()
+                : rollupDayOf(activity.startTime(), activity.endTime())
+                .map(day -> new UserDay(activity.creatorId().toString(), day));
+
+        if (previousDay.isPresent()) {
+            entityManager.createNativeQuery("DELETE FROM daily_rollup_activity WHERE activity_id = :activityId")
+                    .setParameter("activityId", activity.id().toString())
+                    .executeUpdate();
+        }
+        currentDay.ifPresent(day -> insertRolledUpActivities(Map.of(activity.id().toString(), day)));
+
+        Set<UserDay> changedDays = new HashSet<>();
+        previousDay.ifPresent(changedDays::add);
+        currentDay.ifPresent(changedDays::add);
+        changedDays.forEach(this::recompute);
+    }
+
+    /**
+     * @return IDs of all users, whose days are rebuilt one at a time with {@link #rebuild(String)}
+     */
+    public List<String> selectUserIds() {
+        List<?> results = entityManager.createNativeQuery("SELECT t.id FROM tenant t ORDER BY t.id")
+                .getResultList();
+        return results.stream()
+                .map(Object::toString)
+                .toList();
+    }
+
+    /**
+     * Computes totals of all days of the user from scratch, e.g. to roll up activities stored before the rollup was
+     * maintained. Refreshes of the user's days wait for the rebuild to commit.
+     */
+    public void rebuild(String userId) {
+        lockDaysOf(userId);
+        entityManager.createNativeQuery("DELETE FROM metric_value_daily WHERE user_id = :userId")
+                .setParameter("userId", userId)
+                .executeUpdate();
+        entityManager.createNativeQuery("DELETE FROM tag_duration_daily WHERE user_id = :userId")
+                .setParameter("userId", userId)
+                .executeUpdate();
+        entityManager.createNativeQuery("DELETE FROM daily_rollup_activity WHERE user_id = :userId")
+                .setParameter("userId", userId)
+                .executeUpdate();
+
+        String lastActivityId = "";
+        List<?> activities;
+        do {
+            activities = entityManager.createNativeQuery("""
+                            SELECT a.id, a.start_time, a.end_time
+                            FROM activity a
+                            WHERE a.creator_id = :userId
+                              AND a.deleted = false
+                              AND a.start_time IS NOT NULL
+                              AND a.end_time IS NOT NULL
+                              AND a.id > :lastActivityId
+                            ORDER BY a.id
+                            """)
+                    .setParameter("userId", userId)
+                    .setParameter("lastActivityId", lastActivityId)
+                    .setMaxResults(ACTIVITIES_PER_PAGE)
+                    .getResultList();
+
+            Map<String, UserDay> rolledUpActivities = new LinkedHashMap<>();
+            for (Object result : activities) {
+                Object[] row = (Object[]) result;
+                lastActivityId = row[0].toString();
+                String activityId = lastActivityId;
+                rollupDayOf(toInstant(row[1]), toInstant(row[2]))
+                        .ifPresent(day -> rolledUpActivities.put(activityId, new UserDay(userId, day)));
+            }
+            insertRolledUpActivities(rolledUpActivities);
+        } while (activities.size() == ACTIVITIES_PER_PAGE);
+
+        entityManager.createNativeQuery(INSERT_TAG_DURATIONS.formatted("WHERE r.user_id = :userId"))
+                .setParameter("userId", userId)
+                .executeUpdate();
+        entityManager.createNativeQuery(INSERT_METRIC_VALUES.formatted("AND r.user_id = :userId"))
+                .setParameter("userId", userId)
+                .executeUpdate();
+    }
+
+    /**
+     * @return day the activity is rolled up into, or empty if the activity is not rolled up
+     */
+    static Optional<LocalDate> rollupDayOf(Instant startTime, Instant endTime) {
+        if (startTime == null || endTime == null) {
+            return Optional.empty();
+        }
+        Instant latestRolledUpEndTime = startOfNextDay(startTime).minusMillis(1);
+        if (endTime.isAfter(latestRolledUpEndTime)) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDate.ofInstant(startTime, UTC));
+    }
+
+    /**
+     * Waits for concurrent refreshes of the user's days to commit. Without it, a concurrent recomputation of a day would
+     * not delete totals committed after its statement started, and would fail inserting them again.
+     */
+    private void lockDaysOf(String userId) {
+        entityManager.createNativeQuery("SELECT t.id FROM tenant t WHERE t.id = :userId FOR UPDATE")
+                .setParameter("userId", userId)
+                .getResultList();
+    }
+
+    private Optional<UserDay> selectRolledUpDay(UUID activityId) {
+        List<?> results = entityManager.createNativeQuery(
+                        "SELECT r.user_id, r.rollup_day FROM daily_rollup_activity r WHERE r.activity_id = :activityId"
+                )
+                .setParameter("activityId", activityId.toString())
+                .getResultList();
+        return results.stream()
+                .map(Object[].class::cast)
+                .map(row -> new UserDay(row[0].toString(), toLocalDate(row[1])))
+                .findFirst();
+    }
+
+    private void insertRolledUpActivities(Map<String, UserDay> rolledUpActivities) {
+        if (rolledUpActivities.isEmpty()) {
+            return;
+        }
+        StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < rolledUpActivities.size(); i++) {
+            values.add("(:activityId%d, :userId%d, :rollupDay%d)".formatted(i, i, i));
+        }
+        Query query = entityManager.createNativeQuery(
+                "INSERT INTO daily_rollup_activity (activity_id, user_id, rollup_day) VALUES " + values
+        );
+        int i = 0;
+        for (Map.Entry<String, UserDay> rolledUpActivity : rolledUpActivities.entrySet()) {
+            query.setParameter("activityId%d".formatted(i), rolledUpActivity.getKey());
+            query.setParameter("userId%d".formatted(i), rolledUpActivity.getValue().userId());
+            query.setParameter("rollupDay%d".formatted(i), rolledUpActivity.getValue().day());
+            i++;
+        }
+        query.executeUpdate();
+    }
+
+    private void recompute(UserDay userDay) {
+        entityManager.createNativeQuery(
+                        "DELETE FROM tag_duration_daily WHERE user_id = :userId AND rollup_day = :rollupDay"
+                )
+                .setParameter("userId", userDay.userId())
+                .setParameter("rollupDay", userDay.day())
+                .executeUpdate();
+        entityManager.createNativeQuery(
+                        "DELETE FROM metric_value_daily WHERE user_id = :userId AND rollup_day = :rollupDay"
+                )
+                .setParameter("userId", userDay.userId())
+                .setParameter("rollupDay", userDay.day())
+                .executeUpdate();
+
+        entityManager.createNativeQuery(
+                        INSERT_TAG_DURATIONS.formatted("WHERE r.user_id = :userId AND r.rollup_day = :rollupDay")
+                )
+                .setParameter("userId", userDay.userId())
+                .setParameter("rollupDay", userDay.day())
+                .executeUpdate();
+        entityManager.createNativeQuery(
+                        INSERT_METRIC_VALUES.formatted("AND r.user_id = :userId AND r.rollup_day = :rollupDay")
+                )
+                .setParameter("userId", userDay.userId())
+                .setParameter("rollupDay", userDay.day())
+                .executeUpdate();
+    }
+
+    private record UserDay(String userId, LocalDate day) {
+    }
+}
@@ -0,0 +1,25 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import ovh.equino.actracker.domain.activity.ActivityChangedNotification;
+import ovh.equino.actracker.domain.activity.ActivityNotifier;
+
+/**
+ * Keeps the daily rollup up to date with changed activities, in the transaction the change notification is written
+ * in.
+ */
+public class DailyRollupActivityNotifier implements ActivityNotifier {
+
+    private final ActivityNotifier notifier;
+    private final DailyRollup dailyRollup;
+
+    public DailyRollupActivityNotifier(ActivityNotifier notifier, DailyRollup dailyRollup) {
+        this.notifier = notifier;
+        this.dailyRollup = dailyRollup;
+    }
+
+    @Override
+    public void notifyChanged(ActivityChangedNotification activityChangedNotification) {
+        notifier.notifyChanged(activityChangedNotification);
+        dailyRollup.refresh(activityChangedNotification.activity());
+    }
+}
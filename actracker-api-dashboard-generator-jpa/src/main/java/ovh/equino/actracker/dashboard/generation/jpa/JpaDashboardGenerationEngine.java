@@ -0,0 +1,294 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import jakarta.persistence.EntityManager;
+import ovh.equino.actracker.domain.dashboard.AnalysisMetric;
+import ovh.equino.actracker.domain.dashboard.Chart;
+import ovh.equino.actracker.domain.dashboard.DashboardDto;
+import ovh.equino.actracker.domain.dashboard.GroupBy;
+import ovh.equino.actracker.domain.dashboard.generation.*;
+import ovh.equino.actracker.domain.user.User;
+import ovh.equino.actracker.jpa.JpaDAO;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.*;
+
+import static java.math.BigDecimal.ZERO;
+import static java.math.RoundingMode.DOWN;
+import static java.math.RoundingMode.HALF_UP;
+import static java.time.Instant.now;
+import static java.time.ZoneOffset.UTC;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.function.Predicate.not;
+import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
+import static ovh.equino.actracker.domain.dashboard.generation.DashboardUtils.*;
+
+/**
+ * Generates dashboards by aggregating activities in the database, instead of fetching them. Results are the same as
+ * those of the repository generation engine, bucket for bucket.
+ * <p>
+ * Durations are computed from timestamps as stored, so the database session should use the same time zone as the
+ * application storing activities.
+ * <p>
+ * Past days of charts grouped by days, weeks or months are read from the {@link DailyRollup}, together with
+ * activities not rolled up, unless activities are filtered by tags. Activities of the current day are always read.
+ */
+class JpaDashboardGenerationEngine extends JpaDAO implements DashboardGenerationEngine {
+
+    JpaDashboardGenerationEngine(EntityManager entityManager) {
+        super(entityManager);
+    }
+
+    @Override
+    public DashboardData generateDashboard(DashboardDto dashboard, DashboardGenerationCriteria generationCriteria) {
+
+        ActivityScope scope = new ActivityScope(generationCriteria);
+
+        Map<UUID, Set<UUID>> metricsByTag = new SelectAccessibleTagsQuery(entityManager, scope).execute();
+        if (metricsByTag.isEmpty()) {
+            return empty(dashboard);
+        }
+
+        ActivitiesTimeRange activitiesTimeRange = new SelectActivitiesTimeRangeQuery(entityManager, scope).execute();
+        if (activitiesTimeRange.earliestStartTime() == null) {
+            return empty(dashboard);
+        }
+        Instant rangeStart = latestOf(
+                startOfDay(activitiesTimeRange.earliestStartTime()),
+                generationCriteria.timeRangeStart()
+        );
+        Instant rangeEnd = earliestOf(
+                endOfDay(activitiesTimeRange.latestEndTime()),
+                generationCriteria.timeRangeEnd()
+        );
+        if (rangeEnd == null) {
+            return empty(dashboard);
+        }
+
+        List<DashboardChartData> chartsData = dashboard.charts()
+                .stream()
+                .filter(not(Chart::isDeleted))
+                .map(chart -> generate(chart, scope, new BucketRange(rangeStart, rangeEnd), metricsByTag))
+                .toList();
+
+        return new DashboardData(dashboard.name(), chartsData);
+    }
+
+    private DashboardChartData generate(Chart chart,
+                                        ActivityScope scope,
+                                        BucketRange dashboardRange,
+                                        Map<UUID, Set<UUID>> metricsByTag) {
+
+        Set<UUID> chartTags = new LinkedHashSet<>(metricsByTag.keySet());
+        if (!chart.includesAllTags()) {
+            chartTags.retainAll(chart.includedTags());
+        }
+
+        if (chart.groupBy() == GroupBy.SELF) {
+            Map<UUID, BigDecimal> values =
+                    aggregate(chart, scope, Map.of(0, dashboardRange), emptyMap(), chartTags, metricsByTag)
+                            .getOrDefault(0, emptyMap());
+            return new DashboardChartData(chart.name(), toBuckets(chart, chartTags, metricsByTag, values));
+        }
+
+        TimeBuckets timeBucketing = TimeBuckets.of(chart.groupBy()).orElseThrow();
+        List<BucketRange> timeBuckets = new ArrayList<>();
+        Map<Integer, BucketRange> alignedTimeBuckets = new LinkedHashMap<>();
+        Map<Integer, RolledUpDays> rolledUpTimeBuckets = new HashMap<>();
+        for (Instant bucket = dashboardRange.start();
+             bucket.isBefore(dashboardRange.end());
+             bucket = timeBucketing.toNextRangeStart(bucket)) {
+
+            BucketRange timeBucket = new BucketRange(timeBucketing.toRangeStart(bucket), timeBucketing.toRangeEnd(bucket));
+            int bucketNo = timeBuckets.size();
+            timeBuckets.add(timeBucket);
+            timeBucket.alignedTo(dashboardRange.start(), dashboardRange.end())
+                    .ifPresent(alignedBucket -> {
+                        alignedTimeBuckets.put(bucketNo, alignedBucket);
+                        rolledUpDays(timeBucketing, timeBucket, scope)
+                                .ifPresent(days -> rolledUpTimeBuckets.put(bucketNo, days));
+                    });
+        }
+
+        Map<Integer, Map<UUID, BigDecimal>> valuesByBucket =
+                aggregate(chart, scope, alignedTimeBuckets, rolledUpTimeBuckets, chartTags, metricsByTag);
+
+        List<ChartBucketData> chartBuckets = new ArrayList<>();
+        for (int bucketNo = 0; bucketNo < timeBuckets.size(); bucketNo++) {
+            BucketRange timeBucket = timeBuckets.get(bucketNo);
+            Map<UUID, BigDecimal> values = valuesByBucket.getOrDefault(bucketNo, emptyMap());
+            chartBuckets.add(new ChartBucketData(
+                    null,
+                    timeBucket.start(),
+                    timeBucket.end(),
+                    timeBucketing.bucketType(),
+                    null,
+                    null,
+                    toBuckets(chart, chartTags, metricsByTag, values)
+            ));
+        }
+        return new DashboardChartData(chart.name(), chartBuckets);
+    }
+
+    /**
+     * Buckets of past, whole days within the requested time range may be read from the rollup, as all activities
+     * rolled up into their days are within the range.
+     */
+    private Optional<RolledUpDays> rolledUpDays(TimeBuckets timeBucketing,
+                                                BucketRange timeBucket,
+                                                ActivityScope scope) {
+
+        DashboardGenerationCriteria generationCriteria = scope.generationCriteria();
+        if (!timeBucketing.coversWholeDays() || isNotEmpty(generationCriteria.tags())) {
+            return Optional.empty();
+        }
+        boolean isPast = !timeBucketing.toNextRangeStart(timeBucket.start()).isAfter(startOfDay(now()));
+        boolean startsInRange = generationCriteria.timeRangeStart() == null
+                || !timeBucket.start().isBefore(generationCriteria.timeRangeStart());
+        boolean endsInRange = generationCriteria.timeRangeEnd() == null
+                || !timeBucket.end().isAfter(generationCriteria.timeRangeEnd());
+        if (!isPast || !startsInRange || !endsInRange) {
+            return Optional.empty();
+        }
+        return Optional.of(new RolledUpDays(
+                LocalDate.ofInstant(timeBucket.start(), UTC),
+                LocalDate.ofInstant(timeBucket.end(), UTC)
+        ));
+    }
+
+    private Map<Integer, Map<UUID, BigDecimal>> aggregate(Chart chart,
+                                                          ActivityScope scope,
+                                                          Map<Integer, BucketRange> buckets,
+                                                          Map<Integer, RolledUpDays> rolledUpBuckets,
+                                                          Set<UUID> chartTags,
+                                                          Map<UUID, Set<UUID>> metricsByTag) {
+
+        Set<UUID> aggregatedIds = switch (chart.analysisMetric()) {
+            case TAG_PERCENTAGE, TAG_DURATION -> chartTags;
+            case METRIC_VALUE -> chartMetrics(chartTags, metricsByTag);
+        };
+        if (aggregatedIds.isEmpty() || buckets.isEmpty()) {
+            return emptyMap();
+        }
+        BucketAggregationQuery query = switch (chart.analysisMetric()) {
+            case TAG_PERCENTAGE, TAG_DURATION -> new SelectTagDurationsQuery(entityManager, scope, aggregatedIds);
+            case METRIC_VALUE -> new SelectMetricAveragesQuery(entityManager, scope, aggregatedIds);
+        };
+        Map<Integer, Map<UUID, AggregatedValue>> valuesByBucket = query.execute(buckets, rolledUpBuckets.keySet());
+
+        if (!rolledUpBuckets.isEmpty()) {
+            User generator = scope.generationCriteria().generator();
+            RolledUpAggregationQuery rolledUpQuery = switch (chart.analysisMetric()) {
+                case TAG_PERCENTAGE, TAG_DURATION ->
+                        new SelectRolledUpTagDurationsQuery(entityManager, generator, aggregatedIds);
+                case METRIC_VALUE -> new SelectRolledUpMetricValuesQuery(entityManager, generator, aggregatedIds);
+            };
+            rolledUpQuery.execute(rolledUpBuckets).forEach((bucketNo, rolledUpValues) ->
+                    rolledUpValues.forEach((id, value) -> valuesByBucket
+                            .computeIfAbsent(bucketNo, bucket -> new HashMap<>())
+                            .merge(id, value, AggregatedValue::plus)
+                    )
+            );
+        }
+
+        Map<Integer, Map<UUID, BigDecimal>> projectedValuesByBucket = new HashMap<>();
+        valuesByBucket.forEach((bucketNo, values) -> {
+            Map<UUID, BigDecimal> projectedValues = new HashMap<>();
+            values.forEach((id, value) -> projectedValues.put(id, switch (chart.analysisMetric()) {
+                case TAG_PERCENTAGE, TAG_DURATION -> value.sum();
+                case METRIC_VALUE -> value.average();
+            }));
+            projectedValuesByBucket.put(bucketNo, projectedValues);
+        });
+        return projectedValuesByBucket;
+    }
+
+    private List<ChartBucketData> toBuckets(Chart chart,
+                                            Set<UUID> chartTags,
+                                            Map<UUID, Set<UUID>> metricsByTag,
+                                            Map<UUID, BigDecimal> values) {
+
+        return switch (chart.analysisMetric()) {
+            case TAG_PERCENTAGE, TAG_DURATION -> toTagBuckets(chart.analysisMetric(), chartTags, values);
+            case METRIC_VALUE -> toMetricBuckets(chartMetrics(chartTags, metricsByTag), values);
+        };
+    }
+
+    private List<ChartBucketData> toTagBuckets(AnalysisMetric analysisMetric,
+                                               Set<UUID> chartTags,
+                                               Map<UUID, BigDecimal> durationByTag) {
+
+        BigDecimal totalDuration = chartTags.stream()
+                .map(tag -> durationByTag.getOrDefault(tag, ZERO))
+                .reduce(ZERO, BigDecimal::add);
+
+        return chartTags.stream()
+                .map(tag -> {
+                    BigDecimal projectedDuration = project(
+                            analysisMetric,
+                            durationByTag.getOrDefault(tag, ZERO),
+                            totalDuration
+                    );
+                    return new ChartBucketData(
+                            tag.toString(),
+                            null,
+                            null,
+                            BucketType.TAG,
+                            projectedDuration,
+                            projectedDuration,
+                            null
+                    );
+                })
+                .toList();
+    }
+
+    private BigDecimal project(AnalysisMetric analysisMetric, BigDecimal measuredDuration, BigDecimal totalDuration) {
+        BigDecimal measuredSeconds = toWholeSeconds(measuredDuration);
+        BigDecimal totalSeconds = toWholeSeconds(totalDuration);
+        return switch (analysisMetric) {
+            case TAG_DURATION -> measuredSeconds;
+            case TAG_PERCENTAGE -> totalSeconds.signum() == 0
+                    ? ZERO
+                    : measuredSeconds.divide(totalSeconds, 4, HALF_UP);
+            default -> throw new IllegalArgumentException(
+                    "No available projector for metric %s".formatted(analysisMetric.toString())
+            );
+        };
+    }
+
+    private BigDecimal toWholeSeconds(BigDecimal seconds) {
+        // Stored timestamps have microsecond precision, anything finer is an artifact of the database arithmetic
+        return seconds.setScale(6, HALF_UP).setScale(0, DOWN);
+    }
+
+    private List<ChartBucketData> toMetricBuckets(Set<UUID> chartMetrics, Map<UUID, BigDecimal> averageByMetric) {
+        return chartMetrics.stream()
+                .map(metric -> new ChartBucketData(
+                        metric.toString(),
+                        null,
+                        null,
+                        BucketType.METRIC,
+                        averageByMetric.get(metric),
+                        null,
+                        null
+                ))
+                .toList();
+    }
+
+    private Set<UUID> chartMetrics(Set<UUID> chartTags, Map<UUID, Set<UUID>> metricsByTag) {
+        Set<UUID> chartMetrics = new LinkedHashSet<>();
+        chartTags.forEach(tag -> chartMetrics.addAll(metricsByTag.getOrDefault(tag, Set.of())));
+        return chartMetrics;
+    }
+
+    private DashboardData empty(DashboardDto dashboard) {
+        List<DashboardChartData> emptyCharts = dashboard.charts()
+                .stream()
+                .filter(not(Chart::isDeleted))
+                .map(chart -> new DashboardChartData(chart.name(), emptyList()))
+                .toList();
+        return new DashboardData(dashboard.name(), emptyCharts);
+    }
+}
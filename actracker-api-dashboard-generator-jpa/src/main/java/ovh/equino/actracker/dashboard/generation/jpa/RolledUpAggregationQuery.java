@@ -0,0 +1,88 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import ovh.equino.actracker.domain.user.User;
+
+import java.util.*;
+
+import static ovh.equino.actracker.dashboard.generation.jpa.SqlValues.toInt;
+import static ovh.equino.actracker.dashboard.generation.jpa.SqlValues.toUUID;
+
+/**
+ * Aggregates daily rollup of the generating user within many time buckets in a single query. Buckets are passed as
+ * a {@code bucket(bucket_no, first_day, last_day)} common table expression.
+ *
+ * @see DailyRollup
+ */
+abstract class RolledUpAggregationQuery {
+
+    private static final int BUCKETS_PER_QUERY = 200;
+
+    private final EntityManager entityManager;
+    private final User generator;
+
+    protected RolledUpAggregationQuery(EntityManager entityManager, User generator) {
+        this.entityManager = entityManager;
+        this.generator = generator;
+    }
+
+    /**
+     * @param buckets days by bucket number
+     * @return aggregated values by ID of aggregated entity, by bucket number
+     */
+    Map<Integer, Map<UUID, AggregatedValue>> execute(Map<Integer, RolledUpDays> buckets) {
+        Map<Integer, Map<UUID, AggregatedValue>> valuesByBucket = new HashMap<>();
+        List<Map.Entry<Integer, RolledUpDays>> allBuckets = new ArrayList<>(buckets.entrySet());
+
+        for (int chunkStart = 0; chunkStart < allBuckets.size(); chunkStart += BUCKETS_PER_QUERY) {
+            List<Map.Entry<Integer, RolledUpDays>> chunk = allBuckets.subList(
+                    chunkStart,
+                    Math.min(chunkStart + BUCKETS_PER_QUERY, allBuckets.size())
+            );
+            Query query = entityManager.createNativeQuery(bucketsClause(chunk) + selectClause());
+            query.setParameter("generatorId", generator.id().toString());
+            bindBuckets(query, chunk);
+            bindTo(query);
+
+            for (Object result : query.getResultList()) {
+                Object[] row = (Object[]) result;
+                valuesByBucket
+                        .computeIfAbsent(toInt(row[0]), bucket -> new HashMap<>())
+                        .put(toUUID(row[1]), toValue(row));
+            }
+        }
+        return valuesByBucket;
+    }
+
+    /**
+     * Selects rows of bucket number, aggregated entity ID and any further columns required by {@link #toValue}.
+     */
+    protected abstract String selectClause();
+
+    protected abstract void bindTo(Query query);
+
+    protected abstract AggregatedValue toValue(Object[] row);
+
+    private String bucketsClause(List<Map.Entry<Integer, RolledUpDays>> bucketsChunk) {
+        StringJoiner buckets = new StringJoiner(
+                "\n    UNION ALL\n    ",
+                "WITH bucket AS (\n    ",
+                "\n)\n"
+        );
+        for (int i = 0; i < bucketsChunk.size(); i++) {
+            buckets.add(
+                    "SELECT %d AS bucket_no, CAST(:firstDay%d AS DATE) AS first_day, CAST(:lastDay%d AS DATE) AS last_day"
+                            .formatted(bucketsChunk.get(i).getKey(), i, i)
+            );
+        }
+        return buckets.toString();
+    }
+
+    private void bindBuckets(Query query, List<Map.Entry<Integer, RolledUpDays>> buckets) {
+        for (int i = 0; i < buckets.size(); i++) {
+            query.setParameter("firstDay%d".formatted(i), buckets.get(i).getValue().firstDay());
+            query.setParameter("lastDay%d".formatted(i), buckets.get(i).getValue().lastDay());
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import java.time.LocalDate;
+
+/**
+ * Days of a time bucket, for which the daily rollup is read instead of activities. Both days are inclusive.
+ */
+record RolledUpDays(LocalDate firstDay, LocalDate lastDay) {
+}
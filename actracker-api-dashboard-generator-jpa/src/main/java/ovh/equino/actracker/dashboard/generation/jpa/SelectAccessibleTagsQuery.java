@@ -0,0 +1,44 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import java.util.*;
+
+import static ovh.equino.actracker.dashboard.generation.jpa.SqlValues.toUUID;
+
+final class SelectAccessibleTagsQuery {
+
+    private final EntityManager entityManager;
+    private final ActivityScope scope;
+
+    SelectAccessibleTagsQuery(EntityManager entityManager, ActivityScope scope) {
+        this.entityManager = entityManager;
+        this.scope = scope;
+    }
+
+    /**
+     * @return IDs of not deleted metrics, by IDs of tags accessible for the generating user
+     */
+    Map<UUID, Set<UUID>> execute() {
+        Query query = entityManager.createNativeQuery(
+                scope.withClause() + """
+                        SELECT t.id, m.id
+                        FROM accessible_tag t
+                        LEFT JOIN metric m ON m.tag_id = t.id AND m.creator_id = t.creator_id AND m.deleted = false
+                        ORDER BY t.id
+                        """
+        );
+        scope.bindTo(query);
+
+        Map<UUID, Set<UUID>> metricsByTag = new LinkedHashMap<>();
+        for (Object result : query.getResultList()) {
+            Object[] row = (Object[]) result;
+            Set<UUID> metrics = metricsByTag.computeIfAbsent(toUUID(row[0]), tag -> new LinkedHashSet<>());
+            if (row[1] != null) {
+                metrics.add(toUUID(row[1]));
+            }
+        }
+        return metricsByTag;
+    }
+}
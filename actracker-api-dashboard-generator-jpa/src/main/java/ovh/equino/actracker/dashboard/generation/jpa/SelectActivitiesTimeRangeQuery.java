@@ -0,0 +1,30 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import static ovh.equino.actracker.dashboard.generation.jpa.SqlValues.toInstant;
+
+final class SelectActivitiesTimeRangeQuery {
+
+    private final EntityManager entityManager;
+    private final ActivityScope scope;
+
+    SelectActivitiesTimeRangeQuery(EntityManager entityManager, ActivityScope scope) {
+        this.entityManager = entityManager;
+        this.scope = scope;
+    }
+
+    ActivitiesTimeRange execute() {
+        Query query = entityManager.createNativeQuery(
+                scope.withClause() + """
+                        SELECT MIN(a.start_time), MAX(a.end_time)
+                        FROM scoped_activity a
+                        """
+        );
+        scope.bindTo(query);
+
+        Object[] row = (Object[]) query.getSingleResult();
+        return new ActivitiesTimeRange(toInstant(row[0]), toInstant(row[1]));
+    }
+}
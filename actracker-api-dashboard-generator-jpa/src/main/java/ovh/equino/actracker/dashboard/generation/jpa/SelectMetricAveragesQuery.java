@@ -0,0 +1,53 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.UUID;
+
+import static ovh.equino.actracker.dashboard.generation.jpa.SqlValues.toBigDecimal;
+import static ovh.equino.actracker.dashboard.generation.jpa.SqlValues.toLong;
+
+/**
+ * Sums up and counts values of given metrics, set in activities overlapping buckets, to be averaged.
+ */
+final class SelectMetricAveragesQuery extends BucketAggregationQuery {
+
+    private final Collection<UUID> metricIds;
+
+    SelectMetricAveragesQuery(EntityManager entityManager, ActivityScope scope, Collection<UUID> metricIds) {
+        super(entityManager, scope);
+        this.metricIds = metricIds;
+    }
+
+    @Override
+    protected String selectClause() {
+        return """
+                SELECT b.bucket_no,
+                       mv.metric_id,
+                       SUM(mv.metric_value),
+                       COUNT(mv.metric_value)
+                FROM bucket b
+                JOIN scoped_activity a ON %s
+                JOIN metric_value mv ON mv.activity_id = a.id
+                WHERE mv.metric_id IN (:chartMetricIds)
+                GROUP BY b.bucket_no, mv.metric_id
+                """.formatted(BUCKET_OVERLAP_CONDITION);
+    }
+
+    @Override
+    protected void bindTo(Query query) {
+        query.setParameter("chartMetricIds", metricIds.stream().map(UUID::toString).toList());
+    }
+
+    @Override
+    protected AggregatedValue toValue(Object[] row) {
+        long valuesCount = toLong(row[3]);
+        if (valuesCount == 0) {
+            return new AggregatedValue(BigDecimal.ZERO, 0);
+        }
+        return new AggregatedValue(toBigDecimal(row[2]), valuesCount);
+    }
+}
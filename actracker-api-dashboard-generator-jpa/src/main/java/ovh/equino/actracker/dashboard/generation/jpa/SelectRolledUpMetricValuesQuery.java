@@ -0,0 +1,49 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import ovh.equino.actracker.domain.user.User;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import static ovh.equino.actracker.dashboard.generation.jpa.SqlValues.toBigDecimal;
+import static ovh.equino.actracker.dashboard.generation.jpa.SqlValues.toLong;
+
+/**
+ * Sums up and counts daily values of given metrics within buckets, to be averaged.
+ */
+final class SelectRolledUpMetricValuesQuery extends RolledUpAggregationQuery {
+
+    private final Collection<UUID> metricIds;
+
+    SelectRolledUpMetricValuesQuery(EntityManager entityManager, User generator, Collection<UUID> metricIds) {
+        super(entityManager, generator);
+        this.metricIds = metricIds;
+    }
+
+    @Override
+    protected String selectClause() {
+        return """
+                SELECT b.bucket_no,
+                       d.metric_id,
+                       SUM(d.value_sum),
+                       SUM(d.value_count)
+                FROM bucket b
+                JOIN metric_value_daily d ON d.rollup_day BETWEEN b.first_day AND b.last_day
+                WHERE d.user_id = :generatorId
+                  AND d.metric_id IN (:chartMetricIds)
+                GROUP BY b.bucket_no, d.metric_id
+                """;
+    }
+
+    @Override
+    protected void bindTo(Query query) {
+        query.setParameter("chartMetricIds", metricIds.stream().map(UUID::toString).toList());
+    }
+
+    @Override
+    protected AggregatedValue toValue(Object[] row) {
+        return new AggregatedValue(toBigDecimal(row[2]), toLong(row[3]));
+    }
+}
@@ -0,0 +1,47 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import ovh.equino.actracker.domain.user.User;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import static ovh.equino.actracker.dashboard.generation.jpa.SqlValues.toBigDecimal;
+
+/**
+ * Sums up, in seconds, daily durations of given tags within buckets.
+ */
+final class SelectRolledUpTagDurationsQuery extends RolledUpAggregationQuery {
+
+    private final Collection<UUID> tagIds;
+
+    SelectRolledUpTagDurationsQuery(EntityManager entityManager, User generator, Collection<UUID> tagIds) {
+        super(entityManager, generator);
+        this.tagIds = tagIds;
+    }
+
+    @Override
+    protected String selectClause() {
+        return """
+                SELECT b.bucket_no,
+                       d.tag_id,
+                       SUM(d.duration_seconds)
+                FROM bucket b
+                JOIN tag_duration_daily d ON d.rollup_day BETWEEN b.first_day AND b.last_day
+                WHERE d.user_id = :generatorId
+                  AND d.tag_id IN (:chartTagIds)
+                GROUP BY b.bucket_no, d.tag_id
+                """;
+    }
+
+    @Override
+    protected void bindTo(Query query) {
+        query.setParameter("chartTagIds", tagIds.stream().map(UUID::toString).toList());
+    }
+
+    @Override
+    protected AggregatedValue toValue(Object[] row) {
+        return AggregatedValue.ofSum(toBigDecimal(row[2]));
+    }
+}
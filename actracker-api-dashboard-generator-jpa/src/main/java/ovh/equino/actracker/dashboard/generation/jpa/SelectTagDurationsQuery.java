@@ -0,0 +1,48 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import static ovh.equino.actracker.dashboard.generation.jpa.SqlValues.toBigDecimal;
+
+/**
+ * Sums up, in seconds, how long activities having given tags lasted within buckets. An activity is counted
+ * for each of its tags.
+ */
+final class SelectTagDurationsQuery extends BucketAggregationQuery {
+
+    private final Collection<UUID> tagIds;
+
+    SelectTagDurationsQuery(EntityManager entityManager, ActivityScope scope, Collection<UUID> tagIds) {
+        super(entityManager, scope);
+        this.tagIds = tagIds;
+    }
+
+    @Override
+    protected String selectClause() {
+        return """
+                SELECT b.bucket_no,
+                       act_tag.tag_id,
+                       SUM(EXTRACT(EPOCH FROM LEAST(COALESCE(a.end_time, b.bucket_end), b.bucket_end))
+                           - EXTRACT(EPOCH FROM GREATEST(a.start_time, b.bucket_start)))
+                FROM bucket b
+                JOIN scoped_activity a ON %s
+                JOIN activity_tag act_tag ON act_tag.activity_id = a.id
+                WHERE act_tag.tag_id IN (:chartTagIds)
+                GROUP BY b.bucket_no, act_tag.tag_id
+                """.formatted(BUCKET_OVERLAP_CONDITION);
+    }
+
+    @Override
+    protected void bindTo(Query query) {
+        query.setParameter("chartTagIds", tagIds.stream().map(UUID::toString).toList());
+    }
+
+    @Override
+    protected AggregatedValue toValue(Object[] row) {
+        return AggregatedValue.ofSum(toBigDecimal(row[2]));
+    }
+}
@@ -0,0 +1,77 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+import static java.time.temporal.ChronoUnit.MICROS;
+
+/**
+ * Conversions between Java values and values bound to, or returned by, native SQL queries.
+ */
+interface SqlValues {
+
+    static Timestamp toTimestamp(Instant instant) {
+        // Columns store microseconds, rounding finer values by the database would shift the bucket boundaries
+        return Timestamp.from(instant.truncatedTo(MICROS));
+    }
+
+    static Instant toInstant(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toInstant();
+        }
+        if (value instanceof LocalDateTime localDateTime) {
+            return Timestamp.valueOf(localDateTime).toInstant();
+        }
+        if (value instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime.toInstant();
+        }
+        if (value instanceof Instant instant) {
+            return instant;
+        }
+        throw new IllegalArgumentException("Cannot convert %s to instant".formatted(value.getClass()));
+    }
+
+    static LocalDate toLocalDate(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof Date date) {
+            return date.toLocalDate();
+        }
+        if (value instanceof LocalDate localDate) {
+            return localDate;
+        }
+        throw new IllegalArgumentException("Cannot convert %s to date".formatted(value.getClass()));
+    }
+
+    static BigDecimal toBigDecimal(Object value) {
+        if (value == null) {
+            return null;
+        }
+        if (value instanceof BigDecimal bigDecimal) {
+            return bigDecimal;
+        }
+        return new BigDecimal(value.toString());
+    }
+
+    static long toLong(Object value) {
+        return ((Number) value).longValue();
+    }
+
+    static int toInt(Object value) {
+        return ((Number) value).intValue();
+    }
+
+    static UUID toUUID(Object value) {
+        return UUID.fromString(value.toString());
+    }
+}
@@ -0,0 +1,79 @@
+package ovh.equino.actracker.dashboard.generation.repository;
+
+import ovh.equino.actracker.domain.activity.ActivityDto;
+import ovh.equino.actracker.domain.activity.MetricValue;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Total durations of tags and sums of metric values of activities, within a time range. Built in a single pass over
+ * activities, added one at a time, so that looking up a tag or a metric does not depend on the number of activities.
+ * Accumulating does not allocate per activity.
+ */
+final class ActivityIndex {
+
+    private static final DurationSum NO_DURATION = new DurationSum();
+    private static final MetricValuesSum NO_VALUES = new MetricValuesSum();
+
+    private final Map<UUID, DurationSum> durationByTag = new HashMap<>();
+    private final Map<UUID, MetricValuesSum> valuesSumByMetric = new HashMap<>();
+
+    private final Instant rangeStart;
+    private final Instant rangeEnd;
+
+    ActivityIndex(Collection<ActivityDto> activities, Instant rangeStart, Instant rangeEnd) {
+        this(rangeStart, rangeEnd);
+        activities.forEach(this::add);
+    }
+
+    ActivityIndex(Instant rangeStart, Instant rangeEnd) {
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+    }
+
+    /**
+     * Accumulates the part of the activity within the range, if any.
+     */
+    void add(ActivityDto activity) {
+        if (isOutOfRange(activity)) {
+            return;
+        }
+        Instant startTime = activity.startTime().isBefore(rangeStart) ? rangeStart : activity.startTime();
+        Instant endTime = activity.endTime() == null || activity.endTime().isAfter(rangeEnd)
+                ? rangeEnd
+                : activity.endTime();
+        for (UUID tag : activity.tags()) {
+            durationByTag
+                    .computeIfAbsent(tag, key -> new DurationSum())
+                    .add(startTime, endTime);
+        }
+        for (MetricValue metricValue : activity.metricValues()) {
+            valuesSumByMetric
+                    .computeIfAbsent(metricValue.metricId(), key -> new MetricValuesSum())
+                    .add(metricValue.value());
+        }
+    }
+
+    /**
+     * @return total duration of activities with the tag, not to be modified
+     */
+    DurationSum durationOf(UUID tagId) {
+        return durationByTag.getOrDefault(tagId, NO_DURATION);
+    }
+
+    /**
+     * @return sum of values of the metric, not to be modified
+     */
+    MetricValuesSum valuesOf(UUID metricId) {
+        return valuesSumByMetric.getOrDefault(metricId, NO_VALUES);
+    }
+
+    private boolean isOutOfRange(ActivityDto activity) {
+        return activity.startTime().isAfter(rangeEnd)
+                || activity.endTime() != null && activity.endTime().isBefore(rangeStart);
+    }
+}
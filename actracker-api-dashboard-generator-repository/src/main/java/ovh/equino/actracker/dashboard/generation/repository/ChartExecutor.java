@@ -0,0 +1,56 @@
+package ovh.equino.actracker.dashboard.generation.repository;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+
+/**
+ * Generates independent parts of a dashboard, i.e. its charts and ranges of time buckets, either one after another in
+ * the calling thread, or in parallel in a bounded fork-join pool. Parts generated in parallel may generate their own
+ * parts in parallel too, as waiting tasks of the pool help with pending ones instead of blocking.
+ */
+public final class ChartExecutor implements AutoCloseable {
+
+    private final ForkJoinPool pool;
+
+    private ChartExecutor(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public static ChartExecutor sequential() {
+        return new ChartExecutor(null);
+    }
+
+    public static ChartExecutor parallel(int parallelism) {
+        return new ChartExecutor(new ForkJoinPool(parallelism));
+    }
+
+    /**
+     * @return results of generating each of the parts, in order of the parts
+     */
+    <T, R> List<R> generate(List<T> parts, Function<T, R> generator) {
+        if (pool == null || parts.size() < 2) {
+            return parts.stream()
+                    .map(generator)
+                    .toList();
+        }
+        if (ForkJoinTask.getPool() != pool) {
+            return pool.submit(() -> generate(parts, generator)).join();
+        }
+        List<ForkJoinTask<R>> tasks = parts.stream()
+                .map(part -> ForkJoinTask.adapt(() -> generator.apply(part)))
+                .toList();
+        ForkJoinTask.invokeAll(tasks);
+        return tasks.stream()
+                .map(ForkJoinTask::join)
+                .toList();
+    }
+
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+}
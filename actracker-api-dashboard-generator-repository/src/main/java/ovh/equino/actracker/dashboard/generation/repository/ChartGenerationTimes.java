@@ -0,0 +1,15 @@
+package ovh.equino.actracker.dashboard.generation.repository;
+
+import ovh.equino.actracker.domain.dashboard.GroupBy;
+
+/**
+ * Receives time of generating each chart of a dashboard. Called from threads generating charts in parallel.
+ */
+@FunctionalInterface
+public interface ChartGenerationTimes {
+
+    /**
+     * @param chartPosition position of the chart among non deleted charts of the dashboard, starting from 0
+     */
+    void record(GroupBy groupBy, int chartPosition, long nanos);
+}
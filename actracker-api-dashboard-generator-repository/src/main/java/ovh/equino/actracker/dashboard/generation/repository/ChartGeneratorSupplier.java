@@ -1,18 +1,14 @@
 package ovh.equino.actracker.dashboard.generation.repository;
 
-import ovh.equino.actracker.domain.activity.ActivityDto;
 import ovh.equino.actracker.domain.dashboard.Chart;
 import ovh.equino.actracker.domain.tag.TagDto;
 
-import java.time.Instant;
 import java.util.Collection;
 
 interface ChartGeneratorSupplier {
 
     ChartGenerator provideGenerator(Chart chartDefinition,
-                                    Instant rangeStart,
-                                    Instant rangeEnd,
-                                    Collection<ActivityDto> activities,
+                                    ActivityIndex activityIndex,
                                     Collection<TagDto> tags
     );
 }
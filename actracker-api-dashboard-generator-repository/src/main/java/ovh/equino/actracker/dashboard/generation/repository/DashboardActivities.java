@@ -0,0 +1,217 @@
+package ovh.equino.actracker.dashboard.generation.repository;
+
+import ovh.equino.actracker.domain.activity.ActivityDto;
+import ovh.equino.actracker.domain.dashboard.generation.BucketType;
+import ovh.equino.actracker.domain.dashboard.generation.TimeBuckets;
+
+import java.time.Instant;
+import java.util.*;
+
+import static java.util.Comparator.comparing;
+import static java.util.Objects.requireNonNullElse;
+import static ovh.equino.actracker.domain.dashboard.generation.DashboardUtils.*;
+
+/**
+ * Activities of a generated dashboard, aligned to its time range. Activities are added in order of start time and
+ * accumulated right away into indexes of the whole range and of time buckets, shared by all charts of the dashboard,
+ * so that memory depends on the number of buckets, tags and metrics rather than on the number of activities. Only
+ * unfinished activities are kept until the end of the range is known.
+ * <p>
+ * The range starts on the day of the earliest activity and ends on the day of the latest finished one, limited by the
+ * time range of generation criteria. Indexes may be used once all activities are added and {@link #complete()}, also
+ * by charts generated in parallel.
+ */
+final class DashboardActivities {
+
+    private static final ActivityIndex NO_ACTIVITIES = new ActivityIndex(null, null);
+
+    private final Instant timeRangeStart;
+    private final Instant timeRangeEnd;
+    private final Set<TimeBuckets> indexedTimeBuckets;
+
+    private Instant rangeStart;
+    private Instant rangeEnd;
+    private Instant latestStartTime;
+    private Instant latestEndTime;
+    private final List<ActivityDto> unfinishedActivities = new ArrayList<>();
+
+    private ActivityIndex wholeRangeIndex;
+    private final Map<BucketType, BucketSweep> sweepByBucketType = new EnumMap<>(BucketType.class);
+    private final Map<TimeBucket, ActivityIndex> indexByTimeBucket = new HashMap<>();
+
+    /**
+     * @param timeRangeStart     time range start of generation criteria, if any.
+     * @param timeRangeEnd       time range end of generation criteria, if any.
+     * @param indexedTimeBuckets types of time buckets of the dashboard charts.
+     */
+    DashboardActivities(Instant timeRangeStart, Instant timeRangeEnd, Collection<TimeBuckets> indexedTimeBuckets) {
+        this.timeRangeStart = timeRangeStart;
+        this.timeRangeEnd = timeRangeEnd;
+        this.indexedTimeBuckets = EnumSet.noneOf(TimeBuckets.class);
+        this.indexedTimeBuckets.addAll(indexedTimeBuckets);
+    }
+
+    /**
+     * Indexes given activities by all types of time buckets, within the given range.
+     */
+    DashboardActivities(Collection<ActivityDto> activities, Instant rangeStart, Instant rangeEnd) {
+        this(rangeStart, rangeEnd, EnumSet.allOf(TimeBuckets.class));
+        activities.stream()
+                .sorted(comparing(ActivityDto::startTime))
+                .forEach(this::add);
+        complete();
+    }
+
+    /**
+     * @param activity started activity, not starting before any previously added one.
+     */
+    void add(ActivityDto activity) {
+        if (latestStartTime != null && activity.startTime().isBefore(latestStartTime)) {
+            throw new IllegalArgumentException("Activities must be added in order of start time");
+        }
+        if (latestStartTime == null) {
+            startRange(activity.startTime());
+        }
+        latestStartTime = activity.startTime();
+        latestEndTime = latestOf(latestEndTime, activity.endTime());
+
+        if (timeRangeEnd != null && activity.startTime().isAfter(timeRangeEnd)) {
+            return;
+        }
+        if (activity.endTime() == null) {
+            unfinishedActivities.add(activity);
+            return;
+        }
+        if (activity.endTime().isBefore(rangeStart)) {
+            return;
+        }
+        index(alignedToRange(activity, timeRangeEnd), true);
+    }
+
+    /**
+     * Ends the range and indexes unfinished activities up to its end.
+     */
+    void complete() {
+        rangeEnd = earliestOf(endOfDay(latestEndTime), timeRangeEnd);
+        if (rangeStart == null || rangeEnd == null || rangeEnd.isBefore(rangeStart)) {
+            return;
+        }
+        for (ActivityDto activity : unfinishedActivities) {
+            if (!activity.startTime().isAfter(rangeEnd)) {
+                index(alignedToRange(activity, rangeEnd), false);
+            }
+        }
+        unfinishedActivities.clear();
+    }
+
+    /**
+     * @return start of the range, empty if there were no activities
+     */
+    Optional<Instant> rangeStart() {
+        return Optional.ofNullable(rangeStart);
+    }
+
+    /**
+     * @return end of the range, empty if there were neither finished activities nor the end of generation criteria
+     */
+    Optional<Instant> rangeEnd() {
+        return Optional.ofNullable(rangeEnd);
+    }
+
+    ActivityIndex wholeRangeIndex() {
+        return wholeRangeIndex != null ? wholeRangeIndex : new ActivityIndex(timeRangeStart, timeRangeEnd);
+    }
+
+    ActivityIndex timeBucketIndex(BucketType bucketType, Instant bucketStart, Instant bucketEnd) {
+        if (indexedTimeBuckets.stream().noneMatch(timeBuckets -> timeBuckets.bucketType() == bucketType)) {
+            throw new IllegalArgumentException("Activities are not indexed by %s buckets".formatted(bucketType));
+        }
+        return indexByTimeBucket.getOrDefault(new TimeBucket(bucketType, bucketStart, bucketEnd), NO_ACTIVITIES);
+    }
+
+    private void startRange(Instant earliestStartTime) {
+        rangeStart = latestOf(startOfDay(earliestStartTime), timeRangeStart);
+        // Finished activities are aligned to the range, so they never end after its final end
+        wholeRangeIndex = new ActivityIndex(rangeStart, requireNonNullElse(timeRangeEnd, Instant.MAX));
+        for (TimeBuckets timeBuckets : indexedTimeBuckets) {
+            sweepByBucketType.put(timeBuckets.bucketType(), new BucketSweep(timeBuckets));
+        }
+    }
+
+    private void index(ActivityDto alignedActivity, boolean inOrderOfStartTime) {
+        wholeRangeIndex.add(alignedActivity);
+        for (BucketSweep sweep : sweepByBucketType.values()) {
+            sweep.add(alignedActivity, inOrderOfStartTime);
+        }
+    }
+
+    private ActivityDto alignedToRange(ActivityDto activity, Instant endLimit) {
+        if (isWithinRange(activity, endLimit)) {
+            return activity;
+        }
+        return new ActivityDto(
+                activity.title(),
+                latestOf(activity.startTime(), rangeStart),
+                earliestOf(activity.endTime(), endLimit),
+                activity.comment(),
+                activity.tags(),
+                activity.metricValues()
+        );
+    }
+
+    private boolean isWithinRange(ActivityDto activity, Instant endLimit) {
+        return !activity.startTime().isBefore(rangeStart)
+                && activity.endTime() != null
+                && (endLimit == null || !activity.endTime().isAfter(endLimit));
+    }
+
+    /**
+     * Indexes of consecutive time buckets of one type, from the bucket of the range start. Buckets are created once
+     * an activity reaches them. Since activities come in order of start time, buckets finished before the latest
+     * activity started are not visited again.
+     */
+    private final class BucketSweep {
+
+        private final TimeBuckets timeBuckets;
+        private final List<TimeBucket> buckets = new ArrayList<>();
+        private final List<ActivityIndex> bucketIndexes = new ArrayList<>();
+        private Instant nextBucket = rangeStart;
+        private int firstUnfinishedBucket = 0;
+
+        private BucketSweep(TimeBuckets timeBuckets) {
+            this.timeBuckets = timeBuckets;
+        }
+
+        private void add(ActivityDto alignedActivity, boolean inOrderOfStartTime) {
+            int bucket = inOrderOfStartTime ? firstUnfinishedBucket : 0;
+            while (bucket(bucket).bucketEnd().isBefore(alignedActivity.startTime())) {
+                bucket++;
+            }
+            if (inOrderOfStartTime) {
+                firstUnfinishedBucket = bucket;
+            }
+            for (; !bucket(bucket).bucketStart().isAfter(alignedActivity.endTime()); bucket++) {
+                bucketIndexes.get(bucket).add(alignedActivity);
+            }
+        }
+
+        private TimeBucket bucket(int bucket) {
+            while (buckets.size() <= bucket) {
+                TimeBucket timeBucket = new TimeBucket(
+                        timeBuckets.bucketType(),
+                        timeBuckets.toRangeStart(nextBucket),
+                        timeBuckets.toRangeEnd(nextBucket)
+                );
+                ActivityIndex bucketIndex = new ActivityIndex(timeBucket.bucketStart(), timeBucket.bucketEnd());
+                buckets.add(timeBucket);
+                bucketIndexes.add(bucketIndex);
+                indexByTimeBucket.put(timeBucket, bucketIndex);
+                nextBucket = timeBuckets.toNextRangeStart(nextBucket);
+            }
+            return buckets.get(bucket);
+        }
+    }
+
+    private record TimeBucket(BucketType bucketType, Instant bucketStart, Instant bucketEnd) {
+    }
+}
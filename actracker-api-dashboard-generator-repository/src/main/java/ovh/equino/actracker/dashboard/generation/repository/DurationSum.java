@@ -0,0 +1,41 @@
+package ovh.equino.actracker.dashboard.generation.repository;
+
+import java.time.Instant;
+
+import static java.lang.Math.floorDiv;
+import static java.lang.Math.floorMod;
+
+/**
+ * Mutable sum of durations, exact to nanoseconds like {@link java.time.Duration}, without allocating on addition.
+ */
+final class DurationSum {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private long seconds = 0;
+    private long nanos = 0;
+
+    void add(Instant start, Instant end) {
+        seconds += end.getEpochSecond() - start.getEpochSecond();
+        nanos += end.getNano() - start.getNano();
+        normalize();
+    }
+
+    void add(DurationSum other) {
+        seconds += other.seconds;
+        nanos += other.nanos;
+        normalize();
+    }
+
+    /**
+     * @return whole seconds, truncated the same way as {@link java.time.Duration#toSeconds()}
+     */
+    long toSeconds() {
+        return seconds;
+    }
+
+    private void normalize() {
+        seconds += floorDiv(nanos, NANOS_PER_SECOND);
+        nanos = floorMod(nanos, NANOS_PER_SECOND);
+    }
+}
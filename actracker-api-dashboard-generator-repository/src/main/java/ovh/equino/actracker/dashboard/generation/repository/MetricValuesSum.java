@@ -0,0 +1,65 @@
+package ovh.equino.actracker.dashboard.generation.repository;
+
+import java.math.BigDecimal;
+
+import static java.math.RoundingMode.HALF_UP;
+
+/**
+ * Mutable sum and count of metric values. Values stored in the database have at most three decimal places and fit in
+ * a long scaled by a thousand, so that adding them does not allocate. Other values are summed as they are.
+ */
+final class MetricValuesSum {
+
+    private static final int SCALE = 3;
+    private static final int MAX_SCALED_PRECISION = 15;
+    private static final double SCALE_FACTOR = 1_000.0;
+
+    private long scaledSum = 0;
+    private BigDecimal unscaledSum = null;
+    private long count = 0;
+
+    void add(BigDecimal value) {
+        count++;
+        if (!fitsScaledSum(value)) {
+            addUnscaled(value);
+            return;
+        }
+        // Exact, as both the value and the product stay far below the precision of double
+        long scaledValue = Math.round(value.doubleValue() * SCALE_FACTOR);
+        long sum = scaledSum + scaledValue;
+        boolean overflow = ((scaledSum ^ sum) & (scaledValue ^ sum)) < 0;
+        if (overflow) {
+            addUnscaled(BigDecimal.valueOf(scaledSum, SCALE));
+            sum = scaledValue;
+        }
+        scaledSum = sum;
+    }
+
+    long count() {
+        return count;
+    }
+
+    /**
+     * @return average of values, rounded to four decimal places, or null if no values were added
+     */
+    BigDecimal average() {
+        if (count == 0) {
+            return null;
+        }
+        BigDecimal sum = BigDecimal.valueOf(scaledSum, SCALE);
+        if (unscaledSum != null) {
+            sum = sum.add(unscaledSum);
+        }
+        return sum.divide(BigDecimal.valueOf(count), 4, HALF_UP);
+    }
+
+    private void addUnscaled(BigDecimal value) {
+        unscaledSum = unscaledSum == null ? value : unscaledSum.add(value);
+    }
+
+    private boolean fitsScaledSum(BigDecimal value) {
+        return value.scale() >= 0
+                && value.scale() <= SCALE
+                && value.precision() - value.scale() + SCALE <= MAX_SCALED_PRECISION;
+    }
+}
@@ -1,6 +1,5 @@
 package ovh.equino.actracker.dashboard.generation.repository;
 
-import ovh.equino.actracker.domain.activity.ActivityDto;
 import ovh.equino.actracker.domain.activity.ActivitySearchEngine;
 import ovh.equino.actracker.domain.dashboard.Chart;
 import ovh.equino.actracker.domain.dashboard.DashboardDto;
@@ -8,27 +7,37 @@ import ovh.equino.actracker.domain.dashboard.generation.DashboardChartData;
 import ovh.equino.actracker.domain.dashboard.generation.DashboardData;
 import ovh.equino.actracker.domain.dashboard.generation.DashboardGenerationCriteria;
 import ovh.equino.actracker.domain.dashboard.generation.DashboardGenerationEngine;
+import ovh.equino.actracker.domain.dashboard.generation.TimeBuckets;
 import ovh.equino.actracker.domain.tag.TagDto;
 import ovh.equino.actracker.domain.tag.TagSearchEngine;
 
 import java.time.Instant;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.IntStream;
 
 import static java.util.Collections.emptyList;
 import static java.util.function.Predicate.not;
+import static java.util.stream.Collectors.toSet;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
-import static ovh.equino.actracker.dashboard.generation.repository.DashboardUtils.*;
 
 class RepositoryDashboardGenerationEngine implements DashboardGenerationEngine {
 
     private final TagFinder tagFinder;
     private final ActivityFinder activityFinder;
+    private final ChartExecutor chartExecutor;
+    private final ChartGenerationTimes chartGenerationTimes;
+
+    RepositoryDashboardGenerationEngine(TagSearchEngine tagSearchEngine,
+                                        ActivitySearchEngine activitySearchEngine,
+                                        ChartExecutor chartExecutor,
+                                        ChartGenerationTimes chartGenerationTimes) {
 
-    RepositoryDashboardGenerationEngine(TagSearchEngine tagSearchEngine, ActivitySearchEngine activitySearchEngine) {
         this.tagFinder = new TagFinder(tagSearchEngine);
         this.activityFinder = new ActivityFinder(activitySearchEngine);
+        this.chartExecutor = chartExecutor;
+        this.chartGenerationTimes = chartGenerationTimes;
     }
 
     @Override
@@ -39,67 +48,76 @@ class RepositoryDashboardGenerationEngine implements DashboardGenerationEngine {
             return empty(dashboard);
         }
 
-        List<ActivityDto> activities = activityFinder.find(generationCriteria);
+        DashboardActivities activities = new DashboardActivities(
+                generationCriteria.timeRangeStart(),
+                generationCriteria.timeRangeEnd(),
+                timeBucketsOf(dashboard)
+        );
+        activityFinder.forEach(generationCriteria, activities::add);
+        activities.complete();
 
-        Optional<Instant> rangeStartTime = rangeStartTime(activities, generationCriteria);
+        Optional<Instant> rangeStartTime = activities.rangeStart();
         if (rangeStartTime.isEmpty()) {
             return empty(dashboard);
         }
 
-        Optional<Instant> rangeEndTime = rangeEndTime(activities, generationCriteria);
+        Optional<Instant> rangeEndTime = activities.rangeEnd();
         if (rangeEndTime.isEmpty()) {
             return empty(dashboard);
         }
 
-        List<DashboardChartData> chartsData = dashboard.charts()
+        List<Chart> charts = dashboard.charts()
                 .stream()
                 .filter(not(Chart::isDeleted))
-                .map(chart -> generate(chart, rangeStartTime.get(), rangeEndTime.get(), tags, activities))
                 .toList();
+        List<Integer> chartPositions = IntStream.range(0, charts.size())
+                .boxed()
+                .toList();
+        List<DashboardChartData> chartsData = chartExecutor.generate(
+                chartPositions,
+                chartPosition -> generateTimed(
+                        charts.get(chartPosition),
+                        chartPosition,
+                        rangeStartTime.get(),
+                        rangeEndTime.get(),
+                        tags,
+                        activities
+                )
+        );
 
         return new DashboardData(dashboard.name(), chartsData);
     }
 
-    private Optional<Instant> rangeStartTime(List<ActivityDto> activities,
-                                             DashboardGenerationCriteria generationCriteria) {
-
-        Instant activityEarliestStartTime = activities.stream()
-                .map(ActivityDto::startTime)
-                .filter(Objects::nonNull)
-                .min(Instant::compareTo)
-                .orElse(null);
-        if (activityEarliestStartTime == null) {
-            return Optional.empty();
-        }
-        return Optional.of(
-                latestOf(
-                        startOfDay(activityEarliestStartTime),
-                        generationCriteria.timeRangeStart()
-                )
-        );
+    private Set<TimeBuckets> timeBucketsOf(DashboardDto dashboard) {
+        return dashboard.charts()
+                .stream()
+                .filter(not(Chart::isDeleted))
+                .map(Chart::groupBy)
+                .map(TimeBuckets::of)
+                .flatMap(Optional::stream)
+                .collect(toSet());
     }
 
-    private Optional<Instant> rangeEndTime(List<ActivityDto> activities,
-                                           DashboardGenerationCriteria generationCriteria) {
-
-        Instant activityLatestEndTime = activities.stream()
-                .map(ActivityDto::endTime)
-                .filter(Objects::nonNull)
-                .max(Instant::compareTo)
-                .orElse(null);
-        return Optional.ofNullable(
-                earliestOf(
-                        endOfDay(activityLatestEndTime),
-                        generationCriteria.timeRangeEnd()
-                )
-        );
+    private DashboardChartData generateTimed(Chart chart,
+                                             int chartPosition,
+                                             Instant rangeStart,
+                                             Instant rangeEnd,
+                                             List<TagDto> tags,
+                                             DashboardActivities activities) {
+
+        long startNanos = System.nanoTime();
+        try {
+            return generate(chart, rangeStart, rangeEnd, tags, activities);
+        } finally {
+            chartGenerationTimes.record(chart.groupBy(), chartPosition, System.nanoTime() - startNanos);
+        }
     }
 
     private DashboardChartData generate(Chart chart,
                                         Instant rangeStart,
                                         Instant rangeEnd,
                                         List<TagDto> tags,
-                                        List<ActivityDto> activities) {
+                                        DashboardActivities activities) {
 
         ChartGeneratorSupplier subBucketsGenerator = switch (chart.analysisMetric()) {
             case TAG_PERCENTAGE -> TagChartGenerator::new;
@@ -109,15 +127,23 @@ class RepositoryDashboardGenerationEngine implements DashboardGenerationEngine {
 
         ChartGenerator generator = switch (chart.groupBy()) {
             case SELF ->
-                    new SelfGroupedChartGenerator(chart, rangeStart, rangeEnd, activities, tags, subBucketsGenerator);
+                    new SelfGroupedChartGenerator(chart, activities, tags, subBucketsGenerator);
             case DAY ->
-                    new DailyChartGenerator(chart, rangeStart, rangeEnd, activities, tags, subBucketsGenerator);
+                    new DailyChartGenerator(
+                            chart, rangeStart, rangeEnd, activities, tags, subBucketsGenerator, chartExecutor
+                    );
             case WEEK ->
-                    new WeeklyChartGenerator(chart, rangeStart, rangeEnd, activities, tags, subBucketsGenerator);
+                    new WeeklyChartGenerator(
+                            chart, rangeStart, rangeEnd, activities, tags, subBucketsGenerator, chartExecutor
+                    );
             case MONTH ->
-                    new MonthlyChartGenerator(chart, rangeStart, rangeEnd, activities, tags, subBucketsGenerator);
+                    new MonthlyChartGenerator(
+                            chart, rangeStart, rangeEnd, activities, tags, subBucketsGenerator, chartExecutor
+                    );
             case WEEKEND ->
-                    new WeekendlyChartGenerator(chart, rangeStart, rangeEnd, activities, tags, subBucketsGenerator);
+                    new WeekendlyChartGenerator(
+                            chart, rangeStart, rangeEnd, activities, tags, subBucketsGenerator, chartExecutor
+                    );
         };
 
         return generator.generate();
@@ -1,6 +1,5 @@
 package ovh.equino.actracker.dashboard.generation.repository;
 
-import ovh.equino.actracker.domain.activity.ActivityDto;
 import ovh.equino.actracker.domain.dashboard.AnalysisMetric;
 import ovh.equino.actracker.domain.dashboard.Chart;
 import ovh.equino.actracker.domain.dashboard.generation.BucketType;
@@ -9,8 +8,7 @@ import ovh.equino.actracker.domain.dashboard.generation.DashboardChartData;
 import ovh.equino.actracker.domain.tag.TagDto;
 import ovh.equino.actracker.domain.tag.TagId;
 
-import java.time.Duration;
-import java.time.Instant;
+import java.math.BigDecimal;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -20,60 +18,50 @@ import static java.util.stream.Collectors.toMap;
 
 class TagChartGenerator extends ChartGenerator {
 
+    private final ActivityIndex activityIndex;
     private final DurationProjector durationProjector;
 
     TagChartGenerator(Chart chartDefinition,
-                      Instant rangeStart,
-                      Instant rangeEnd,
-                      Collection<ActivityDto> activities,
+                      ActivityIndex activityIndex,
                       Collection<TagDto> tags) {
 
-        super(chartDefinition, rangeStart, rangeEnd, activities, tags);
+        super(chartDefinition, tags);
+        this.activityIndex = activityIndex;
         this.durationProjector = projectorFor(chartDefinition.analysisMetric());
     }
 
     @Override
     DashboardChartData generate() {
-        Map<TagId, Duration> durationByTag = tags.stream()
+        Map<TagId, DurationSum> durationByTag = tags.stream()
                 .map(TagDto::id)
                 .map(TagId::new)
                 .collect(toMap(
                         identity(),
-                        tag -> totalDurationOf(activitiesWithTag(tag, activities))
+                        tag -> activityIndex.durationOf(tag.id())
                 ));
 
         return new DashboardChartData(chartDefinition.name(), toBuckets(durationByTag));
     }
 
-    Duration totalDurationOf(Collection<ActivityDto> activities) {
-        return activities.stream()
-                .map(activity -> Duration.between(activity.startTime(), activity.endTime()))
-                .reduce(Duration.ZERO, Duration::plus);
-    }
-
-    Collection<ActivityDto> activitiesWithTag(TagId tag, Collection<ActivityDto> activities) {
-        return activities.stream()
-                .filter(activityDto -> activityDto.tags().contains(tag.id()))
-                .toList();
-    }
-
-    private List<ChartBucketData> toBuckets(Map<TagId, Duration> durationByTag) {
-        Duration totalMeasuredDuration = durationByTag.values().stream()
-                .reduce(Duration.ZERO, Duration::plus);
+    private List<ChartBucketData> toBuckets(Map<TagId, DurationSum> durationByTag) {
+        DurationSum totalMeasuredDuration = new DurationSum();
+        durationByTag.values().forEach(totalMeasuredDuration::add);
+        long totalMeasuredSeconds = totalMeasuredDuration.toSeconds();
 
         return durationByTag.entrySet().stream()
-                .map(entry -> toBucket(entry.getKey(), entry.getValue(), totalMeasuredDuration))
+                .map(entry -> toBucket(entry.getKey(), entry.getValue().toSeconds(), totalMeasuredSeconds))
                 .toList();
     }
 
-    private ChartBucketData toBucket(TagId tagId, Duration tagDuration, Duration totalMeasuredDuration) {
+    private ChartBucketData toBucket(TagId tagId, long tagSeconds, long totalMeasuredSeconds) {
+        BigDecimal projectedDuration = durationProjector.project(tagSeconds, totalMeasuredSeconds);
         return new ChartBucketData(
                 tagId.id().toString(),
                 null,
                 null,
                 BucketType.TAG,
-                durationProjector.project(tagDuration, totalMeasuredDuration),
-                durationProjector.project(tagDuration, totalMeasuredDuration),
+                projectedDuration,
+                projectedDuration,
                 null
         );
     }
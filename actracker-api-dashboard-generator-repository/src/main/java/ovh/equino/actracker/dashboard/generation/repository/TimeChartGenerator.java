@@ -1,10 +1,10 @@
 package ovh.equino.actracker.dashboard.generation.repository;
 
-import ovh.equino.actracker.domain.activity.ActivityDto;
 import ovh.equino.actracker.domain.dashboard.Chart;
 import ovh.equino.actracker.domain.dashboard.generation.BucketType;
 import ovh.equino.actracker.domain.dashboard.generation.ChartBucketData;
 import ovh.equino.actracker.domain.dashboard.generation.DashboardChartData;
+import ovh.equino.actracker.domain.dashboard.generation.TimeBuckets;
 import ovh.equino.actracker.domain.tag.TagDto;
 
 import java.time.Instant;
@@ -12,60 +12,100 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import static org.apache.commons.collections4.ListUtils.partition;
+
 abstract class TimeChartGenerator extends ChartGenerator {
 
+    /**
+     * Buckets are generated in parallel in ranges of this size, so that only long time ranges are split, and each
+     * task outweighs the cost of scheduling it.
+     */
+    private static final int BUCKETS_PER_TASK = 64;
+
+    private final TimeBuckets timeBuckets;
+    protected final Instant rangeStart;
+    protected final Instant rangeEnd;
+    protected final DashboardActivities activities;
     private final ChartGeneratorSupplier subChartGeneratorSupplier;
+    private final ChartExecutor chartExecutor;
 
     protected TimeChartGenerator(Chart chartDefinition,
+                                 TimeBuckets timeBuckets,
                                  Instant rangeStart,
                                  Instant rangeEnd,
-                                 Collection<ActivityDto> activities,
+                                 DashboardActivities activities,
                                  Collection<TagDto> tags,
-                                 ChartGeneratorSupplier subChartGeneratorSupplier) {
+                                 ChartGeneratorSupplier subChartGeneratorSupplier,
+                                 ChartExecutor chartExecutor) {
 
-        super(chartDefinition, rangeStart, rangeEnd, activities, tags);
+        super(chartDefinition, tags);
+        this.timeBuckets = timeBuckets;
+        this.rangeStart = rangeStart;
+        this.rangeEnd = rangeEnd;
+        this.activities = activities;
         this.subChartGeneratorSupplier = subChartGeneratorSupplier;
+        this.chartExecutor = chartExecutor;
     }
 
     @Override
     DashboardChartData generate() {
 
-        List<ChartBucketData> timeRangeBuckets = new ArrayList<>();
-
+        List<Instant> buckets = new ArrayList<>();
         for (Instant bucket = rangeStart;
              bucket.isBefore(rangeEnd);
              bucket = toNextRangeStart(bucket)) {
 
-            Instant bucketStartTime = toRangeStart(bucket);
-            Instant bucketEndTime = toRangeEnd(bucket);
-
-            ChartGenerator subChartGenerator = subChartGeneratorSupplier.provideGenerator(
-                    chartDefinition,
-                    bucketStartTime,
-                    bucketEndTime,
-                    activities,
-                    tags
-            );
-            DashboardChartData subChart = subChartGenerator.generate();
-            ChartBucketData timeBucket = new ChartBucketData(
-                    null,
-                    bucketStartTime,
-                    bucketEndTime,
-                    bucketType(),
-                    null,
-                    null,
-                    subChart.buckets()
-            );
-            timeRangeBuckets.add(timeBucket);
+            buckets.add(bucket);
         }
+
+        List<ChartBucketData> timeRangeBuckets = chartExecutor
+                .generate(partition(buckets, BUCKETS_PER_TASK), this::generateBuckets)
+                .stream()
+                .flatMap(List::stream)
+                .toList();
         return new DashboardChartData(chartDefinition.name(), timeRangeBuckets);
     }
 
-    protected abstract BucketType bucketType();
+    private List<ChartBucketData> generateBuckets(List<Instant> buckets) {
+        return buckets.stream()
+                .map(this::generateBucket)
+                .toList();
+    }
 
-    protected abstract Instant toRangeStart(Instant timeInRange);
+    private ChartBucketData generateBucket(Instant bucket) {
+        Instant bucketStartTime = toRangeStart(bucket);
+        Instant bucketEndTime = toRangeEnd(bucket);
 
-    protected abstract Instant toRangeEnd(Instant timeInRange);
+        ChartGenerator subChartGenerator = subChartGeneratorSupplier.provideGenerator(
+                chartDefinition,
+                activities.timeBucketIndex(bucketType(), bucketStartTime, bucketEndTime),
+                tags
+        );
+        DashboardChartData subChart = subChartGenerator.generate();
+        return new ChartBucketData(
+                null,
+                bucketStartTime,
+                bucketEndTime,
+                bucketType(),
+                null,
+                null,
+                subChart.buckets()
+        );
+    }
 
-    protected abstract Instant toNextRangeStart(Instant timeInRange);
+    protected BucketType bucketType() {
+        return timeBuckets.bucketType();
+    }
+
+    protected Instant toRangeStart(Instant timeInRange) {
+        return timeBuckets.toRangeStart(timeInRange);
+    }
+
+    protected Instant toRangeEnd(Instant timeInRange) {
+        return timeBuckets.toRangeEnd(timeInRange);
+    }
+
+    protected Instant toNextRangeStart(Instant timeInRange) {
+        return timeBuckets.toNextRangeStart(timeInRange);
+    }
 }
@@ -0,0 +1,98 @@
+package ovh.equino.actracker.dashboard.generation.repository;
+
+import org.junit.jupiter.api.Test;
+import ovh.equino.actracker.domain.activity.ActivityDto;
+import ovh.equino.actracker.domain.activity.MetricValue;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static java.util.Collections.emptyList;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ActivityIndexTest {
+
+    private static final Instant RANGE_START = Instant.parse("2024-01-02T00:00:00Z");
+    private static final Instant RANGE_END = Instant.parse("2024-01-02T23:59:59.999999999Z");
+
+    private static final UUID TAG_1 = randomUUID();
+    private static final UUID TAG_2 = randomUUID();
+    private static final UUID METRIC_1 = randomUUID();
+    private static final UUID METRIC_2 = randomUUID();
+
+    @Test
+    void shouldSumDurationsOfTagsWithinRange() {
+        // given
+        List<ActivityDto> activities = List.of(
+                activity("2024-01-01T22:00:00Z", "2024-01-02T01:00:00Z", Set.of(TAG_1)),
+                activity("2024-01-02T10:00:00Z", "2024-01-02T10:30:00Z", Set.of(TAG_1, TAG_2)),
+                activity("2024-01-02T23:00:00Z", null, Set.of(TAG_2)),
+                activity("2024-01-01T10:00:00Z", "2024-01-01T11:00:00Z", Set.of(TAG_1, TAG_2)),
+                activity("2024-01-03T10:00:00Z", "2024-01-03T11:00:00Z", Set.of(TAG_1, TAG_2))
+        );
+
+        // when
+        ActivityIndex activityIndex = new ActivityIndex(activities, RANGE_START, RANGE_END);
+
+        // then
+        assertThat(activityIndex.durationOf(TAG_1).toSeconds()).isEqualTo(Duration.ofMinutes(90).toSeconds());
+        assertThat(activityIndex.durationOf(TAG_2).toSeconds())
+                .isEqualTo(Duration.ofMinutes(90).minusNanos(1).toSeconds());
+        assertThat(activityIndex.durationOf(randomUUID()).toSeconds()).isZero();
+    }
+
+    @Test
+    void shouldSumValuesOfMetricsWithinRange() {
+        // given
+        List<ActivityDto> activities = List.of(
+                activity("2024-01-02T10:00:00Z", "2024-01-02T11:00:00Z", List.of(
+                        new MetricValue(METRIC_1, new BigDecimal("1.5")),
+                        new MetricValue(METRIC_2, new BigDecimal("10"))
+                )),
+                activity("2024-01-02T12:00:00Z", "2024-01-02T13:00:00Z", List.of(
+                        new MetricValue(METRIC_1, new BigDecimal("2.25"))
+                )),
+                activity("2024-01-03T12:00:00Z", "2024-01-03T13:00:00Z", List.of(
+                        new MetricValue(METRIC_1, new BigDecimal("100"))
+                ))
+        );
+
+        // when
+        ActivityIndex activityIndex = new ActivityIndex(activities, RANGE_START, RANGE_END);
+
+        // then
+        assertThat(activityIndex.valuesOf(METRIC_1).average()).isEqualTo(new BigDecimal("1.8750"));
+        assertThat(activityIndex.valuesOf(METRIC_1).count()).isEqualTo(2);
+        assertThat(activityIndex.valuesOf(METRIC_2).average()).isEqualTo(new BigDecimal("10.0000"));
+        assertThat(activityIndex.valuesOf(METRIC_2).count()).isEqualTo(1);
+        assertThat(activityIndex.valuesOf(randomUUID()).average()).isNull();
+        assertThat(activityIndex.valuesOf(randomUUID()).count()).isZero();
+    }
+
+    private ActivityDto activity(String startTime, String endTime, Set<UUID> tags) {
+        return activity(startTime, endTime, tags, emptyList());
+    }
+
+    private ActivityDto activity(String startTime, String endTime, List<MetricValue> metricValues) {
+        return activity(startTime, endTime, Set.of(TAG_1), metricValues);
+    }
+
+    private ActivityDto activity(String startTime, String endTime, Set<UUID> tags, List<MetricValue> metricValues) {
+        return new ActivityDto(
+                randomUUID(),
+                randomUUID(),
+                "activity",
+                Instant.parse(startTime),
+                endTime == null ? null : Instant.parse(endTime),
+                null,
+                tags,
+                metricValues,
+                false
+        );
+    }
+}
@@ -0,0 +1,68 @@
+package ovh.equino.actracker.dashboard.generation.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static java.math.RoundingMode.HALF_UP;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MetricValuesSumTest {
+
+    @Test
+    void shouldAverageSameAsBigDecimalArithmetic() {
+        for (long seed = 0; seed < 1_000; seed++) {
+            // given
+            Random random = new Random(seed);
+            List<BigDecimal> values = new ArrayList<>();
+            int valueCount = 1 + random.nextInt(50);
+            for (int i = 0; i < valueCount; i++) {
+                values.add(randomValue(random));
+            }
+            MetricValuesSum valuesSum = new MetricValuesSum();
+
+            // when
+            values.forEach(valuesSum::add);
+
+            // then
+            BigDecimal expectedAverage = values.stream()
+                    .reduce(BigDecimal.ZERO, BigDecimal::add)
+                    .divide(BigDecimal.valueOf(values.size()), 4, HALF_UP);
+            assertThat(valuesSum.average()).describedAs("seed %d", seed).isEqualTo(expectedAverage);
+            assertThat(valuesSum.count()).isEqualTo(values.size());
+        }
+    }
+
+    @Test
+    void shouldAverageValuesOverflowingScaledSum() {
+        // given
+        BigDecimal largeValue = new BigDecimal("999999999999.999");
+        MetricValuesSum valuesSum = new MetricValuesSum();
+
+        // when
+        for (int i = 0; i < 10_000; i++) {
+            valuesSum.add(largeValue);
+        }
+
+        // then
+        assertThat(valuesSum.average()).isEqualTo(new BigDecimal("999999999999.9990"));
+    }
+
+    @Test
+    void shouldReturnNoAverageWithoutValues() {
+        assertThat(new MetricValuesSum().average()).isNull();
+    }
+
+    private BigDecimal randomValue(Random random) {
+        return switch (random.nextInt(4)) {
+            // Values as stored in the database
+            case 0, 1 -> BigDecimal.valueOf(random.nextLong(2_000_000_000_000L) - 1_000_000_000_000L, 3);
+            case 2 -> BigDecimal.valueOf(random.nextInt(1_000), random.nextInt(4));
+            // Values out of the database range and precision
+            default -> BigDecimal.valueOf(random.nextLong(), random.nextInt(12) - 2);
+        };
+    }
+}
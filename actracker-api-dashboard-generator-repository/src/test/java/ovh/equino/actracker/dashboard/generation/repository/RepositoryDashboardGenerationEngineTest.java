@@ -0,0 +1,206 @@
+package ovh.equino.actracker.dashboard.generation.repository;
+
+import org.junit.jupiter.api.Test;
+import ovh.equino.actracker.domain.EntitySearchCriteria;
+import ovh.equino.actracker.domain.EntitySearchResult;
+import ovh.equino.actracker.domain.activity.ActivityDto;
+import ovh.equino.actracker.domain.activity.ActivitySearchEngine;
+import ovh.equino.actracker.domain.activity.MetricValue;
+import ovh.equino.actracker.domain.dashboard.AnalysisMetric;
+import ovh.equino.actracker.domain.dashboard.Chart;
+import ovh.equino.actracker.domain.dashboard.DashboardDto;
+import ovh.equino.actracker.domain.dashboard.GroupBy;
+import ovh.equino.actracker.domain.dashboard.generation.ChartBucketData;
+import ovh.equino.actracker.domain.dashboard.generation.DashboardChartData;
+import ovh.equino.actracker.domain.dashboard.generation.DashboardData;
+import ovh.equino.actracker.domain.dashboard.generation.DashboardGenerationCriteria;
+import ovh.equino.actracker.domain.tag.MetricDto;
+import ovh.equino.actracker.domain.tag.TagDto;
+import ovh.equino.actracker.domain.tag.TagSearchEngine;
+import ovh.equino.actracker.domain.user.User;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static ovh.equino.actracker.domain.tag.MetricType.NUMERIC;
+
+class RepositoryDashboardGenerationEngineTest {
+
+    // Activities wouldn't fit in the heap of unit tests (see build.gradle) if they were held in memory at once
+    private static final int ACTIVITY_COUNT = 1_000_000;
+    private static final Instant ACTIVITIES_START = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Duration ACTIVITY_INTERVAL = Duration.ofMinutes(2);
+    private static final Duration ACTIVITY_DURATION = Duration.ofMinutes(1);
+    private static final int DAYS_OF_ACTIVITIES = 1389;
+
+    private static final TagDto TAG_1 = tag(1);
+    private static final TagDto TAG_2 = tag(2);
+    private static final TagSearchEngine TAG_SEARCH_ENGINE =
+            searchCriteria -> new EntitySearchResult<>(null, List.of(TAG_1, TAG_2));
+    private static final ChartGenerationTimes NO_CHART_GENERATION_TIMES = (groupBy, chartPosition, nanos) -> {
+    };
+
+    @Test
+    void shouldGenerateDashboardOfStreamedActivitiesWithoutHoldingThem() {
+        // given
+        SyntheticActivitySearchEngine activitySearchEngine = new SyntheticActivitySearchEngine(ACTIVITY_COUNT);
+        RepositoryDashboardGenerationEngine engine = new RepositoryDashboardGenerationEngine(
+                TAG_SEARCH_ENGINE, activitySearchEngine, ChartExecutor.sequential(), NO_CHART_GENERATION_TIMES
+        );
+
+        DashboardDto dashboard = new DashboardDto(
+                UUID.randomUUID(),
+                null,
+                "dashboard",
+                List.of(
+                        new Chart("self", GroupBy.SELF, AnalysisMetric.TAG_DURATION, emptySet()),
+                        new Chart("daily", GroupBy.DAY, AnalysisMetric.TAG_DURATION, emptySet()),
+                        new Chart("weekly", GroupBy.WEEK, AnalysisMetric.METRIC_VALUE, emptySet()),
+                        new Chart("monthly", GroupBy.MONTH, AnalysisMetric.TAG_PERCENTAGE, emptySet()),
+                        new Chart("weekendly", GroupBy.WEEKEND, AnalysisMetric.TAG_DURATION, emptySet())
+                ),
+                emptyList(),
+                false
+        );
+        DashboardGenerationCriteria generationCriteria = new DashboardGenerationCriteria(
+                dashboard.id(), new User(UUID.randomUUID()), null, null, emptySet()
+        );
+
+        // when
+        DashboardData dashboardData = engine.generateDashboard(dashboard, generationCriteria);
+
+        // then
+        assertThat(activitySearchEngine.streamedActivities).isEqualTo(ACTIVITY_COUNT);
+        BigDecimal secondsOfEachTag = BigDecimal.valueOf(ACTIVITY_COUNT / 2 * ACTIVITY_DURATION.toSeconds());
+
+        DashboardChartData selfChart = chart(dashboardData, "self");
+        assertThat(selfChart.buckets())
+                .extracting(ChartBucketData::value)
+                .containsOnly(secondsOfEachTag);
+
+        DashboardChartData dailyChart = chart(dashboardData, "daily");
+        assertThat(dailyChart.buckets()).hasSize(DAYS_OF_ACTIVITIES);
+        assertThat(sumOfSubBuckets(dailyChart, TAG_1)).isEqualTo(secondsOfEachTag);
+        assertThat(sumOfSubBuckets(dailyChart, TAG_2)).isEqualTo(secondsOfEachTag);
+    }
+
+    @Test
+    void shouldGenerateChartsInParallelInOrderOfDashboard() {
+        // given
+        List<Chart> charts = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            GroupBy groupBy = GroupBy.values()[i % GroupBy.values().length];
+            AnalysisMetric analysisMetric = AnalysisMetric.values()[i % AnalysisMetric.values().length];
+            charts.add(new Chart("chart" + i, groupBy, analysisMetric, emptySet()));
+        }
+        DashboardDto dashboard = new DashboardDto(UUID.randomUUID(), null, "dashboard", charts, emptyList(), false);
+        DashboardGenerationCriteria generationCriteria = new DashboardGenerationCriteria(
+                dashboard.id(), new User(UUID.randomUUID()), null, null, emptySet()
+        );
+        RepositoryDashboardGenerationEngine sequentialEngine = new RepositoryDashboardGenerationEngine(
+                TAG_SEARCH_ENGINE,
+                new SyntheticActivitySearchEngine(10_000),
+                ChartExecutor.sequential(),
+                NO_CHART_GENERATION_TIMES
+        );
+        Queue<TimedChart> timedCharts = new ConcurrentLinkedQueue<>();
+
+        try (ChartExecutor parallelExecutor = ChartExecutor.parallel(4)) {
+            RepositoryDashboardGenerationEngine parallelEngine = new RepositoryDashboardGenerationEngine(
+                    TAG_SEARCH_ENGINE,
+                    new SyntheticActivitySearchEngine(10_000),
+                    parallelExecutor,
+                    (groupBy, chartPosition, nanos) -> timedCharts.add(new TimedChart(groupBy, chartPosition))
+            );
+
+            // when
+            DashboardData dashboardData = parallelEngine.generateDashboard(dashboard, generationCriteria);
+
+            // then
+            assertThat(dashboardData).isEqualTo(sequentialEngine.generateDashboard(dashboard, generationCriteria));
+            assertThat(dashboardData.charts())
+                    .extracting(DashboardChartData::name)
+                    .containsExactlyElementsOf(charts.stream().map(Chart::name).toList());
+            assertThat(timedCharts).containsExactlyInAnyOrderElementsOf(
+                    IntStream.range(0, charts.size())
+                            .mapToObj(position -> new TimedChart(charts.get(position).groupBy(), position))
+                            .toList()
+            );
+        }
+    }
+
+    private DashboardChartData chart(DashboardData dashboardData, String name) {
+        return dashboardData.charts()
+                .stream()
+                .filter(chart -> chart.name().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private BigDecimal sumOfSubBuckets(DashboardChartData chart, TagDto tag) {
+        return chart.buckets()
+                .stream()
+                .flatMap(bucket -> bucket.buckets().stream())
+                .filter(subBucket -> subBucket.id().equals(tag.id().toString()))
+                .map(ChartBucketData::value)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    private static TagDto tag(int number) {
+        MetricDto metric = new MetricDto(new UUID(1, number), "metric", NUMERIC);
+        return new TagDto(new UUID(0, number), null, "tag" + number, List.of(metric), emptyList(), false);
+    }
+
+    /**
+     * Generates activities as they are streamed, alternately tagged with one of two tags.
+     */
+    private static final class SyntheticActivitySearchEngine implements ActivitySearchEngine {
+
+        private final int activityCount;
+        private int streamedActivities = 0;
+
+        private SyntheticActivitySearchEngine(int activityCount) {
+            this.activityCount = activityCount;
+        }
+
+        @Override
+        public EntitySearchResult<ActivityDto> findActivities(EntitySearchCriteria searchCriteria) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void forEachStartedActivity(EntitySearchCriteria searchCriteria, Consumer<ActivityDto> consumer) {
+            for (int i = 0; i < activityCount; i++) {
+                TagDto tag = i % 2 == 0 ? TAG_1 : TAG_2;
+                Instant startTime = ACTIVITIES_START.plus(ACTIVITY_INTERVAL.multipliedBy(i));
+                consumer.accept(new ActivityDto(
+                        new UUID(2, i),
+                        null,
+                        "activity" + i,
+                        startTime,
+                        startTime.plus(ACTIVITY_DURATION),
+                        null,
+                        Set.of(tag.id()),
+                        List.of(new MetricValue(tag.metrics().iterator().next().id(), BigDecimal.ONE)),
+                        false
+                ));
+                streamedActivities++;
+            }
+        }
+    }
+
+    private record TimedChart(GroupBy groupBy, int chartPosition) {
+    }
+}
@@ -0,0 +1,383 @@
+package ovh.equino.actracker.dashboard.generation.repository;
+
+import org.junit.jupiter.api.Test;
+import ovh.equino.actracker.domain.activity.ActivityDto;
+import ovh.equino.actracker.domain.activity.MetricValue;
+import ovh.equino.actracker.domain.dashboard.AnalysisMetric;
+import ovh.equino.actracker.domain.dashboard.Chart;
+import ovh.equino.actracker.domain.dashboard.GroupBy;
+import ovh.equino.actracker.domain.dashboard.generation.BucketType;
+import ovh.equino.actracker.domain.dashboard.generation.ChartBucketData;
+import ovh.equino.actracker.domain.dashboard.generation.DashboardChartData;
+import ovh.equino.actracker.domain.tag.MetricDto;
+import ovh.equino.actracker.domain.tag.TagDto;
+import ovh.equino.actracker.domain.tag.TagId;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+import static java.math.RoundingMode.HALF_UP;
+import static java.util.Collections.emptyList;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static java.util.stream.Collectors.toUnmodifiableSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static ovh.equino.actracker.domain.dashboard.generation.DashboardUtils.*;
+import static ovh.equino.actracker.domain.tag.MetricType.NUMERIC;
+
+class TimeChartGeneratorTest {
+
+    private static final Instant ACTIVITIES_START = Instant.parse("2024-01-01T00:00:00Z");
+    private static final Duration ACTIVITIES_PERIOD = Duration.ofDays(90);
+    private static final Duration MAX_ACTIVITY_DURATION = Duration.ofDays(10);
+    private static final int RANDOMIZED_SETS = 200;
+    private static final ChartExecutor SEQUENTIAL = ChartExecutor.sequential();
+
+    @Test
+    void shouldGenerateSameBucketsAsGeneratingEachBucketSeparately() {
+        for (long seed = 0; seed < RANDOMIZED_SETS; seed++) {
+            // given
+            Random random = new Random(seed);
+            List<TagDto> tags = randomTags(random);
+            List<ActivityDto> activities = randomActivities(random, tags);
+            Instant rangeStart = rangeStart(random, activities);
+            Instant rangeEnd = rangeEnd(activities);
+
+            for (GroupBy groupBy : List.of(GroupBy.DAY, GroupBy.WEEK, GroupBy.MONTH, GroupBy.WEEKEND)) {
+                for (AnalysisMetric analysisMetric : AnalysisMetric.values()) {
+                    Chart chart = randomChart(random, groupBy, analysisMetric, tags);
+                    TimeChartGenerator generator =
+                            timeChartGenerator(chart, rangeStart, rangeEnd, activities, tags, SEQUENTIAL);
+
+                    // when
+                    DashboardChartData chartData = generator.generate();
+
+                    // then
+                    assertThat(chartData)
+                            .describedAs("seed %d, grouped by %s, %s", seed, groupBy, analysisMetric)
+                            .isEqualTo(generateBucketByBucket(generator, tags, activities));
+                }
+            }
+        }
+    }
+
+    @Test
+    void shouldGenerateSameBucketsInParallel() {
+        try (ChartExecutor parallelExecutor = ChartExecutor.parallel(4)) {
+            for (long seed = 0; seed < RANDOMIZED_SETS; seed++) {
+                // given
+                Random random = new Random(seed);
+                List<TagDto> tags = randomTags(random);
+                List<ActivityDto> activities = randomActivities(random, tags);
+                Instant rangeStart = rangeStart(random, activities);
+                Instant rangeEnd = rangeEnd(activities);
+                Chart chart = randomChart(random, GroupBy.DAY, AnalysisMetric.TAG_DURATION, tags);
+                TimeChartGenerator generator =
+                        timeChartGenerator(chart, rangeStart, rangeEnd, activities, tags, parallelExecutor);
+
+                // when
+                DashboardChartData chartData = generator.generate();
+
+                // then
+                TimeChartGenerator sequentialGenerator =
+                        timeChartGenerator(chart, rangeStart, rangeEnd, activities, tags, SEQUENTIAL);
+                assertThat(chartData)
+                        .describedAs("seed %d", seed)
+                        .isEqualTo(sequentialGenerator.generate());
+            }
+        }
+    }
+
+    @Test
+    void shouldGenerateEmptyTimeBucketsWithoutActivities() {
+        // given
+        List<TagDto> tags = randomTags(new Random(0));
+        Chart chart = new Chart("chart", GroupBy.DAY, AnalysisMetric.TAG_DURATION, Set.of());
+        Instant rangeStart = ACTIVITIES_START;
+        Instant rangeEnd = endOfDay(ACTIVITIES_START.plus(Duration.ofDays(2)));
+        TimeChartGenerator generator = timeChartGenerator(chart, rangeStart, rangeEnd, emptyList(), tags, SEQUENTIAL);
+
+        // when
+        DashboardChartData chartData = generator.generate();
+
+        // then
+        assertThat(chartData.buckets()).hasSize(3);
+        assertThat(chartData).isEqualTo(generateBucketByBucket(generator, tags, emptyList()));
+    }
+
+    /**
+     * Reference generation, as before activities were swept across time buckets: every bucket aligns all activities of
+     * the chart to its range, and sums up durations and metric values of the aligned activities on its own.
+     */
+    private DashboardChartData generateBucketByBucket(TimeChartGenerator generator,
+                                                      List<TagDto> tags,
+                                                      List<ActivityDto> activities) {
+
+        Chart chart = generator.chartDefinition;
+        Set<TagDto> chartTags = chart.includesAllTags()
+                ? tags.stream().collect(toUnmodifiableSet())
+                : tags.stream()
+                .filter(tag -> chart.includedTags().contains(tag.id()))
+                .collect(toUnmodifiableSet());
+        List<ActivityDto> chartActivities = alignedToRange(activities, generator.rangeStart, generator.rangeEnd);
+
+        List<ChartBucketData> timeRangeBuckets = new ArrayList<>();
+        for (Instant bucket = generator.rangeStart;
+             bucket.isBefore(generator.rangeEnd);
+             bucket = generator.toNextRangeStart(bucket)) {
+
+            Instant bucketStartTime = generator.toRangeStart(bucket);
+            Instant bucketEndTime = generator.toRangeEnd(bucket);
+            List<ActivityDto> bucketActivities = alignedToRange(chartActivities, bucketStartTime, bucketEndTime);
+            List<ChartBucketData> subBuckets = chart.analysisMetric() == AnalysisMetric.METRIC_VALUE
+                    ? metricBuckets(chartTags, bucketActivities)
+                    : tagBuckets(chart.analysisMetric(), chartTags, bucketActivities);
+            timeRangeBuckets.add(new ChartBucketData(
+                    null,
+                    bucketStartTime,
+                    bucketEndTime,
+                    generator.bucketType(),
+                    null,
+                    null,
+                    subBuckets
+            ));
+        }
+        return new DashboardChartData(chart.name(), timeRangeBuckets);
+    }
+
+    private List<ChartBucketData> tagBuckets(AnalysisMetric analysisMetric,
+                                             Set<TagDto> tags,
+                                             List<ActivityDto> activities) {
+
+        Map<TagId, Duration> durationByTag = tags.stream()
+                .map(TagDto::id)
+                .map(TagId::new)
+                .collect(toMap(
+                        identity(),
+                        tag -> activities.stream()
+                                .filter(activity -> activity.tags().contains(tag.id()))
+                                .map(activity -> Duration.between(activity.startTime(), activity.endTime()))
+                                .reduce(Duration.ZERO, Duration::plus)
+                ));
+        Duration totalDuration = durationByTag.values().stream()
+                .reduce(Duration.ZERO, Duration::plus);
+
+        return durationByTag.entrySet().stream()
+                .map(entry -> {
+                    BigDecimal projectedDuration = analysisMetric == AnalysisMetric.TAG_DURATION
+                            ? new BigDecimal(entry.getValue().toSeconds())
+                            : percentage(entry.getValue(), totalDuration);
+                    return new ChartBucketData(
+                            entry.getKey().id().toString(),
+                            null,
+                            null,
+                            BucketType.TAG,
+                            projectedDuration,
+                            projectedDuration,
+                            null
+                    );
+                })
+                .toList();
+    }
+
+    private BigDecimal percentage(Duration measuredDuration, Duration totalDuration) {
+        // Previously failed dividing by a total shorter than a second, which is projected as no duration now
+        if (totalDuration.toSeconds() == 0) {
+            return BigDecimal.ZERO;
+        }
+        return BigDecimal.valueOf(measuredDuration.toSeconds())
+                .divide(BigDecimal.valueOf(totalDuration.toSeconds()), 4, HALF_UP);
+    }
+
+    private List<ChartBucketData> metricBuckets(Set<TagDto> tags, List<ActivityDto> activities) {
+        Set<UUID> metricIds = tags.stream()
+                .map(TagDto::metrics)
+                .filter(Objects::nonNull)
+                .flatMap(Collection::stream)
+                .map(MetricDto::id)
+                .collect(toUnmodifiableSet());
+        List<MetricValue> metricValues = activities.stream()
+                .map(ActivityDto::metricValues)
+                .flatMap(Collection::stream)
+                .toList();
+
+        Map<UUID, Optional<BigDecimal>> averageByMetric = metricIds.stream()
+                .collect(toMap(
+                        identity(),
+                        metric -> average(metricValues.stream()
+                                .filter(value -> value.metricId().equals(metric))
+                                .map(MetricValue::value)
+                                .toList())
+                ));
+
+        return averageByMetric.entrySet().stream()
+                .map(entry -> new ChartBucketData(
+                        entry.getKey().toString(),
+                        null,
+                        null,
+                        BucketType.METRIC,
+                        entry.getValue().orElse(null),
+                        null,
+                        null
+                ))
+                .toList();
+    }
+
+    private Optional<BigDecimal> average(List<BigDecimal> values) {
+        if (values.isEmpty()) {
+            return Optional.empty();
+        }
+        BigDecimal valuesSum = values.stream()
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return Optional.of(valuesSum.divide(BigDecimal.valueOf(values.size()), 4, HALF_UP));
+    }
+
+    private List<ActivityDto> alignedToRange(List<ActivityDto> activities, Instant rangeStart, Instant rangeEnd) {
+        return activities.stream()
+                .filter(activity -> !activity.startTime().isAfter(rangeEnd))
+                .filter(activity -> activity.endTime() == null || !activity.endTime().isBefore(rangeStart))
+                .map(activity -> new ActivityDto(
+                        activity.title(),
+                        latestOf(activity.startTime(), rangeStart),
+                        earliestOf(activity.endTime(), rangeEnd),
+                        activity.comment(),
+                        activity.tags(),
+                        activity.metricValues()
+                ))
+                .toList();
+    }
+
+    private TimeChartGenerator timeChartGenerator(Chart chart,
+                                                  Instant rangeStart,
+                                                  Instant rangeEnd,
+                                                  List<ActivityDto> activities,
+                                                  List<TagDto> tags,
+                                                  ChartExecutor chartExecutor) {
+
+        ChartGeneratorSupplier subChartGeneratorSupplier = subChartGeneratorSupplier(chart);
+        DashboardActivities dashboardActivities = new DashboardActivities(activities, rangeStart, rangeEnd);
+        return switch (chart.groupBy()) {
+            case DAY -> new DailyChartGenerator(
+                    chart, rangeStart, rangeEnd, dashboardActivities, tags, subChartGeneratorSupplier, chartExecutor
+            );
+            case WEEK -> new WeeklyChartGenerator(
+                    chart, rangeStart, rangeEnd, dashboardActivities, tags, subChartGeneratorSupplier, chartExecutor
+            );
+            case MONTH -> new MonthlyChartGenerator(
+                    chart, rangeStart, rangeEnd, dashboardActivities, tags, subChartGeneratorSupplier, chartExecutor
+            );
+            case WEEKEND -> new WeekendlyChartGenerator(
+                    chart, rangeStart, rangeEnd, dashboardActivities, tags, subChartGeneratorSupplier, chartExecutor
+            );
+            case SELF -> throw new IllegalArgumentException();
+        };
+    }
+
+    private ChartGeneratorSupplier subChartGeneratorSupplier(Chart chart) {
+        return switch (chart.analysisMetric()) {
+            case TAG_PERCENTAGE, TAG_DURATION -> TagChartGenerator::new;
+            case METRIC_VALUE -> MetricValueChartGenerator::new;
+        };
+    }
+
+    private List<TagDto> randomTags(Random random) {
+        List<TagDto> tags = new ArrayList<>();
+        int tagCount = 1 + random.nextInt(5);
+        for (int i = 0; i < tagCount; i++) {
+            List<MetricDto> metrics = new ArrayList<>();
+            int metricCount = random.nextInt(3);
+            for (int j = 0; j < metricCount; j++) {
+                metrics.add(new MetricDto(randomUUID(random), "metric", NUMERIC));
+            }
+            tags.add(new TagDto(randomUUID(random), null, "tag", metrics, emptyList(), false));
+        }
+        return tags;
+    }
+
+    private List<ActivityDto> randomActivities(Random random, List<TagDto> tags) {
+        List<ActivityDto> activities = new ArrayList<>();
+        int activityCount = 1 + random.nextInt(60);
+        for (int i = 0; i < activityCount; i++) {
+            Instant startTime = ACTIVITIES_START.plusNanos(randomNanos(random, ACTIVITIES_PERIOD));
+            Instant endTime = random.nextInt(10) == 0
+                    ? null
+                    : startTime.plusNanos(randomNanos(random, MAX_ACTIVITY_DURATION));
+
+            Set<UUID> activityTags = new HashSet<>();
+            List<MetricValue> metricValues = new ArrayList<>();
+            for (TagDto tag : tags) {
+                if (random.nextBoolean()) {
+                    activityTags.add(tag.id());
+                    tag.metrics().stream()
+                            .filter(metric -> random.nextBoolean())
+                            .map(metric -> new MetricValue(metric.id(), randomValue(random)))
+                            .forEach(metricValues::add);
+                }
+            }
+            activities.add(new ActivityDto(
+                    randomUUID(random),
+                    null,
+                    "activity",
+                    startTime,
+                    endTime,
+                    null,
+                    activityTags,
+                    metricValues,
+                    false
+            ));
+        }
+        return activities;
+    }
+
+    private Chart randomChart(Random random, GroupBy groupBy, AnalysisMetric analysisMetric, List<TagDto> tags) {
+        Set<UUID> includedTags = new HashSet<>();
+        if (random.nextBoolean()) {
+            tags.stream()
+                    .filter(tag -> random.nextBoolean())
+                    .map(TagDto::id)
+                    .forEach(includedTags::add);
+        }
+        return new Chart("chart", groupBy, analysisMetric, includedTags);
+    }
+
+    private Instant rangeStart(Random random, List<ActivityDto> activities) {
+        Instant earliestStartTime = activities.stream()
+                .map(ActivityDto::startTime)
+                .min(Instant::compareTo)
+                .orElseThrow();
+        Instant rangeStart = startOfDay(earliestStartTime);
+        // Emulates time range start of generation criteria, not aligned to days
+        return random.nextBoolean()
+                ? rangeStart
+                : rangeStart.plusNanos(randomNanos(random, Duration.ofDays(20)));
+    }
+
+    private Instant rangeEnd(List<ActivityDto> activities) {
+        Instant latestEndTime = activities.stream()
+                .map(ActivityDto::endTime)
+                .filter(Objects::nonNull)
+                .max(Instant::compareTo)
+                .orElse(ACTIVITIES_START.plus(ACTIVITIES_PERIOD));
+        return endOfDay(latestEndTime);
+    }
+
+    private long randomNanos(Random random, Duration maxDuration) {
+        // Whole seconds, milliseconds and nanoseconds, to cover truncation of durations to seconds
+        long nanos = (long) (random.nextDouble() * maxDuration.toNanos());
+        return switch (random.nextInt(3)) {
+            case 0 -> nanos - nanos % 1_000_000_000L;
+            case 1 -> nanos - nanos % 1_000_000L;
+            default -> nanos;
+        };
+    }
+
+    private BigDecimal randomValue(Random random) {
+        return BigDecimal.valueOf(random.nextInt(100_000), random.nextInt(4));
+    }
+
+    private UUID randomUUID(Random random) {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+}
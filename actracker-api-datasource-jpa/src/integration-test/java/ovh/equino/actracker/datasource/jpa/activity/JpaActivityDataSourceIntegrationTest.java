@@ -7,6 +7,9 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import ovh.equino.actracker.domain.EntitySearchCriteria;
+import ovh.equino.actracker.domain.EntitySortCriteria;
+import ovh.equino.actracker.domain.EntitySortCriteria.Order;
+import ovh.equino.actracker.domain.PageCursor;
 import ovh.equino.actracker.domain.activity.ActivityDto;
 import ovh.equino.actracker.domain.activity.ActivityId;
 import ovh.equino.actracker.domain.activity.MetricValue;
@@ -14,8 +17,13 @@ import ovh.equino.actracker.domain.tag.MetricDto;
 import ovh.equino.actracker.domain.tag.TagDto;
 import ovh.equino.actracker.domain.tenant.TenantDto;
 import ovh.equino.actracker.domain.user.User;
+import ovh.equino.actracker.domain.activity.Activity;
+import ovh.equino.actracker.domain.activity.ActivityFactory;
+import ovh.equino.actracker.domain.activity.ActivityTestFactory;
+import ovh.equino.actracker.domain.tag.TagId;
 import ovh.equino.actracker.jpa.IntegrationTestConfiguration;
 import ovh.equino.actracker.jpa.JpaIntegrationTest;
+import ovh.equino.actracker.jpa.QueryPlan;
 
 import java.sql.SQLException;
 import java.time.Instant;
@@ -24,6 +32,9 @@ import java.util.stream.Stream;
 
 import static java.util.stream.Collectors.toUnmodifiableSet;
 import static org.assertj.core.api.Assertions.assertThat;
+import static ovh.equino.actracker.domain.EntitySortCriteria.Order.ASC;
+import static ovh.equino.actracker.domain.EntitySortCriteria.Order.DESC;
+import static ovh.equino.actracker.domain.activity.ActivitySortField.START_TIME;
 import static ovh.equino.actracker.jpa.TestUtil.randomBigDecimal;
 
 abstract class JpaActivityDataSourceIntegrationTest extends JpaIntegrationTest {
@@ -83,6 +94,61 @@ abstract class JpaActivityDataSourceIntegrationTest extends JpaIntegrationTest {
                 ));
     }
 
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("accessibleActivity")
+    void shouldConfirmAccessibleActivityExistsInSingleStatement(String testName, ActivityId activityId, ActivityDto expectedActivity) {
+        inTransaction(() -> {
+            long findStatements = countStatements(() -> dataSource.find(activityId, searcher));
+            long existsStatements = countStatements(() -> assertThat(dataSource.exists(activityId, searcher)).isTrue());
+            assertThat(existsStatements).isEqualTo(1).isLessThan(findStatements);
+        });
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("inaccessibleActivity")
+    void shouldNotConfirmInaccessibleActivityExists(String testName, ActivityId activityId) {
+        inTransaction(() -> {
+            boolean exists = dataSource.exists(activityId, searcher);
+            assertThat(exists).isFalse();
+        });
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("storedAccessibleActivity")
+    void shouldBuildClientStateEqualToFoundActivity(String testName, ActivityDto storedActivity) {
+        ActivityFactory activityFactory = ActivityTestFactory.forUser(
+                searcher,
+                testConfiguration.tags.tagsAccessibilityVerifier(),
+                testConfiguration.tags.metricsAccessibilityVerifier()
+        );
+        Activity activity = activityFactory.reconstitute(
+                new ActivityId(storedActivity.id()),
+                new User(storedActivity.creatorId()),
+                storedActivity.title(),
+                storedActivity.startTime(),
+                storedActivity.endTime(),
+                storedActivity.comment(),
+                storedActivity.tags().stream().map(TagId::new).toList(),
+                storedActivity.metricValues(),
+                storedActivity.deleted()
+        );
+
+        inTransaction(() -> {
+            Optional<ActivityDto> foundActivity = dataSource.find(activity.id(), searcher);
+            assertThat(foundActivity).isPresent();
+            assertThat(activity.forClient())
+                    .usingRecursiveComparison()
+                    .ignoringCollectionOrder()
+                    .isEqualTo(foundActivity.get());
+        });
+    }
+
+    static Stream<Arguments> storedAccessibleActivity() {
+        return testConfiguration.activities.storedAccessibleFor(searcher)
+                .stream()
+                .map(activity -> Arguments.of(activity.title(), activity));
+    }
+
     @Test
     void shouldFindAllAccessibleActivities() {
         List<ActivityDto> expectedActivities = testConfiguration.activities.accessibleFor(searcher);
@@ -122,7 +188,8 @@ abstract class JpaActivityDataSourceIntegrationTest extends JpaIntegrationTest {
         int offset = 1;
         List<ActivityDto> expectedActivities = testConfiguration.activities
                 .accessibleForWithLimitOffset(searcher, pageSize, offset);
-        String pageId = expectedActivities.get(0).id().toString();
+        ActivityDto lastOfPreviousPage = testConfiguration.activities.accessibleFor(searcher).get(offset - 1);
+        String pageId = new PageCursor(lastOfPreviousPage.id().toString()).encode();
 
         EntitySearchCriteria searchCriteria = new EntitySearchCriteria(
                 searcher,
@@ -143,6 +210,83 @@ abstract class JpaActivityDataSourceIntegrationTest extends JpaIntegrationTest {
         });
     }
 
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("startTimeOrders")
+    void shouldFindActivitiesPageByPageOrderedByStartTime(Order order) {
+        int pageSize = 2;
+        List<ActivityDto> expectedActivities = testConfiguration.activities
+                .accessibleForOrderedByStartTime(searcher, order == DESC);
+        EntitySortCriteria sortCriteria = new EntitySortCriteria(new EntitySortCriteria.Level(START_TIME, order));
+
+        List<ActivityDto> foundActivities = new ArrayList<>();
+        String pageId = FIRST_PAGE;
+        for (int offset = 0; offset < expectedActivities.size(); offset += pageSize) {
+            EntitySearchCriteria searchCriteria = new EntitySearchCriteria(
+                    searcher,
+                    pageSize,
+                    pageId,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    sortCriteria
+            );
+            inTransaction(() -> foundActivities.addAll(dataSource.find(searchCriteria)));
+            ActivityDto lastFound = foundActivities.get(foundActivities.size() - 1);
+            pageId = new PageCursor(
+                    lastFound.startTime() == null ? null : lastFound.startTime().toString(),
+                    lastFound.id().toString()
+            ).encode();
+        }
+
+        assertThat(foundActivities)
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("tags", "metricValues")
+                .containsExactlyElementsOf(expectedActivities);
+    }
+
+    private static Stream<Order> startTimeOrders() {
+        return Stream.of(ASC, DESC);
+    }
+
+    @Test
+    void shouldStreamStartedActivitiesInChunksOrderedByStartTime() {
+        int chunkSize = 2;
+        List<ActivityDto> expectedActivities = testConfiguration.activities
+                .accessibleForOrderedByStartTime(searcher, false)
+                .stream()
+                .filter(activity -> activity.startTime() != null)
+                .toList();
+
+        EntitySearchCriteria searchCriteria = new EntitySearchCriteria(
+                searcher,
+                chunkSize,
+                FIRST_PAGE,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+
+        List<ActivityDto> streamedActivities = new ArrayList<>();
+        inTransaction(() -> dataSource.forEachStarted(searchCriteria, streamedActivities::add));
+
+        assertThat(streamedActivities)
+                .usingRecursiveFieldByFieldElementComparatorIgnoringFields("tags", "metricValues")
+                .containsExactlyElementsOf(expectedActivities);
+        assertThat(streamedActivities)
+                .flatMap(ActivityDto::tags)
+                .containsExactlyInAnyOrderElementsOf(
+                        expectedActivities.stream().flatMap(activity -> activity.tags().stream()).toList()
+                );
+        assertThat(streamedActivities)
+                .flatMap(ActivityDto::metricValues)
+                .containsExactlyInAnyOrderElementsOf(
+                        expectedActivities.stream().flatMap(activity -> activity.metricValues().stream()).toList()
+                );
+    }
+
     @Test
     void shouldFindActivitiesInTimeRange() {
         Instant timeRangeStart = Instant.ofEpochSecond(40);
@@ -239,6 +383,75 @@ abstract class JpaActivityDataSourceIntegrationTest extends JpaIntegrationTest {
         });
     }
 
+    @Test
+    void shouldQueryActivitiesUsingIndexes() throws SQLException {
+        ActivityId activityId = new ActivityId(testConfiguration.activities.accessibleFor(searcher).get(0).id());
+        Set<UUID> requiredTags = testConfiguration.tags.accessibleForWithLimitOffset(searcher, 3, 0)
+                .stream()
+                .map(TagDto::id)
+                .collect(toUnmodifiableSet());
+        EntitySearchCriteria searchCriteria = new EntitySearchCriteria(
+                searcher,
+                LARGE_PAGE_SIZE,
+                FIRST_PAGE,
+                null,
+                Instant.ofEpochSecond(40),
+                Instant.ofEpochSecond(60),
+                null,
+                requiredTags,
+                new EntitySortCriteria(new EntitySortCriteria.Level(START_TIME, DESC))
+        );
+
+        List<QueryPlan> queryPlans = explain(entityManager -> {
+            JpaActivityDataSource explainedDataSource = new JpaActivityDataSource(entityManager);
+            explainedDataSource.find(activityId, searcher);
+            explainedDataSource.exists(activityId, searcher);
+            explainedDataSource.find(searchCriteria);
+            explainedDataSource.findOwnUnfinishedStartedBefore(Instant.ofEpochSecond(50), searcher);
+        });
+
+        assertThat(queryPlans)
+                .isNotEmpty()
+                .allSatisfy(queryPlan -> assertThat(queryPlan.sequentiallyScannedTables())
+                        .as(queryPlan.toString())
+                        .doesNotContainAnyElementsOf(LARGE_TABLES)
+                );
+    }
+
+    @Test
+    void shouldFilterActivitiesByManyTagsInSingleSemiJoin() throws SQLException {
+        Set<UUID> requiredTags = new HashSet<>();
+        testConfiguration.tags.accessibleFor(searcher).forEach(tag -> requiredTags.add(tag.id()));
+        while (requiredTags.size() < 25) {
+            requiredTags.add(UUID.randomUUID());
+        }
+        EntitySearchCriteria searchCriteria = new EntitySearchCriteria(
+                searcher,
+                LARGE_PAGE_SIZE,
+                FIRST_PAGE,
+                null,
+                null,
+                null,
+                null,
+                requiredTags
+        );
+
+        List<QueryPlan> queryPlans = explain(entityManager ->
+                new JpaActivityDataSource(entityManager).find(searchCriteria)
+        );
+
+        QueryPlan searchPlan = queryPlans.get(0);
+        String searchedTables = searchPlan.statement().substring(0, searchPlan.statement().indexOf(" where "));
+        assertThat(searchedTables).doesNotContain(" join ");
+        assertThat(searchPlan.statement())
+                .doesNotContain("distinct")
+                .containsOnlyOnce(" in (");
+        assertThat(searchPlan.statement().split("exists\\(", -1)).hasSize(3);
+        assertThat(searchPlan.sequentiallyScannedTables())
+                .as(searchPlan.toString())
+                .doesNotContainAnyElementsOf(LARGE_TABLES);
+    }
+
     @BeforeAll
     static void setUp() {
         TenantDto searcherTenant = newUser().build();
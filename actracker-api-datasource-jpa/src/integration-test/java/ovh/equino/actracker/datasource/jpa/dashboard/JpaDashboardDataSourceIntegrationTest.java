@@ -7,6 +7,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import ovh.equino.actracker.domain.EntitySearchCriteria;
+import ovh.equino.actracker.domain.PageCursor;
 import ovh.equino.actracker.domain.dashboard.Chart;
 import ovh.equino.actracker.domain.dashboard.DashboardDto;
 import ovh.equino.actracker.domain.dashboard.DashboardId;
@@ -14,8 +15,12 @@ import ovh.equino.actracker.domain.share.Share;
 import ovh.equino.actracker.domain.tag.TagDto;
 import ovh.equino.actracker.domain.tenant.TenantDto;
 import ovh.equino.actracker.domain.user.User;
+import ovh.equino.actracker.domain.dashboard.Dashboard;
+import ovh.equino.actracker.domain.dashboard.DashboardFactory;
+import ovh.equino.actracker.domain.dashboard.DashboardTestFactory;
 import ovh.equino.actracker.jpa.IntegrationTestConfiguration;
 import ovh.equino.actracker.jpa.JpaIntegrationTest;
+import ovh.equino.actracker.jpa.QueryPlan;
 
 import java.sql.SQLException;
 import java.util.*;
@@ -85,6 +90,57 @@ abstract class JpaDashboardDataSourceIntegrationTest extends JpaIntegrationTest
                 ));
     }
 
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("accessibleDashboards")
+    void shouldConfirmAccessibleDashboardExistsInSingleStatement(String testName, DashboardId dashboardId, DashboardDto expectedDashboard) {
+        inTransaction(() -> {
+            long findStatements = countStatements(() -> dataSource.find(dashboardId, searcher));
+            long existsStatements = countStatements(() -> assertThat(dataSource.exists(dashboardId, searcher)).isTrue());
+            assertThat(existsStatements).isEqualTo(1).isLessThan(findStatements);
+        });
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("inaccessibleDashboards")
+    void shouldNotConfirmInaccessibleDashboardExists(String testName, DashboardId dashboardId) {
+        inTransaction(() -> {
+            boolean exists = dataSource.exists(dashboardId, searcher);
+            assertThat(exists).isFalse();
+        });
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("storedAccessibleDashboards")
+    void shouldBuildClientStateEqualToFoundDashboard(String testName, DashboardDto storedDashboard) {
+        DashboardFactory dashboardFactory = DashboardTestFactory.forUser(
+                searcher,
+                testConfiguration.tags.tagsAccessibilityVerifier()
+        );
+        Dashboard dashboard = dashboardFactory.reconstitute(
+                new DashboardId(storedDashboard.id()),
+                new User(storedDashboard.creatorId()),
+                storedDashboard.name(),
+                storedDashboard.charts(),
+                storedDashboard.shares(),
+                storedDashboard.deleted()
+        );
+
+        inTransaction(() -> {
+            Optional<DashboardDto> foundDashboard = dataSource.find(dashboard.id(), searcher);
+            assertThat(foundDashboard).isPresent();
+            assertThat(dashboard.forClient())
+                    .usingRecursiveComparison()
+                    .ignoringCollectionOrder()
+                    .isEqualTo(foundDashboard.get());
+        });
+    }
+
+    private static Stream<Arguments> storedAccessibleDashboards() {
+        return testConfiguration.dashboards.storedAccessibleFor(searcher)
+                .stream()
+                .map(dashboard -> Arguments.of(dashboard.name(), dashboard));
+    }
+
     @Test
     void shouldFindAllAccessibleDashboards() {
         EntitySearchCriteria searchCriteria = new EntitySearchCriteria(
@@ -130,7 +186,8 @@ abstract class JpaDashboardDataSourceIntegrationTest extends JpaIntegrationTest
         int offset = 1;
         List<DashboardDto> expectedDashboards = testConfiguration.dashboards
                 .accessibleForWithLimitOffset(searcher, pageSize, offset);
-        String pageId = expectedDashboards.get(0).id().toString();
+        DashboardDto lastOfPreviousPage = testConfiguration.dashboards.accessibleFor(searcher).get(offset - 1);
+        String pageId = new PageCursor(lastOfPreviousPage.id().toString()).encode();
         EntitySearchCriteria searchCriteria = new EntitySearchCriteria(
                 searcher,
                 pageSize,
@@ -174,6 +231,35 @@ abstract class JpaDashboardDataSourceIntegrationTest extends JpaIntegrationTest
         });
     }
 
+    @Test
+    void shouldQueryDashboardsUsingIndexes() throws SQLException {
+        DashboardId dashboardId = new DashboardId(testConfiguration.dashboards.accessibleFor(searcher).get(0).id());
+        EntitySearchCriteria searchCriteria = new EntitySearchCriteria(
+                searcher,
+                LARGE_PAGE_SIZE,
+                FIRST_PAGE,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+
+        List<QueryPlan> queryPlans = explain(entityManager -> {
+            JpaDashboardDataSource explainedDataSource = new JpaDashboardDataSource(entityManager);
+            explainedDataSource.find(dashboardId, searcher);
+            explainedDataSource.exists(dashboardId, searcher);
+            explainedDataSource.find(searchCriteria);
+        });
+
+        assertThat(queryPlans)
+                .isNotEmpty()
+                .allSatisfy(queryPlan -> assertThat(queryPlan.sequentiallyScannedTables())
+                        .as(queryPlan.toString())
+                        .doesNotContainAnyElementsOf(LARGE_TABLES)
+                );
+    }
+
     @BeforeAll
     static void setUp() {
         TenantDto searcherTenant = newUser().build();
@@ -2,14 +2,18 @@ package ovh.equino.actracker.datasource.jpa.notification;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import ovh.equino.actracker.domain.EncodedNotificationData;
 import ovh.equino.actracker.domain.Notification;
 import ovh.equino.actracker.domain.exception.ParseException;
 import ovh.equino.actracker.jpa.JpaIntegrationTest;
+import ovh.equino.actracker.notification.outbox.OutboxBacklog;
 
 import java.math.BigDecimal;
 import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 
+import static java.util.Comparator.comparingLong;
 import static java.util.List.of;
 import static org.assertj.core.api.Assertions.assertThat;
 import static ovh.equino.actracker.jpa.TestUtil.nextUUID;
@@ -38,6 +42,19 @@ abstract class JpaNotificationDataSourceIntegrationTest extends JpaIntegrationTe
         });
     }
 
+    @Test
+    void shouldFindNotificationsWithEncodedData() {
+        inTransaction(() -> {
+            List<Notification<?>> foundNotifications = dataSource.getEncodedPage(100);
+            assertThat(foundNotifications)
+                    .extracting(Notification::data)
+                    .hasOnlyElementsOfType(EncodedNotificationData.class);
+            assertThat(decoded(foundNotifications))
+                    .usingRecursiveFieldByFieldElementComparatorIgnoringFields("version")
+                    .containsAll(of(NOTIFICATION_1, NOTIFICATION_2, NOTIFICATION_3));
+        });
+    }
+
     @Test
     void shouldFindFirstPageOfNotifications() {
         int pageSize = 2;
@@ -46,4 +63,36 @@ abstract class JpaNotificationDataSourceIntegrationTest extends JpaIntegrationTe
             assertThat(foundNotifications).hasSize(pageSize);
         });
     }
+
+    @Test
+    void shouldFindNotificationsOrderedByVersion() {
+        inTransaction(() -> {
+            List<Notification<?>> foundNotifications = dataSource.getPage(100);
+            assertThat(foundNotifications)
+                    .hasSizeGreaterThanOrEqualTo(3)
+                    .isSortedAccordingTo(comparingLong(Notification::version));
+        });
+    }
+
+    @Test
+    void shouldCountBacklog() {
+        inTransaction(() -> {
+            OutboxBacklog backlog = dataSource.getBacklog();
+            int notificationsCount = dataSource.getPage(Integer.MAX_VALUE).size();
+            assertThat(backlog.size()).isEqualTo(notificationsCount);
+            assertThat(backlog.lag().isNegative()).isFalse();
+        });
+    }
+
+    private List<Notification<?>> decoded(List<Notification<?>> notifications) {
+        List<Notification<?>> decodedNotifications = new ArrayList<>();
+        for (Notification<?> notification : notifications) {
+            try {
+                decodedNotifications.add(notification.decoded());
+            } catch (ParseException e) {
+                throw new RuntimeException(e);
+            }
+        }
+        return decodedNotifications;
+    }
 }
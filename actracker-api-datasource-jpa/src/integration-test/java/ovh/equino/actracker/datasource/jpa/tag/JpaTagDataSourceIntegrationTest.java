@@ -8,20 +8,33 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import ovh.equino.actracker.datasource.jpa.tag.JpaTagDataSource;
 import ovh.equino.actracker.domain.EntitySearchCriteria;
+import ovh.equino.actracker.domain.EntitySortCriteria;
+import ovh.equino.actracker.domain.PageCursor;
 import ovh.equino.actracker.domain.tag.TagDto;
 import ovh.equino.actracker.domain.tag.TagId;
 import ovh.equino.actracker.domain.tenant.TenantDto;
 import ovh.equino.actracker.domain.user.User;
+import ovh.equino.actracker.domain.tag.Metric;
+import ovh.equino.actracker.domain.tag.MetricFactory;
+import ovh.equino.actracker.domain.tag.MetricId;
+import ovh.equino.actracker.domain.tag.MetricTestFactory;
+import ovh.equino.actracker.domain.tag.Tag;
+import ovh.equino.actracker.domain.tag.TagTestFactory;
 import ovh.equino.actracker.jpa.IntegrationTestConfiguration;
 import ovh.equino.actracker.jpa.JpaIntegrationTest;
+import ovh.equino.actracker.jpa.QueryPlan;
 
 import java.sql.SQLException;
 import java.util.*;
 import java.util.stream.Stream;
 
+import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toUnmodifiableSet;
 import static java.util.stream.Stream.concat;
 import static org.assertj.core.api.Assertions.assertThat;
+import static ovh.equino.actracker.domain.EntitySortCriteria.Order.DESC;
+import static ovh.equino.actracker.domain.tag.TagDetail.METRICS;
+import static ovh.equino.actracker.domain.tag.TagSortField.NAME;
 
 abstract class JpaTagDataSourceIntegrationTest extends JpaIntegrationTest {
 
@@ -75,6 +88,64 @@ abstract class JpaTagDataSourceIntegrationTest extends JpaIntegrationTest {
                 ));
     }
 
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("accessibleTag")
+    void shouldConfirmAccessibleTagExistsInSingleStatement(String testName, TagId tagId, TagDto expectedTag) {
+        inTransaction(() -> {
+            long findStatements = countStatements(() -> dataSource.find(tagId, searcher));
+            long existsStatements = countStatements(() -> assertThat(dataSource.exists(tagId, searcher)).isTrue());
+            assertThat(existsStatements).isEqualTo(1).isLessThan(findStatements);
+        });
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("inaccessibleTag")
+    void shouldNotConfirmInaccessibleTagExists(String testName, TagId tagId) {
+        inTransaction(() -> {
+            boolean exists = dataSource.exists(tagId, searcher);
+            assertThat(exists).isFalse();
+        });
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("storedAccessibleTag")
+    void shouldBuildClientStateEqualToFoundTag(String testName, TagDto storedTag) {
+        MetricFactory metricFactory = MetricTestFactory.forUser(searcher);
+        List<Metric> metrics = storedTag.metrics()
+                .stream()
+                .map(metric -> metricFactory.reconstitute(
+                        new MetricId(metric.id()),
+                        new User(metric.creatorId()),
+                        metric.name(),
+                        metric.type(),
+                        metric.deleted()
+                ))
+                .toList();
+        Tag tag = TagTestFactory.forUser(searcher).reconstitute(
+                new TagId(storedTag.id()),
+                new User(storedTag.creatorId()),
+                storedTag.name(),
+                metrics,
+                storedTag.shares(),
+                storedTag.deleted()
+        );
+
+        inTransaction(() -> {
+            Optional<TagDto> foundTag = dataSource.find(tag.id(), searcher);
+            assertThat(foundTag).isPresent();
+            assertThat(tag.forClient())
+                    .usingRecursiveComparison()
+                    .ignoringCollectionOrder()
+                    .isEqualTo(foundTag.get());
+        });
+    }
+
+    private static Stream<Arguments> storedAccessibleTag() {
+        return testConfiguration.tags.storedAccessibleFor(searcher)
+                .stream()
+                .map(tag -> Arguments.of(tag.name(), tag));
+    }
+
     @Test
     void shouldFindAllAccessibleTags() {
         EntitySearchCriteria searchCriteria = new EntitySearchCriteria(
@@ -107,7 +178,8 @@ abstract class JpaTagDataSourceIntegrationTest extends JpaIntegrationTest {
         int pageSize = 2;
         int offset = 1;
         List<TagDto> expectedTags = testConfiguration.tags.accessibleForWithLimitOffset(searcher, pageSize, offset);
-        String pageId = expectedTags.get(0).id().toString();
+        TagDto lastOfPreviousPage = testConfiguration.tags.accessibleFor(searcher).get(offset - 1);
+        String pageId = new PageCursor(lastOfPreviousPage.id().toString()).encode();
         EntitySearchCriteria searchCriteria = new EntitySearchCriteria(
                 searcher,
                 pageSize,
@@ -126,6 +198,51 @@ abstract class JpaTagDataSourceIntegrationTest extends JpaIntegrationTest {
         });
     }
 
+    @Test
+    void shouldFindTagsPageByPageOrderedByName() {
+        int pageSize = 2;
+        List<TagDto> accessibleTags = testConfiguration.tags.accessibleFor(searcher);
+        EntitySortCriteria sortCriteria = new EntitySortCriteria(new EntitySortCriteria.Level(NAME, DESC));
+        EntitySearchCriteria singlePageCriteria = new EntitySearchCriteria(
+                searcher,
+                LARGE_PAGE_SIZE,
+                FIRST_PAGE,
+                null,
+                null,
+                null,
+                null,
+                null,
+                sortCriteria
+        );
+
+        List<TagDto> foundTags = new ArrayList<>();
+        String pageId = FIRST_PAGE;
+        for (int offset = 0; offset < accessibleTags.size(); offset += pageSize) {
+            EntitySearchCriteria searchCriteria = new EntitySearchCriteria(
+                    searcher,
+                    pageSize,
+                    pageId,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    sortCriteria
+            );
+            inTransaction(() -> foundTags.addAll(dataSource.find(searchCriteria)));
+            TagDto lastFound = foundTags.get(foundTags.size() - 1);
+            pageId = new PageCursor(lastFound.name(), lastFound.id().toString()).encode();
+        }
+
+        inTransaction(() -> {
+            List<TagDto> tagsInSinglePage = dataSource.find(singlePageCriteria);
+            assertThat(foundTags)
+                    .usingRecursiveFieldByFieldElementComparatorIgnoringFields("shares", "metrics")
+                    .containsExactlyElementsOf(tagsInSinglePage)
+                    .containsExactlyInAnyOrderElementsOf(accessibleTags);
+        });
+    }
+
     @Test
     void shouldFindNotExcludedTags() {
         List<TagDto> allAccessibleTags = testConfiguration.tags.accessibleFor(searcher);
@@ -194,6 +311,151 @@ abstract class JpaTagDataSourceIntegrationTest extends JpaIntegrationTest {
         });
     }
 
+    @Test
+    void shouldFindOnlyRequestedTags() {
+        List<TagDto> accessibleTags = testConfiguration.tags.accessibleFor(searcher);
+        TagDto requestedTag = accessibleTags.get(1);
+        Set<TagId> requestedTagIds = Set.of(
+                new TagId(requestedTag.id()),
+                new TagId(testConfiguration.tags.inaccessibleFor(searcher).iterator().next().id())
+        );
+
+        inTransaction(() -> {
+            List<TagDto> foundTags = dataSource.find(requestedTagIds, searcher);
+            assertThat(foundTags)
+                    .usingRecursiveFieldByFieldElementComparatorIgnoringFields("shares", "metrics")
+                    .containsExactly(requestedTag);
+            assertThat(foundTags.get(0).metrics()).containsExactlyInAnyOrderElementsOf(requestedTag.metrics());
+        });
+    }
+
+    @Test
+    void shouldFindTagsByIdsInChunks() {
+        List<TagDto> accessibleTags = testConfiguration.tags.accessibleFor(searcher);
+        Set<TagId> requestedTagIds = new HashSet<>();
+        accessibleTags.forEach(tag -> requestedTagIds.add(new TagId(tag.id())));
+        Stream.generate(UUID::randomUUID)
+                .limit(JpaTagDataSource.TAG_IDS_PER_QUERY * 2L)
+                .map(TagId::new)
+                .forEach(requestedTagIds::add);
+
+        inTransaction(() -> {
+            List<TagDto> foundTags = dataSource.find(requestedTagIds, searcher);
+            assertThat(foundTags)
+                    .usingRecursiveFieldByFieldElementComparatorIgnoringFields("shares", "metrics")
+                    .containsExactlyInAnyOrderElementsOf(accessibleTags);
+        });
+    }
+
+    @Test
+    void shouldFindTagsByIdsWithRequestedDetailsOnly() {
+        List<TagDto> accessibleTags = testConfiguration.tags.accessibleFor(searcher);
+        Set<TagId> accessibleTagIds = accessibleTags.stream()
+                .map(TagDto::id)
+                .map(TagId::new)
+                .collect(toUnmodifiableSet());
+
+        inTransaction(() -> {
+            List<TagDto> foundTagsWithoutDetails = dataSource.find(accessibleTagIds, searcher, emptySet());
+            assertThat(foundTagsWithoutDetails)
+                    .usingRecursiveFieldByFieldElementComparatorIgnoringFields("shares", "metrics")
+                    .containsExactlyElementsOf(accessibleTags);
+            assertThat(foundTagsWithoutDetails).flatMap(TagDto::metrics).isEmpty();
+            assertThat(foundTagsWithoutDetails).flatMap(TagDto::shares).isEmpty();
+
+            List<TagDto> foundTagsWithMetrics = dataSource.find(accessibleTagIds, searcher, Set.of(METRICS));
+            assertThat(foundTagsWithMetrics)
+                    .flatMap(TagDto::metrics)
+                    .containsExactlyInAnyOrderElementsOf(testConfiguration.tags.flatMetricsAccessibleFor(searcher));
+            assertThat(foundTagsWithMetrics).flatMap(TagDto::shares).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldFindNoTagsWhenNoIdsRequested() {
+        inTransaction(() -> {
+            List<TagDto> foundTags = dataSource.find(emptySet(), searcher);
+            assertThat(foundTags).isEmpty();
+        });
+    }
+
+    @Test
+    void shouldFindAccessibleTagIdsInSingleStatement() {
+        Set<TagId> accessibleTagIds = testConfiguration.tags.accessibleFor(searcher)
+                .stream()
+                .map(tag -> new TagId(tag.id()))
+                .collect(toUnmodifiableSet());
+        Set<TagId> requestedTagIds = new HashSet<>(accessibleTagIds);
+        testConfiguration.tags.inaccessibleFor(searcher)
+                .forEach(tag -> requestedTagIds.add(new TagId(tag.id())));
+
+        inTransaction(() -> {
+            long findStatements = countStatements(() -> dataSource.find(requestedTagIds, searcher));
+            long accessibleIdsStatements = countStatements(() ->
+                    assertThat(dataSource.accessibleIds(requestedTagIds, searcher))
+                            .containsExactlyInAnyOrderElementsOf(accessibleTagIds)
+            );
+            assertThat(accessibleIdsStatements).isEqualTo(1).isLessThan(findStatements);
+        });
+    }
+
+    @Test
+    void shouldFindAccessibleTagIdsInChunks() {
+        Set<TagId> accessibleTagIds = testConfiguration.tags.accessibleFor(searcher)
+                .stream()
+                .map(tag -> new TagId(tag.id()))
+                .collect(toUnmodifiableSet());
+        Set<TagId> requestedTagIds = new HashSet<>(accessibleTagIds);
+        while (requestedTagIds.size() <= JpaTagDataSource.TAG_IDS_PER_QUERY) {
+            requestedTagIds.add(new TagId());
+        }
+
+        inTransaction(() -> {
+            long statements = countStatements(() ->
+                    assertThat(dataSource.accessibleIds(requestedTagIds, searcher))
+                            .containsExactlyInAnyOrderElementsOf(accessibleTagIds)
+            );
+            assertThat(statements).isEqualTo(2);
+        });
+    }
+
+    @Test
+    void shouldQueryTagsUsingIndexes() throws SQLException {
+        TagId tagId = new TagId(testConfiguration.tags.accessibleFor(searcher).get(0).id());
+        Set<TagId> tagIds = testConfiguration.tags.accessibleFor(searcher)
+                .stream()
+                .map(TagDto::id)
+                .map(TagId::new)
+                .collect(toUnmodifiableSet());
+        EntitySearchCriteria searchCriteria = new EntitySearchCriteria(
+                searcher,
+                LARGE_PAGE_SIZE,
+                FIRST_PAGE,
+                "Accessible",
+                null,
+                null,
+                null,
+                null,
+                new EntitySortCriteria(new EntitySortCriteria.Level(NAME, DESC))
+        );
+
+        List<QueryPlan> queryPlans = explain(entityManager -> {
+            JpaTagDataSource explainedDataSource = new JpaTagDataSource(entityManager);
+            explainedDataSource.find(tagId, searcher);
+            explainedDataSource.exists(tagId, searcher);
+            explainedDataSource.find(searchCriteria);
+            explainedDataSource.find(tagIds, searcher);
+            explainedDataSource.accessibleIds(tagIds, searcher);
+        });
+
+        assertThat(queryPlans)
+                .isNotEmpty()
+                .allSatisfy(queryPlan -> assertThat(queryPlan.sequentiallyScannedTables())
+                        .as(queryPlan.toString())
+                        .doesNotContainAnyElementsOf(LARGE_TABLES)
+                );
+    }
+
     @BeforeAll
     static void setUp() {
         TenantDto searcherTenant = newUser().build();
@@ -7,13 +7,19 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import ovh.equino.actracker.domain.EntitySearchCriteria;
+import ovh.equino.actracker.domain.PageCursor;
 import ovh.equino.actracker.domain.tag.TagDto;
 import ovh.equino.actracker.domain.tagset.TagSetDto;
 import ovh.equino.actracker.domain.tagset.TagSetId;
 import ovh.equino.actracker.domain.tenant.TenantDto;
 import ovh.equino.actracker.domain.user.User;
+import ovh.equino.actracker.domain.tag.TagId;
+import ovh.equino.actracker.domain.tagset.TagSet;
+import ovh.equino.actracker.domain.tagset.TagSetFactory;
+import ovh.equino.actracker.domain.tagset.TagSetTestFactory;
 import ovh.equino.actracker.jpa.IntegrationTestConfiguration;
 import ovh.equino.actracker.jpa.JpaIntegrationTest;
+import ovh.equino.actracker.jpa.QueryPlan;
 
 import java.sql.SQLException;
 import java.util.List;
@@ -75,6 +81,56 @@ abstract class JpaTagSetDataSourceIntegrationTest extends JpaIntegrationTest {
                 ));
     }
 
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("accessibleTagSet")
+    void shouldConfirmAccessibleTagSetExistsInSingleStatement(String testName, TagSetId tagSetId, TagSetDto expectedTagSet) {
+        inTransaction(() -> {
+            long findStatements = countStatements(() -> dataSource.find(tagSetId, searcher));
+            long existsStatements = countStatements(() -> assertThat(dataSource.exists(tagSetId, searcher)).isTrue());
+            assertThat(existsStatements).isEqualTo(1).isLessThan(findStatements);
+        });
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("inaccessibleTagSet")
+    void shouldNotConfirmInaccessibleTagSetExists(String testName, TagSetId tagSetId) {
+        inTransaction(() -> {
+            boolean exists = dataSource.exists(tagSetId, searcher);
+            assertThat(exists).isFalse();
+        });
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("storedAccessibleTagSet")
+    void shouldBuildClientStateEqualToFoundTagSet(String testName, TagSetDto storedTagSet) {
+        TagSetFactory tagSetFactory = TagSetTestFactory.forUser(
+                searcher,
+                testConfiguration.tags.tagsAccessibilityVerifier()
+        );
+        TagSet tagSet = tagSetFactory.reconstitute(
+                new TagSetId(storedTagSet.id()),
+                new User(storedTagSet.creatorId()),
+                storedTagSet.name(),
+                storedTagSet.tags().stream().map(TagId::new).toList(),
+                storedTagSet.deleted()
+        );
+
+        inTransaction(() -> {
+            Optional<TagSetDto> foundTagSet = dataSource.find(tagSet.id(), searcher);
+            assertThat(foundTagSet).isPresent();
+            assertThat(tagSet.forClient())
+                    .usingRecursiveComparison()
+                    .ignoringCollectionOrder()
+                    .isEqualTo(foundTagSet.get());
+        });
+    }
+
+    private static Stream<Arguments> storedAccessibleTagSet() {
+        return testConfiguration.tagSets.storedAccessibleFor(searcher)
+                .stream()
+                .map(tagSet -> Arguments.of(tagSet.name(), tagSet));
+    }
+
     @Test
     void shouldFindAllAccessibleTagSets() {
         EntitySearchCriteria searchCriteria = new EntitySearchCriteria(
@@ -105,7 +161,8 @@ abstract class JpaTagSetDataSourceIntegrationTest extends JpaIntegrationTest {
         int offset = 1;
         List<TagSetDto> expectedTagSets = testConfiguration.tagSets
                 .accessibleForWithLimitOffset(searcher, pageSize, offset);
-        String pageId = expectedTagSets.get(0).id().toString();
+        TagSetDto lastOfPreviousPage = testConfiguration.tagSets.accessibleFor(searcher).get(offset - 1);
+        String pageId = new PageCursor(lastOfPreviousPage.id().toString()).encode();
 
         EntitySearchCriteria searchCriteria = new EntitySearchCriteria(
                 searcher,
@@ -149,6 +206,35 @@ abstract class JpaTagSetDataSourceIntegrationTest extends JpaIntegrationTest {
         });
     }
 
+    @Test
+    void shouldQueryTagSetsUsingIndexes() throws SQLException {
+        TagSetId tagSetId = new TagSetId(testConfiguration.tagSets.accessibleFor(searcher).get(0).id());
+        EntitySearchCriteria searchCriteria = new EntitySearchCriteria(
+                searcher,
+                LARGE_PAGE_SIZE,
+                FIRST_PAGE,
+                null,
+                null,
+                null,
+                null,
+                null
+        );
+
+        List<QueryPlan> queryPlans = explain(entityManager -> {
+            JpaTagSetDataSource explainedDataSource = new JpaTagSetDataSource(entityManager);
+            explainedDataSource.find(tagSetId, searcher);
+            explainedDataSource.exists(tagSetId, searcher);
+            explainedDataSource.find(searchCriteria);
+        });
+
+        assertThat(queryPlans)
+                .isNotEmpty()
+                .allSatisfy(queryPlan -> assertThat(queryPlan.sequentiallyScannedTables())
+                        .as(queryPlan.toString())
+                        .doesNotContainAnyElementsOf(LARGE_TABLES)
+                );
+    }
+
     @BeforeAll
     static void setUp() {
         TenantDto searcherTenant = newUser().build();
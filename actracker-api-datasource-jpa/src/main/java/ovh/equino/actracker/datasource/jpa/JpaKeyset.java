@@ -0,0 +1,62 @@
+package ovh.equino.actracker.datasource.jpa;
+
+import ovh.equino.actracker.domain.EntitySearchCriteria;
+import ovh.equino.actracker.domain.EntitySortCriteria;
+import ovh.equino.actracker.domain.PageCursor;
+import ovh.equino.actracker.domain.exception.InvalidPageIdException;
+import ovh.equino.actracker.domain.exception.InvalidSortFieldException;
+
+import java.util.List;
+import java.util.Map;
+
+import static ovh.equino.actracker.domain.EntitySortCriteria.CommonSortField.ID;
+import static ovh.equino.actracker.domain.EntitySortCriteria.Order.ASC;
+
+/**
+ * Position of a page in entities ordered by an optional sort key and then by ID in the same direction, or by ascending
+ * ID only.
+ *
+ * @param sortKey null when ordered by ID only.
+ * @param cursor  null for the first page.
+ */
+public record JpaKeyset(JpaSortKey<?> sortKey, EntitySortCriteria.Order order, PageCursor cursor) {
+
+    public static JpaKeyset of(EntitySearchCriteria searchCriteria) {
+        return of(searchCriteria, Map.of());
+    }
+
+    /**
+     * @param sortKeys entity fields for each sort field supported by the entity, besides ID.
+     */
+    public static JpaKeyset of(EntitySearchCriteria searchCriteria,
+                               Map<EntitySortCriteria.Field, JpaSortKey<?>> sortKeys) {
+
+        PageCursor cursor = PageCursor.decode(searchCriteria.pageId()).orElse(null);
+        List<EntitySortCriteria.Level> keyLevels = searchCriteria.sortCriteria()
+                .levels()
+                .stream()
+                .filter(level -> level.field() != ID)
+                .toList();
+
+        if (keyLevels.isEmpty()) {
+            requireKeys(cursor, 1);
+            return new JpaKeyset(null, ASC, cursor);
+        }
+        if (keyLevels.size() > 1) {
+            throw new InvalidSortFieldException(keyLevels.toString());
+        }
+        EntitySortCriteria.Level keyLevel = keyLevels.get(0);
+        JpaSortKey<?> sortKey = sortKeys.get(keyLevel.field());
+        if (sortKey == null) {
+            throw new InvalidSortFieldException(keyLevel.field().toString());
+        }
+        requireKeys(cursor, 2);
+        return new JpaKeyset(sortKey, keyLevel.order(), cursor);
+    }
+
+    private static void requireKeys(PageCursor cursor, int keysCount) {
+        if (cursor != null && cursor.keys().size() != keysCount) {
+            throw new InvalidPageIdException(cursor.encode());
+        }
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.persistence.criteria.CriteriaBuilder;
 import jakarta.persistence.criteria.Path;
 import jakarta.persistence.criteria.Predicate;
 import jakarta.persistence.criteria.Root;
+import ovh.equino.actracker.domain.EntitySortCriteria.Order;
 import ovh.equino.actracker.domain.user.User;
 import ovh.equino.actracker.jpa.JpaEntity;
 import ovh.equino.actracker.jpa.JpaEntity_;
@@ -16,6 +17,7 @@ import static java.util.Arrays.stream;
 import static java.util.stream.Collectors.toUnmodifiableSet;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.apache.commons.lang3.StringUtils.isBlank;
+import static ovh.equino.actracker.domain.EntitySortCriteria.Order.DESC;
 
 public abstract class JpaPredicateBuilder<E extends JpaEntity> {
 
@@ -62,16 +64,41 @@ public abstract class JpaPredicateBuilder<E extends JpaEntity> {
         return not(in(idsAsStrings, root.get(JpaEntity_.id)));
     }
 
-    public JpaPredicate isInPage(String pageId) {
-        if (isBlank(pageId)) {
-            return allMatch();
-        }
-        return () -> criteriaBuilder.greaterThanOrEqualTo(
-                root.get(JpaEntity_.id),
-                pageId
+    JpaPredicate isAfterId(String id) {
+        return () -> criteriaBuilder.greaterThan(root.get(JpaEntity_.id), id);
+    }
+
+    JpaPredicate isBeforeId(String id) {
+        return () -> criteriaBuilder.lessThan(root.get(JpaEntity_.id), id);
+    }
+
+    /**
+     * @return predicate matching entities following the given sort key and ID, both in the given order, among those
+     * having the sort key.
+     */
+    <T extends Comparable<? super T>> JpaPredicate isAfterKey(String sortField, Order order, T key, String id) {
+        Path<T> field = root.get(sortField);
+        JpaPredicate followsKey = order == DESC
+                ? () -> criteriaBuilder.lessThan(field, key)
+                : () -> criteriaBuilder.greaterThan(field, key);
+        JpaPredicate equalsKey = () -> criteriaBuilder.equal(field, key);
+        JpaPredicate followsId = order == DESC
+                ? isBeforeId(id)
+                : isAfterId(id);
+        return or(
+                followsKey,
+                and(equalsKey, followsId)
         );
     }
 
+    JpaPredicate hasKey(String sortField) {
+        return () -> criteriaBuilder.isNotNull(root.get(sortField));
+    }
+
+    JpaPredicate hasNoKey(String sortField) {
+        return () -> criteriaBuilder.isNull(root.get(sortField));
+    }
+
     protected JpaPredicate matchesTerm(String term, Path<String> field) {
         if (isBlank(term)) {
             return allMatch();
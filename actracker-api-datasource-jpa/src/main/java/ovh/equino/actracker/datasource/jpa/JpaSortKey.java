@@ -0,0 +1,9 @@
+package ovh.equino.actracker.datasource.jpa;
+
+import java.util.function.Function;
+
+/**
+ * Entity field ordering a keyset page, with a parser of its value as kept in {@link ovh.equino.actracker.domain.PageCursor}.
+ */
+public record JpaSortKey<T extends Comparable<? super T>>(String fieldName, Function<String, T> parser) {
+}
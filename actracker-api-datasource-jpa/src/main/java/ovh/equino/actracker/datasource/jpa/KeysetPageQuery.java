@@ -0,0 +1,98 @@
+package ovh.equino.actracker.datasource.jpa;
+
+import ovh.equino.actracker.domain.PageCursor;
+import ovh.equino.actracker.domain.exception.InvalidPageIdException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static ovh.equino.actracker.domain.EntitySortCriteria.Order.DESC;
+
+/**
+ * Finds a page of entities continuing after the sort key of the last entity of the previous page, so that the cost
+ * of a page doesn't depend on how deep it is.
+ * <p>
+ * Entities without the sort key come after all others in both directions. They are read by a separate query ordered
+ * by ID, so the page doesn't depend on how the database orders nulls and each query remains a single index range.
+ */
+public final class KeysetPageQuery<Q extends MultiResultJpaQuery<?, P>, P> {
+
+    private static final String ID = "id";
+
+    private final Supplier<Q> newQuery;
+    private final Function<Q, JpaPredicate> filter;
+
+    /**
+     * @param newQuery creates a query for each read of the page.
+     * @param filter   predicate selecting searched entities, applied on top of the page position.
+     */
+    public KeysetPageQuery(Supplier<Q> newQuery, Function<Q, JpaPredicate> filter) {
+        this.newQuery = newQuery;
+        this.filter = filter;
+    }
+
+    public List<P> execute(JpaKeyset keyset, int pageSize) {
+        if (keyset.sortKey() == null) {
+            return executeOrderedById(keyset.cursor(), pageSize);
+        }
+        return executeOrderedBy(keyset.sortKey(), keyset, pageSize);
+    }
+
+    private List<P> executeOrderedById(PageCursor cursor, int pageSize) {
+        Q query = newQuery.get();
+        JpaPredicate isInPage = cursor == null
+                ? query.predicate().allMatch()
+                : query.predicate().isAfterId(cursor.key(0));
+        return select(query, isInPage, pageSize, query.sort().ascending(ID));
+    }
+
+    private <T extends Comparable<? super T>> List<P> executeOrderedBy(JpaSortKey<T> sortKey,
+                                                                      JpaKeyset keyset,
+                                                                      int pageSize) {
+        String sortField = sortKey.fieldName();
+        PageCursor cursor = keyset.cursor();
+        boolean continuesWithoutKey = cursor != null && cursor.key(0) == null;
+        List<P> page = new ArrayList<>(pageSize);
+
+        if (!continuesWithoutKey) {
+            Q query = newQuery.get();
+            JpaPredicateBuilder<?> predicate = query.predicate();
+            JpaPredicate isInPage = cursor == null
+                    ? predicate.hasKey(sortField)
+                    : predicate.isAfterKey(sortField, keyset.order(), parse(sortKey, cursor), cursor.key(1));
+            // Ties are broken in the direction of the key, so that a (key, ID) index is read in one direction
+            JpaSortCriteria[] byKey = keyset.order() == DESC
+                    ? new JpaSortCriteria[]{query.sort().descending(sortField), query.sort().descending(ID)}
+                    : new JpaSortCriteria[]{query.sort().ascending(sortField), query.sort().ascending(ID)};
+            page.addAll(select(query, isInPage, pageSize, byKey));
+        }
+
+        if (page.size() < pageSize) {
+            Q query = newQuery.get();
+            JpaPredicateBuilder<?> predicate = query.predicate();
+            JpaPredicate isInPage = continuesWithoutKey
+                    ? predicate.and(predicate.hasNoKey(sortField), predicate.isAfterId(cursor.key(1)))
+                    : predicate.hasNoKey(sortField);
+            page.addAll(select(query, isInPage, pageSize - page.size(), query.sort().ascending(ID)));
+        }
+        return page;
+    }
+
+    private List<P> select(Q query, JpaPredicate isInPage, int limit, JpaSortCriteria... order) {
+        query.where(query.predicate().and(filter.apply(query), isInPage));
+        return query
+                .orderBy(order)
+                .limit(limit)
+                .execute();
+    }
+
+    private static <T extends Comparable<? super T>> T parse(JpaSortKey<T> sortKey, PageCursor cursor) {
+        try {
+            return sortKey.parser().apply(cursor.key(0));
+        } catch (RuntimeException e) {
+            throw new InvalidPageIdException(cursor.encode());
+        }
+    }
+}
@@ -6,12 +6,15 @@ import jakarta.persistence.criteria.Order;
 import ovh.equino.actracker.jpa.JpaEntity;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 import static java.util.Arrays.stream;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 
 public abstract class MultiResultJpaQuery<E extends JpaEntity, P> extends JpaQuery<E, P, List<P>> {
 
+    private static final String FETCH_SIZE_HINT = "org.hibernate.fetchSize";
+
     private Integer rowLimit;
     private List<JpaSortCriteria> sortCriteria;
 
@@ -38,6 +41,20 @@ public abstract class MultiResultJpaQuery<E extends JpaEntity, P> extends JpaQue
 
     @Override
     public final List<P> execute() {
+        return typedQuery().getResultList();
+    }
+
+    /**
+     * Reads results with a database cursor, fetching the given number of rows at once. The stream must be closed, and
+     * consumed within the transaction which opened it.
+     */
+    public final Stream<P> executeAsStream(int fetchSize) {
+        return typedQuery()
+                .setHint(FETCH_SIZE_HINT, fetchSize)
+                .getResultStream();
+    }
+
+    private TypedQuery<P> typedQuery() {
         initProjection();
         if (predicate != null) {
             query.where(predicate.toRawPredicate());
@@ -53,6 +70,6 @@ public abstract class MultiResultJpaQuery<E extends JpaEntity, P> extends JpaQue
         if (rowLimit != null) {
             typedQuery.setMaxResults(rowLimit);
         }
-        return typedQuery.getResultList();
+        return typedQuery;
     }
 }
@@ -1,7 +1,12 @@
 package ovh.equino.actracker.datasource.jpa.activity;
 
 import jakarta.persistence.EntityManager;
+import ovh.equino.actracker.datasource.jpa.JpaKeyset;
+import ovh.equino.actracker.datasource.jpa.JpaPredicate;
+import ovh.equino.actracker.datasource.jpa.JpaSortKey;
+import ovh.equino.actracker.datasource.jpa.KeysetPageQuery;
 import ovh.equino.actracker.domain.EntitySearchCriteria;
+import ovh.equino.actracker.domain.EntitySortCriteria;
 import ovh.equino.actracker.domain.activity.ActivityDataSource;
 import ovh.equino.actracker.domain.activity.ActivityDto;
 import ovh.equino.actracker.domain.activity.ActivityId;
@@ -12,14 +17,23 @@ import ovh.equino.actracker.jpa.JpaDAO;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static java.util.Objects.isNull;
 import static java.util.stream.Collectors.*;
+import static ovh.equino.actracker.domain.activity.ActivitySortField.START_TIME;
 
 class JpaActivityDataSource extends JpaDAO implements ActivityDataSource {
 
+    private static final String ID_FIELD = "id";
+    private static final String START_TIME_FIELD = "startTime";
+    private static final Map<EntitySortCriteria.Field, JpaSortKey<?>> SORT_KEYS = Map.of(
+            START_TIME, new JpaSortKey<>(START_TIME_FIELD, startTime -> Timestamp.from(Instant.parse(startTime)))
+    );
+
     JpaActivityDataSource(EntityManager entityManager) {
         super(entityManager);
     }
@@ -70,31 +84,85 @@ class JpaActivityDataSource extends JpaDAO implements ActivityDataSource {
         return activityResult.map(result -> result.toActivity(tagIds, metricValues));
     }
 
+    @Override
+    public boolean exists(ActivityId activityId, User searcher) {
+
+        SelectActivityIdsQuery selectActivityIds = new SelectActivityIdsQuery(entityManager);
+        return !selectActivityIds
+                .where(
+                        selectActivityIds.predicate().and(
+                                selectActivityIds.predicate().hasId(activityId.id()),
+                                selectActivityIds.predicate().isNotDeleted(),
+                                selectActivityIds.predicate().isAccessibleFor(searcher)
+                        )
+                )
+                .limit(1)
+                .execute()
+                .isEmpty();
+    }
+
     @Override
     public List<ActivityDto> find(EntitySearchCriteria searchCriteria) {
 
-        Timestamp timeRangeStart = isNull(searchCriteria.timeRangeStart())
-                ? null
-                : Timestamp.from(searchCriteria.timeRangeStart());
-        Timestamp timeRangeEnd = isNull(searchCriteria.timeRangeEnd())
-                ? null
-                : Timestamp.from(searchCriteria.timeRangeEnd());
+        KeysetPageQuery<SelectActivitiesQuery, ActivityProjection> selectActivities = new KeysetPageQuery<>(
+                () -> new SelectActivitiesQuery(entityManager),
+                query -> isSearched(query, searchCriteria)
+        );
+        List<ActivityProjection> activityResults = selectActivities.execute(
+                JpaKeyset.of(searchCriteria, SORT_KEYS),
+                searchCriteria.pageSize()
+        );
+        return withDetails(activityResults, searchCriteria.searcher());
+    }
+
+    @Override
+    public void forEachStarted(EntitySearchCriteria searchCriteria, Consumer<ActivityDto> consumer) {
 
         SelectActivitiesQuery selectActivities = new SelectActivitiesQuery(entityManager);
-        List<ActivityProjection> activityResults = selectActivities
-                .where(
-                        selectActivities.predicate().and(
-                                selectActivities.predicate().isNotDeleted(),
-                                selectActivities.predicate().isAccessibleFor(searchCriteria.searcher()),
-                                selectActivities.predicate().isInPage(searchCriteria.pageId()),
-                                selectActivities.predicate().isNotExcluded(searchCriteria.excludeFilter()),
-                                selectActivities.predicate().hasAnyOfTag(searchCriteria.tags()),
-                                selectActivities.predicate().isInTimeRange(timeRangeStart, timeRangeEnd)
-                        )
+        selectActivities.where(
+                selectActivities.predicate().and(
+                        isSearched(selectActivities, searchCriteria),
+                        selectActivities.predicate().isStarted()
                 )
-                .orderBy(selectActivities.sort().ascending("id"))
-                .limit(searchCriteria.pageSize())
-                .execute();
+        );
+        selectActivities.orderBy(
+                selectActivities.sort().ascending(START_TIME_FIELD),
+                selectActivities.sort().ascending(ID_FIELD)
+        );
+
+        int chunkSize = searchCriteria.pageSize();
+        List<ActivityProjection> chunk = new ArrayList<>(chunkSize);
+        try (Stream<ActivityProjection> activityResults = selectActivities.executeAsStream(chunkSize)) {
+            activityResults.forEachOrdered(result -> {
+                chunk.add(result);
+                if (chunk.size() == chunkSize) {
+                    withDetails(chunk, searchCriteria.searcher()).forEach(consumer);
+                    chunk.clear();
+                }
+            });
+        }
+        if (!chunk.isEmpty()) {
+            withDetails(chunk, searchCriteria.searcher()).forEach(consumer);
+        }
+    }
+
+    private JpaPredicate isSearched(SelectActivitiesQuery query, EntitySearchCriteria searchCriteria) {
+        return query.predicate().and(
+                query.predicate().isNotDeleted(),
+                query.predicate().isAccessibleFor(searchCriteria.searcher()),
+                query.predicate().isNotExcluded(searchCriteria.excludeFilter()),
+                query.predicate().hasAnyOfTag(searchCriteria.tags()),
+                query.predicate().isInTimeRange(
+                        timestampOf(searchCriteria.timeRangeStart()),
+                        timestampOf(searchCriteria.timeRangeEnd())
+                )
+        );
+    }
+
+    /**
+     * Loads tags and metric values of all found activities with one query each.
+     */
+    private List<ActivityDto> withDetails(List<ActivityProjection> activityResults, User searcher) {
 
         Set<UUID> foundActivityIds = activityResults
                 .stream()
@@ -108,7 +176,7 @@ class JpaActivityDataSource extends JpaDAO implements ActivityDataSource {
                         selectActivityJoinTag.predicate().and(
                                 selectActivityJoinTag.predicate().hasActivityIdIn(foundActivityIds),
                                 selectActivityJoinTag.predicate().isNotDeleted(),
-                                selectActivityJoinTag.predicate().isAccessibleFor(searchCriteria.searcher())
+                                selectActivityJoinTag.predicate().isAccessibleFor(searcher)
                         )
                 )
                 .execute()
@@ -124,7 +192,7 @@ class JpaActivityDataSource extends JpaDAO implements ActivityDataSource {
                         selectMetricValue.predicate().and(
                                 selectMetricValue.predicate().hasActivityIdIn(foundActivityIds),
                                 selectMetricValue.predicate().isNotDeleted(),
-                                selectMetricValue.predicate().isAccessibleFor(searchCriteria.searcher())
+                                selectMetricValue.predicate().isAccessibleFor(searcher)
                         )
                 )
                 .execute()
@@ -143,6 +211,10 @@ class JpaActivityDataSource extends JpaDAO implements ActivityDataSource {
                 .toList();
     }
 
+    private static Timestamp timestampOf(Instant instant) {
+        return isNull(instant) ? null : Timestamp.from(instant);
+    }
+
     @Override
     public List<ActivityId> findOwnUnfinishedStartedBefore(Instant startTime, User owner) {
 
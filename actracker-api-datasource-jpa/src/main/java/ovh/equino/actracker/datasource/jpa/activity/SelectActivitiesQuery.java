@@ -2,7 +2,7 @@ package ovh.equino.actracker.datasource.jpa.activity;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Root;
 import jakarta.persistence.criteria.Subquery;
 import ovh.equino.actracker.datasource.jpa.JpaPredicate;
 import ovh.equino.actracker.datasource.jpa.JpaPredicateBuilder;
@@ -20,6 +20,7 @@ import java.sql.Timestamp;
 import java.util.Set;
 import java.util.UUID;
 
+import static java.util.stream.Collectors.toUnmodifiableSet;
 import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 
 final class SelectActivitiesQuery extends MultiResultJpaQuery<ActivityEntity, ActivityProjection> {
@@ -47,8 +48,7 @@ final class SelectActivitiesQuery extends MultiResultJpaQuery<ActivityEntity, Ac
                                 root.get(ActivityEntity_.comment),
                                 root.get(ActivityEntity_.deleted)
                         )
-                )
-                .distinct(true);
+                );
     }
 
     @Override
@@ -134,45 +134,46 @@ final class SelectActivitiesQuery extends MultiResultJpaQuery<ActivityEntity, Ac
             );
         }
 
+        /**
+         * Correlated with the selected activity, so that no join multiplies selected rows.
+         */
         private JpaPredicate isGrantee(User user) {
-            Join<ActivityEntity, TagEntity> tags = root.join(ActivityEntity_.tags, JoinType.LEFT);
-            Join<TagEntity, TagShareEntity> shares = tags.join(TagEntity_.shares, JoinType.LEFT);
             Subquery<Long> subQuery = query.subquery(Long.class);
+            Root<ActivityEntity> activity = subQuery.correlate(root);
+            Join<ActivityEntity, TagEntity> tags = activity.join(ActivityEntity_.tags);
+            Join<TagEntity, TagShareEntity> shares = tags.join(TagEntity_.shares);
             subQuery.select(criteriaBuilder.literal(1L))
                     .where(
                             criteriaBuilder.and(
                                     criteriaBuilder.equal(shares.get(TagShareEntity_.granteeId), user.id().toString()),
                                     criteriaBuilder.isFalse(tags.get(TagEntity_.deleted))
                             )
-                    )
-                    .from(ActivityEntity.class);
+                    );
             return () -> criteriaBuilder.exists(subQuery);
         }
 
+        /**
+         * Single semi-join over all required tags, however many of them are requested.
+         */
         public JpaPredicate hasAnyOfTag(Set<UUID> requiredTags) {
             if (isEmpty(requiredTags)) {
                 return allMatch();
             }
+            Set<String> requiredTagIds = requiredTags
+                    .stream()
+                    .map(UUID::toString)
+                    .collect(toUnmodifiableSet());
 
-            Join<ActivityEntity, TagEntity> tags = root.join(ActivityEntity_.tags);
-
-            JpaPredicate[] predicatesForTags = requiredTags.stream()
-                    .map(tagId -> hasTag(tagId, tags))
-                    .toArray(JpaPredicate[]::new);
-
-            return or(predicatesForTags);
-        }
-
-        private JpaPredicate hasTag(UUID tagId, Join<ActivityEntity, TagEntity> tags) {
             Subquery<Long> subQuery = query.subquery(Long.class);
+            Root<ActivityEntity> activity = subQuery.correlate(root);
+            Join<ActivityEntity, TagEntity> tags = activity.join(ActivityEntity_.tags);
             subQuery.select(criteriaBuilder.literal(1L))
                     .where(
                             criteriaBuilder.and(
-                                    criteriaBuilder.equal(tags.get(TagEntity_.id), tagId.toString()),
+                                    in(requiredTagIds, tags.get(TagEntity_.id)).toRawPredicate(),
                                     criteriaBuilder.isFalse(tags.get(TagEntity_.deleted))
                             )
-                    )
-                    .from(ActivityEntity.class);
+                    );
             return () -> criteriaBuilder.exists(subQuery);
         }
     }
@@ -0,0 +1,111 @@
+package ovh.equino.actracker.datasource.jpa.activity;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import ovh.equino.actracker.datasource.jpa.JpaPredicate;
+import ovh.equino.actracker.datasource.jpa.JpaPredicateBuilder;
+import ovh.equino.actracker.datasource.jpa.JpaSortBuilder;
+import ovh.equino.actracker.datasource.jpa.MultiResultJpaQuery;
+import ovh.equino.actracker.domain.user.User;
+import ovh.equino.actracker.jpa.activity.ActivityEntity;
+import ovh.equino.actracker.jpa.activity.ActivityEntity_;
+import ovh.equino.actracker.jpa.tag.TagEntity;
+import ovh.equino.actracker.jpa.tag.TagEntity_;
+import ovh.equino.actracker.jpa.tag.TagShareEntity;
+import ovh.equino.actracker.jpa.tag.TagShareEntity_;
+
+/**
+ * Selects only IDs of activities, to verify accessibility without loading activities details.
+ */
+final class SelectActivityIdsQuery extends MultiResultJpaQuery<ActivityEntity, String> {
+
+    private final PredicateBuilder predicateBuilder;
+    private final SortBuilder sortBuilder;
+
+    SelectActivityIdsQuery(EntityManager entityManager) {
+        super(entityManager);
+        this.predicateBuilder = new PredicateBuilder();
+        this.sortBuilder = new SortBuilder();
+    }
+
+    @Override
+    protected void initProjection() {
+        query.select(root.get(ActivityEntity_.id));
+    }
+
+    @Override
+    public PredicateBuilder predicate() {
+        return predicateBuilder;
+    }
+
+    @Override
+    public JpaSortBuilder<ActivityEntity> sort() {
+        return sortBuilder;
+    }
+
+    @Override
+    public SelectActivityIdsQuery where(JpaPredicate predicate) {
+        super.where(predicate);
+        return this;
+    }
+
+    @Override
+    protected Class<ActivityEntity> getRootEntityType() {
+        return ActivityEntity.class;
+    }
+
+    @Override
+    protected Class<String> getProjectionType() {
+        return String.class;
+    }
+
+    public class PredicateBuilder extends JpaPredicateBuilder<ActivityEntity> {
+        private PredicateBuilder() {
+            super(criteriaBuilder, root);
+        }
+
+        public JpaPredicate isNotDeleted() {
+            return () -> criteriaBuilder.isFalse(root.get(ActivityEntity_.deleted));
+        }
+
+        public JpaPredicate isAccessibleFor(User searcher) {
+            return or(
+                    isOwner(searcher),
+                    isGrantee(searcher)
+            );
+        }
+
+        private JpaPredicate isOwner(User searcher) {
+            return () -> criteriaBuilder.equal(
+                    root.get(ActivityEntity_.creatorId),
+                    searcher.id().toString()
+            );
+        }
+
+        /**
+         * Correlated with the selected activity, so that no join multiplies selected rows.
+         */
+        private JpaPredicate isGrantee(User user) {
+            Subquery<Long> subQuery = query.subquery(Long.class);
+            Root<ActivityEntity> activity = subQuery.correlate(root);
+            Join<ActivityEntity, TagEntity> tags = activity.join(ActivityEntity_.tags);
+            Join<TagEntity, TagShareEntity> shares = tags.join(TagEntity_.shares);
+            subQuery.select(criteriaBuilder.literal(1L))
+                    .where(
+                            criteriaBuilder.and(
+                                    criteriaBuilder.equal(shares.get(TagShareEntity_.granteeId), user.id().toString()),
+                                    criteriaBuilder.isFalse(tags.get(TagEntity_.deleted))
+                            )
+                    );
+            return () -> criteriaBuilder.exists(subQuery);
+        }
+    }
+
+    public class SortBuilder extends JpaSortBuilder<ActivityEntity> {
+        private SortBuilder() {
+            super(criteriaBuilder, root);
+        }
+    }
+}
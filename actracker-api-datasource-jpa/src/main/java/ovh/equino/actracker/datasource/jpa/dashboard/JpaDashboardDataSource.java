@@ -1,6 +1,8 @@
 package ovh.equino.actracker.datasource.jpa.dashboard;
 
 import jakarta.persistence.EntityManager;
+import ovh.equino.actracker.datasource.jpa.JpaKeyset;
+import ovh.equino.actracker.datasource.jpa.KeysetPageQuery;
 import ovh.equino.actracker.domain.EntitySearchCriteria;
 import ovh.equino.actracker.domain.dashboard.Chart;
 import ovh.equino.actracker.domain.dashboard.DashboardDataSource;
@@ -90,21 +92,37 @@ class JpaDashboardDataSource extends JpaDAO implements DashboardDataSource {
     }
 
     @Override
-    public List<DashboardDto> find(EntitySearchCriteria searchCriteria) {
+    public boolean exists(DashboardId dashboardId, User searcher) {
 
-        SelectDashboardsQuery selectDashboards = new SelectDashboardsQuery(entityManager);
-        List<DashboardProjection> dashboardResults = selectDashboards
+        SelectDashboardIdsQuery selectDashboardIds = new SelectDashboardIdsQuery(entityManager);
+        return !selectDashboardIds
                 .where(
-                        selectDashboards.predicate().and(
-                                selectDashboards.predicate().isNotDeleted(),
-                                selectDashboards.predicate().isAccessibleFor(searchCriteria.searcher()),
-                                selectDashboards.predicate().isInPage(searchCriteria.pageId()),
-                                selectDashboards.predicate().isNotExcluded(searchCriteria.excludeFilter())
+                        selectDashboardIds.predicate().and(
+                                selectDashboardIds.predicate().hasId(dashboardId.id()),
+                                selectDashboardIds.predicate().isNotDeleted(),
+                                selectDashboardIds.predicate().isAccessibleFor(searcher)
                         )
                 )
-                .orderBy(selectDashboards.sort().ascending("id"))
-                .limit(searchCriteria.pageSize())
-                .execute();
+                .limit(1)
+                .execute()
+                .isEmpty();
+    }
+
+    @Override
+    public List<DashboardDto> find(EntitySearchCriteria searchCriteria) {
+
+        KeysetPageQuery<SelectDashboardsQuery, DashboardProjection> selectDashboards = new KeysetPageQuery<>(
+                () -> new SelectDashboardsQuery(entityManager),
+                query -> query.predicate().and(
+                        query.predicate().isNotDeleted(),
+                        query.predicate().isAccessibleFor(searchCriteria.searcher()),
+                        query.predicate().isNotExcluded(searchCriteria.excludeFilter())
+                )
+        );
+        List<DashboardProjection> dashboardResults = selectDashboards.execute(
+                JpaKeyset.of(searchCriteria),
+                searchCriteria.pageSize()
+        );
 
         Set<UUID> dashboardIds = dashboardResults
                 .stream()
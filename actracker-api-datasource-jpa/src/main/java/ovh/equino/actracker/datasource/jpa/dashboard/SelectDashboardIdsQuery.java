@@ -0,0 +1,106 @@
+package ovh.equino.actracker.datasource.jpa.dashboard;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import ovh.equino.actracker.datasource.jpa.JpaPredicate;
+import ovh.equino.actracker.datasource.jpa.JpaPredicateBuilder;
+import ovh.equino.actracker.datasource.jpa.JpaSortBuilder;
+import ovh.equino.actracker.datasource.jpa.MultiResultJpaQuery;
+import ovh.equino.actracker.domain.user.User;
+import ovh.equino.actracker.jpa.dashboard.DashboardEntity;
+import ovh.equino.actracker.jpa.dashboard.DashboardEntity_;
+import ovh.equino.actracker.jpa.dashboard.DashboardShareEntity;
+import ovh.equino.actracker.jpa.dashboard.DashboardShareEntity_;
+
+/**
+ * Selects only IDs of dashboards, to verify accessibility without loading dashboards details.
+ */
+final class SelectDashboardIdsQuery extends MultiResultJpaQuery<DashboardEntity, String> {
+
+    private final PredicateBuilder predicateBuilder;
+    private final SortBuilder sortBuilder;
+
+    SelectDashboardIdsQuery(EntityManager entityManager) {
+        super(entityManager);
+        this.predicateBuilder = new PredicateBuilder();
+        this.sortBuilder = new SortBuilder();
+    }
+
+    @Override
+    protected void initProjection() {
+        query.select(root.get(DashboardEntity_.id));
+    }
+
+    @Override
+    public PredicateBuilder predicate() {
+        return predicateBuilder;
+    }
+
+    @Override
+    public JpaSortBuilder<DashboardEntity> sort() {
+        return sortBuilder;
+    }
+
+    @Override
+    public SelectDashboardIdsQuery where(JpaPredicate predicate) {
+        super.where(predicate);
+        return this;
+    }
+
+    @Override
+    protected Class<DashboardEntity> getRootEntityType() {
+        return DashboardEntity.class;
+    }
+
+    @Override
+    protected Class<String> getProjectionType() {
+        return String.class;
+    }
+
+    public class PredicateBuilder extends JpaPredicateBuilder<DashboardEntity> {
+        private PredicateBuilder() {
+            super(criteriaBuilder, root);
+        }
+
+        public JpaPredicate isNotDeleted() {
+            return () -> criteriaBuilder.isFalse(root.get(DashboardEntity_.deleted));
+        }
+
+        public JpaPredicate isAccessibleFor(User searcher) {
+            return or(
+                    isOwner(searcher),
+                    isGrantee(searcher)
+            );
+        }
+
+        private JpaPredicate isOwner(User searcher) {
+            return () -> criteriaBuilder.equal(
+                    root.get(DashboardEntity_.creatorId),
+                    searcher.id().toString()
+            );
+        }
+
+        /**
+         * Correlated with the selected dashboard, so that no join multiplies selected rows.
+         */
+        private JpaPredicate isGrantee(User user) {
+            Subquery<Long> subQuery = query.subquery(Long.class);
+            Root<DashboardShareEntity> share = subQuery.from(DashboardShareEntity.class);
+            subQuery.select(criteriaBuilder.literal(1L))
+                    .where(
+                            criteriaBuilder.and(
+                                    criteriaBuilder.equal(share.get(DashboardShareEntity_.dashboard), root),
+                                    criteriaBuilder.equal(share.get(DashboardShareEntity_.granteeId), user.id().toString())
+                            )
+                    );
+            return () -> criteriaBuilder.exists(subQuery);
+        }
+    }
+
+    public class SortBuilder extends JpaSortBuilder<DashboardEntity> {
+        private SortBuilder() {
+            super(criteriaBuilder, root);
+        }
+    }
+}
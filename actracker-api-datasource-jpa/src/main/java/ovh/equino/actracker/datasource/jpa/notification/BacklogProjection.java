@@ -0,0 +1,19 @@
+package ovh.equino.actracker.datasource.jpa.notification;
+
+import ovh.equino.actracker.notification.outbox.OutboxBacklog;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+
+import static java.util.Objects.isNull;
+
+record BacklogProjection(Long size, Timestamp oldestCreatedAt, Timestamp currentTime) {
+
+    OutboxBacklog toBacklog() {
+        if (isNull(oldestCreatedAt)) {
+            return new OutboxBacklog(size, Duration.ZERO);
+        }
+        Duration lag = Duration.between(oldestCreatedAt.toInstant(), currentTime.toInstant());
+        return new OutboxBacklog(size, lag.isNegative() ? Duration.ZERO : lag);
+    }
+}
@@ -3,11 +3,13 @@ package ovh.equino.actracker.datasource.jpa.notification;
 import jakarta.persistence.EntityManager;
 import ovh.equino.actracker.domain.Notification;
 import ovh.equino.actracker.notification.outbox.NotificationDataSource;
+import ovh.equino.actracker.notification.outbox.OutboxBacklog;
 import ovh.equino.actracker.jpa.JpaDAO;
 
 import java.util.List;
 
 import static java.util.stream.Collectors.toList;
+import static ovh.equino.actracker.jpa.notification.NotificationEntity_.VERSION;
 
 class JpaNotificationDataSource extends JpaDAO implements NotificationDataSource {
 
@@ -17,12 +19,33 @@ class JpaNotificationDataSource extends JpaDAO implements NotificationDataSource
 
     @Override
     public List<Notification<?>> getPage(int limit) {
-        return new SelectNotificationsQuery(entityManager)
-                .limit(limit)
-                .execute()
+        return selectPage(limit)
                 .stream()
                 .map(NotificationProjection::toNotification)
                 .collect(toList());
+    }
 
+    @Override
+    public List<Notification<?>> getEncodedPage(int limit) {
+        return selectPage(limit)
+                .stream()
+                .map(NotificationProjection::toEncodedNotification)
+                .collect(toList());
+    }
+
+    @Override
+    public OutboxBacklog getBacklog() {
+        return new SelectBacklogQuery(entityManager)
+                .execute()
+                .map(BacklogProjection::toBacklog)
+                .orElseThrow();
+    }
+
+    private List<NotificationProjection> selectPage(int limit) {
+        SelectNotificationsQuery selectNotifications = new SelectNotificationsQuery(entityManager);
+        return selectNotifications
+                .orderBy(selectNotifications.sort().ascending(VERSION))
+                .limit(limit)
+                .execute();
     }
 }
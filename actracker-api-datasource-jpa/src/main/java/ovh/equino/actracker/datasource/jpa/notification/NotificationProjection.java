@@ -1,6 +1,8 @@
 package ovh.equino.actracker.datasource.jpa.notification;
 
+import ovh.equino.actracker.domain.EncodedNotificationData;
 import ovh.equino.actracker.domain.Notification;
+import ovh.equino.actracker.domain.NotificationCodec;
 import ovh.equino.actracker.domain.exception.ParseException;
 
 import java.util.UUID;
@@ -9,10 +11,20 @@ record NotificationProjection(String id, Long version, String dataType, String d
 
     Notification<?> toNotification() {
         try {
-            Class<?> notificationType = Class.forName(dataType);
+            Class<?> notificationType = NotificationCodec.typeOfCode(dataType);
             Object deserializedData = Notification.fromJsonData(data, notificationType);
             return new Notification<>(UUID.fromString(id), version, deserializedData, notificationType);
-        } catch (ParseException | ClassNotFoundException e) {
+        } catch (ParseException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    Notification<?> toEncodedNotification() {
+        try {
+            Class<?> notificationType = NotificationCodec.typeOfCode(dataType);
+            EncodedNotificationData encodedData = new EncodedNotificationData(data);
+            return new Notification<>(UUID.fromString(id), version, encodedData, notificationType);
+        } catch (ParseException e) {
             throw new RuntimeException(e);
         }
     }
@@ -0,0 +1,50 @@
+package ovh.equino.actracker.datasource.jpa.notification;
+
+import jakarta.persistence.EntityManager;
+import ovh.equino.actracker.datasource.jpa.JpaPredicateBuilder;
+import ovh.equino.actracker.datasource.jpa.SingleResultJpaQuery;
+import ovh.equino.actracker.jpa.notification.NotificationEntity;
+import ovh.equino.actracker.jpa.notification.NotificationEntity_;
+
+/**
+ * Counts outboxed notifications and finds creation time of the oldest one. Current time is selected from the
+ * database, so that the lag does not depend on clocks and time zones of the database and the application being
+ * aligned.
+ */
+final class SelectBacklogQuery extends SingleResultJpaQuery<NotificationEntity, BacklogProjection> {
+
+    SelectBacklogQuery(EntityManager entityManager) {
+        super(entityManager);
+    }
+
+    @Override
+    protected void initProjection() {
+        query.select(
+                criteriaBuilder.construct(
+                        BacklogProjection.class,
+                        criteriaBuilder.count(root),
+                        criteriaBuilder.least(root.get(NotificationEntity_.createdAt)),
+                        criteriaBuilder.currentTimestamp()
+                )
+        );
+    }
+
+    @Override
+    protected Class<NotificationEntity> getRootEntityType() {
+        return NotificationEntity.class;
+    }
+
+    @Override
+    protected Class<BacklogProjection> getProjectionType() {
+        return BacklogProjection.class;
+    }
+
+    /**
+     * Deprecated: Filtering this entity is not supported. An attempt will throw RuntimeException.
+     */
+    @Override
+    @Deprecated
+    public JpaPredicateBuilder<NotificationEntity> predicate() {
+        throw new RuntimeException("Filtering notifications not supported");
+    }
+}
@@ -9,8 +9,11 @@ import ovh.equino.actracker.jpa.notification.NotificationEntity_;
 
 final class SelectNotificationsQuery extends MultiResultJpaQuery<NotificationEntity, NotificationProjection> {
 
+    private final SortBuilder sortBuilder;
+
     SelectNotificationsQuery(EntityManager entityManager) {
         super(entityManager);
+        this.sortBuilder = new SortBuilder();
     }
 
     @Override
@@ -43,12 +46,14 @@ final class SelectNotificationsQuery extends MultiResultJpaQuery<NotificationEnt
         throw new RuntimeException("Filtering notifications not supported");
     }
 
-    /**
-     * Deprecated: Sorting this entity is not supported. An attempt will throw RuntimeException.
-     */
     @Override
-    @Deprecated
-    public JpaSortBuilder<NotificationEntity> sort() {
-        throw new RuntimeException("Sorting notifications not supported");
+    public SortBuilder sort() {
+        return sortBuilder;
+    }
+
+    final class SortBuilder extends JpaSortBuilder<NotificationEntity> {
+        private SortBuilder() {
+            super(criteriaBuilder, root);
+        }
     }
 }
@@ -1,10 +1,15 @@
 package ovh.equino.actracker.datasource.jpa.tag;
 
 import jakarta.persistence.EntityManager;
+import ovh.equino.actracker.datasource.jpa.JpaKeyset;
+import ovh.equino.actracker.datasource.jpa.JpaSortKey;
+import ovh.equino.actracker.datasource.jpa.KeysetPageQuery;
 import ovh.equino.actracker.domain.EntitySearchCriteria;
+import ovh.equino.actracker.domain.EntitySortCriteria;
 import ovh.equino.actracker.domain.share.Share;
 import ovh.equino.actracker.domain.tag.MetricDto;
 import ovh.equino.actracker.domain.tag.TagDataSource;
+import ovh.equino.actracker.domain.tag.TagDetail;
 import ovh.equino.actracker.domain.tag.TagDto;
 import ovh.equino.actracker.domain.tag.TagId;
 import ovh.equino.actracker.domain.user.User;
@@ -13,10 +18,22 @@ import ovh.equino.actracker.jpa.JpaDAO;
 import java.util.*;
 
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.*;
+import static org.apache.commons.collections4.ListUtils.partition;
+import static ovh.equino.actracker.domain.tag.TagDetail.METRICS;
+import static ovh.equino.actracker.domain.tag.TagDetail.SHARES;
+import static ovh.equino.actracker.domain.tag.TagSortField.NAME;
 
 class JpaTagDataSource extends JpaDAO implements TagDataSource {
 
+    private static final Map<EntitySortCriteria.Field, JpaSortKey<?>> SORT_KEYS = Map.of(
+            NAME, new JpaSortKey<>("name", name -> name)
+    );
+
+    static final int TAG_IDS_PER_QUERY = 500;
+
     JpaTagDataSource(EntityManager entityManager) {
         super(entityManager);
     }
@@ -68,56 +85,120 @@ class JpaTagDataSource extends JpaDAO implements TagDataSource {
     @Override
     public List<TagDto> find(EntitySearchCriteria searchCriteria) {
 
-        SelectTagsQuery selectTags = new SelectTagsQuery(entityManager);
-        List<TagProjection> tagResults = selectTags
+        KeysetPageQuery<SelectTagsQuery, TagProjection> selectTags = new KeysetPageQuery<>(
+                () -> new SelectTagsQuery(entityManager),
+                query -> query.predicate().and(
+                        query.predicate().isNotDeleted(),
+                        query.predicate().isAccessibleFor(searchCriteria.searcher()),
+                        query.predicate().isNotExcluded(searchCriteria.excludeFilter()),
+                        query.predicate().matchesTerm(searchCriteria.term())
+                )
+        );
+        List<TagProjection> tagResults = selectTags.execute(
+                JpaKeyset.of(searchCriteria, SORT_KEYS),
+                searchCriteria.pageSize()
+        );
+
+        return toTags(tagResults, searchCriteria.searcher(), EnumSet.allOf(TagDetail.class));
+    }
+
+    @Override
+    public List<TagDto> find(Set<TagId> tagIds, User searcher) {
+        return find(tagIds, searcher, EnumSet.allOf(TagDetail.class));
+    }
+
+    /**
+     * Requested IDs are queried in chunks, to keep IN lists bounded.
+     */
+    @Override
+    public List<TagDto> find(Set<TagId> tagIds, User searcher, Set<TagDetail> details) {
+        List<TagDto> foundTags = new ArrayList<>();
+        for (List<UUID> chunk : inChunks(tagIds)) {
+            SelectTagsQuery selectTags = new SelectTagsQuery(entityManager);
+            List<TagProjection> tagResults = selectTags
+                    .where(
+                            selectTags.predicate().and(
+                                    selectTags.predicate().hasIdIn(chunk),
+                                    selectTags.predicate().isAccessibleFor(searcher),
+                                    selectTags.predicate().isNotDeleted()
+                            )
+                    )
+                    .orderBy(selectTags.sort().ascending("id"))
+                    .execute();
+
+            foundTags.addAll(toTags(tagResults, searcher, details));
+        }
+        return foundTags;
+    }
+
+    @Override
+    public boolean exists(TagId tagId, User searcher) {
+
+        SelectTagIdsQuery selectTagIds = new SelectTagIdsQuery(entityManager);
+        return !selectTagIds
                 .where(
-                        selectTags.predicate().and(
-                                selectTags.predicate().isNotDeleted(),
-                                selectTags.predicate().isAccessibleFor(searchCriteria.searcher()),
-                                selectTags.predicate().isInPage(searchCriteria.pageId()),
-                                selectTags.predicate().isNotExcluded(searchCriteria.excludeFilter()),
-                                selectTags.predicate().matchesTerm(searchCriteria.term())
+                        selectTagIds.predicate().and(
+                                selectTagIds.predicate().hasId(tagId.id()),
+                                selectTagIds.predicate().isNotDeleted(),
+                                selectTagIds.predicate().isAccessibleFor(searcher)
                         )
                 )
-                .orderBy(selectTags.sort().ascending("id"))
-                .limit(searchCriteria.pageSize())
-                .execute();
+                .limit(1)
+                .execute()
+                .isEmpty();
+    }
 
+    /**
+     * Requested IDs are queried in chunks, to keep IN lists bounded.
+     */
+    @Override
+    public Set<TagId> accessibleIds(Set<TagId> tagIds, User searcher) {
+        Set<TagId> accessibleTagIds = new HashSet<>();
+        for (List<UUID> chunk : inChunks(tagIds)) {
+            SelectTagIdsQuery selectTagIds = new SelectTagIdsQuery(entityManager);
+            selectTagIds
+                    .where(
+                            selectTagIds.predicate().and(
+                                    selectTagIds.predicate().hasIdIn(chunk),
+                                    selectTagIds.predicate().isAccessibleFor(searcher),
+                                    selectTagIds.predicate().isNotDeleted()
+                            )
+                    )
+                    .execute()
+                    .stream()
+                    .map(UUID::fromString)
+                    .map(TagId::new)
+                    .forEach(accessibleTagIds::add);
+        }
+        return accessibleTagIds;
+    }
+
+    /**
+     * @return requested IDs in sorted chunks of at most {@link #TAG_IDS_PER_QUERY}
+     */
+    private static List<List<UUID>> inChunks(Set<TagId> tagIds) {
+        List<UUID> requestedTagIds = tagIds
+                .stream()
+                .map(TagId::id)
+                .sorted(comparing(UUID::toString))
+                .toList();
+        return partition(requestedTagIds, TAG_IDS_PER_QUERY);
+    }
+
+    private List<TagDto> toTags(List<TagProjection> tagResults, User searcher, Set<TagDetail> details) {
         Set<UUID> foundTagIds = tagResults
                 .stream()
                 .map(TagProjection::id)
                 .map(UUID::fromString)
                 .collect(toUnmodifiableSet());
 
-        SelectShareJoinTagQuery selectShareJoinTag = new SelectShareJoinTagQuery(entityManager);
-        Map<String, List<Share>> sharesByTagId = selectShareJoinTag
-                .where(
-                        selectShareJoinTag.predicate().and(
-                                selectShareJoinTag.predicate().hasTagIdIn(foundTagIds),
-                                selectShareJoinTag.predicate().isAccessibleFor(searchCriteria.searcher())
-                        )
-                )
-                .execute()
-                .stream()
-                .collect(groupingBy(
-                        ShareJoinTagProjection::tagId,
-                        mapping(ShareJoinTagProjection::toShare, toList())
-                ));
+        Map<String, List<Share>> sharesByTagId = details.contains(SHARES) && !foundTagIds.isEmpty()
+                ? findShares(foundTagIds, searcher)
+                : emptyMap();
 
-        SelectMetricJoinTagQuery selectMetricJoinTag = new SelectMetricJoinTagQuery(entityManager);
-        Map<String, List<MetricDto>> metricsByTagId = selectMetricJoinTag
-                .where(
-                        selectMetricJoinTag.predicate().and(
-                                selectMetricJoinTag.predicate().hasTagIdIn(foundTagIds),
-                                selectMetricJoinTag.predicate().isNotDeleted()
-                        )
-                )
-                .execute()
-                .stream()
-                .collect(groupingBy(
-                        MetricJoinTagProjection::tagId,
-                        mapping(MetricJoinTagProjection::toMetric, toList())
-                ));
+        Map<String, List<MetricDto>> metricsByTagId = details.contains(METRICS) && !foundTagIds.isEmpty()
+                ? findMetrics(foundTagIds)
+                : emptyMap();
 
         return tagResults
                 .stream()
@@ -128,30 +209,12 @@ class JpaTagDataSource extends JpaDAO implements TagDataSource {
                 .toList();
     }
 
-    @Override
-    public List<TagDto> find(Set<TagId> tagIds, User searcher) {
-        SelectTagsQuery selectTags = new SelectTagsQuery(entityManager);
-        List<TagProjection> tagResults = selectTags
-                .where(
-                        selectTags.predicate().and(
-                                selectTags.predicate().isAccessibleFor(searcher),
-                                selectTags.predicate().isNotDeleted()
-                        )
-                )
-                .orderBy(selectTags.sort().ascending("id"))
-                .execute();
-
-        Set<UUID> foundTagIds = tagResults
-                .stream()
-                .map(TagProjection::id)
-                .map(UUID::fromString)
-                .collect(toUnmodifiableSet());
-
+    private Map<String, List<Share>> findShares(Set<UUID> tagIds, User searcher) {
         SelectShareJoinTagQuery selectShareJoinTag = new SelectShareJoinTagQuery(entityManager);
-        Map<String, List<Share>> sharesByTagId = selectShareJoinTag
+        return selectShareJoinTag
                 .where(
                         selectShareJoinTag.predicate().and(
-                                selectShareJoinTag.predicate().hasTagIdIn(foundTagIds),
+                                selectShareJoinTag.predicate().hasTagIdIn(tagIds),
                                 selectShareJoinTag.predicate().isAccessibleFor(searcher)
                         )
                 )
@@ -161,12 +224,14 @@ class JpaTagDataSource extends JpaDAO implements TagDataSource {
                         ShareJoinTagProjection::tagId,
                         mapping(ShareJoinTagProjection::toShare, toList())
                 ));
+    }
 
+    private Map<String, List<MetricDto>> findMetrics(Set<UUID> tagIds) {
         SelectMetricJoinTagQuery selectMetricJoinTag = new SelectMetricJoinTagQuery(entityManager);
-        Map<String, List<MetricDto>> metricsByTagId = selectMetricJoinTag
+        return selectMetricJoinTag
                 .where(
                         selectMetricJoinTag.predicate().and(
-                                selectMetricJoinTag.predicate().hasTagIdIn(foundTagIds),
+                                selectMetricJoinTag.predicate().hasTagIdIn(tagIds),
                                 selectMetricJoinTag.predicate().isNotDeleted()
                         )
                 )
@@ -176,13 +241,5 @@ class JpaTagDataSource extends JpaDAO implements TagDataSource {
                         MetricJoinTagProjection::tagId,
                         mapping(MetricJoinTagProjection::toMetric, toList())
                 ));
-
-        return tagResults
-                .stream()
-                .map(tagResult -> tagResult.toTag(
-                        sharesByTagId.getOrDefault(tagResult.id(), emptyList()),
-                        metricsByTagId.getOrDefault(tagResult.id(), emptyList())
-                ))
-                .toList();
     }
 }
@@ -0,0 +1,106 @@
+package ovh.equino.actracker.datasource.jpa.tag;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import ovh.equino.actracker.datasource.jpa.JpaPredicate;
+import ovh.equino.actracker.datasource.jpa.JpaPredicateBuilder;
+import ovh.equino.actracker.datasource.jpa.JpaSortBuilder;
+import ovh.equino.actracker.datasource.jpa.MultiResultJpaQuery;
+import ovh.equino.actracker.domain.user.User;
+import ovh.equino.actracker.jpa.tag.TagEntity;
+import ovh.equino.actracker.jpa.tag.TagEntity_;
+import ovh.equino.actracker.jpa.tag.TagShareEntity;
+import ovh.equino.actracker.jpa.tag.TagShareEntity_;
+
+/**
+ * Selects only IDs of tags, to verify accessibility without loading tags details.
+ */
+final class SelectTagIdsQuery extends MultiResultJpaQuery<TagEntity, String> {
+
+    private final PredicateBuilder predicateBuilder;
+    private final SortBuilder sortBuilder;
+
+    SelectTagIdsQuery(EntityManager entityManager) {
+        super(entityManager);
+        this.predicateBuilder = new PredicateBuilder();
+        this.sortBuilder = new SortBuilder();
+    }
+
+    @Override
+    protected void initProjection() {
+        query.select(root.get(TagEntity_.id));
+    }
+
+    @Override
+    public PredicateBuilder predicate() {
+        return predicateBuilder;
+    }
+
+    @Override
+    public JpaSortBuilder<TagEntity> sort() {
+        return sortBuilder;
+    }
+
+    @Override
+    public SelectTagIdsQuery where(JpaPredicate predicate) {
+        super.where(predicate);
+        return this;
+    }
+
+    @Override
+    protected Class<TagEntity> getRootEntityType() {
+        return TagEntity.class;
+    }
+
+    @Override
+    protected Class<String> getProjectionType() {
+        return String.class;
+    }
+
+    public final class PredicateBuilder extends JpaPredicateBuilder<TagEntity> {
+        private PredicateBuilder() {
+            super(criteriaBuilder, root);
+        }
+
+        public JpaPredicate isNotDeleted() {
+            return () -> criteriaBuilder.isFalse(root.get(TagEntity_.deleted));
+        }
+
+        public JpaPredicate isAccessibleFor(User searcher) {
+            return or(
+                    isOwner(searcher),
+                    isGrantee(searcher)
+            );
+        }
+
+        private JpaPredicate isOwner(User searcher) {
+            return () -> criteriaBuilder.equal(
+                    root.get(TagEntity_.creatorId),
+                    searcher.id().toString()
+            );
+        }
+
+        /**
+         * Correlated with the selected tag, so that no join multiplies selected rows.
+         */
+        private JpaPredicate isGrantee(User user) {
+            Subquery<Long> subQuery = query.subquery(Long.class);
+            Root<TagShareEntity> share = subQuery.from(TagShareEntity.class);
+            subQuery.select(criteriaBuilder.literal(1L))
+                    .where(
+                            criteriaBuilder.and(
+                                    criteriaBuilder.equal(share.get(TagShareEntity_.tag), root),
+                                    criteriaBuilder.equal(share.get(TagShareEntity_.granteeId), user.id().toString())
+                            )
+                    );
+            return () -> criteriaBuilder.exists(subQuery);
+        }
+    }
+
+    public final class SortBuilder extends JpaSortBuilder<TagEntity> {
+        private SortBuilder() {
+            super(criteriaBuilder, root);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package ovh.equino.actracker.datasource.jpa.tagset;
 
 import jakarta.persistence.EntityManager;
+import ovh.equino.actracker.datasource.jpa.JpaKeyset;
+import ovh.equino.actracker.datasource.jpa.KeysetPageQuery;
 import ovh.equino.actracker.domain.EntitySearchCriteria;
 import ovh.equino.actracker.domain.tagset.TagSetDataSource;
 import ovh.equino.actracker.domain.tagset.TagSetDto;
@@ -54,21 +56,37 @@ class JpaTagSetDataSource extends JpaDAO implements TagSetDataSource {
     }
 
     @Override
-    public List<TagSetDto> find(EntitySearchCriteria searchCriteria) {
+    public boolean exists(TagSetId tagSetId, User searcher) {
 
-        SelectTagSetsQuery selectTagSets = new SelectTagSetsQuery(entityManager);
-        List<TagSetProjection> tagSetResults = selectTagSets
+        SelectTagSetIdsQuery selectTagSetIds = new SelectTagSetIdsQuery(entityManager);
+        return !selectTagSetIds
                 .where(
-                        selectTagSets.predicate().and(
-                                selectTagSets.predicate().isAccessibleFor(searchCriteria.searcher()),
-                                selectTagSets.predicate().isNotDeleted(),
-                                selectTagSets.predicate().isInPage(searchCriteria.pageId()),
-                                selectTagSets.predicate().isNotExcluded(searchCriteria.excludeFilter())
+                        selectTagSetIds.predicate().and(
+                                selectTagSetIds.predicate().hasId(tagSetId.id()),
+                                selectTagSetIds.predicate().isNotDeleted(),
+                                selectTagSetIds.predicate().isAccessibleFor(searcher)
                         )
                 )
-                .orderBy(selectTagSets.sort().ascending("id"))
-                .limit(searchCriteria.pageSize())
-                .execute();
+                .limit(1)
+                .execute()
+                .isEmpty();
+    }
+
+    @Override
+    public List<TagSetDto> find(EntitySearchCriteria searchCriteria) {
+
+        KeysetPageQuery<SelectTagSetsQuery, TagSetProjection> selectTagSets = new KeysetPageQuery<>(
+                () -> new SelectTagSetsQuery(entityManager),
+                query -> query.predicate().and(
+                        query.predicate().isAccessibleFor(searchCriteria.searcher()),
+                        query.predicate().isNotDeleted(),
+                        query.predicate().isNotExcluded(searchCriteria.excludeFilter())
+                )
+        );
+        List<TagSetProjection> tagSetResults = selectTagSets.execute(
+                JpaKeyset.of(searchCriteria),
+                searchCriteria.pageSize()
+        );
 
         Set<UUID> foundTagSetIds = tagSetResults
                 .stream()
@@ -0,0 +1,83 @@
+package ovh.equino.actracker.datasource.jpa.tagset;
+
+import jakarta.persistence.EntityManager;
+import ovh.equino.actracker.datasource.jpa.JpaPredicate;
+import ovh.equino.actracker.datasource.jpa.JpaPredicateBuilder;
+import ovh.equino.actracker.datasource.jpa.JpaSortBuilder;
+import ovh.equino.actracker.datasource.jpa.MultiResultJpaQuery;
+import ovh.equino.actracker.domain.user.User;
+import ovh.equino.actracker.jpa.tagset.TagSetEntity;
+import ovh.equino.actracker.jpa.tagset.TagSetEntity_;
+
+/**
+ * Selects only IDs of tag sets, to verify accessibility without loading tag sets details.
+ */
+final class SelectTagSetIdsQuery extends MultiResultJpaQuery<TagSetEntity, String> {
+
+    private final PredicateBuilder predicateBuilder;
+    private final SortBuilder sortBuilder;
+
+    SelectTagSetIdsQuery(EntityManager entityManager) {
+        super(entityManager);
+        this.predicateBuilder = new PredicateBuilder();
+        this.sortBuilder = new SortBuilder();
+    }
+
+    @Override
+    protected void initProjection() {
+        query.select(root.get(TagSetEntity_.id));
+    }
+
+    @Override
+    public PredicateBuilder predicate() {
+        return predicateBuilder;
+    }
+
+    @Override
+    public JpaSortBuilder<TagSetEntity> sort() {
+        return sortBuilder;
+    }
+
+    @Override
+    public SelectTagSetIdsQuery where(JpaPredicate predicate) {
+        super.where(predicate);
+        return this;
+    }
+
+    @Override
+    protected Class<TagSetEntity> getRootEntityType() {
+        return TagSetEntity.class;
+    }
+
+    @Override
+    protected Class<String> getProjectionType() {
+        return String.class;
+    }
+
+    public class PredicateBuilder extends JpaPredicateBuilder<TagSetEntity> {
+        private PredicateBuilder() {
+            super(criteriaBuilder, root);
+        }
+
+        public JpaPredicate isNotDeleted() {
+            return () -> criteriaBuilder.isFalse(root.get(TagSetEntity_.deleted));
+        }
+
+        public JpaPredicate isAccessibleFor(User searcher) {
+            return isOwner(searcher);
+        }
+
+        private JpaPredicate isOwner(User searcher) {
+            return () -> criteriaBuilder.equal(
+                    root.get(TagSetEntity_.creatorId),
+                    searcher.id().toString()
+            );
+        }
+    }
+
+    public class SortBuilder extends JpaSortBuilder<TagSetEntity> {
+        private SortBuilder() {
+            super(criteriaBuilder, root);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import ovh.equino.actracker.jpa.IntegrationTestH2DataBase;
+import ovh.equino.actracker.jpa.IntegrationTestRelationalDataBase;
+
+class H2JpaDashboardGenerationEngineIntegrationTest extends JpaDashboardGenerationEngineIntegrationTest {
+    @Override
+    protected IntegrationTestRelationalDataBase database() {
+        return IntegrationTestH2DataBase.INSTANCE;
+    }
+}
@@ -4,12 +4,21 @@ import org.h2.jdbcx.JdbcDataSource;
 
 import java.sql.Connection;
 import java.sql.PreparedStatement;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
 
 public final class IntegrationTestH2DataBase extends IntegrationTestRelationalDataBase {
 
     public static final IntegrationTestH2DataBase INSTANCE = new IntegrationTestH2DataBase();
 
+    // Scans with a condition known to be false, shown as "tableScan: FALSE", read no rows
+    private static final Pattern TABLE_SCAN = Pattern.compile("/\\* PUBLIC\\.(\\w+)\\.tableScan \\*/");
+
     private final JdbcDataSource dataSource;
 
     private IntegrationTestH2DataBase() {
@@ -29,6 +38,21 @@ public final class IntegrationTestH2DataBase extends IntegrationTestRelationalDa
         return dataSource.getConnection();
     }
 
+    @Override
+    public QueryPlan explain(String sql) throws SQLException {
+        try (Connection connection = getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("explain " + sql)) {
+            resultSet.next();
+            String plan = resultSet.getString(1);
+            Set<String> scannedTables = TABLE_SCAN.matcher(plan)
+                    .results()
+                    .map(tableScan -> tableScan.group(1).toLowerCase())
+                    .collect(toUnmodifiableSet());
+            return new QueryPlan(sql, plan, scannedTables);
+        }
+    }
+
     @Override
     public String jdbcUrl() {
         return "jdbc:h2:mem:test";
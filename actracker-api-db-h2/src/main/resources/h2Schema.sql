@@ -16,6 +16,9 @@ CREATE TABLE activity (
     PRIMARY KEY (id)
 );
 
+CREATE INDEX activity_start_time_id_idx ON activity (start_time, id);
+CREATE INDEX activity_creator_start_time_idx ON activity (creator_id, start_time);
+
 CREATE TABLE tag (
     id VARCHAR(36) UNIQUE NOT NULL,
     creator_id VARCHAR(36) NOT NULL,
@@ -24,12 +27,17 @@ CREATE TABLE tag (
     PRIMARY KEY (id)
 );
 
+CREATE INDEX tag_name_id_idx ON tag (name, id);
+CREATE INDEX tag_creator_idx ON tag (creator_id);
+
 CREATE TABLE activity_tag (
     activity_id VARCHAR(36) NOT NULL,
     tag_id VARCHAR(36) NOT NULL,
     PRIMARY KEY (activity_id, tag_id)
 );
 
+CREATE INDEX activity_tag_tag_activity_idx ON activity_tag (tag_id, activity_id);
+
 CREATE TABLE tag_set (
     id VARCHAR(36) UNIQUE NOT NULL,
     creator_id VARCHAR(36) NOT NULL,
@@ -38,12 +46,16 @@ CREATE TABLE tag_set (
     PRIMARY KEY (id)
 );
 
+CREATE INDEX tag_set_creator_idx ON tag_set (creator_id);
+
 CREATE TABLE tag_set_tag (
     tag_set_id VARCHAR(36) NOT NULL,
     tag_id VARCHAR(36) NOT NULL,
     PRIMARY KEY (tag_set_id, tag_id)
 );
 
+CREATE INDEX tag_set_tag_tag_idx ON tag_set_tag (tag_id);
+
 CREATE TABLE dashboard (
     id VARCHAR(36) UNIQUE NOT NULL,
     creator_id VARCHAR(36) NOT NULL,
@@ -52,6 +64,8 @@ CREATE TABLE dashboard (
     PRIMARY KEY (id)
 );
 
+CREATE INDEX dashboard_creator_idx ON dashboard (creator_id);
+
 CREATE TABLE chart (
     id VARCHAR(36) UNIQUE NOT NULL,
     dashboard_id VARCHAR(36) NOT NULL,
@@ -62,12 +76,16 @@ CREATE TABLE chart (
     PRIMARY KEY (id)
 );
 
+CREATE INDEX chart_dashboard_idx ON chart (dashboard_id);
+
 CREATE TABLE chart_tag (
     chart_id VARCHAR(36) NOT NULL,
     tag_id VARCHAR(36) NOT NULL,
     PRIMARY KEY (chart_id, tag_id)
 );
 
+CREATE INDEX chart_tag_tag_idx ON chart_tag (tag_id);
+
 CREATE TABLE metric (
     id VARCHAR(36) UNIQUE NOT NULL,
     creator_id VARCHAR(36) NOT NULL,
@@ -78,6 +96,8 @@ CREATE TABLE metric (
     PRIMARY KEY (id)
 );
 
+CREATE INDEX metric_tag_idx ON metric (tag_id);
+
 CREATE TABLE metric_value (
     id VARCHAR(36) UNIQUE NOT NULL,
     activity_id VARCHAR(36) NOT NULL,
@@ -85,6 +105,8 @@ CREATE TABLE metric_value (
     metric_value NUMERIC(12, 3) -- Max 999_999_999.999
 );
 
+CREATE INDEX metric_value_activity_idx ON metric_value (activity_id);
+
 CREATE TABLE dashboard_share (
     id VARCHAR(36) UNIQUE NOT NULL,
     dashboard_id VARCHAR(36) NOT NULL,
@@ -93,6 +115,9 @@ CREATE TABLE dashboard_share (
     PRIMARY KEY (id)
 );
 
+CREATE INDEX dashboard_share_dashboard_idx ON dashboard_share (dashboard_id);
+CREATE INDEX dashboard_share_grantee_idx ON dashboard_share (grantee_id);
+
 CREATE TABLE tag_share (
     id VARCHAR(36) UNIQUE NOT NULL,
     tag_id VARCHAR(36) NOT NULL,
@@ -101,13 +126,45 @@ CREATE TABLE tag_share (
     PRIMARY KEY (id)
 );
 
+CREATE INDEX tag_share_tag_idx ON tag_share (tag_id);
+CREATE INDEX tag_share_grantee_idx ON tag_share (grantee_id);
+
+CREATE TABLE daily_rollup_activity (
+    activity_id VARCHAR(36) NOT NULL,
+    user_id VARCHAR(36) NOT NULL,
+    rollup_day DATE NOT NULL,
+    PRIMARY KEY (activity_id)
+);
+
+CREATE INDEX daily_rollup_activity_user_day_idx ON daily_rollup_activity (user_id, rollup_day);
+
+CREATE TABLE tag_duration_daily (
+    user_id VARCHAR(36) NOT NULL,
+    tag_id VARCHAR(36) NOT NULL,
+    rollup_day DATE NOT NULL,
+    duration_seconds NUMERIC(18, 6) NOT NULL,
+    PRIMARY KEY (user_id, rollup_day, tag_id)
+);
+
+CREATE TABLE metric_value_daily (
+    user_id VARCHAR(36) NOT NULL,
+    metric_id VARCHAR(36) NOT NULL,
+    rollup_day DATE NOT NULL,
+    value_sum NUMERIC(18, 3) NOT NULL,
+    value_count BIGINT NOT NULL,
+    PRIMARY KEY (user_id, rollup_day, metric_id)
+);
+
 CREATE SEQUENCE outbox_notification_version_seq INCREMENT BY 1;
 
 CREATE TABLE outbox_notification (
     id VARCHAR(36) UNIQUE NOT NULL,
     version INTEGER NOT NULL,   -- Must be declared as 2nd column, outbox_notification_created_trg relies on it
     entity TEXT,
-    entity_type TEXT NOT NULL
+    entity_type TEXT NOT NULL,     -- Code of NotificationType, or class name of other types
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL
 );
 
+CREATE INDEX outbox_notification_version_idx ON outbox_notification (version);
+
 CREATE TRIGGER outbox_notification_created_trg BEFORE INSERT, UPDATE ON outbox_notification FOR EACH ROW CALL "ovh.equino.actracker.db.h2.OutboxNotificationTrigger";
\ No newline at end of file
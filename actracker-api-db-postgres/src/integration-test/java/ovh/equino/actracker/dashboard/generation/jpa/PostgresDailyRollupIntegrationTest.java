@@ -0,0 +1,12 @@
+package ovh.equino.actracker.dashboard.generation.jpa;
+
+import ovh.equino.actracker.jpa.IntegrationTestPostgresDataBase;
+import ovh.equino.actracker.jpa.IntegrationTestRelationalDataBase;
+
+class PostgresDailyRollupIntegrationTest extends DailyRollupIntegrationTest {
+    @Override
+    public IntegrationTestRelationalDataBase database() {
+        return IntegrationTestPostgresDataBase.INSTANCE;
+    }
+
+}
@@ -5,12 +5,20 @@ import ovh.equino.actracker.postgres.SchemaMigrator;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
 
 public final class IntegrationTestPostgresDataBase extends IntegrationTestRelationalDataBase {
 
     public static final IntegrationTestPostgresDataBase INSTANCE = new IntegrationTestPostgresDataBase();
 
+    private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (\\w+)");
+
     private final PostgreSQLContainer<?> container;
 
     private final String jdbcUrl;
@@ -33,6 +41,27 @@ public final class IntegrationTestPostgresDataBase extends IntegrationTestRelati
         return DriverManager.getConnection(jdbcUrl, username, password);
     }
 
+    /**
+     * Sequential scans are disabled for the explained statement, so the plan contains one only when no index is usable.
+     */
+    @Override
+    public QueryPlan explain(String sql) throws SQLException {
+        try (Connection connection = getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("set enable_seqscan = off");
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery("explain " + sql)) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1)).append(System.lineSeparator());
+                }
+            }
+            Set<String> scannedTables = SEQ_SCAN.matcher(plan)
+                    .results()
+                    .map(seqScan -> seqScan.group(1).toLowerCase())
+                    .collect(toUnmodifiableSet());
+            return new QueryPlan(sql, plan.toString(), scannedTables);
+        }
+    }
+
     @Override
     public String jdbcUrl() {
         return jdbcUrl;
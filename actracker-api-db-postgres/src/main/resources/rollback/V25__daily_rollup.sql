@@ -0,0 +1,5 @@
+DROP TABLE IF EXISTS metric_value_daily;
+DROP TABLE IF EXISTS tag_duration_daily;
+DROP TABLE IF EXISTS daily_rollup_activity;
+
+DELETE FROM flyway_schema_history WHERE version='25';
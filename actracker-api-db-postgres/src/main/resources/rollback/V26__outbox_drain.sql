@@ -0,0 +1,4 @@
+DROP INDEX IF EXISTS outbox_notification_version_idx;
+ALTER TABLE outbox_notification DROP COLUMN IF EXISTS created_at;
+
+DELETE FROM flyway_schema_history WHERE version='26';
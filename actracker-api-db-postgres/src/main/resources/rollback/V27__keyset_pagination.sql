@@ -0,0 +1,4 @@
+DROP INDEX IF EXISTS tag_name_id_idx;
+DROP INDEX IF EXISTS activity_start_time_id_idx;
+
+DELETE FROM flyway_schema_history WHERE version='27';
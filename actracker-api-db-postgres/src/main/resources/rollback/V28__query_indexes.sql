@@ -0,0 +1,16 @@
+DROP INDEX IF EXISTS chart_tag_tag_idx;
+DROP INDEX IF EXISTS chart_dashboard_idx;
+DROP INDEX IF EXISTS dashboard_share_grantee_idx;
+DROP INDEX IF EXISTS dashboard_share_dashboard_idx;
+DROP INDEX IF EXISTS dashboard_creator_idx;
+DROP INDEX IF EXISTS tag_set_tag_tag_idx;
+DROP INDEX IF EXISTS tag_set_creator_idx;
+DROP INDEX IF EXISTS metric_tag_idx;
+DROP INDEX IF EXISTS tag_share_grantee_idx;
+DROP INDEX IF EXISTS tag_share_tag_idx;
+DROP INDEX IF EXISTS tag_creator_idx;
+DROP INDEX IF EXISTS metric_value_activity_idx;
+DROP INDEX IF EXISTS activity_tag_tag_activity_idx;
+DROP INDEX IF EXISTS activity_creator_start_time_idx;
+
+DELETE FROM flyway_schema_history WHERE version='28';
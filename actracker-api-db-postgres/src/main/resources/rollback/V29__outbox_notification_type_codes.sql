@@ -0,0 +1,10 @@
+UPDATE outbox_notification
+SET entity_type = CASE entity_type
+    WHEN 'activity' THEN 'ovh.equino.actracker.domain.activity.ActivityChangedNotification'
+    WHEN 'tag' THEN 'ovh.equino.actracker.domain.tag.TagChangedNotification'
+    WHEN 'tagSet' THEN 'ovh.equino.actracker.domain.tagset.TagSetChangedNotification'
+    WHEN 'dashboard' THEN 'ovh.equino.actracker.domain.dashboard.DashboardChangedNotification'
+END
+WHERE entity_type IN ('activity', 'tag', 'tagSet', 'dashboard');
+
+DELETE FROM flyway_schema_history WHERE version='29';
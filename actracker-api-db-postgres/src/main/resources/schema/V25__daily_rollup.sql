@@ -0,0 +1,25 @@
+CREATE TABLE IF NOT EXISTS daily_rollup_activity (
+    activity_id         VARCHAR(36)     NOT NULL        ,
+    user_id             VARCHAR(36)     NOT NULL        ,
+    rollup_day          DATE            NOT NULL        ,
+    PRIMARY KEY (activity_id)
+);
+
+CREATE INDEX IF NOT EXISTS daily_rollup_activity_user_day_idx ON daily_rollup_activity (user_id, rollup_day);
+
+CREATE TABLE IF NOT EXISTS tag_duration_daily (
+    user_id             VARCHAR(36)     NOT NULL        ,
+    tag_id              VARCHAR(36)     NOT NULL        ,
+    rollup_day          DATE            NOT NULL        ,
+    duration_seconds    NUMERIC(18, 6)  NOT NULL        ,
+    PRIMARY KEY (user_id, rollup_day, tag_id)
+);
+
+CREATE TABLE IF NOT EXISTS metric_value_daily (
+    user_id             VARCHAR(36)     NOT NULL        ,
+    metric_id           VARCHAR(36)     NOT NULL        ,
+    rollup_day          DATE            NOT NULL        ,
+    value_sum           NUMERIC(18, 3)  NOT NULL        ,
+    value_count         BIGINT          NOT NULL        ,
+    PRIMARY KEY (user_id, rollup_day, metric_id)
+);
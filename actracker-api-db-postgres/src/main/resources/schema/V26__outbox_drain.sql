@@ -0,0 +1,3 @@
+ALTER TABLE outbox_notification ADD COLUMN IF NOT EXISTS created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP;
+
+CREATE INDEX IF NOT EXISTS outbox_notification_version_idx ON outbox_notification (version);
@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS activity_start_time_id_idx ON activity (start_time, id);
+
+CREATE INDEX IF NOT EXISTS tag_name_id_idx ON tag (name, id);
@@ -0,0 +1,18 @@
+-- Predicates of the searches are written as NOT deleted, partial indexes repeat them verbatim to be matched
+CREATE INDEX IF NOT EXISTS activity_creator_start_time_idx ON activity (creator_id, start_time) WHERE NOT deleted;
+CREATE INDEX IF NOT EXISTS activity_tag_tag_activity_idx ON activity_tag (tag_id, activity_id);
+CREATE INDEX IF NOT EXISTS metric_value_activity_idx ON metric_value (activity_id);
+
+CREATE INDEX IF NOT EXISTS tag_creator_idx ON tag (creator_id) WHERE NOT deleted;
+CREATE INDEX IF NOT EXISTS tag_share_tag_idx ON tag_share (tag_id);
+CREATE INDEX IF NOT EXISTS tag_share_grantee_idx ON tag_share (grantee_id);
+CREATE INDEX IF NOT EXISTS metric_tag_idx ON metric (tag_id);
+
+CREATE INDEX IF NOT EXISTS tag_set_creator_idx ON tag_set (creator_id) WHERE NOT deleted;
+CREATE INDEX IF NOT EXISTS tag_set_tag_tag_idx ON tag_set_tag (tag_id);
+
+CREATE INDEX IF NOT EXISTS dashboard_creator_idx ON dashboard (creator_id) WHERE NOT deleted;
+CREATE INDEX IF NOT EXISTS dashboard_share_dashboard_idx ON dashboard_share (dashboard_id);
+CREATE INDEX IF NOT EXISTS dashboard_share_grantee_idx ON dashboard_share (grantee_id);
+CREATE INDEX IF NOT EXISTS chart_dashboard_idx ON chart (dashboard_id);
+CREATE INDEX IF NOT EXISTS chart_tag_tag_idx ON chart_tag (tag_id);
@@ -0,0 +1,14 @@
+-- Notification types are stored as codes of ovh.equino.actracker.domain.NotificationType instead of class names
+UPDATE outbox_notification
+SET entity_type = CASE entity_type
+    WHEN 'ovh.equino.actracker.domain.activity.ActivityChangedNotification' THEN 'activity'
+    WHEN 'ovh.equino.actracker.domain.tag.TagChangedNotification' THEN 'tag'
+    WHEN 'ovh.equino.actracker.domain.tagset.TagSetChangedNotification' THEN 'tagSet'
+    WHEN 'ovh.equino.actracker.domain.dashboard.DashboardChangedNotification' THEN 'dashboard'
+END
+WHERE entity_type IN (
+    'ovh.equino.actracker.domain.activity.ActivityChangedNotification',
+    'ovh.equino.actracker.domain.tag.TagChangedNotification',
+    'ovh.equino.actracker.domain.tagset.TagSetChangedNotification',
+    'ovh.equino.actracker.domain.dashboard.DashboardChangedNotification'
+);
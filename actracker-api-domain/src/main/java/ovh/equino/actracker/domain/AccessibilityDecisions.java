@@ -0,0 +1,47 @@
+package ovh.equino.actracker.domain;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Accessibility decisions remembered within a scope bound to the current thread, e.g. a single application service
+ * call. Outside an open scope nothing is remembered.
+ */
+public final class AccessibilityDecisions {
+
+    private final ThreadLocal<Map<Object, Boolean>> decisions = new ThreadLocal<>();
+
+    /**
+     * Opens the scope, unless it's already open for the current thread. Nested scopes share decisions with the
+     * outermost one, which forgets them on close.
+     */
+    public Scope open() {
+        if (decisions.get() != null) {
+            return () -> {
+            };
+        }
+        decisions.set(new HashMap<>());
+        return decisions::remove;
+    }
+
+    Optional<Boolean> find(Object decision) {
+        Map<Object, Boolean> scopedDecisions = decisions.get();
+        return scopedDecisions == null
+                ? Optional.empty()
+                : Optional.ofNullable(scopedDecisions.get(decision));
+    }
+
+    void remember(Object decision, boolean accessible) {
+        Map<Object, Boolean> scopedDecisions = decisions.get();
+        if (scopedDecisions != null) {
+            scopedDecisions.put(decision, accessible);
+        }
+    }
+
+    public interface Scope extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+}
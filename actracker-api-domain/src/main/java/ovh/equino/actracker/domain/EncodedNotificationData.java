@@ -0,0 +1,14 @@
+package ovh.equino.actracker.domain;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Data of a notification left in JSON, as stored in the outbox, so that it is published without being decoded and
+ * encoded again. See {@link Notification#decoded()} for the decoded data.
+ */
+public record EncodedNotificationData(String json) {
+
+    public EncodedNotificationData {
+        requireNonNull(json);
+    }
+}
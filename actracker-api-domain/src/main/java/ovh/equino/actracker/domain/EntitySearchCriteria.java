@@ -20,7 +20,8 @@ public record EntitySearchCriteria(
         Instant timeRangeStart,
         Instant timeRangeEnd,
         Set<UUID> excludeFilter,
-        Set<UUID> tags
+        Set<UUID> tags,
+        EntitySortCriteria sortCriteria
 
 ) {
 
@@ -34,5 +35,18 @@ public record EntitySearchCriteria(
         pageId = requireNonNullElse(pageId, DEFAULT_PAGE_ID);
         term = requireNonNullElse(term, DEFAULT_TERM);
         tags = requireNonNullElse(tags, emptySet());
+        sortCriteria = requireNonNullElse(sortCriteria, irrelevant());
+    }
+
+    public EntitySearchCriteria(User searcher,
+                                Integer pageSize,
+                                String pageId,
+                                String term,
+                                Instant timeRangeStart,
+                                Instant timeRangeEnd,
+                                Set<UUID> excludeFilter,
+                                Set<UUID> tags) {
+
+        this(searcher, pageSize, pageId, term, timeRangeStart, timeRangeEnd, excludeFilter, tags, irrelevant());
     }
 }
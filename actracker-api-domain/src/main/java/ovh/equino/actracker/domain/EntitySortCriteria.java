@@ -9,7 +9,10 @@ import static java.util.Objects.requireNonNullElse;
 import static ovh.equino.actracker.domain.EntitySortCriteria.CommonSortField.ID;
 import static ovh.equino.actracker.domain.EntitySortCriteria.Order.ASC;
 
-// TODO remove after removing JpaQueryBuilder
+/**
+ * Order of searched entities. The last level is always ascending ID, so that the order is total and pages can continue
+ * after the sort key of the last entity.
+ */
 public record EntitySortCriteria(
         Deque<Level> levels
 ) {
@@ -0,0 +1,78 @@
+package ovh.equino.actracker.domain;
+
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import static java.util.Collections.unmodifiableSet;
+
+/**
+ * Accessibility decisions of a single verifier, remembered in {@link AccessibilityDecisions}. Decisions are keyed with
+ * values unique to the verifier, e.g. records holding the user and the verified entity ID.
+ */
+public final class MemoizedAccessibility {
+
+    private final AccessibilityDecisions decisions;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public MemoizedAccessibility(AccessibilityDecisions decisions) {
+        this.decisions = decisions;
+    }
+
+    public boolean isAccessible(Object decision, BooleanSupplier verification) {
+        Optional<Boolean> rememberedDecision = decisions.find(decision);
+        if (rememberedDecision.isPresent()) {
+            hits.increment();
+            return rememberedDecision.get();
+        }
+        misses.increment();
+        boolean accessible = verification.getAsBoolean();
+        decisions.remember(decision, accessible);
+        return accessible;
+    }
+
+    /**
+     * Verifies in a single call only the entities without remembered decision.
+     *
+     * @param decisionOf        key of the decision about the entity
+     * @param nonAccessibleOf   verification returning non accessible entities among the given ones
+     * @return non accessible entities
+     */
+    public <ID> Set<ID> nonAccessible(Collection<ID> entities,
+                                      Function<ID, Object> decisionOf,
+                                      Function<Collection<ID>, Set<ID>> nonAccessibleOf) {
+
+        Set<ID> nonAccessible = new HashSet<>();
+        List<ID> unknown = new ArrayList<>();
+        for (ID entity : entities) {
+            Optional<Boolean> rememberedDecision = decisions.find(decisionOf.apply(entity));
+            if (rememberedDecision.isEmpty()) {
+                unknown.add(entity);
+            } else if (!rememberedDecision.get()) {
+                nonAccessible.add(entity);
+            }
+        }
+        hits.add(entities.size() - unknown.size());
+        if (unknown.isEmpty()) {
+            return unmodifiableSet(nonAccessible);
+        }
+
+        misses.add(unknown.size());
+        Set<ID> verifiedNonAccessible = nonAccessibleOf.apply(unknown);
+        for (ID entity : unknown) {
+            decisions.remember(decisionOf.apply(entity), !verifiedNonAccessible.contains(entity));
+        }
+        nonAccessible.addAll(verifiedNonAccessible);
+        return unmodifiableSet(nonAccessible);
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+}
@@ -1,14 +1,9 @@
 package ovh.equino.actracker.domain;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JavaType;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import ovh.equino.actracker.domain.exception.ParseException;
 
 import java.util.UUID;
 
-import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
 import static java.util.Objects.requireNonNull;
 
 public record Notification<T>(
@@ -33,50 +28,33 @@ public record Notification<T>(
     }
 
     public String toJson() throws ParseException {
-        try {
-            return objectMapper().writeValueAsString(this);
-        } catch (JsonProcessingException e) {
-            throw new ParseException(e);
-        }
+        return NotificationCodec.encode(this);
     }
 
-    public String toJsonData() throws ParseException {
-        try {
-            return objectMapper().writeValueAsString(data);
-        } catch (JsonProcessingException e) {
-            throw new ParseException(e);
-        }
+    public byte[] toJsonBytes() throws ParseException {
+        return NotificationCodec.encodeBytes(this);
     }
 
-    public static Notification<?> fromJson(String json) throws ParseException {
-        try {
-            JavaType notificationType = getNotificationType(json);
-            return objectMapper().readValue(json, notificationType);
-        } catch (JsonProcessingException e) {
-            throw new ParseException(e);
-        }
+    public String toJsonData() throws ParseException {
+        return NotificationCodec.encodeData(data);
     }
 
-    public static <T> T fromJsonData(String json, Class<T> notificationType) throws ParseException {
-        try {
-            return objectMapper().readValue(json, notificationType);
-        } catch (JsonProcessingException e) {
-            throw new ParseException(e);
+    /**
+     * @return notification with {@link EncodedNotificationData encoded data} decoded to its type, this one otherwise
+     */
+    public Notification<?> decoded() throws ParseException {
+        if (data instanceof EncodedNotificationData encodedData) {
+            Object decodedData = NotificationCodec.decodeData(encodedData.json(), notificationType);
+            return new Notification<>(id, version, decodedData, notificationType);
         }
+        return this;
     }
 
-    private static JavaType getNotificationType(String rawMessage) throws JsonProcessingException {
-        Notification<?> notification = objectMapper().readValue(rawMessage, Notification.class);
-        return objectMapper().getTypeFactory().constructParametricType(
-                Notification.class,
-                notification.notificationType()
-        );
+    public static Notification<?> fromJson(String json) throws ParseException {
+        return NotificationCodec.decode(json);
     }
 
-    private static ObjectMapper objectMapper() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.configure(FAIL_ON_UNKNOWN_PROPERTIES, false);
-        return objectMapper;
+    public static <T> T fromJsonData(String json, Class<T> notificationType) throws ParseException {
+        return NotificationCodec.decodeData(json, notificationType);
     }
 }
@@ -0,0 +1,217 @@
+package ovh.equino.actracker.domain;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.*;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import ovh.equino.actracker.domain.exception.ParseException;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.fasterxml.jackson.core.JsonToken.FIELD_NAME;
+import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
+import static com.fasterxml.jackson.databind.DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * JSON encoding of {@link Notification notifications} and their data, with a single mapper shared by all threads.
+ * Readers and writers of each notification type are created once, those of {@link NotificationType known types} when
+ * the class is loaded. {@link EncodedNotificationData Encoded data} is written as it is.
+ * <p>
+ * Notifications are published in UTF-8 as {@code {"id":...,"version":...,"data":...,"notificationType":...}}, with
+ * fields in the order of {@link Notification} components and the type written as its class name.
+ */
+public final class NotificationCodec {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .registerModule(new SimpleModule().addSerializer(new EncodedNotificationDataSerializer()))
+            .configure(FAIL_ON_UNKNOWN_PROPERTIES, false);
+    private static final ObjectWriter NOTIFICATION_WRITER = OBJECT_MAPPER.writerFor(Notification.class);
+
+    private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, ObjectWriter> WRITERS = new ConcurrentHashMap<>();
+    private static final Map<String, Class<?>> UNKNOWN_TYPES_BY_NAME = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, byte[]> ENVELOPE_ENDINGS = new ConcurrentHashMap<>();
+
+    static {
+        for (NotificationType notificationType : NotificationType.values()) {
+            readerFor(notificationType.dataType());
+            writerFor(notificationType.dataType());
+        }
+    }
+
+    private NotificationCodec() {
+    }
+
+    public static String encode(Notification<?> notification) throws ParseException {
+        try {
+            return NOTIFICATION_WRITER.writeValueAsString(notification);
+        } catch (JsonProcessingException e) {
+            throw new ParseException(e);
+        }
+    }
+
+    /**
+     * Envelope of a notification with {@link EncodedNotificationData encoded data} is put together around the bytes
+     * of the data, without parsing the data nor generating the envelope with the mapper. The bytes are the same as
+     * generated by the mapper for the decoded notification.
+     */
+    public static byte[] encodeBytes(Notification<?> notification) throws ParseException {
+        if (notification.data() instanceof EncodedNotificationData encodedData) {
+            return envelope(notification, encodedData);
+        }
+        try {
+            return NOTIFICATION_WRITER.writeValueAsBytes(notification);
+        } catch (JsonProcessingException e) {
+            throw new ParseException(e);
+        }
+    }
+
+    public static String encodeData(Object data) throws ParseException {
+        if (data instanceof EncodedNotificationData encodedData) {
+            return encodedData.json();
+        }
+        try {
+            return writerFor(data.getClass()).writeValueAsString(data);
+        } catch (JsonProcessingException e) {
+            throw new ParseException(e);
+        }
+    }
+
+    /**
+     * Parses the notification once. Data, written before its type, is buffered as tokens and bound to the type once
+     * the whole notification is read.
+     */
+    public static Notification<?> decode(String json) throws ParseException {
+        try (JsonParser parser = OBJECT_MAPPER.createParser(json)) {
+            if (parser.nextToken() != START_OBJECT) {
+                throw new JsonParseException(parser, "Notification must be a JSON object");
+            }
+            String id = null;
+            long version = 0L;
+            TokenBuffer data = null;
+            String typeName = null;
+            while (parser.nextToken() == FIELD_NAME) {
+                String fieldName = parser.currentName();
+                parser.nextToken();
+                switch (fieldName) {
+                    case "id" -> id = parser.getValueAsString();
+                    case "version" -> version = parser.getValueAsLong();
+                    case "data" -> data = bufferedValue(parser);
+                    case "notificationType" -> typeName = parser.getValueAsString();
+                    default -> parser.skipChildren();
+                }
+            }
+            if (id == null || data == null || typeName == null) {
+                throw new JsonParseException(parser, "Notification must have id, data and notificationType");
+            }
+            Class<?> notificationType = dataTypeNamed(typeName);
+            Object deserializedData = readerFor(notificationType).readValue(data.asParser());
+            return new Notification<>(UUID.fromString(id), version, deserializedData, notificationType);
+        } catch (IOException | IllegalArgumentException | ClassNotFoundException e) {
+            throw new ParseException(e);
+        }
+    }
+
+    public static <T> T decodeData(String json, Class<T> notificationType) throws ParseException {
+        try {
+            return readerFor(notificationType).readValue(json);
+        } catch (JsonProcessingException e) {
+            throw new ParseException(e);
+        }
+    }
+
+    /**
+     * @return code of a known notification type, or the name of any other type
+     */
+    public static String typeCode(Class<?> notificationType) {
+        return NotificationType.ofDataType(notificationType)
+                .map(NotificationType::code)
+                .orElse(notificationType.getName());
+    }
+
+    /**
+     * @param typeCode code of a known notification type, or the name of any type, also of known types stored before
+     *                 codes were introduced
+     */
+    public static Class<?> typeOfCode(String typeCode) throws ParseException {
+        Optional<NotificationType> knownType = NotificationType.ofCode(typeCode);
+        if (knownType.isPresent()) {
+            return knownType.get().dataType();
+        }
+        try {
+            return dataTypeNamed(typeCode);
+        } catch (ClassNotFoundException e) {
+            throw new ParseException(e);
+        }
+    }
+
+    private static byte[] envelope(Notification<?> notification, EncodedNotificationData encodedData) {
+        String beginningJson = "{\"id\":\"" + notification.id()
+                + "\",\"version\":" + notification.version()
+                + ",\"data\":";
+        byte[] beginning = beginningJson.getBytes(UTF_8);
+        byte[] data = encodedData.json().getBytes(UTF_8);
+        byte[] ending = ENVELOPE_ENDINGS.computeIfAbsent(
+                notification.notificationType(),
+                notificationType -> (",\"notificationType\":\"" + notificationType.getName() + "\"}").getBytes(UTF_8)
+        );
+        byte[] envelope = new byte[beginning.length + data.length + ending.length];
+        System.arraycopy(beginning, 0, envelope, 0, beginning.length);
+        System.arraycopy(data, 0, envelope, beginning.length, data.length);
+        System.arraycopy(ending, 0, envelope, beginning.length + data.length, ending.length);
+        return envelope;
+    }
+
+    private static TokenBuffer bufferedValue(JsonParser parser) throws IOException {
+        TokenBuffer buffer = new TokenBuffer(parser);
+        buffer.copyCurrentStructure(parser);
+        return buffer;
+    }
+
+    private static ObjectReader readerFor(Class<?> notificationType) {
+        return READERS.computeIfAbsent(notificationType, OBJECT_MAPPER::readerFor);
+    }
+
+    private static ObjectWriter writerFor(Class<?> notificationType) {
+        return WRITERS.computeIfAbsent(notificationType, OBJECT_MAPPER::writerFor);
+    }
+
+    private static Class<?> dataTypeNamed(String typeName) throws ClassNotFoundException {
+        Optional<NotificationType> knownType = NotificationType.ofDataTypeName(typeName);
+        if (knownType.isPresent()) {
+            return knownType.get().dataType();
+        }
+        Class<?> unknownType = UNKNOWN_TYPES_BY_NAME.get(typeName);
+        if (unknownType == null) {
+            unknownType = Class.forName(typeName);
+            UNKNOWN_TYPES_BY_NAME.put(typeName, unknownType);
+        }
+        return unknownType;
+    }
+
+    private static final class EncodedNotificationDataSerializer extends StdSerializer<EncodedNotificationData> {
+
+        private EncodedNotificationDataSerializer() {
+            super(EncodedNotificationData.class);
+        }
+
+        @Override
+        public void serialize(EncodedNotificationData encodedData,
+                              JsonGenerator generator,
+                              SerializerProvider provider) throws IOException {
+
+            generator.writeRawValue(encodedData.json());
+        }
+    }
+}
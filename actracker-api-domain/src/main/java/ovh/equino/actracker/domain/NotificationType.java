@@ -0,0 +1,56 @@
+package ovh.equino.actracker.domain;
+
+import ovh.equino.actracker.domain.activity.ActivityChangedNotification;
+import ovh.equino.actracker.domain.dashboard.DashboardChangedNotification;
+import ovh.equino.actracker.domain.tag.TagChangedNotification;
+import ovh.equino.actracker.domain.tagset.TagSetChangedNotification;
+
+import java.util.Optional;
+
+import static java.util.Arrays.stream;
+
+/**
+ * Known types of notification data, with compact codes stored in the outbox. Codes must never change, as they
+ * identify notifications already stored.
+ */
+public enum NotificationType {
+
+    ACTIVITY_CHANGED("activity", ActivityChangedNotification.class),
+    TAG_CHANGED("tag", TagChangedNotification.class),
+    TAG_SET_CHANGED("tagSet", TagSetChangedNotification.class),
+    DASHBOARD_CHANGED("dashboard", DashboardChangedNotification.class);
+
+    private final String code;
+    private final Class<?> dataType;
+
+    NotificationType(String code, Class<?> dataType) {
+        this.code = code;
+        this.dataType = dataType;
+    }
+
+    public String code() {
+        return code;
+    }
+
+    public Class<?> dataType() {
+        return dataType;
+    }
+
+    public static Optional<NotificationType> ofCode(String code) {
+        return stream(values())
+                .filter(notificationType -> notificationType.code.equals(code))
+                .findFirst();
+    }
+
+    public static Optional<NotificationType> ofDataType(Class<?> dataType) {
+        return stream(values())
+                .filter(notificationType -> notificationType.dataType.equals(dataType))
+                .findFirst();
+    }
+
+    public static Optional<NotificationType> ofDataTypeName(String dataTypeName) {
+        return stream(values())
+                .filter(notificationType -> notificationType.dataType.getName().equals(dataTypeName))
+                .findFirst();
+    }
+}
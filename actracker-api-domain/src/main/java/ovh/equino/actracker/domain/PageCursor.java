@@ -0,0 +1,83 @@
+package ovh.equino.actracker.domain;
+
+import ovh.equino.actracker.domain.exception.InvalidPageIdException;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.isNull;
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+/**
+ * Sort key of the last entity on a page, e.g. its start time and ID, which the next page continues after. Clients get
+ * it encoded as an opaque page ID, so the key can change without changing the API.
+ */
+public record PageCursor(List<String> keys) {
+
+    private static final int VERSION = 1;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public PageCursor {
+        keys = unmodifiableList(new ArrayList<>(keys));
+    }
+
+    public PageCursor(String... keys) {
+        this(Arrays.asList(keys));
+    }
+
+    /**
+     * @return key at the given position, null if the entity has no value for the sort field.
+     */
+    public String key(int position) {
+        return keys.get(position);
+    }
+
+    public String encode() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream output = new DataOutputStream(bytes)) {
+            output.writeByte(VERSION);
+            output.writeByte(keys.size());
+            for (String key : keys) {
+                output.writeBoolean(isNull(key));
+                if (!isNull(key)) {
+                    output.writeUTF(key);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return ENCODER.encodeToString(bytes.toByteArray());
+    }
+
+    /**
+     * @return cursor encoded in the page ID, empty for the first page.
+     * @throws InvalidPageIdException if page ID wasn't issued as a cursor.
+     */
+    public static Optional<PageCursor> decode(String pageId) {
+        if (isBlank(pageId)) {
+            return Optional.empty();
+        }
+        try (DataInputStream input = new DataInputStream(new ByteArrayInputStream(DECODER.decode(pageId)))) {
+            if (input.readByte() != VERSION) {
+                throw new InvalidPageIdException(pageId);
+            }
+            int keysCount = input.readByte();
+            List<String> keys = new ArrayList<>(keysCount);
+            for (int i = 0; i < keysCount; i++) {
+                keys.add(input.readBoolean() ? null : input.readUTF());
+            }
+            if (input.available() > 0) {
+                throw new InvalidPageIdException(pageId);
+            }
+            return Optional.of(new PageCursor(keys));
+        } catch (IOException | IllegalArgumentException e) {
+            throw new InvalidPageIdException(pageId);
+        }
+    }
+}
@@ -12,6 +12,6 @@ class ActivitiesAccessibilityVerifierImpl implements ActivitiesAccessibilityVeri
 
     @Override
     public boolean isAccessibleFor(User user, ActivityId activityId) {
-        return activityDataSource.find(activityId, user).isPresent();
+        return activityDataSource.exists(activityId, user);
     }
 }
@@ -14,10 +14,12 @@ import ovh.equino.actracker.domain.user.User;
 import java.time.Instant;
 import java.util.*;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
+import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.toUnmodifiableSet;
 
 public final class Activity implements Entity {
@@ -239,6 +241,51 @@ public final class Activity implements Entity {
         return new ActivityChangedNotification(dto);
     }
 
+    /**
+     * @return state of the activity as visible for the actor, the same as read from {@link ActivityDataSource}, so
+     * that it doesn't need to be read again after a change. Tags and metric values inaccessible for the actor are
+     * omitted.
+     */
+    public ActivityDto forClient() {
+        User actor = actorExtractor.getActor();
+        Set<TagId> nonAccessibleTags = tagsAccessibilityVerifier.nonAccessibleFor(actor, tags);
+        Set<TagId> accessibleTags = tags.stream()
+                .filter(not(nonAccessibleTags::contains))
+                .collect(toUnmodifiableSet());
+        Set<UUID> tagIds = accessibleTags.stream()
+                .map(TagId::id)
+                .collect(toUnmodifiableSet());
+        return new ActivityDto(
+                id.id(),
+                creator.id(),
+                title,
+                startTime,
+                endTime,
+                comment,
+                tagIds,
+                accessibleMetricValues(actor, accessibleTags),
+                deleted
+        );
+    }
+
+    private List<MetricValue> accessibleMetricValues(User actor, Set<TagId> accessibleTags) {
+        if (metricValues.isEmpty()) {
+            return emptyList();
+        }
+        Set<MetricId> metrics = metricValues.stream()
+                .map(MetricValue::metricId)
+                .map(MetricId::new)
+                .collect(toUnmodifiableSet());
+        Set<MetricId> nonAccessibleMetrics = metricsAccessibilityVerifier.nonAccessibleFor(
+                actor,
+                metrics,
+                accessibleTags
+        );
+        return metricValues.stream()
+                .filter(metricValue -> !nonAccessibleMetrics.contains(new MetricId(metricValue.metricId())))
+                .toList();
+    }
+
     public boolean isStarted() {
         return nonNull(this.startTime);
     }
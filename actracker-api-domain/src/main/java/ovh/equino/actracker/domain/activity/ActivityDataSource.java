@@ -6,12 +6,25 @@ import ovh.equino.actracker.domain.user.User;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface ActivityDataSource {
 
     Optional<ActivityDto> find(ActivityId activityId, User searcher);
 
+    /**
+     * @return whether the activity is accessible and not deleted, without loading its details
+     */
+    boolean exists(ActivityId activityId, User searcher);
+
     List<ActivityDto> find(EntitySearchCriteria searchCriteria);
 
+    /**
+     * Passes started activities matching the criteria to the consumer in order of start time, reading them with a
+     * database cursor, so that memory doesn't depend on the number of activities. Page ID and sort order of the
+     * criteria are ignored, while its page size is the number of activities read at once.
+     */
+    void forEachStarted(EntitySearchCriteria searchCriteria, Consumer<ActivityDto> consumer);
+
     List<ActivityId> findOwnUnfinishedStartedBefore(Instant startTime, User user);
 }
@@ -3,7 +3,15 @@ package ovh.equino.actracker.domain.activity;
 import ovh.equino.actracker.domain.EntitySearchCriteria;
 import ovh.equino.actracker.domain.EntitySearchResult;
 
+import java.util.function.Consumer;
+
 public interface ActivitySearchEngine {
 
     EntitySearchResult<ActivityDto> findActivities(EntitySearchCriteria searchCriteria);
+
+    /**
+     * Passes all started activities matching the criteria to the consumer in order of start time, without keeping
+     * them in memory. Page ID and sort order of the criteria are ignored.
+     */
+    void forEachStartedActivity(EntitySearchCriteria searchCriteria, Consumer<ActivityDto> consumer);
 }
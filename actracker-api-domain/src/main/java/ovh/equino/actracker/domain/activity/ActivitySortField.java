@@ -0,0 +1,10 @@
+package ovh.equino.actracker.domain.activity;
+
+import ovh.equino.actracker.domain.EntitySortCriteria;
+
+/**
+ * Fields activities can be ordered by, besides ID. Activities without a value come last in both directions.
+ */
+public enum ActivitySortField implements EntitySortCriteria.Field {
+    START_TIME
+}
@@ -0,0 +1,36 @@
+package ovh.equino.actracker.domain.activity;
+
+import ovh.equino.actracker.domain.AccessibilityDecisions;
+import ovh.equino.actracker.domain.MemoizedAccessibility;
+import ovh.equino.actracker.domain.user.User;
+
+/**
+ * Remembers decisions of the verifier within the scope of {@link AccessibilityDecisions}.
+ */
+public final class MemoizingActivitiesAccessibilityVerifier implements ActivitiesAccessibilityVerifier {
+
+    private final ActivitiesAccessibilityVerifier verifier;
+    private final MemoizedAccessibility memoizedAccessibility;
+
+    public MemoizingActivitiesAccessibilityVerifier(ActivitiesAccessibilityVerifier verifier,
+                                                    AccessibilityDecisions decisions) {
+
+        this.verifier = verifier;
+        this.memoizedAccessibility = new MemoizedAccessibility(decisions);
+    }
+
+    @Override
+    public boolean isAccessibleFor(User user, ActivityId activityId) {
+        return memoizedAccessibility.isAccessible(
+                new ActivityAccess(user, activityId),
+                () -> verifier.isAccessibleFor(user, activityId)
+        );
+    }
+
+    public MemoizedAccessibility memoizedAccessibility() {
+        return memoizedAccessibility;
+    }
+
+    private record ActivityAccess(User user, ActivityId activityId) {
+    }
+}
@@ -14,8 +14,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
+import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.toUnmodifiableSet;
 
 
@@ -179,6 +182,43 @@ public final class Dashboard implements Entity {
         return new DashboardChangedNotification(dto);
     }
 
+    /**
+     * @return state of the dashboard as visible for the actor, the same as read from {@link DashboardDataSource}, so
+     * that it doesn't need to be read again after a change. Deleted charts and tags inaccessible for the actor are
+     * omitted and shares are visible to the creator only.
+     */
+    public DashboardDto forClient() {
+        User actor = actorExtractor.getActor();
+        List<Chart> notDeletedCharts = charts.stream()
+                .filter(not(Chart::isDeleted))
+                .toList();
+        Set<TagId> includedTags = notDeletedCharts.stream()
+                .flatMap(chart -> chart.includedTags().stream())
+                .map(TagId::new)
+                .collect(toUnmodifiableSet());
+        Set<UUID> nonAccessibleTags = tagsAccessibilityVerifier.nonAccessibleFor(actor, includedTags)
+                .stream()
+                .map(TagId::id)
+                .collect(toUnmodifiableSet());
+        List<Chart> visibleCharts = notDeletedCharts.stream()
+                .map(chart -> new Chart(
+                        chart.id(),
+                        chart.name(),
+                        chart.groupBy(),
+                        chart.analysisMetric(),
+                        chart.includedTags()
+                                .stream()
+                                .filter(not(nonAccessibleTags::contains))
+                                .collect(toUnmodifiableSet()),
+                        chart.isDeleted()
+                ))
+                .toList();
+        List<Share> visibleShares = creator.equals(actor)
+                ? unmodifiableList(shares)
+                : emptyList();
+        return new DashboardDto(id.id(), creator.id(), name, visibleCharts, visibleShares, deleted);
+    }
+
     @Override
     public void validate() {
         validator.validate(this);
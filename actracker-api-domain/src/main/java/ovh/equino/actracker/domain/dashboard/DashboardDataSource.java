@@ -10,5 +10,10 @@ public interface DashboardDataSource {
 
     Optional<DashboardDto> find(DashboardId dashboardId, User searcher);
 
+    /**
+     * @return whether the dashboard is accessible and not deleted, without loading its details
+     */
+    boolean exists(DashboardId dashboardId, User searcher);
+
     List<DashboardDto> find(EntitySearchCriteria searchCriteria);
 }
@@ -12,6 +12,6 @@ public class DashboardsAccessibilityVerifierImpl implements DashboardsAccessibil
 
     @Override
     public boolean isAccessibleFor(User user, DashboardId dashboardId) {
-        return dashboardDataSource.find(dashboardId, user).isPresent();
+        return dashboardDataSource.exists(dashboardId, user);
     }
 }
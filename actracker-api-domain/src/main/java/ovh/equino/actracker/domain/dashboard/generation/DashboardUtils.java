@@ -1,4 +1,4 @@
-package ovh.equino.actracker.dashboard.generation.repository;
+package ovh.equino.actracker.domain.dashboard.generation;
 
 import java.time.Instant;
 import java.time.ZonedDateTime;
@@ -9,7 +9,7 @@ import static java.time.ZoneOffset.UTC;
 import static java.time.temporal.ChronoUnit.DAYS;
 import static java.util.Arrays.stream;
 
-interface DashboardUtils {
+public interface DashboardUtils {
 
     static Instant earliestOf(Instant... candidates) {
         return stream(candidates)
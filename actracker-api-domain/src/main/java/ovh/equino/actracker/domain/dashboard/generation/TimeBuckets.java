@@ -0,0 +1,155 @@
+package ovh.equino.actracker.domain.dashboard.generation;
+
+import ovh.equino.actracker.domain.dashboard.GroupBy;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Optional;
+
+import static java.time.DayOfWeek.FRIDAY;
+import static java.time.DayOfWeek.MONDAY;
+import static java.time.ZoneOffset.UTC;
+import static java.time.temporal.ChronoField.HOUR_OF_DAY;
+import static java.time.temporal.TemporalAdjusters.*;
+import static ovh.equino.actracker.domain.dashboard.generation.DashboardUtils.*;
+
+/**
+ * Consecutive time buckets of time charts, aligned to the calendar in UTC. Buckets of a chart are visited from the
+ * dashboard range start, each following bucket found with {@link #toNextRangeStart(Instant)}. Shared by the dashboard
+ * generation engines, so that they produce the same buckets.
+ */
+public enum TimeBuckets {
+
+    DAILY(BucketType.DAY, true) {
+        @Override
+        public Instant toRangeStart(Instant timeInRange) {
+            return startOfDay(timeInRange);
+        }
+
+        @Override
+        public Instant toRangeEnd(Instant timeInRange) {
+            return endOfDay(timeInRange);
+        }
+
+        @Override
+        public Instant toNextRangeStart(Instant timeInRange) {
+            return startOfNextDay(timeInRange);
+        }
+    },
+
+    WEEKLY(BucketType.WEEK, true) {
+        @Override
+        public Instant toRangeStart(Instant timeInRange) {
+            return startOfDay(
+                    ZonedDateTime.ofInstant(timeInRange, UTC)
+                            .with(previousOrSame(MONDAY))
+                            .toInstant()
+            );
+        }
+
+        @Override
+        public Instant toRangeEnd(Instant timeInRange) {
+            return toNextRangeStart(timeInRange).minusMillis(1);
+        }
+
+        @Override
+        public Instant toNextRangeStart(Instant timeInRange) {
+            return startOfDay(
+                    ZonedDateTime.ofInstant(timeInRange, UTC)
+                            .with(next(MONDAY))
+                            .toInstant()
+            );
+        }
+    },
+
+    MONTHLY(BucketType.MONTH, true) {
+        @Override
+        public Instant toRangeStart(Instant timeInRange) {
+            return startOfDay(
+                    ZonedDateTime.ofInstant(timeInRange, UTC)
+                            .with(firstDayOfMonth())
+                            .toInstant()
+            );
+        }
+
+        @Override
+        public Instant toRangeEnd(Instant timeInRange) {
+            return toNextRangeStart(timeInRange).minusMillis(1);
+        }
+
+        @Override
+        public Instant toNextRangeStart(Instant timeInRange) {
+            return startOfDay(
+                    ZonedDateTime.ofInstant(timeInRange, UTC)
+                            .with(firstDayOfNextMonth())
+                            .toInstant()
+            );
+        }
+    },
+
+    WEEKENDLY(BucketType.WEEKEND, false) {
+        @Override
+        public Instant toRangeStart(Instant timeInRange) {
+            return ZonedDateTime.ofInstant(timeInRange, UTC)
+                    .with(previousOrSame(FRIDAY))
+                    .with(HOUR_OF_DAY, 18)
+                    .toInstant();
+        }
+
+        @Override
+        public Instant toRangeEnd(Instant timeInRange) {
+            Instant rangeStart = toRangeStart(timeInRange);
+            return startOfDay(
+                    ZonedDateTime.ofInstant(rangeStart, UTC)
+                            .with(next(MONDAY))
+                            .toInstant()
+            );
+        }
+
+        @Override
+        public Instant toNextRangeStart(Instant timeInRange) {
+            return ZonedDateTime.ofInstant(timeInRange, UTC)
+                    .with(next(FRIDAY))
+                    .with(HOUR_OF_DAY, 18)
+                    .toInstant();
+        }
+    };
+
+    private final BucketType bucketType;
+    private final boolean wholeDays;
+
+    TimeBuckets(BucketType bucketType, boolean wholeDays) {
+        this.bucketType = bucketType;
+        this.wholeDays = wholeDays;
+    }
+
+    /**
+     * @return buckets of charts grouped by the given period, or empty for charts not grouped by time
+     */
+    public static Optional<TimeBuckets> of(GroupBy groupBy) {
+        return switch (groupBy) {
+            case SELF -> Optional.empty();
+            case DAY -> Optional.of(DAILY);
+            case WEEK -> Optional.of(WEEKLY);
+            case MONTH -> Optional.of(MONTHLY);
+            case WEEKEND -> Optional.of(WEEKENDLY);
+        };
+    }
+
+    public BucketType bucketType() {
+        return bucketType;
+    }
+
+    /**
+     * @return true if buckets start and end together with days
+     */
+    public boolean coversWholeDays() {
+        return wholeDays;
+    }
+
+    public abstract Instant toRangeStart(Instant timeInRange);
+
+    public abstract Instant toRangeEnd(Instant timeInRange);
+
+    public abstract Instant toNextRangeStart(Instant timeInRange);
+}
@@ -0,0 +1,8 @@
+package ovh.equino.actracker.domain.exception;
+
+public class InvalidPageIdException extends RuntimeException {
+
+    public InvalidPageIdException(String pageId) {
+        super("Invalid page ID: %s".formatted(pageId));
+    }
+}
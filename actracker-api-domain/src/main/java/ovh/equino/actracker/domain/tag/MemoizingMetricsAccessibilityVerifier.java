@@ -0,0 +1,50 @@
+package ovh.equino.actracker.domain.tag;
+
+import ovh.equino.actracker.domain.AccessibilityDecisions;
+import ovh.equino.actracker.domain.MemoizedAccessibility;
+import ovh.equino.actracker.domain.user.User;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Remembers decisions of the verifier within the scope of {@link AccessibilityDecisions}. Decision about a metric
+ * holds only for the same tags it was verified against.
+ */
+public final class MemoizingMetricsAccessibilityVerifier implements MetricsAccessibilityVerifier {
+
+    private final MetricsAccessibilityVerifier verifier;
+    private final MemoizedAccessibility memoizedAccessibility;
+
+    public MemoizingMetricsAccessibilityVerifier(MetricsAccessibilityVerifier verifier,
+                                                 AccessibilityDecisions decisions) {
+
+        this.verifier = verifier;
+        this.memoizedAccessibility = new MemoizedAccessibility(decisions);
+    }
+
+    @Override
+    public boolean isAccessibleFor(User user, MetricId metric, Collection<TagId> tags) {
+        return memoizedAccessibility.isAccessible(
+                new MetricAccess(user, metric, Set.copyOf(tags)),
+                () -> verifier.isAccessibleFor(user, metric, tags)
+        );
+    }
+
+    @Override
+    public Set<MetricId> nonAccessibleFor(User user, Collection<MetricId> metrics, Collection<TagId> tags) {
+        Set<TagId> verifiedTags = Set.copyOf(tags);
+        return memoizedAccessibility.nonAccessible(
+                metrics,
+                metric -> new MetricAccess(user, metric, verifiedTags),
+                unknownMetrics -> verifier.nonAccessibleFor(user, unknownMetrics, tags)
+        );
+    }
+
+    public MemoizedAccessibility memoizedAccessibility() {
+        return memoizedAccessibility;
+    }
+
+    private record MetricAccess(User user, MetricId metricId, Set<TagId> tags) {
+    }
+}
@@ -0,0 +1,46 @@
+package ovh.equino.actracker.domain.tag;
+
+import ovh.equino.actracker.domain.AccessibilityDecisions;
+import ovh.equino.actracker.domain.MemoizedAccessibility;
+import ovh.equino.actracker.domain.user.User;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Remembers decisions of the verifier within the scope of {@link AccessibilityDecisions}.
+ */
+public final class MemoizingTagsAccessibilityVerifier implements TagsAccessibilityVerifier {
+
+    private final TagsAccessibilityVerifier verifier;
+    private final MemoizedAccessibility memoizedAccessibility;
+
+    public MemoizingTagsAccessibilityVerifier(TagsAccessibilityVerifier verifier, AccessibilityDecisions decisions) {
+        this.verifier = verifier;
+        this.memoizedAccessibility = new MemoizedAccessibility(decisions);
+    }
+
+    @Override
+    public boolean isAccessibleFor(User user, TagId tag) {
+        return memoizedAccessibility.isAccessible(
+                new TagAccess(user, tag),
+                () -> verifier.isAccessibleFor(user, tag)
+        );
+    }
+
+    @Override
+    public Set<TagId> nonAccessibleFor(User user, Collection<TagId> tags) {
+        return memoizedAccessibility.nonAccessible(
+                tags,
+                tag -> new TagAccess(user, tag),
+                unknownTags -> verifier.nonAccessibleFor(user, unknownTags)
+        );
+    }
+
+    public MemoizedAccessibility memoizedAccessibility() {
+        return memoizedAccessibility;
+    }
+
+    private record TagAccess(User user, TagId tagId) {
+    }
+}
@@ -9,6 +9,7 @@ import java.util.Set;
 import static java.util.Collections.singleton;
 import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.toUnmodifiableSet;
+import static ovh.equino.actracker.domain.tag.TagDetail.METRICS;
 
 class MetricsAccessibilityVerifierImpl implements MetricsAccessibilityVerifier {
 
@@ -32,7 +33,7 @@ class MetricsAccessibilityVerifierImpl implements MetricsAccessibilityVerifier {
     }
 
     private Set<MetricId> accessibleFor(User user, Collection<MetricId> metrics, Collection<TagId> tags) {
-        Set<MetricId> accessibleMetrics = tagDataSource.find(new HashSet<>(tags), user)
+        Set<MetricId> accessibleMetrics = tagDataSource.find(new HashSet<>(tags), user, Set.of(METRICS))
                 .stream()
                 .flatMap(tag -> tag.metrics().stream())
                 .map(MetricDto::id)
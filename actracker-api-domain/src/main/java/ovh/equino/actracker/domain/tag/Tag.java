@@ -11,9 +11,11 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.requireNonNull;
 import static java.util.UUID.randomUUID;
+import static java.util.function.Predicate.not;
 
 public final class Tag implements Entity {
 
@@ -167,6 +169,22 @@ public final class Tag implements Entity {
         return new TagChangedNotification(dto);
     }
 
+    /**
+     * @return state of the tag as visible for the actor, the same as read from {@link TagDataSource}, so that it
+     * doesn't need to be read again after a change. Deleted metrics are omitted and shares are visible to the creator
+     * only.
+     */
+    public TagDto forClient() {
+        List<Share> visibleShares = creator.equals(actorExtractor.getActor())
+                ? unmodifiableList(shares)
+                : emptyList();
+        List<MetricDto> notDeletedMetrics = this.metrics.stream()
+                .filter(not(Metric::deleted))
+                .map(Metric::forStorage)
+                .toList();
+        return new TagDto(id.id(), creator.id(), name, notDeletedMetrics, visibleShares, deleted);
+    }
+
     boolean deleted() {
         return deleted;
     }
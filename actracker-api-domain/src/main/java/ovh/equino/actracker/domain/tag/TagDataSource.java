@@ -14,5 +14,23 @@ public interface TagDataSource {
 
     List<TagDto> find(EntitySearchCriteria searchCriteria);
 
+    /**
+     * @return accessible, not deleted tags among the requested ones, with all details
+     */
     List<TagDto> find(Set<TagId> tagIds, User searcher);
+
+    /**
+     * @return accessible, not deleted tags among the requested ones. Details not requested are left empty.
+     */
+    List<TagDto> find(Set<TagId> tagIds, User searcher, Set<TagDetail> details);
+
+    /**
+     * @return whether the tag is accessible and not deleted, without loading its details
+     */
+    boolean exists(TagId tagId, User searcher);
+
+    /**
+     * @return IDs of accessible, not deleted tags among the requested ones, without loading their details
+     */
+    Set<TagId> accessibleIds(Set<TagId> tagIds, User searcher);
 }
@@ -0,0 +1,9 @@
+package ovh.equino.actracker.domain.tag;
+
+/**
+ * Associations of a tag, loaded by {@link TagDataSource} only when requested.
+ */
+public enum TagDetail {
+    SHARES,
+    METRICS
+}
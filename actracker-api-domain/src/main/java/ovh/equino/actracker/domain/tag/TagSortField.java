@@ -0,0 +1,10 @@
+package ovh.equino.actracker.domain.tag;
+
+import ovh.equino.actracker.domain.EntitySortCriteria;
+
+/**
+ * Fields tags can be ordered by, besides ID. Tags without a value come last in both directions.
+ */
+public enum TagSortField implements EntitySortCriteria.Field {
+    NAME
+}
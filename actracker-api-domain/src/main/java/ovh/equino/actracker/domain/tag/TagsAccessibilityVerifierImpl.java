@@ -19,7 +19,7 @@ class TagsAccessibilityVerifierImpl implements TagsAccessibilityVerifier {
 
     @Override
     public boolean isAccessibleFor(User user, TagId tag) {
-        return tagDataSource.find(tag, user).isPresent();
+        return tagDataSource.exists(tag, user);
     }
 
     @Override
@@ -31,11 +31,7 @@ class TagsAccessibilityVerifierImpl implements TagsAccessibilityVerifier {
     }
 
     private Set<TagId> accessibleFor(User user, Collection<TagId> tags) {
-        Set<TagId> accessibleTags = tagDataSource.find(new HashSet<>(tags), user)
-                .stream()
-                .map(TagDto::id)
-                .map(TagId::new)
-                .collect(toUnmodifiableSet());
+        Set<TagId> accessibleTags = tagDataSource.accessibleIds(new HashSet<>(tags), user);
         return tags.stream()
                 .filter(accessibleTags::contains)
                 .collect(toUnmodifiableSet());
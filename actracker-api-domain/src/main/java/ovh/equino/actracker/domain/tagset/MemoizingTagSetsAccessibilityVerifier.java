@@ -0,0 +1,36 @@
+package ovh.equino.actracker.domain.tagset;
+
+import ovh.equino.actracker.domain.AccessibilityDecisions;
+import ovh.equino.actracker.domain.MemoizedAccessibility;
+import ovh.equino.actracker.domain.user.User;
+
+/**
+ * Remembers decisions of the verifier within the scope of {@link AccessibilityDecisions}.
+ */
+public final class MemoizingTagSetsAccessibilityVerifier implements TagSetsAccessibilityVerifier {
+
+    private final TagSetsAccessibilityVerifier verifier;
+    private final MemoizedAccessibility memoizedAccessibility;
+
+    public MemoizingTagSetsAccessibilityVerifier(TagSetsAccessibilityVerifier verifier,
+                                                 AccessibilityDecisions decisions) {
+
+        this.verifier = verifier;
+        this.memoizedAccessibility = new MemoizedAccessibility(decisions);
+    }
+
+    @Override
+    public boolean isAccessibleFor(User user, TagSetId tagSetId) {
+        return memoizedAccessibility.isAccessible(
+                new TagSetAccess(user, tagSetId),
+                () -> verifier.isAccessibleFor(user, tagSetId)
+        );
+    }
+
+    public MemoizedAccessibility memoizedAccessibility() {
+        return memoizedAccessibility;
+    }
+
+    private record TagSetAccess(User user, TagSetId tagSetId) {
+    }
+}
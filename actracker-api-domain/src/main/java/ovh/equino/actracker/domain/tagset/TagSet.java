@@ -16,6 +16,7 @@ import java.util.UUID;
 
 import static java.util.Collections.unmodifiableSet;
 import static java.util.Objects.requireNonNull;
+import static java.util.function.Predicate.not;
 import static java.util.stream.Collectors.toUnmodifiableSet;
 
 public final class TagSet implements Entity {
@@ -125,6 +126,20 @@ public final class TagSet implements Entity {
         return new TagSetChangedNotification(dto);
     }
 
+    /**
+     * @return state of the tag set as visible for the actor, the same as read from {@link TagSetDataSource}, so that
+     * it doesn't need to be read again after a change. Tags inaccessible for the actor are omitted.
+     */
+    public TagSetDto forClient() {
+        User actor = actorExtractor.getActor();
+        Set<TagId> nonAccessibleTags = tagsAccessibilityVerifier.nonAccessibleFor(actor, tags);
+        Set<UUID> tagIds = tags.stream()
+                .filter(not(nonAccessibleTags::contains))
+                .map(TagId::id)
+                .collect(toUnmodifiableSet());
+        return new TagSetDto(id.id(), creator.id(), name, tagIds, deleted);
+    }
+
     @Override
     public void validate() {
         validator.validate(this);
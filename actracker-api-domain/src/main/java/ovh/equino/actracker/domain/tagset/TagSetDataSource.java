@@ -10,5 +10,10 @@ public interface TagSetDataSource {
 
     Optional<TagSetDto> find(TagSetId tagSetId, User searcher);
 
+    /**
+     * @return whether the tag set is accessible and not deleted, without loading its details
+     */
+    boolean exists(TagSetId tagSetId, User searcher);
+
     List<TagSetDto> find(EntitySearchCriteria searchCriteria);
 }
@@ -12,6 +12,6 @@ class TagSetsAccessibilityVerifierImpl implements TagSetsAccessibilityVerifier {
 
     @Override
     public boolean isAccessibleFor(User user, TagSetId tagSetId) {
-        return tagSetDataSource.find(tagSetId, user).isPresent();
+        return tagSetDataSource.exists(tagSetId, user);
     }
 }
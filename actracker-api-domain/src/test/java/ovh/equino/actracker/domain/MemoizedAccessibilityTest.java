@@ -0,0 +1,150 @@
+package ovh.equino.actracker.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MemoizedAccessibilityTest {
+
+    private static final String DECISION = "decision";
+
+    private AccessibilityDecisions decisions;
+    private MemoizedAccessibility memoizedAccessibility;
+    private int verificationCount;
+
+    @BeforeEach
+    void init() {
+        decisions = new AccessibilityDecisions();
+        memoizedAccessibility = new MemoizedAccessibility(decisions);
+        verificationCount = 0;
+    }
+
+    @Test
+    void shouldVerifyOnceWithinScope() {
+        // when
+        boolean accessible;
+        try (AccessibilityDecisions.Scope ignored = decisions.open()) {
+            memoizedAccessibility.isAccessible(DECISION, verification(true));
+            accessible = memoizedAccessibility.isAccessible(DECISION, verification(true));
+        }
+
+        // then
+        assertThat(accessible).isTrue();
+        assertThat(verificationCount).isEqualTo(1);
+        assertThat(memoizedAccessibility.getHits()).isEqualTo(1);
+        assertThat(memoizedAccessibility.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldRememberNonAccessibleDecision() {
+        // when
+        boolean accessible;
+        try (AccessibilityDecisions.Scope ignored = decisions.open()) {
+            memoizedAccessibility.isAccessible(DECISION, verification(false));
+            accessible = memoizedAccessibility.isAccessible(DECISION, verification(true));
+        }
+
+        // then
+        assertThat(accessible).isFalse();
+        assertThat(verificationCount).isEqualTo(1);
+    }
+
+    @Test
+    void shouldShareDecisionsWithNestedScopeAndForgetThemWhenOutermostScopeClosed() {
+        // when
+        try (AccessibilityDecisions.Scope ignored = decisions.open()) {
+            try (AccessibilityDecisions.Scope nested = decisions.open()) {
+                memoizedAccessibility.isAccessible(DECISION, verification(true));
+            }
+            memoizedAccessibility.isAccessible(DECISION, verification(true));
+        }
+        try (AccessibilityDecisions.Scope ignored = decisions.open()) {
+            memoizedAccessibility.isAccessible(DECISION, verification(true));
+        }
+
+        // then
+        assertThat(verificationCount).isEqualTo(2);
+        assertThat(memoizedAccessibility.getHits()).isEqualTo(1);
+        assertThat(memoizedAccessibility.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldNotRememberDecisionsOutsideScope() {
+        // when
+        memoizedAccessibility.isAccessible(DECISION, verification(true));
+        memoizedAccessibility.isAccessible(DECISION, verification(true));
+
+        // then
+        assertThat(verificationCount).isEqualTo(2);
+        assertThat(memoizedAccessibility.getHits()).isZero();
+        assertThat(memoizedAccessibility.getMisses()).isEqualTo(2);
+    }
+
+    @Test
+    void shouldVerifyOnlyEntitiesWithoutRememberedDecisionInSingleCall() {
+        // given
+        List<Collection<String>> verifiedEntities = new ArrayList<>();
+
+        // when
+        Set<String> nonAccessible;
+        try (AccessibilityDecisions.Scope ignored = decisions.open()) {
+            memoizedAccessibility.isAccessible("accessible", verification(true));
+            memoizedAccessibility.isAccessible("remembered non accessible", verification(false));
+            nonAccessible = memoizedAccessibility.nonAccessible(
+                    List.of("accessible", "remembered non accessible", "unknown", "unknown non accessible"),
+                    entity -> entity,
+                    entities -> {
+                        verifiedEntities.add(List.copyOf(entities));
+                        return Set.of("unknown non accessible");
+                    }
+            );
+        }
+
+        // then
+        assertThat(nonAccessible).containsExactlyInAnyOrder("remembered non accessible", "unknown non accessible");
+        assertThat(verifiedEntities).containsExactly(List.of("unknown", "unknown non accessible"));
+        assertThat(memoizedAccessibility.getHits()).isEqualTo(2);
+        assertThat(memoizedAccessibility.getMisses()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldNotVerifyWhenAllDecisionsRemembered() {
+        // given
+        List<Collection<String>> verifiedEntities = new ArrayList<>();
+
+        // when
+        Set<String> nonAccessible;
+        try (AccessibilityDecisions.Scope ignored = decisions.open()) {
+            memoizedAccessibility.nonAccessible(List.of("accessible", "non accessible"), entity -> entity, entities -> {
+                verifiedEntities.add(List.copyOf(entities));
+                return Set.of("non accessible");
+            });
+            nonAccessible = memoizedAccessibility.nonAccessible(
+                    List.of("accessible", "non accessible"),
+                    entity -> entity,
+                    entities -> {
+                        verifiedEntities.add(List.copyOf(entities));
+                        return Set.of();
+                    }
+            );
+        }
+
+        // then
+        assertThat(nonAccessible).containsExactly("non accessible");
+        assertThat(verifiedEntities).hasSize(1);
+    }
+
+    private BooleanSupplier verification(boolean accessible) {
+        return () -> {
+            verificationCount++;
+            return accessible;
+        };
+    }
+}
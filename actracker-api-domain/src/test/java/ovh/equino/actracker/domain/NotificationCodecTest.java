@@ -0,0 +1,160 @@
+package ovh.equino.actracker.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import ovh.equino.actracker.domain.activity.ActivityChangedNotification;
+import ovh.equino.actracker.domain.activity.ActivityDto;
+import ovh.equino.actracker.domain.activity.MetricValue;
+import ovh.equino.actracker.domain.dashboard.*;
+import ovh.equino.actracker.domain.exception.ParseException;
+import ovh.equino.actracker.domain.share.Share;
+import ovh.equino.actracker.domain.user.User;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NotificationCodecTest {
+
+    private static final Notification<ActivityChangedNotification> ACTIVITY_NOTIFICATION = new Notification<>(
+            UUID.randomUUID(),
+            7L,
+            new ActivityChangedNotification(new ActivityDto(
+                    UUID.randomUUID(),
+                    UUID.randomUUID(),
+                    "activity",
+                    Instant.parse("2024-01-01T10:00:00Z"),
+                    Instant.parse("2024-01-01T11:30:00Z"),
+                    "\u017c\u00f3\u0142w",
+                    Set.of(UUID.randomUUID()),
+                    List.of(new MetricValue(UUID.randomUUID(), new BigDecimal("1.50"))),
+                    false
+            ))
+    );
+
+    private static final Notification<DashboardChangedNotification> DASHBOARD_NOTIFICATION = new Notification<>(
+            UUID.randomUUID(),
+            3L,
+            new DashboardChangedNotification(new DashboardDto(
+                    UUID.randomUUID(),
+                    UUID.randomUUID(),
+                    "dashboard",
+                    List.of(new Chart("chart", GroupBy.DAY, AnalysisMetric.TAG_DURATION, Set.of(UUID.randomUUID()))),
+                    List.of(new Share(new User(UUID.randomUUID()), "grantee")),
+                    false
+            ))
+    );
+
+    @Test
+    void shouldDecodeEncodedNotifications() throws ParseException {
+        // when
+        Notification<?> decodedActivityNotification = NotificationCodec.decode(
+                NotificationCodec.encode(ACTIVITY_NOTIFICATION)
+        );
+        Notification<?> decodedDashboardNotification = NotificationCodec.decode(
+                NotificationCodec.encode(DASHBOARD_NOTIFICATION)
+        );
+
+        // then
+        assertThat(decodedActivityNotification).isEqualTo(ACTIVITY_NOTIFICATION);
+        assertThat(decodedDashboardNotification).isEqualTo(DASHBOARD_NOTIFICATION);
+    }
+
+    @Test
+    void shouldDecodeEncodedData() throws ParseException {
+        // when
+        ActivityChangedNotification decodedData = NotificationCodec.decodeData(
+                NotificationCodec.encodeData(ACTIVITY_NOTIFICATION.data()),
+                ActivityChangedNotification.class
+        );
+
+        // then
+        assertThat(decodedData).isEqualTo(ACTIVITY_NOTIFICATION.data());
+    }
+
+    @Test
+    void shouldEncodeSameJsonAsConfiguredMapper() throws Exception {
+        // given
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+
+        // when
+        String json = NotificationCodec.encode(DASHBOARD_NOTIFICATION);
+        String dataJson = NotificationCodec.encodeData(ACTIVITY_NOTIFICATION.data());
+
+        // then
+        assertThat(json).isEqualTo(objectMapper.writeValueAsString(DASHBOARD_NOTIFICATION));
+        assertThat(dataJson).isEqualTo(objectMapper.writeValueAsString(ACTIVITY_NOTIFICATION.data()));
+    }
+
+    @Test
+    void shouldEncodeNotificationWithEncodedDataAsDecodedOne() throws ParseException {
+        // given
+        Notification<?> encodedNotification = new Notification<>(
+                ACTIVITY_NOTIFICATION.id(),
+                ACTIVITY_NOTIFICATION.version(),
+                new EncodedNotificationData(NotificationCodec.encodeData(ACTIVITY_NOTIFICATION.data())),
+                ActivityChangedNotification.class
+        );
+
+        // when
+        String json = NotificationCodec.encode(encodedNotification);
+
+        // then
+        assertThat(json).isEqualTo(NotificationCodec.encode(ACTIVITY_NOTIFICATION));
+        assertThat(encodedNotification.decoded()).isEqualTo(ACTIVITY_NOTIFICATION);
+    }
+
+    @Test
+    void shouldResolveTypesOfCodes() throws ParseException {
+        // when
+        String activityTypeCode = NotificationCodec.typeCode(ActivityChangedNotification.class);
+        String otherTypeCode = NotificationCodec.typeCode(BigDecimal.class);
+
+        // then
+        assertThat(activityTypeCode).isEqualTo("activity");
+        assertThat(otherTypeCode).isEqualTo(BigDecimal.class.getName());
+        assertThat(NotificationCodec.typeOfCode(activityTypeCode)).isEqualTo(ActivityChangedNotification.class);
+        assertThat(NotificationCodec.typeOfCode(otherTypeCode)).isEqualTo(BigDecimal.class);
+    }
+
+    @Test
+    void shouldResolveKnownTypesStoredByName() throws ParseException {
+        for (NotificationType notificationType : NotificationType.values()) {
+            // when
+            Class<?> dataType = NotificationCodec.typeOfCode(notificationType.dataType().getName());
+
+            // then
+            assertThat(dataType).isEqualTo(notificationType.dataType());
+        }
+    }
+
+    @Test
+    void shouldIgnoreUnknownProperties() throws ParseException {
+        // given
+        String json = NotificationCodec.encode(ACTIVITY_NOTIFICATION).replaceFirst("\\{", "{\"unknown\":1,");
+
+        // when
+        Notification<?> decodedNotification = NotificationCodec.decode(json);
+
+        // then
+        assertThat(decodedNotification).isEqualTo(ACTIVITY_NOTIFICATION);
+    }
+
+    @Test
+    void shouldFailDecodingNotificationOfUnknownType() throws ParseException {
+        // given
+        String json = NotificationCodec.encode(ACTIVITY_NOTIFICATION)
+                .replace(ActivityChangedNotification.class.getName(), "ovh.equino.actracker.UnknownNotification");
+
+        // then
+        assertThatThrownBy(() -> NotificationCodec.decode(json))
+                .isInstanceOf(ParseException.class);
+    }
+}
@@ -0,0 +1,132 @@
+package ovh.equino.actracker.domain;
+
+import org.junit.jupiter.api.Test;
+import ovh.equino.actracker.domain.activity.ActivityChangedNotification;
+import ovh.equino.actracker.domain.activity.ActivityDto;
+import ovh.equino.actracker.domain.activity.MetricValue;
+import ovh.equino.actracker.domain.dashboard.*;
+import ovh.equino.actracker.domain.exception.ParseException;
+import ovh.equino.actracker.domain.share.Share;
+import ovh.equino.actracker.domain.user.User;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Published notifications compared with golden files, holding notifications as published before the envelope was put
+ * together around encoded data, to keep consumers compatible.
+ */
+class NotificationWireFormatTest {
+
+    private static final Notification<ActivityChangedNotification> ACTIVITY_NOTIFICATION = new Notification<>(
+            UUID.fromString("2f6a1b52-6c3e-4d1a-9a57-0b2f8e1c4d10"),
+            7L,
+            new ActivityChangedNotification(new ActivityDto(
+                    UUID.fromString("8d0f4c1e-2b7a-4e55-a1d3-5c9e7f203b41"),
+                    UUID.fromString("c41e9a07-5f2d-4b86-8e13-7a6d0b9f2c55"),
+                    "\u017c\u00f3\u0142w \"activity\"",
+                    Instant.parse("2024-01-01T10:00:00Z"),
+                    Instant.parse("2024-01-01T11:30:00.250Z"),
+                    "comment\nwith new line",
+                    Set.of(UUID.fromString("5a3c7e19-0d4b-4f62-b8a1-9e2f6c0d7b83")),
+                    List.of(new MetricValue(
+                            UUID.fromString("e7b2d4a0-3c1f-4a98-9d65-2f8b0c1e6a47"),
+                            new BigDecimal("1.50")
+                    )),
+                    false
+            ))
+    );
+
+    private static final Notification<DashboardChangedNotification> DASHBOARD_NOTIFICATION = new Notification<>(
+            UUID.fromString("9b4e2c71-8a0d-4f3b-a6e5-1d7c3f9b0e28"),
+            3L,
+            new DashboardChangedNotification(new DashboardDto(
+                    UUID.fromString("1c8f5a3e-7b2d-4e09-b4c6-3a0e9d2f7b15"),
+                    UUID.fromString("c41e9a07-5f2d-4b86-8e13-7a6d0b9f2c55"),
+                    "dashboard",
+                    List.of(new Chart(
+                            new ChartId("27d290c8-d1fc-41f9-82b8-fc1ec1c42bc1"),
+                            "chart",
+                            GroupBy.DAY,
+                            AnalysisMetric.TAG_DURATION,
+                            Set.of(UUID.fromString("5a3c7e19-0d4b-4f62-b8a1-9e2f6c0d7b83")),
+                            false
+                    )),
+                    List.of(new Share(new User(UUID.fromString("f0a7c3d9-4e1b-4c28-9b5f-6d2e8a0c1f74")), "grantee")),
+                    false
+            ))
+    );
+
+    @Test
+    void shouldEncodeNotificationsAsGoldenFiles() throws Exception {
+        // when
+        byte[] activityNotification = ACTIVITY_NOTIFICATION.toJsonBytes();
+        byte[] dashboardNotification = DASHBOARD_NOTIFICATION.toJsonBytes();
+
+        // then
+        assertThat(activityNotification).isEqualTo(goldenFile("activity-notification.json"));
+        assertThat(dashboardNotification).isEqualTo(goldenFile("dashboard-notification.json"));
+    }
+
+    @Test
+    void shouldEncodeNotificationsWithEncodedDataAsGoldenFiles() throws Exception {
+        // when
+        byte[] activityNotification = encoded(ACTIVITY_NOTIFICATION).toJsonBytes();
+        byte[] dashboardNotification = encoded(DASHBOARD_NOTIFICATION).toJsonBytes();
+
+        // then
+        assertThat(activityNotification).isEqualTo(goldenFile("activity-notification.json"));
+        assertThat(dashboardNotification).isEqualTo(goldenFile("dashboard-notification.json"));
+    }
+
+    @Test
+    void shouldEncodeNotificationsAsStringsOfGoldenFiles() throws Exception {
+        // when
+        String activityNotification = encoded(ACTIVITY_NOTIFICATION).toJson();
+        String dashboardNotification = DASHBOARD_NOTIFICATION.toJson();
+
+        // then
+        assertThat(activityNotification).isEqualTo(new String(goldenFile("activity-notification.json"), UTF_8));
+        assertThat(dashboardNotification).isEqualTo(new String(goldenFile("dashboard-notification.json"), UTF_8));
+    }
+
+    @Test
+    void shouldDecodeGoldenFiles() throws Exception {
+        // when
+        Notification<?> activityNotification = Notification.fromJson(
+                new String(goldenFile("activity-notification.json"), UTF_8)
+        );
+        Notification<?> dashboardNotification = Notification.fromJson(
+                new String(goldenFile("dashboard-notification.json"), UTF_8)
+        );
+
+        // then
+        assertThat(activityNotification).isEqualTo(ACTIVITY_NOTIFICATION);
+        assertThat(dashboardNotification).isEqualTo(DASHBOARD_NOTIFICATION);
+    }
+
+    private static Notification<?> encoded(Notification<?> notification) throws ParseException {
+        EncodedNotificationData encodedData = new EncodedNotificationData(notification.toJsonData());
+        return new Notification<>(
+                notification.id(),
+                notification.version(),
+                encodedData,
+                notification.notificationType()
+        );
+    }
+
+    private static byte[] goldenFile(String name) throws IOException {
+        try (InputStream goldenFile = NotificationWireFormatTest.class.getResourceAsStream(name)) {
+            assertThat(goldenFile).isNotNull();
+            return goldenFile.readAllBytes();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package ovh.equino.actracker.domain;
+
+import org.junit.jupiter.api.Test;
+import ovh.equino.actracker.domain.exception.InvalidPageIdException;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PageCursorTest {
+
+    @Test
+    void shouldDecodeEncodedCursor() {
+        // given
+        PageCursor cursor = new PageCursor(null, "\u017c\u00f3\u0142w", "2023-01-01T00:00:00Z");
+
+        // when
+        Optional<PageCursor> decodedCursor = PageCursor.decode(cursor.encode());
+
+        // then
+        assertThat(decodedCursor).contains(cursor);
+    }
+
+    @Test
+    void shouldDecodeBlankPageIdAsFirstPage() {
+        // when
+        Optional<PageCursor> decodedCursor = PageCursor.decode(" ");
+
+        // then
+        assertThat(decodedCursor).isEmpty();
+    }
+
+    @Test
+    void shouldFailDecodingNonBase64PageId() {
+        // then
+        assertThatThrownBy(() -> PageCursor.decode("not a cursor"))
+                .isInstanceOf(InvalidPageIdException.class);
+    }
+
+    @Test
+    void shouldFailDecodingPageIdOfUnknownVersion() {
+        // then
+        assertThatThrownBy(() -> PageCursor.decode("e6fdc6d4-4a63-4a3a-9b5c-0c5b2f5f0f0f"))
+                .isInstanceOf(InvalidPageIdException.class);
+    }
+}
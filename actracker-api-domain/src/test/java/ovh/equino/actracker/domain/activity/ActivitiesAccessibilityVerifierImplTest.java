@@ -7,11 +7,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import ovh.equino.actracker.domain.user.User;
 
-import java.util.Optional;
-
-import static java.util.Collections.emptyList;
-import static java.util.Collections.emptySet;
-import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -20,17 +15,6 @@ import static org.mockito.Mockito.when;
 class ActivitiesAccessibilityVerifierImplTest {
 
     private static final User USER = null;
-    private static final ActivityDto ACCESSIBLE_ACTIVITY = new ActivityDto(
-            randomUUID(),
-            randomUUID(),
-            "accessible activity",
-            null,
-            null,
-            null,
-            emptySet(),
-            emptyList(),
-            false
-    );
 
     @Mock
     private ActivityDataSource activityDataSource;
@@ -44,7 +28,7 @@ class ActivitiesAccessibilityVerifierImplTest {
     @Test
     void shouldConfirmActivityAccessible() {
         // given
-        when(activityDataSource.find(any(), any())).thenReturn(Optional.of(ACCESSIBLE_ACTIVITY));
+        when(activityDataSource.exists(any(), any())).thenReturn(true);
 
         // when
         boolean isAccessible = activitiesAccessibilityVerifier.isAccessibleFor(USER, new ActivityId());
@@ -56,7 +40,7 @@ class ActivitiesAccessibilityVerifierImplTest {
     @Test
     void shouldConfirmActivityInaccessible() {
         // given
-        when(activityDataSource.find(any(), any())).thenReturn(Optional.empty());
+        when(activityDataSource.exists(any(), any())).thenReturn(false);
 
         // when
         boolean isAccessible = activitiesAccessibilityVerifier.isAccessibleFor(USER, new ActivityId());
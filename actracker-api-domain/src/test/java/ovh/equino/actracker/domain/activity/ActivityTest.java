@@ -23,12 +23,14 @@ import java.util.Set;
 
 import static java.math.BigDecimal.*;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -1643,4 +1645,84 @@ class ActivityTest {
                     .isInstanceOf(EntityEditForbidden.class);
         }
     }
+
+    @Nested
+    @DisplayName("forClient")
+    class ForClientTest {
+        private static final TagId ACCESSIBLE_TAG = new TagId();
+        private static final TagId NON_ACCESSIBLE_TAG = new TagId();
+        private static final MetricId ACCESSIBLE_METRIC_ID = new MetricId();
+        private static final MetricId NON_ACCESSIBLE_METRIC_ID = new MetricId();
+        private static final MetricValue ACCESSIBLE_METRIC_VALUE = new MetricValue(ACCESSIBLE_METRIC_ID.id(), ZERO);
+        private static final MetricValue NON_ACCESSIBLE_METRIC_VALUE = new MetricValue(NON_ACCESSIBLE_METRIC_ID.id(), ONE);
+
+        @Test
+        void shouldOmitNonAccessibleTagsAndMetricValues() {
+            // given
+            ActivityId activityId = new ActivityId();
+            Activity activity = new Activity(
+                    activityId,
+                    CREATOR,
+                    ACTIVITY_TITLE,
+                    START_TIME,
+                    END_TIME,
+                    ACTIVITY_COMMENT,
+                    List.of(ACCESSIBLE_TAG, NON_ACCESSIBLE_TAG),
+                    List.of(ACCESSIBLE_METRIC_VALUE, NON_ACCESSIBLE_METRIC_VALUE),
+                    !DELETED,
+                    actorExtractor,
+                    activitiesAccessibilityVerifier,
+                    tagsAccessibilityVerifier,
+                    metricsAccessibilityVerifier,
+                    validator
+            );
+            when(tagsAccessibilityVerifier.nonAccessibleFor(any(), any())).thenReturn(Set.of(NON_ACCESSIBLE_TAG));
+            when(metricsAccessibilityVerifier.nonAccessibleFor(CREATOR, Set.of(ACCESSIBLE_METRIC_ID, NON_ACCESSIBLE_METRIC_ID), Set.of(ACCESSIBLE_TAG)))
+                    .thenReturn(Set.of(NON_ACCESSIBLE_METRIC_ID));
+
+            // when
+            ActivityDto activityForClient = activity.forClient();
+
+            // then
+            assertThat(activityForClient.id()).isEqualTo(activityId.id());
+            assertThat(activityForClient.creatorId()).isEqualTo(CREATOR.id());
+            assertThat(activityForClient.title()).isEqualTo(ACTIVITY_TITLE);
+            assertThat(activityForClient.startTime()).isEqualTo(START_TIME);
+            assertThat(activityForClient.endTime()).isEqualTo(END_TIME);
+            assertThat(activityForClient.comment()).isEqualTo(ACTIVITY_COMMENT);
+            assertThat(activityForClient.tags()).containsExactly(ACCESSIBLE_TAG.id());
+            assertThat(activityForClient.metricValues()).containsExactly(ACCESSIBLE_METRIC_VALUE);
+            assertThat(activityForClient.deleted()).isFalse();
+        }
+
+        @Test
+        void shouldNotVerifyMetricsWhenNoMetricValues() {
+            // given
+            Activity activity = new Activity(
+                    new ActivityId(),
+                    CREATOR,
+                    ACTIVITY_TITLE,
+                    START_TIME,
+                    END_TIME,
+                    ACTIVITY_COMMENT,
+                    List.of(ACCESSIBLE_TAG),
+                    EMPTY_METRIC_VALUES,
+                    !DELETED,
+                    actorExtractor,
+                    activitiesAccessibilityVerifier,
+                    tagsAccessibilityVerifier,
+                    metricsAccessibilityVerifier,
+                    validator
+            );
+            when(tagsAccessibilityVerifier.nonAccessibleFor(any(), any())).thenReturn(emptySet());
+
+            // when
+            ActivityDto activityForClient = activity.forClient();
+
+            // then
+            assertThat(activityForClient.tags()).containsExactly(ACCESSIBLE_TAG.id());
+            assertThat(activityForClient.metricValues()).isEmpty();
+            verifyNoInteractions(metricsAccessibilityVerifier);
+        }
+    }
 }
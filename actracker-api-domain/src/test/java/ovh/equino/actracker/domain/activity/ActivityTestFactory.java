@@ -23,14 +23,7 @@ public class ActivityTestFactory implements ActivityFactory {
     private final ActivityValidator activityValidator;
 
     public static ActivityFactory forUser(User user) {
-        return new ActivityTestFactory(user);
-    }
-
-    private ActivityTestFactory(User user) {
-        this.user = user;
-        this.actorExtractor = () -> user;
-        this.activitiesAccessibilityVerifier = (user1, activityId) -> true;
-        this.tagsAccessibilityVerifier = new TagsAccessibilityVerifier() {
+        TagsAccessibilityVerifier tagsAccessibilityVerifier = new TagsAccessibilityVerifier() {
             @Override
             public boolean isAccessibleFor(User user, TagId tag) {
                 return true;
@@ -41,7 +34,7 @@ public class ActivityTestFactory implements ActivityFactory {
                 return emptySet();
             }
         };
-        this.metricsAccessibilityVerifier = new MetricsAccessibilityVerifier() {
+        MetricsAccessibilityVerifier metricsAccessibilityVerifier = new MetricsAccessibilityVerifier() {
             @Override
             public boolean isAccessibleFor(User user, MetricId metric, Collection<TagId> tags) {
                 return true;
@@ -52,6 +45,25 @@ public class ActivityTestFactory implements ActivityFactory {
                 return emptySet();
             }
         };
+        return new ActivityTestFactory(user, tagsAccessibilityVerifier, metricsAccessibilityVerifier);
+    }
+
+    public static ActivityFactory forUser(User user,
+                                          TagsAccessibilityVerifier tagsAccessibilityVerifier,
+                                          MetricsAccessibilityVerifier metricsAccessibilityVerifier) {
+
+        return new ActivityTestFactory(user, tagsAccessibilityVerifier, metricsAccessibilityVerifier);
+    }
+
+    private ActivityTestFactory(User user,
+                                TagsAccessibilityVerifier tagsAccessibilityVerifier,
+                                MetricsAccessibilityVerifier metricsAccessibilityVerifier) {
+
+        this.user = user;
+        this.actorExtractor = () -> user;
+        this.activitiesAccessibilityVerifier = (user1, activityId) -> true;
+        this.tagsAccessibilityVerifier = tagsAccessibilityVerifier;
+        this.metricsAccessibilityVerifier = metricsAccessibilityVerifier;
         this.activityValidator = new ActivityValidator();
     }
 
@@ -94,7 +106,7 @@ public class ActivityTestFactory implements ActivityFactory {
 
         return new Activity(
                 id,
-                user,
+                creator,
                 title,
                 startTime,
                 endTime,
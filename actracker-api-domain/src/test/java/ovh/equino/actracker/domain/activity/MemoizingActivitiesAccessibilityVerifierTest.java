@@ -0,0 +1,69 @@
+package ovh.equino.actracker.domain.activity;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ovh.equino.actracker.domain.AccessibilityDecisions;
+import ovh.equino.actracker.domain.user.User;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemoizingActivitiesAccessibilityVerifierTest {
+
+    private static final User USER = new User(randomUUID());
+    private static final User OTHER_USER = new User(randomUUID());
+    private static final ActivityId ACTIVITY_ID = new ActivityId();
+    private static final ActivityId OTHER_ACTIVITY_ID = new ActivityId();
+
+    @Mock
+    private ActivitiesAccessibilityVerifier verifier;
+    private AccessibilityDecisions decisions;
+    private MemoizingActivitiesAccessibilityVerifier memoizingVerifier;
+
+    @BeforeEach
+    void init() {
+        decisions = new AccessibilityDecisions();
+        memoizingVerifier = new MemoizingActivitiesAccessibilityVerifier(verifier, decisions);
+    }
+
+    @Test
+    void shouldRememberDecisionsPerUser() {
+        // given
+        when(verifier.isAccessibleFor(USER, ACTIVITY_ID)).thenReturn(true);
+        when(verifier.isAccessibleFor(OTHER_USER, ACTIVITY_ID)).thenReturn(false);
+
+        // when
+        try (AccessibilityDecisions.Scope ignored = decisions.open()) {
+            assertThat(memoizingVerifier.isAccessibleFor(USER, ACTIVITY_ID)).isTrue();
+            assertThat(memoizingVerifier.isAccessibleFor(OTHER_USER, ACTIVITY_ID)).isFalse();
+            assertThat(memoizingVerifier.isAccessibleFor(OTHER_USER, ACTIVITY_ID)).isFalse();
+        }
+
+        // then
+        verify(verifier, times(1)).isAccessibleFor(USER, ACTIVITY_ID);
+        verify(verifier, times(1)).isAccessibleFor(OTHER_USER, ACTIVITY_ID);
+    }
+
+    @Test
+    void shouldRememberDecisionsPerActivity() {
+        // given
+        when(verifier.isAccessibleFor(USER, ACTIVITY_ID)).thenReturn(true);
+        when(verifier.isAccessibleFor(USER, OTHER_ACTIVITY_ID)).thenReturn(false);
+
+        // when
+        try (AccessibilityDecisions.Scope ignored = decisions.open()) {
+            assertThat(memoizingVerifier.isAccessibleFor(USER, ACTIVITY_ID)).isTrue();
+            assertThat(memoizingVerifier.isAccessibleFor(USER, OTHER_ACTIVITY_ID)).isFalse();
+            assertThat(memoizingVerifier.isAccessibleFor(USER, ACTIVITY_ID)).isTrue();
+        }
+
+        // then
+        verify(verifier, times(1)).isAccessibleFor(USER, ACTIVITY_ID);
+        verify(verifier, times(1)).isAccessibleFor(USER, OTHER_ACTIVITY_ID);
+    }
+}
@@ -20,14 +20,7 @@ public class DashboardTestFactory implements DashboardFactory {
     private final DashboardValidator dashboardValidator;
 
     public static DashboardFactory forUser(User user) {
-        return new DashboardTestFactory(user);
-    }
-
-    private DashboardTestFactory(User user) {
-        this.user = user;
-        this.actorExtractor = () -> user;
-        this.dashboardsAccessibilityVerifier = (user1, dashboardId) -> true;
-        this.tagsAccessibilityVerifier = new TagsAccessibilityVerifier() {
+        TagsAccessibilityVerifier tagsAccessibilityVerifier = new TagsAccessibilityVerifier() {
             @Override
             public boolean isAccessibleFor(User user, TagId tag) {
                 return true;
@@ -38,6 +31,18 @@ public class DashboardTestFactory implements DashboardFactory {
                 return emptySet();
             }
         };
+        return new DashboardTestFactory(user, tagsAccessibilityVerifier);
+    }
+
+    public static DashboardFactory forUser(User user, TagsAccessibilityVerifier tagsAccessibilityVerifier) {
+        return new DashboardTestFactory(user, tagsAccessibilityVerifier);
+    }
+
+    private DashboardTestFactory(User user, TagsAccessibilityVerifier tagsAccessibilityVerifier) {
+        this.user = user;
+        this.actorExtractor = () -> user;
+        this.dashboardsAccessibilityVerifier = (user1, dashboardId) -> true;
+        this.tagsAccessibilityVerifier = tagsAccessibilityVerifier;
         this.dashboardValidator = new DashboardValidator();
     }
 
@@ -67,7 +72,7 @@ public class DashboardTestFactory implements DashboardFactory {
 
         return new Dashboard(
                 id,
-                user,
+                creator,
                 name,
                 charts,
                 shares,
@@ -7,10 +7,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import ovh.equino.actracker.domain.user.User;
 
-import java.util.Optional;
-
-import static java.util.Collections.emptyList;
-import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -19,14 +15,6 @@ import static org.mockito.Mockito.when;
 class DashboardsAccessibilityVerifierImplTest {
 
     private static final User USER = null;
-    private static final DashboardDto ACCESSIBLE_DASHBOARD = new DashboardDto(
-            randomUUID(),
-            randomUUID(),
-            "accessible dashboard",
-            emptyList(),
-            emptyList(),
-            false
-    );
 
     @Mock
     private DashboardDataSource dashboardDataSource;
@@ -40,7 +28,7 @@ class DashboardsAccessibilityVerifierImplTest {
     @Test
     void shouldConfirmDashboardAccessible() {
         // given
-        when(dashboardDataSource.find(any(), any())).thenReturn(Optional.of(ACCESSIBLE_DASHBOARD));
+        when(dashboardDataSource.exists(any(), any())).thenReturn(true);
 
         // when
         boolean isAccessible = dashboardsAccessibilityVerifier.isAccessibleFor(USER, new DashboardId());
@@ -52,7 +40,7 @@ class DashboardsAccessibilityVerifierImplTest {
     @Test
     void shouldConfirmDashboardInaccessible() {
         // given
-        when(dashboardDataSource.find(any(), any())).thenReturn(Optional.empty());
+        when(dashboardDataSource.exists(any(), any())).thenReturn(false);
 
         // when
         boolean isAccessible = dashboardsAccessibilityVerifier.isAccessibleFor(USER, new DashboardId());
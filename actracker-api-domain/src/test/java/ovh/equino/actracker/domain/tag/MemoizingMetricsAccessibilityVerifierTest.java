@@ -0,0 +1,71 @@
+package ovh.equino.actracker.domain.tag;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ovh.equino.actracker.domain.AccessibilityDecisions;
+import ovh.equino.actracker.domain.user.User;
+
+import java.util.List;
+import java.util.Set;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemoizingMetricsAccessibilityVerifierTest {
+
+    private static final User USER = new User(randomUUID());
+    private static final MetricId METRIC = new MetricId();
+    private static final TagId TAG_1 = new TagId();
+    private static final TagId TAG_2 = new TagId();
+
+    @Mock
+    private MetricsAccessibilityVerifier verifier;
+    private MemoizingMetricsAccessibilityVerifier memoizingVerifier;
+    private AccessibilityDecisions.Scope scope;
+
+    @BeforeEach
+    void init() {
+        AccessibilityDecisions decisions = new AccessibilityDecisions();
+        memoizingVerifier = new MemoizingMetricsAccessibilityVerifier(verifier, decisions);
+        scope = decisions.open();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        scope.close();
+    }
+
+    @Test
+    void shouldRememberDecisionForSameTagsInAnyOrder() {
+        // given
+        when(verifier.isAccessibleFor(eq(USER), eq(METRIC), anyCollection())).thenReturn(true);
+
+        // when
+        memoizingVerifier.isAccessibleFor(USER, METRIC, List.of(TAG_1, TAG_2));
+        boolean accessible = memoizingVerifier.isAccessibleFor(USER, METRIC, List.of(TAG_2, TAG_1));
+
+        // then
+        assertThat(accessible).isTrue();
+        verify(verifier, times(1)).isAccessibleFor(eq(USER), eq(METRIC), anyCollection());
+    }
+
+    @Test
+    void shouldVerifyAgainForDifferentTags() {
+        // given
+        when(verifier.isAccessibleFor(USER, METRIC, List.of(TAG_1, TAG_2))).thenReturn(true);
+        when(verifier.nonAccessibleFor(USER, List.of(METRIC), List.of(TAG_2))).thenReturn(Set.of(METRIC));
+        memoizingVerifier.isAccessibleFor(USER, METRIC, List.of(TAG_1, TAG_2));
+
+        // when
+        Set<MetricId> nonAccessibleMetrics = memoizingVerifier.nonAccessibleFor(USER, List.of(METRIC), List.of(TAG_2));
+
+        // then
+        assertThat(nonAccessibleMetrics).containsExactly(METRIC);
+    }
+}
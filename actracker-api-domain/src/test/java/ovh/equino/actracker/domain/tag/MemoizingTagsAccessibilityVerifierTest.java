@@ -0,0 +1,90 @@
+package ovh.equino.actracker.domain.tag;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ovh.equino.actracker.domain.AccessibilityDecisions;
+import ovh.equino.actracker.domain.user.User;
+
+import java.util.List;
+import java.util.Set;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemoizingTagsAccessibilityVerifierTest {
+
+    private static final User USER = new User(randomUUID());
+    private static final TagId ACCESSIBLE_TAG_1 = new TagId();
+    private static final TagId ACCESSIBLE_TAG_2 = new TagId();
+    private static final TagId INACCESSIBLE_TAG = new TagId();
+
+    @Mock
+    private TagsAccessibilityVerifier verifier;
+    private MemoizingTagsAccessibilityVerifier memoizingVerifier;
+    private AccessibilityDecisions.Scope scope;
+
+    @BeforeEach
+    void init() {
+        AccessibilityDecisions decisions = new AccessibilityDecisions();
+        memoizingVerifier = new MemoizingTagsAccessibilityVerifier(verifier, decisions);
+        scope = decisions.open();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        scope.close();
+    }
+
+    @Test
+    void shouldVerifyOnlyTagsWithoutRememberedDecision() {
+        // given
+        when(verifier.isAccessibleFor(USER, ACCESSIBLE_TAG_1)).thenReturn(true);
+        when(verifier.nonAccessibleFor(eq(USER), argThat(tags -> tags.size() == 2)))
+                .thenReturn(Set.of(INACCESSIBLE_TAG));
+        memoizingVerifier.isAccessibleFor(USER, ACCESSIBLE_TAG_1);
+
+        // when
+        Set<TagId> nonAccessibleTags = memoizingVerifier.nonAccessibleFor(
+                USER,
+                List.of(ACCESSIBLE_TAG_1, ACCESSIBLE_TAG_2, INACCESSIBLE_TAG)
+        );
+
+        // then
+        assertThat(nonAccessibleTags).containsExactly(INACCESSIBLE_TAG);
+        verify(verifier).nonAccessibleFor(
+                eq(USER),
+                argThat(tags -> Set.copyOf(tags).equals(Set.of(ACCESSIBLE_TAG_2, INACCESSIBLE_TAG)))
+        );
+        assertThat(memoizingVerifier.memoizedAccessibility().getHits()).isEqualTo(1);
+        assertThat(memoizingVerifier.memoizedAccessibility().getMisses()).isEqualTo(3);
+    }
+
+    @Test
+    void shouldRememberDecisionsOfVerifiedTags() {
+        // given
+        when(verifier.nonAccessibleFor(eq(USER), anyCollection())).thenReturn(Set.of(INACCESSIBLE_TAG));
+        memoizingVerifier.nonAccessibleFor(USER, List.of(ACCESSIBLE_TAG_1, INACCESSIBLE_TAG));
+
+        // when
+        boolean accessible = memoizingVerifier.isAccessibleFor(USER, ACCESSIBLE_TAG_1);
+        boolean inaccessible = memoizingVerifier.isAccessibleFor(USER, INACCESSIBLE_TAG);
+        Set<TagId> nonAccessibleTags = memoizingVerifier.nonAccessibleFor(
+                USER,
+                List.of(ACCESSIBLE_TAG_1, INACCESSIBLE_TAG)
+        );
+
+        // then
+        assertThat(accessible).isTrue();
+        assertThat(inaccessible).isFalse();
+        assertThat(nonAccessibleTags).containsExactly(INACCESSIBLE_TAG);
+        verify(verifier, times(1)).nonAccessibleFor(eq(USER), anyCollection());
+        verify(verifier, never()).isAccessibleFor(any(), any());
+    }
+}
@@ -21,6 +21,6 @@ public class MetricTestFactory implements MetricFactory {
 
     @Override
     public Metric reconstitute(MetricId id, User creator, String name, MetricType type, boolean deleted) {
-        return new Metric(id, user, name, type, deleted);
+        return new Metric(id, creator, name, type, deleted);
     }
 }
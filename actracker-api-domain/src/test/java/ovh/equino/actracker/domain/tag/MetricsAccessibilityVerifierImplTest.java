@@ -57,7 +57,7 @@ class MetricsAccessibilityVerifierImplTest {
     @Test
     void shouldFindInaccessibleMetrics() {
         // given
-        when(tagDataSource.find(any(Set.class), any(User.class)))
+        when(tagDataSource.find(any(Set.class), any(User.class), any(Set.class)))
                 .thenReturn(List.of(ACCESSIBLE_TAG_1, ACCESSIBLE_TAG_2));
 
         // when
@@ -87,7 +87,7 @@ class MetricsAccessibilityVerifierImplTest {
     @Test
     void shouldConfirmMetricAccessible() {
         // given
-        when(tagDataSource.find(any(Set.class), any(User.class)))
+        when(tagDataSource.find(any(Set.class), any(User.class), any(Set.class)))
                 .thenReturn(List.of(ACCESSIBLE_TAG_1, ACCESSIBLE_TAG_2));
 
         // when
@@ -109,7 +109,7 @@ class MetricsAccessibilityVerifierImplTest {
     @Test
     void shouldConfirmMetricInaccessible() {
         // given
-        when(tagDataSource.find(any(Set.class), any(User.class)))
+        when(tagDataSource.find(any(Set.class), any(User.class), any(Set.class)))
                 .thenReturn(emptyList());
 
         // when
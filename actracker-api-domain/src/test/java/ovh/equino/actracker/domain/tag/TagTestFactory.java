@@ -62,7 +62,7 @@ public class TagTestFactory implements TagFactory {
 
         return new Tag(
                 id,
-                user,
+                creator,
                 name,
                 metrics,
                 shares,
@@ -8,7 +8,6 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import ovh.equino.actracker.domain.user.User;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 
 import static java.util.Collections.emptyList;
@@ -52,8 +51,8 @@ class TagsAccessibilityVerifierImplTest {
     @Test
     void shouldFindInaccessibleTags() {
         // given
-        when(tagDataSource.find(any(Set.class), any(User.class)))
-                .thenReturn(List.of(ACCESSIBLE_TAG_1, ACCESSIBLE_TAG_2));
+        when(tagDataSource.accessibleIds(any(Set.class), any(User.class)))
+                .thenReturn(Set.of(ACCESSIBLE_TAG_1_ID, ACCESSIBLE_TAG_2_ID));
 
         // when
         Set<TagId> nonAccessibleTags = tagsAccessibilityVerifier.nonAccessibleFor(
@@ -73,8 +72,8 @@ class TagsAccessibilityVerifierImplTest {
     @Test
     void shouldConfirmTagAccessible() {
         // given
-        when(tagDataSource.find(any(TagId.class), any(User.class)))
-                .thenReturn(Optional.of(ACCESSIBLE_TAG_1));
+        when(tagDataSource.exists(any(TagId.class), any(User.class)))
+                .thenReturn(true);
 
         // when
         boolean isAccessible = tagsAccessibilityVerifier.isAccessibleFor(USER, ACCESSIBLE_TAG_1_ID);
@@ -86,8 +85,8 @@ class TagsAccessibilityVerifierImplTest {
     @Test
     void shouldConfirmTagInaccessible() {
         // given
-        when(tagDataSource.find(any(TagId.class), any(User.class)))
-                .thenReturn(Optional.empty());
+        when(tagDataSource.exists(any(TagId.class), any(User.class)))
+                .thenReturn(false);
 
         // when
         boolean isAccessible = tagsAccessibilityVerifier.isAccessibleFor(USER, INACCESSIBLE_TAG_1_ID);
@@ -0,0 +1,69 @@
+package ovh.equino.actracker.domain.tagset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ovh.equino.actracker.domain.AccessibilityDecisions;
+import ovh.equino.actracker.domain.user.User;
+
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MemoizingTagSetsAccessibilityVerifierTest {
+
+    private static final User USER = new User(randomUUID());
+    private static final User OTHER_USER = new User(randomUUID());
+    private static final TagSetId TAG_SET_ID = new TagSetId();
+    private static final TagSetId OTHER_TAG_SET_ID = new TagSetId();
+
+    @Mock
+    private TagSetsAccessibilityVerifier verifier;
+    private AccessibilityDecisions decisions;
+    private MemoizingTagSetsAccessibilityVerifier memoizingVerifier;
+
+    @BeforeEach
+    void init() {
+        decisions = new AccessibilityDecisions();
+        memoizingVerifier = new MemoizingTagSetsAccessibilityVerifier(verifier, decisions);
+    }
+
+    @Test
+    void shouldRememberDecisionsPerUser() {
+        // given
+        when(verifier.isAccessibleFor(USER, TAG_SET_ID)).thenReturn(true);
+        when(verifier.isAccessibleFor(OTHER_USER, TAG_SET_ID)).thenReturn(false);
+
+        // when
+        try (AccessibilityDecisions.Scope ignored = decisions.open()) {
+            assertThat(memoizingVerifier.isAccessibleFor(USER, TAG_SET_ID)).isTrue();
+            assertThat(memoizingVerifier.isAccessibleFor(OTHER_USER, TAG_SET_ID)).isFalse();
+            assertThat(memoizingVerifier.isAccessibleFor(OTHER_USER, TAG_SET_ID)).isFalse();
+        }
+
+        // then
+        verify(verifier, times(1)).isAccessibleFor(USER, TAG_SET_ID);
+        verify(verifier, times(1)).isAccessibleFor(OTHER_USER, TAG_SET_ID);
+    }
+
+    @Test
+    void shouldRememberDecisionsPerTagSet() {
+        // given
+        when(verifier.isAccessibleFor(USER, TAG_SET_ID)).thenReturn(true);
+        when(verifier.isAccessibleFor(USER, OTHER_TAG_SET_ID)).thenReturn(false);
+
+        // when
+        try (AccessibilityDecisions.Scope ignored = decisions.open()) {
+            assertThat(memoizingVerifier.isAccessibleFor(USER, TAG_SET_ID)).isTrue();
+            assertThat(memoizingVerifier.isAccessibleFor(USER, OTHER_TAG_SET_ID)).isFalse();
+            assertThat(memoizingVerifier.isAccessibleFor(USER, TAG_SET_ID)).isTrue();
+        }
+
+        // then
+        verify(verifier, times(1)).isAccessibleFor(USER, TAG_SET_ID);
+        verify(verifier, times(1)).isAccessibleFor(USER, OTHER_TAG_SET_ID);
+    }
+}
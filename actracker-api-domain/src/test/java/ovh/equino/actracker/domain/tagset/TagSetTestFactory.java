@@ -19,14 +19,7 @@ public class TagSetTestFactory implements TagSetFactory {
     private final TagSetValidator tagSetValidator;
 
     public static TagSetFactory forUser(User user) {
-        return new TagSetTestFactory(user);
-    }
-
-    private TagSetTestFactory(User user) {
-        this.user = user;
-        this.actorExtractor = () -> user;
-        this.tagSetsAccessibilityVerifier = (user1, tagSetId) -> true;
-        this.tagsAccessibilityVerifier = new TagsAccessibilityVerifier() {
+        TagsAccessibilityVerifier tagsAccessibilityVerifier = new TagsAccessibilityVerifier() {
             @Override
             public boolean isAccessibleFor(User user, TagId tag) {
                 return true;
@@ -37,6 +30,18 @@ public class TagSetTestFactory implements TagSetFactory {
                 return emptySet();
             }
         };
+        return new TagSetTestFactory(user, tagsAccessibilityVerifier);
+    }
+
+    public static TagSetFactory forUser(User user, TagsAccessibilityVerifier tagsAccessibilityVerifier) {
+        return new TagSetTestFactory(user, tagsAccessibilityVerifier);
+    }
+
+    private TagSetTestFactory(User user, TagsAccessibilityVerifier tagsAccessibilityVerifier) {
+        this.user = user;
+        this.actorExtractor = () -> user;
+        this.tagSetsAccessibilityVerifier = (user1, tagSetId) -> true;
+        this.tagsAccessibilityVerifier = tagsAccessibilityVerifier;
         this.tagSetValidator = new TagSetValidator();
     }
 
@@ -7,10 +7,6 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import ovh.equino.actracker.domain.user.User;
 
-import java.util.Optional;
-
-import static java.util.Collections.emptySet;
-import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.when;
@@ -19,13 +15,6 @@ import static org.mockito.Mockito.when;
 class TagSetsAccessibilityVerifierImplTest {
 
     private static final User USER = null;
-    private static final TagSetDto ACCESSIBLE_TAG_SET = new TagSetDto(
-            randomUUID(),
-            randomUUID(),
-            "accessible tag set",
-            emptySet(),
-            false
-    );
 
     @Mock
     private TagSetDataSource tagSetDataSource;
@@ -39,7 +28,7 @@ class TagSetsAccessibilityVerifierImplTest {
     @Test
     void shouldConfirmTagSetAccessible() {
         // given
-        when(tagSetDataSource.find(any(), any())).thenReturn(Optional.of(ACCESSIBLE_TAG_SET));
+        when(tagSetDataSource.exists(any(), any())).thenReturn(true);
 
         // when
         boolean isAccessible = tagSetsAccessibilityVerifier.isAccessibleFor(USER, new TagSetId());
@@ -51,7 +40,7 @@ class TagSetsAccessibilityVerifierImplTest {
     @Test
     void shouldConfirmTagSetInaccessible() {
         // given
-        when(tagSetDataSource.find(any(), any())).thenReturn(Optional.empty());
+        when(tagSetDataSource.exists(any(), any())).thenReturn(false);
 
         // when
         boolean isAccessible = tagSetsAccessibilityVerifier.isAccessibleFor(USER, new TagSetId());
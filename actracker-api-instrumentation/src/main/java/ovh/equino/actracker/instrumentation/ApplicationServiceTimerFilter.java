@@ -0,0 +1,25 @@
+package ovh.equino.actracker.instrumentation;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+
+/**
+ * Removes percentiles and histograms from timers of all calls of application services, so that configuration applied
+ * to all meters does not make each call update them. Has to be applied after filters configuring them.
+ */
+public final class ApplicationServiceTimerFilter implements MeterFilter {
+
+    @Override
+    public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+        if (!MetricsCollector.TIMER_NAME.equals(id.getName())) {
+            return config;
+        }
+        return DistributionStatisticConfig.builder()
+                .percentilesHistogram(false)
+                .percentiles()
+                .serviceLevelObjectives()
+                .build()
+                .merge(config);
+    }
+}
@@ -0,0 +1,129 @@
+package ovh.equino.actracker.instrumentation;
+
+import io.micrometer.core.instrument.Clock;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Times calls of application services, tagged with the service, method, outcome and the type of the thrown exception.
+ * Timers of a method are resolved with its first call and kept by the method, so that a call only reads the clock
+ * twice and records the time.
+ * <p>
+ * Timers of all calls keep no distribution statistics, see {@link ApplicationServiceTimerFilter}. A sample of calls is
+ * recorded by timers publishing percentile histograms in addition.
+ */
+public class MetricsCollector {
+
+    static final String TIMER_NAME = "application.service";
+    static final String SAMPLED_TIMER_NAME = "application.service.sampled";
+
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final double histogramSampleRate;
+    private final Map<Method, MethodTimers> timersByMethod = new ConcurrentHashMap<>();
+
+    /**
+     * @param histogramSampleRate fraction of calls recorded by timers publishing percentile histograms, none with 0,
+     *                            all with 1
+     */
+    public MetricsCollector(MeterRegistry meterRegistry, double histogramSampleRate) {
+        this.meterRegistry = meterRegistry;
+        this.clock = meterRegistry.config().clock();
+        this.histogramSampleRate = histogramSampleRate;
+    }
+
+    public Object measureAndExecute(ProceedingJoinPoint joinPoint) throws Throwable {
+        MethodTimers timers = timersOf(joinPoint);
+        boolean sampled = histogramSampleRate > 0 && ThreadLocalRandom.current().nextDouble() < histogramSampleRate;
+        long startNanos = clock.monotonicTime();
+        try {
+            Object result = joinPoint.proceed();
+            timers.success().record(clock.monotonicTime() - startNanos, sampled);
+            return result;
+        } catch (Throwable e) {
+            timers.failure(e.getClass()).record(clock.monotonicTime() - startNanos, sampled);
+            throw e;
+        }
+    }
+
+    private MethodTimers timersOf(ProceedingJoinPoint joinPoint) {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        MethodTimers timers = timersByMethod.get(method);
+        if (timers == null) {
+            String serviceName = joinPoint.getTarget().getClass().getSimpleName();
+            timers = timersByMethod.computeIfAbsent(method, m -> new MethodTimers(serviceName, m.getName()));
+        }
+        return timers;
+    }
+
+    private final class MethodTimers {
+
+        private final String serviceName;
+        private final String methodName;
+        private final OutcomeTimers success;
+        private final Map<Class<?>, OutcomeTimers> failuresByExceptionType = new ConcurrentHashMap<>();
+
+        private MethodTimers(String serviceName, String methodName) {
+            this.serviceName = serviceName;
+            this.methodName = methodName;
+            this.success = outcomeTimers("success", "none");
+        }
+
+        private OutcomeTimers success() {
+            return success;
+        }
+
+        private OutcomeTimers failure(Class<?> exceptionType) {
+            OutcomeTimers failure = failuresByExceptionType.get(exceptionType);
+            if (failure == null) {
+                failure = failuresByExceptionType.computeIfAbsent(
+                        exceptionType,
+                        type -> outcomeTimers("failure", type.getSimpleName())
+                );
+            }
+            return failure;
+        }
+
+        private OutcomeTimers outcomeTimers(String outcome, String exception) {
+            Tags tags = Tags.of(
+                    "service", serviceName,
+                    "method", methodName,
+                    "outcome", outcome,
+                    "exception", exception
+            );
+            Timer timer = Timer.builder(TIMER_NAME)
+                    .description("Time of calls of application services")
+                    .tags(tags)
+                    .register(meterRegistry);
+            Timer sampledTimer = null;
+            if (histogramSampleRate > 0) {
+                sampledTimer = Timer.builder(SAMPLED_TIMER_NAME)
+                        .description("Time of sampled calls of application services")
+                        .tags(tags)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry);
+            }
+            return new OutcomeTimers(timer, sampledTimer);
+        }
+    }
+
+    private record OutcomeTimers(Timer timer, Timer sampledTimer) {
+
+        private void record(long nanos, boolean sampled) {
+            timer.record(nanos, NANOSECONDS);
+            if (sampled) {
+                sampledTimer.record(nanos, NANOSECONDS);
+            }
+        }
+    }
+}
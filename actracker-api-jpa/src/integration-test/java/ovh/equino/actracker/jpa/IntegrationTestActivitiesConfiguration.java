@@ -51,6 +51,18 @@ public final class IntegrationTestActivitiesConfiguration {
                 .toList();
     }
 
+    /**
+     * @return accessible activities as stored, before omitting the parts inaccessible for the user.
+     */
+    public List<ActivityDto> storedAccessibleFor(User user) {
+        return addedActivities
+                .stream()
+                .filter(not(ActivityDto::deleted))
+                .filter(activity -> isOwnerOrGrantee(user, activity))
+                .sorted(comparing(activity -> activity.id().toString()))
+                .toList();
+    }
+
     public List<ActivityDto> accessibleForWithLimitOffset(User user, int limit, int offset) {
         return accessibleFor(user)
                 .stream()
@@ -59,6 +71,24 @@ public final class IntegrationTestActivitiesConfiguration {
                 .toList();
     }
 
+    /**
+     * @return accessible activities with start time in given direction, then activities without start time.
+     */
+    public List<ActivityDto> accessibleForOrderedByStartTime(User user, boolean descending) {
+        Comparator<ActivityDto> byStartTime = comparing(ActivityDto::startTime);
+        Comparator<ActivityDto> byId = comparing(activity -> activity.id().toString());
+        List<ActivityDto> started = accessibleFor(user)
+                .stream()
+                .filter(activity -> nonNull(activity.startTime()))
+                .sorted(descending ? byStartTime.thenComparing(byId).reversed() : byStartTime.thenComparing(byId))
+                .toList();
+        List<ActivityDto> notStarted = accessibleFor(user)
+                .stream()
+                .filter(activity -> isNull(activity.startTime()))
+                .toList();
+        return concat(started.stream(), notStarted.stream()).toList();
+    }
+
     public List<ActivityDto> accessibleForExcluding(User user, Set<UUID> excludedIds) {
         return accessibleFor(user)
                 .stream()
@@ -48,6 +48,18 @@ public final class IntegrationTestDashboardsConfiguration {
                 .toList();
     }
 
+    /**
+     * @return accessible dashboards as stored, before omitting the parts inaccessible for the user.
+     */
+    public List<DashboardDto> storedAccessibleFor(User user) {
+        return addedDashboards
+                .stream()
+                .filter(not(DashboardDto::deleted))
+                .filter(dashboard -> isOwnerOrGrantee(user, dashboard))
+                .sorted(comparing(dashboard -> dashboard.id().toString()))
+                .toList();
+    }
+
     public List<DashboardDto> accessibleForWithLimitOffset(User user, int limit, int offset) {
         return accessibleFor(user)
                 .stream()
@@ -1,6 +1,7 @@
 package ovh.equino.actracker.jpa;
 
 import ovh.equino.actracker.domain.Notification;
+import ovh.equino.actracker.domain.NotificationCodec;
 import ovh.equino.actracker.domain.activity.ActivityDto;
 import ovh.equino.actracker.domain.activity.MetricValue;
 import ovh.equino.actracker.domain.dashboard.Chart;
@@ -40,6 +41,11 @@ public abstract class IntegrationTestRelationalDataBase {
 
     protected abstract Connection getConnection() throws SQLException;
 
+    /**
+     * @param sql statement without query parameters
+     */
+    public abstract QueryPlan explain(String sql) throws SQLException;
+
     public synchronized void addUsers(TenantDto... users) throws SQLException {
         List<TenantDto> notAddedUsers = stream(users)
                 .filter(user -> !addedEntityIds.contains(user.id()))
@@ -275,7 +281,7 @@ public abstract class IntegrationTestRelationalDataBase {
                 preparedStatement.setString(1, notification.id().toString());
                 preparedStatement.setLong(2, notification.version());
                 preparedStatement.setString(3, notification.toJsonData());
-                preparedStatement.setString(4, notification.notificationType().getCanonicalName());
+                preparedStatement.setString(4, NotificationCodec.typeCode(notification.notificationType()));
                 preparedStatement.execute();
                 addedEntityIds.add(notification.id());
             }
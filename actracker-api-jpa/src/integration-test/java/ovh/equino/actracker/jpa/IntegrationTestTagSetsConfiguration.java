@@ -45,6 +45,18 @@ public final class IntegrationTestTagSetsConfiguration {
                 .toList();
     }
 
+    /**
+     * @return accessible tag sets as stored, before omitting the parts inaccessible for the user.
+     */
+    public List<TagSetDto> storedAccessibleFor(User user) {
+        return addedTagSets
+                .stream()
+                .filter(not(TagSetDto::deleted))
+                .filter(tagSet -> isOwner(user, tagSet))
+                .sorted(comparing(tagSet -> tagSet.id().toString()))
+                .toList();
+    }
+
     public List<TagSetDto> accessibleForWithLimitOffset(User user, int limit, int offset) {
         return accessibleFor(user)
                 .stream()
@@ -2,7 +2,11 @@ package ovh.equino.actracker.jpa;
 
 import ovh.equino.actracker.domain.share.Share;
 import ovh.equino.actracker.domain.tag.MetricDto;
+import ovh.equino.actracker.domain.tag.MetricId;
+import ovh.equino.actracker.domain.tag.MetricsAccessibilityVerifier;
 import ovh.equino.actracker.domain.tag.TagDto;
+import ovh.equino.actracker.domain.tag.TagId;
+import ovh.equino.actracker.domain.tag.TagsAccessibilityVerifier;
 import ovh.equino.actracker.domain.user.User;
 
 import java.sql.SQLException;
@@ -11,6 +15,7 @@ import java.util.*;
 import static java.util.Collections.emptyList;
 import static java.util.Comparator.comparing;
 import static java.util.function.Predicate.not;
+import static java.util.stream.Collectors.toUnmodifiableSet;
 import static java.util.stream.Stream.concat;
 
 public final class IntegrationTestTagsConfiguration {
@@ -40,6 +45,18 @@ public final class IntegrationTestTagsConfiguration {
                 .toList();
     }
 
+    /**
+     * @return accessible tags as stored, before omitting the parts inaccessible for the user.
+     */
+    public List<TagDto> storedAccessibleFor(User user) {
+        return addedTags
+                .stream()
+                .filter(not(TagDto::deleted))
+                .filter(tag -> isOwnerOrGrantee(user, tag))
+                .sorted(comparing(tag -> tag.id().toString()))
+                .toList();
+    }
+
     public List<TagDto> accessibleForWithLimitOffset(User user, int limit, int offset) {
         return accessibleFor(user)
                 .stream()
@@ -86,6 +103,57 @@ public final class IntegrationTestTagsConfiguration {
                 .toList();
     }
 
+    /**
+     * @return verifier deciding tags accessibility from the configured tags, without reaching the database.
+     */
+    public TagsAccessibilityVerifier tagsAccessibilityVerifier() {
+        return new TagsAccessibilityVerifier() {
+            @Override
+            public boolean isAccessibleFor(User user, TagId tag) {
+                return nonAccessibleFor(user, List.of(tag)).isEmpty();
+            }
+
+            @Override
+            public Set<TagId> nonAccessibleFor(User user, Collection<TagId> tags) {
+                Set<UUID> accessibleTags = accessibleFor(user)
+                        .stream()
+                        .map(TagDto::id)
+                        .collect(toUnmodifiableSet());
+                return tags.stream()
+                        .filter(tag -> !accessibleTags.contains(tag.id()))
+                        .collect(toUnmodifiableSet());
+            }
+        };
+    }
+
+    /**
+     * @return verifier deciding metrics accessibility from the configured tags, without reaching the database.
+     */
+    public MetricsAccessibilityVerifier metricsAccessibilityVerifier() {
+        return new MetricsAccessibilityVerifier() {
+            @Override
+            public boolean isAccessibleFor(User user, MetricId metric, Collection<TagId> tags) {
+                return nonAccessibleFor(user, List.of(metric), tags).isEmpty();
+            }
+
+            @Override
+            public Set<MetricId> nonAccessibleFor(User user, Collection<MetricId> metrics, Collection<TagId> tags) {
+                Set<UUID> tagIds = tags.stream()
+                        .map(TagId::id)
+                        .collect(toUnmodifiableSet());
+                Set<UUID> accessibleMetrics = accessibleFor(user)
+                        .stream()
+                        .filter(tag -> tagIds.contains(tag.id()))
+                        .flatMap(tag -> tag.metrics().stream())
+                        .map(MetricDto::id)
+                        .collect(toUnmodifiableSet());
+                return metrics.stream()
+                        .filter(metric -> !accessibleMetrics.contains(metric.id()))
+                        .collect(toUnmodifiableSet());
+            }
+        };
+    }
+
     private boolean isOwnerOrGrantee(User user, TagDto tag) {
         return isOwner(user, tag) || isGrantee(user, tag);
     }
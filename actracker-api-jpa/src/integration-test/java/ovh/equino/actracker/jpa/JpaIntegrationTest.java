@@ -2,16 +2,33 @@ package ovh.equino.actracker.jpa;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.hibernate.jpa.HibernatePersistenceProvider;
+import org.hibernate.query.criteria.ValueHandlingMode;
+import org.hibernate.stat.Statistics;
 import ovh.equino.actracker.domain.tenant.TenantDto;
 
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import static org.hibernate.cfg.AvailableSettings.CRITERIA_VALUE_HANDLING_MODE;
+import static org.hibernate.cfg.AvailableSettings.STATEMENT_INSPECTOR;
 
 public abstract class JpaIntegrationTest {
 
     protected static final int LARGE_PAGE_SIZE = 1000;
     protected static final String FIRST_PAGE = "";
+    /**
+     * Tables growing with the number of activities, which must not be read without using an index.
+     */
+    protected static final Set<String> LARGE_TABLES = Set.of(
+            "activity", "activity_tag", "metric_value", "tag", "tag_share", "metric",
+            "tag_set", "tag_set_tag", "dashboard", "dashboard_share", "chart", "chart_tag"
+    );
 
     protected final EntityManager entityManager;
 
@@ -32,6 +49,43 @@ public abstract class JpaIntegrationTest {
         entityManager.getTransaction().commit();
     }
 
+    /**
+     * @return number of SQL statements prepared while executing the operation
+     */
+    protected long countStatements(TransactionalOperation transactionalOperation) {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        long statementsBefore = statistics.getPrepareStatementCount();
+        transactionalOperation.execute();
+        return statistics.getPrepareStatementCount() - statementsBefore;
+    }
+
+    /**
+     * Executes the operation within a transaction and explains SQL statements it issued, with query parameters
+     * inlined as literals.
+     *
+     * @return plans of statements in the order of execution
+     */
+    protected List<QueryPlan> explain(QueryOperation queryOperation) throws SQLException {
+        StatementRecorder statementRecorder = new StatementRecorder();
+        Map<String, Object> properties = persistenceProperties();
+        properties.put(CRITERIA_VALUE_HANDLING_MODE, ValueHandlingMode.INLINE);
+        properties.put(STATEMENT_INSPECTOR, statementRecorder);
+        EntityManagerFactory entityManagerFactory = new HibernatePersistenceProvider()
+                .createContainerEntityManagerFactory(new PersistenceUnitInfo(), properties);
+        try (entityManagerFactory; EntityManager explainedEntityManager = entityManagerFactory.createEntityManager()) {
+            explainedEntityManager.getTransaction().begin();
+            queryOperation.execute(explainedEntityManager);
+            explainedEntityManager.getTransaction().commit();
+        }
+        List<QueryPlan> queryPlans = new ArrayList<>();
+        for (String statement : statementRecorder.drain()) {
+            queryPlans.add(database().explain(statement));
+        }
+        return queryPlans;
+    }
+
     protected static TenantBuilder newUser() {
         return new TenantBuilder();
     }
@@ -60,14 +114,15 @@ public abstract class JpaIntegrationTest {
         return new ChartBuilder(creator);
     }
 
-    private Map<String, String> persistenceProperties() {
-        Map<String, String> properties = new HashMap<>();
+    private Map<String, Object> persistenceProperties() {
+        Map<String, Object> properties = new HashMap<>();
         properties.put("javax.persistence.jdbc.url", database().jdbcUrl());
         properties.put("javax.persistence.jdbc.user", database().username());
         properties.put("javax.persistence.jdbc.password", database().password());
         properties.put("javax.persistence.jdbc.driver", database().driverClassName());
         properties.put("hibernate.show_sql", "true");
         properties.put("hibernate.format_sql", "true");
+        properties.put("hibernate.generate_statistics", "true");
         return properties;
     }
 }
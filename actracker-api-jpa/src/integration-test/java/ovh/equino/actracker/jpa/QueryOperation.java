@@ -0,0 +1,9 @@
+package ovh.equino.actracker.jpa;
+
+import jakarta.persistence.EntityManager;
+
+@FunctionalInterface
+public interface QueryOperation {
+
+    void execute(EntityManager entityManager);
+}
@@ -0,0 +1,18 @@
+package ovh.equino.actracker.jpa;
+
+import java.util.Set;
+
+/**
+ * @param sequentiallyScannedTables lower case names of tables the plan reads without using any index
+ */
+public record QueryPlan(
+        String statement,
+        String plan,
+        Set<String> sequentiallyScannedTables
+) {
+
+    @Override
+    public String toString() {
+        return statement + System.lineSeparator() + plan;
+    }
+}
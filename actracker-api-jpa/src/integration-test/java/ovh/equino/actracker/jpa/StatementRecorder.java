@@ -0,0 +1,23 @@
+package ovh.equino.actracker.jpa;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.ArrayList;
+import java.util.List;
+
+final class StatementRecorder implements StatementInspector {
+
+    private final List<String> recordedStatements = new ArrayList<>();
+
+    @Override
+    public synchronized String inspect(String sql) {
+        recordedStatements.add(sql);
+        return sql;
+    }
+
+    synchronized List<String> drain() {
+        List<String> statements = List.copyOf(recordedStatements);
+        recordedStatements.clear();
+        return statements;
+    }
+}
@@ -3,6 +3,7 @@ package ovh.equino.actracker.jpa.notification;
 import jakarta.persistence.metamodel.EntityType;
 import jakarta.persistence.metamodel.SingularAttribute;
 import jakarta.persistence.metamodel.StaticMetamodel;
+import java.sql.Timestamp;
 
 @StaticMetamodel(NotificationEntity.class)
 public abstract class NotificationEntity_ extends ovh.equino.actracker.jpa.JpaEntity_ {
@@ -23,6 +24,11 @@ public abstract class NotificationEntity_ extends ovh.equino.actracker.jpa.JpaEn
 	 **/
 	public static volatile EntityType<NotificationEntity> class_;
 	
+	/**
+	 * @see ovh.equino.actracker.jpa.notification.NotificationEntity#createdAt
+	 **/
+	public static volatile SingularAttribute<NotificationEntity, Timestamp> createdAt;
+	
 	/**
 	 * @see ovh.equino.actracker.jpa.notification.NotificationEntity#version
 	 **/
@@ -30,6 +36,7 @@ public abstract class NotificationEntity_ extends ovh.equino.actracker.jpa.JpaEn
 
 	public static final String DATA = "data";
 	public static final String DATA_TYPE = "dataType";
+	public static final String CREATED_AT = "createdAt";
 	public static final String VERSION = "version";
 
 }
@@ -10,6 +10,8 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 import ovh.equino.actracker.jpa.JpaEntity;
 
+import java.sql.Timestamp;
+
 import static lombok.AccessLevel.PRIVATE;
 
 @Entity
@@ -28,4 +30,7 @@ public class NotificationEntity extends JpaEntity {
 
     @Column(name = "entity_type")
     private String dataType;
+
+    @Column(name = "created_at", insertable = false, updatable = false)
+    private Timestamp createdAt;
 }
@@ -0,0 +1,29 @@
+package ovh.equino.actracker.main.springboot.configuration;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Runs commands after the current transaction is committed, or immediately outside a transaction. Commands of rolled
+ * back transactions are not run.
+ * <p>
+ * Not registered as a bean, as an {@link Executor} bean would replace the task executor configured by Spring Boot.
+ */
+class AfterCommitExecutor implements Executor {
+
+    @Override
+    public void execute(Runnable command) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            command.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                command.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,98 @@
+package ovh.equino.actracker.main.springboot.configuration;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.util.unit.DataSize;
+import ovh.equino.actracker.application.dashboard.CacheInvalidatingDashboardNotifier;
+import ovh.equino.actracker.application.dashboard.CacheInvalidatingTagNotifier;
+import ovh.equino.actracker.application.dashboard.DashboardGenerationCache;
+import ovh.equino.actracker.domain.dashboard.DashboardNotifier;
+import ovh.equino.actracker.domain.tag.TagNotifier;
+
+import java.time.Duration;
+
+/**
+ * Activity notifiers invalidating the cache are wrapped by dashboard generator configurations, as the JPA generator
+ * also wraps the activity notifier.
+ */
+@Configuration
+class DashboardGenerationCacheConfiguration {
+
+    /**
+     * Limit of the estimated size of generated dashboards kept in memory. The cache is disabled with 0.
+     */
+    @Value("${actracker-api-dashboard.generationCache.maxSize:64MB}")
+    private DataSize maxSize;
+
+    @Value("${actracker-api-dashboard.generationCache.timeToLive:5m}")
+    private Duration timeToLive;
+
+    @Bean
+    DashboardGenerationCache dashboardGenerationCache() {
+        return new DashboardGenerationCache(maxSize.toBytes(), timeToLive);
+    }
+
+    @Bean
+    @Primary
+    TagNotifier cacheInvalidatingTagNotifier(@Qualifier("outboxTagNotifier") TagNotifier notifier,
+                                             DashboardGenerationCache dashboardGenerationCache) {
+
+        return new CacheInvalidatingTagNotifier(notifier, dashboardGenerationCache, new AfterCommitExecutor());
+    }
+
+    @Bean
+    @Primary
+    DashboardNotifier cacheInvalidatingDashboardNotifier(
+            @Qualifier("outboxDashboardNotifier") DashboardNotifier notifier,
+            DashboardGenerationCache dashboardGenerationCache) {
+
+        return new CacheInvalidatingDashboardNotifier(notifier, dashboardGenerationCache, new AfterCommitExecutor());
+    }
+
+    @Bean
+    MeterBinder dashboardGenerationCacheMetrics(DashboardGenerationCache cache) {
+        return meterRegistry -> {
+            FunctionCounter.builder("dashboard.generation.cache.requests", cache, DashboardGenerationCache::getHits)
+                    .description("Generated dashboards found in cache")
+                    .tags("result", "hit")
+                    .register(meterRegistry);
+            FunctionCounter.builder("dashboard.generation.cache.requests", cache, DashboardGenerationCache::getMisses)
+                    .description("Dashboards generated, as not found in cache")
+                    .tags("result", "miss")
+                    .register(meterRegistry);
+            Gauge.builder("dashboard.generation.cache.hit.ratio", cache, DashboardGenerationCache::getHitRatio)
+                    .description("Ratio of generated dashboards found in cache")
+                    .register(meterRegistry);
+            FunctionCounter.builder(
+                            "dashboard.generation.cache.removals",
+                            cache,
+                            DashboardGenerationCache::getEvictions
+                    )
+                    .description("Generated dashboards evicted from cache exceeding its size")
+                    .tags("cause", "eviction")
+                    .register(meterRegistry);
+            FunctionCounter.builder(
+                            "dashboard.generation.cache.removals",
+                            cache,
+                            DashboardGenerationCache::getInvalidations
+                    )
+                    .description("Generated dashboards invalidated by committed changes")
+                    .tags("cause", "invalidation")
+                    .register(meterRegistry);
+            Gauge.builder("dashboard.generation.cache.size", cache, DashboardGenerationCache::getSize)
+                    .description("Number of generated dashboards in cache")
+                    .register(meterRegistry);
+            Gauge.builder("dashboard.generation.cache.memory", cache, DashboardGenerationCache::getEstimatedBytes)
+                    .description("Estimated size of generated dashboards in cache")
+                    .baseUnit(BaseUnits.BYTES)
+                    .register(meterRegistry);
+        };
+    }
+}
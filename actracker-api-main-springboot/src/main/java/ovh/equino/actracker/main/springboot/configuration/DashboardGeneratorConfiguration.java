@@ -1,11 +1,28 @@
 package ovh.equino.actracker.main.springboot.configuration;
 
-import org.springframework.context.annotation.ComponentScan;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.context.annotation.FilterType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.*;
+import ovh.equino.actracker.application.dashboard.CacheInvalidatingActivityNotifier;
+import ovh.equino.actracker.application.dashboard.DashboardGenerationCache;
+import ovh.equino.actracker.dashboard.generation.repository.ChartExecutor;
+import ovh.equino.actracker.dashboard.generation.repository.ChartGenerationTimes;
+import ovh.equino.actracker.domain.activity.ActivityNotifier;
+import ovh.equino.actracker.domain.dashboard.GroupBy;
 import ovh.equino.actracker.domain.dashboard.generation.DashboardGenerationEngine;
 
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import static java.lang.Math.min;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
 @Configuration
+@Profile("!actracker-api-dashboard-generator-jpa")
 @ComponentScan(
         basePackages = "ovh.equino.actracker.dashboard.generation.repository",
         includeFilters = @ComponentScan.Filter(
@@ -16,4 +33,56 @@ import ovh.equino.actracker.domain.dashboard.generation.DashboardGenerationEngin
         )
 )
 class DashboardGeneratorConfiguration {
+
+    /**
+     * Charts are timed by their position on a dashboard, and the charts from the last timed position on share a
+     * timer, so that the number of timers doesn't grow with the size of dashboards.
+     */
+    private static final int TIMED_CHART_POSITIONS = 10;
+
+    /**
+     * Number of threads generating charts of dashboards, and time buckets of long time ranges, in parallel. Charts
+     * are generated one after another in the requesting thread with 1.
+     */
+    @Value("${actracker-api-dashboard.chartGeneration.parallelism:1}")
+    private int chartGenerationParallelism;
+
+    @Bean
+    ChartExecutor chartExecutor() {
+        return chartGenerationParallelism > 1
+                ? ChartExecutor.parallel(chartGenerationParallelism)
+                : ChartExecutor.sequential();
+    }
+
+    @Bean
+    @Primary
+    ActivityNotifier cacheInvalidatingActivityNotifier(@Qualifier("outboxActivityNotifier") ActivityNotifier notifier,
+                                                       DashboardGenerationCache dashboardGenerationCache) {
+
+        return new CacheInvalidatingActivityNotifier(notifier, dashboardGenerationCache, new AfterCommitExecutor());
+    }
+
+    @Bean
+    ChartGenerationTimes chartGenerationTimes(MeterRegistry meterRegistry) {
+        Map<GroupBy, List<Timer>> timers = new EnumMap<>(GroupBy.class);
+        for (GroupBy groupBy : GroupBy.values()) {
+            List<Timer> timersOfPositions = IntStream.range(0, TIMED_CHART_POSITIONS)
+                    .mapToObj(chartPosition -> Timer.builder("dashboard.chart.generation")
+                            .description("Time of generating a chart of a dashboard from indexed activities")
+                            .tags("groupBy", groupBy.name(), "chartPosition", chartPositionTag(chartPosition))
+                            .register(meterRegistry)
+                    )
+                    .toList();
+            timers.put(groupBy, timersOfPositions);
+        }
+        return (groupBy, chartPosition, nanos) -> timers.get(groupBy)
+                .get(min(chartPosition, TIMED_CHART_POSITIONS - 1))
+                .record(nanos, NANOSECONDS);
+    }
+
+    private static String chartPositionTag(int chartPosition) {
+        return chartPosition < TIMED_CHART_POSITIONS - 1
+                ? String.valueOf(chartPosition)
+                : chartPosition + "+";
+    }
 }
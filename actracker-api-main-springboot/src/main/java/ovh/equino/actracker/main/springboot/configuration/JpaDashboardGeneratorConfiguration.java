@@ -0,0 +1,60 @@
+package ovh.equino.actracker.main.springboot.configuration;
+
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.*;
+import ovh.equino.actracker.application.dashboard.CacheInvalidatingActivityNotifier;
+import ovh.equino.actracker.application.dashboard.DashboardGenerationCache;
+import ovh.equino.actracker.dashboard.generation.jpa.DailyRollup;
+import ovh.equino.actracker.dashboard.generation.jpa.DailyRollupActivityNotifier;
+import ovh.equino.actracker.domain.activity.ActivityNotifier;
+import ovh.equino.actracker.domain.dashboard.generation.DashboardGenerationEngine;
+
+@Configuration
+@Profile("actracker-api-dashboard-generator-jpa")
+@ComponentScan(
+        basePackages = "ovh.equino.actracker.dashboard.generation.jpa",
+        includeFilters = @ComponentScan.Filter(
+                type = FilterType.ASSIGNABLE_TYPE,
+                classes = {
+                        DashboardGenerationEngine.class
+                }
+        )
+)
+class JpaDashboardGeneratorConfiguration {
+
+    /**
+     * Application argument rebuilding the daily rollup on startup, required after enabling the profile for existing
+     * activities.
+     */
+    private static final String REBUILD_DAILY_ROLLUP_OPTION = "rebuild-daily-rollup";
+
+    @Bean
+    DailyRollup dailyRollup(EntityManager entityManager) {
+        return new DailyRollup(entityManager);
+    }
+
+    @Bean
+    @Primary
+    ActivityNotifier dailyRollupActivityNotifier(@Qualifier("outboxActivityNotifier") ActivityNotifier notifier,
+                                                 DailyRollup dailyRollup,
+                                                 DashboardGenerationCache dashboardGenerationCache) {
+
+        return new CacheInvalidatingActivityNotifier(
+                new DailyRollupActivityNotifier(notifier, dailyRollup),
+                dashboardGenerationCache,
+                new AfterCommitExecutor()
+        );
+    }
+
+    @Bean
+    ApplicationRunner dailyRollupRebuild(DailyRollup dailyRollup) {
+        return arguments -> {
+            if (arguments.containsOption(REBUILD_DAILY_ROLLUP_OPTION)) {
+                // Each user in a separate transaction, not to hold locks of all users while requests are served
+                dailyRollup.selectUserIds().forEach(dailyRollup::rebuild);
+            }
+        };
+    }
+}
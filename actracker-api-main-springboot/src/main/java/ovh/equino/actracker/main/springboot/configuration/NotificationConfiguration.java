@@ -1,5 +1,6 @@
 package ovh.equino.actracker.main.springboot.configuration;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
@@ -28,12 +29,23 @@ import ovh.equino.actracker.notification.outbox.NotificationsOutboxService;
 )
 class NotificationConfiguration {
 
+    /**
+     * Notifications are published with data as stored in the outbox, without decoding and encoding it again.
+     */
+    @Value("${actracker-api-outbox.lazyDecoding:true}")
+    private boolean lazyDecoding;
+
     @Bean
     NotificationsOutboxService notificationsOutboxService(
             NotificationRepository notificationRepository,
             NotificationDataSource notificationDataSource,
             NotificationPublisher notificationPublisher) {
 
-        return new NotificationsOutboxService(notificationRepository, notificationDataSource, notificationPublisher);
+        return new NotificationsOutboxService(
+                notificationRepository,
+                notificationDataSource,
+                notificationPublisher,
+                lazyDecoding
+        );
     }
 }
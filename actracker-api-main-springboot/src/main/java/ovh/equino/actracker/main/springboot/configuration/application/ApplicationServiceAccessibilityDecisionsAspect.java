@@ -0,0 +1,27 @@
+package ovh.equino.actracker.main.springboot.configuration.application;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.annotation.Order;
+import ovh.equino.actracker.domain.AccessibilityDecisions;
+
+/**
+ * Accessibility decisions are remembered for the time of a single application service call, so that permissions
+ * verified repeatedly by mutated entities are read from the database once.
+ */
+@Aspect
+@Order(300)
+class ApplicationServiceAccessibilityDecisionsAspect {
+
+    @Autowired
+    private AccessibilityDecisions accessibilityDecisions;
+
+    @Around("execution(* ovh.equino.actracker.application.*.*ApplicationService.*(..))")
+    Object executeRememberingDecisions(ProceedingJoinPoint joinPoint) throws Throwable {
+        try (AccessibilityDecisions.Scope ignored = accessibilityDecisions.open()) {
+            return joinPoint.proceed();
+        }
+    }
+}
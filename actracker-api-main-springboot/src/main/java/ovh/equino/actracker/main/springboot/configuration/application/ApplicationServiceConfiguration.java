@@ -33,4 +33,9 @@ class ApplicationServiceConfiguration {
     ApplicationServiceTransactionAspect transactionAspect() {
         return new ApplicationServiceTransactionAspect();
     }
+
+    @Bean
+    ApplicationServiceAccessibilityDecisionsAspect accessibilityDecisionsAspect() {
+        return new ApplicationServiceAccessibilityDecisionsAspect();
+    }
 }
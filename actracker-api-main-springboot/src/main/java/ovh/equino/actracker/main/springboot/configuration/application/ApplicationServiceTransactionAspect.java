@@ -5,7 +5,7 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.core.annotation.Order;
-import ovh.equino.actracker.main.springboot.configuration.instrumentation.MetricsCollector;
+import ovh.equino.actracker.instrumentation.MetricsCollector;
 
 @Aspect
 @Order(200)
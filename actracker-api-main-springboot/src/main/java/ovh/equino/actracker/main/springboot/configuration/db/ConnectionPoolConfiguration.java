@@ -0,0 +1,63 @@
+package ovh.equino.actracker.main.springboot.configuration.db;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+class ConnectionPoolConfiguration {
+
+    @Value("${actracker-api-db.pool.minimumIdle:2}")
+    private int minimumIdle;
+
+    @Value("${actracker-api-db.pool.maximumPoolSize:10}")
+    private int maximumPoolSize;
+
+    @Value("${actracker-api-db.pool.connectionTimeout:30s}")
+    private Duration connectionTimeout;
+
+    @Value("${actracker-api-db.pool.validationTimeout:5s}")
+    private Duration validationTimeout;
+
+    @Value("${actracker-api-db.pool.idleTimeout:10m}")
+    private Duration idleTimeout;
+
+    @Value("${actracker-api-db.pool.maxLifetime:30m}")
+    private Duration maxLifetime;
+
+    @Value("${actracker-api-db.pool.keepaliveTime:5m}")
+    private Duration keepaliveTime;
+
+    /**
+     * Connections held longer than this are logged with the stack trace of the borrowing thread.
+     * Zero disables leak detection.
+     */
+    @Value("${actracker-api-db.pool.leakDetectionThreshold:60s}")
+    private Duration leakDetectionThreshold;
+
+    @Value("${actracker-api-db.pool.statementCacheSize:256}")
+    private int statementCacheSize;
+
+    @Value("${actracker-api-db.pool.statementCacheSizeMiB:5}")
+    private int statementCacheSizeMiB;
+
+    @Bean
+    PooledDataSourceFactory pooledDataSourceFactory(MeterRegistry meterRegistry) {
+        ConnectionPoolProperties poolProperties = new ConnectionPoolProperties(
+                minimumIdle,
+                maximumPoolSize,
+                connectionTimeout,
+                validationTimeout,
+                idleTimeout,
+                maxLifetime,
+                keepaliveTime,
+                leakDetectionThreshold,
+                statementCacheSize,
+                statementCacheSizeMiB
+        );
+        return new PooledDataSourceFactory(poolProperties, meterRegistry);
+    }
+}
@@ -0,0 +1,15 @@
+package ovh.equino.actracker.main.springboot.configuration.db;
+
+import java.time.Duration;
+
+record ConnectionPoolProperties(int minimumIdle,
+                                int maximumPoolSize,
+                                Duration connectionTimeout,
+                                Duration validationTimeout,
+                                Duration idleTimeout,
+                                Duration maxLifetime,
+                                Duration keepaliveTime,
+                                Duration leakDetectionThreshold,
+                                int statementCacheSize,
+                                int statementCacheSizeMiB) {
+}
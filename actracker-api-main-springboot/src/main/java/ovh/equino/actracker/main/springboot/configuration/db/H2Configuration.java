@@ -1,25 +1,40 @@
 package ovh.equino.actracker.main.springboot.configuration.db;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
-import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 
 import javax.sql.DataSource;
 
-import static org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType.H2;
-
 @Configuration
 @Profile("actracker-api-db-h2")
 class H2Configuration {
 
-    @Bean("applicationDataSource")
-    DataSource applicationDataSource() {
-        return new EmbeddedDatabaseBuilder()
-                .setType(H2)
-                .addScript("h2Schema.sql")
-                .addScript("h2Data.sql")
-                .build();
+    @Value("${actracker-api-db-h2.dbName:actracker}")
+    private String dbName;
+
+    private String url() {
+        return "jdbc:h2:mem:%s;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=false".formatted(dbName);
+    }
+
+    @Bean(name = "applicationDataSource", destroyMethod = "close")
+    DataSource applicationDataSource(PooledDataSourceFactory pooledDataSourceFactory) {
+        HikariConfig config = pooledDataSourceFactory.configFor("actracker-api-db-h2", url(), "sa", "");
+        config.setDriverClassName("org.h2.Driver");
+        HikariDataSource dataSource = pooledDataSourceFactory.create(config);
+
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                new ClassPathResource("h2Schema.sql"),
+                new ClassPathResource("h2Data.sql")
+        );
+        DatabasePopulatorUtils.execute(populator, dataSource);
+        return dataSource;
     }
 
     @Bean("hibernateDialect")
@@ -0,0 +1,48 @@
+package ovh.equino.actracker.main.springboot.configuration.db;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Builds the application's pooled {@link javax.sql.DataSource}. Pool statistics (active, idle and pending connections,
+ * acquire, usage and creation times) are published to the {@link MeterRegistry} as {@code hikaricp.*} meters tagged
+ * with the pool name.
+ */
+final class PooledDataSourceFactory {
+
+    private final ConnectionPoolProperties poolProperties;
+    private final MeterRegistry meterRegistry;
+
+    PooledDataSourceFactory(ConnectionPoolProperties poolProperties, MeterRegistry meterRegistry) {
+        this.poolProperties = poolProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    HikariConfig configFor(String poolName, String jdbcUrl, String username, String password) {
+        HikariConfig config = new HikariConfig();
+        config.setPoolName(poolName);
+        config.setJdbcUrl(jdbcUrl);
+        config.setUsername(username);
+        config.setPassword(password);
+        config.setMinimumIdle(poolProperties.minimumIdle());
+        config.setMaximumPoolSize(poolProperties.maximumPoolSize());
+        config.setConnectionTimeout(poolProperties.connectionTimeout().toMillis());
+        config.setValidationTimeout(poolProperties.validationTimeout().toMillis());
+        config.setIdleTimeout(poolProperties.idleTimeout().toMillis());
+        config.setMaxLifetime(poolProperties.maxLifetime().toMillis());
+        config.setKeepaliveTime(poolProperties.keepaliveTime().toMillis());
+        config.setLeakDetectionThreshold(poolProperties.leakDetectionThreshold().toMillis());
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        return config;
+    }
+
+    HikariDataSource create(HikariConfig config) {
+        return new HikariDataSource(config);
+    }
+
+    ConnectionPoolProperties poolProperties() {
+        return poolProperties;
+    }
+}
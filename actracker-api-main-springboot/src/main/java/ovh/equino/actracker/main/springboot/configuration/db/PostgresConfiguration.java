@@ -1,5 +1,6 @@
 package ovh.equino.actracker.main.springboot.configuration.db;
 
+import com.zaxxer.hikari.HikariConfig;
 import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -42,15 +43,19 @@ class PostgresConfiguration {
         return "jdbc:postgresql://%s:%s/%s".formatted(host, port, dbName);
     }
 
-    @Bean("applicationDataSource")
-    DataSource applicationDataSource() {
-        DriverManagerDataSource dataSource = new DriverManagerDataSource();
-        dataSource.setDriverClassName("org.postgresql.Driver");
-        dataSource.setUrl(url());
-        dataSource.setUsername(applicationUsername);
-        dataSource.setPassword(applicationPassword);
-        dataSource.setSchema(schemaName);
-        return dataSource;
+    @Bean(name = "applicationDataSource", destroyMethod = "close")
+    DataSource applicationDataSource(PooledDataSourceFactory pooledDataSourceFactory) {
+        ConnectionPoolProperties poolProperties = pooledDataSourceFactory.poolProperties();
+        HikariConfig config = pooledDataSourceFactory.configFor(
+                "actracker-api-db-postgres", url(), applicationUsername, applicationPassword
+        );
+        config.setDriverClassName("org.postgresql.Driver");
+        config.setSchema(schemaName);
+        // Server-side prepared statements, cached per physical connection by the driver
+        config.addDataSourceProperty("prepareThreshold", 1);
+        config.addDataSourceProperty("preparedStatementCacheQueries", poolProperties.statementCacheSize());
+        config.addDataSourceProperty("preparedStatementCacheSizeMiB", poolProperties.statementCacheSizeMiB());
+        return pooledDataSourceFactory.create(config);
     }
 
     private DataSource ownerDataSource() {
@@ -0,0 +1,47 @@
+package ovh.equino.actracker.main.springboot.configuration.domain;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ovh.equino.actracker.domain.AccessibilityDecisions;
+import ovh.equino.actracker.domain.MemoizedAccessibility;
+import ovh.equino.actracker.domain.activity.MemoizingActivitiesAccessibilityVerifier;
+import ovh.equino.actracker.domain.tag.MemoizingMetricsAccessibilityVerifier;
+import ovh.equino.actracker.domain.tag.MemoizingTagsAccessibilityVerifier;
+import ovh.equino.actracker.domain.tagset.MemoizingTagSetsAccessibilityVerifier;
+
+@Configuration
+class AccessibilityDecisionsConfiguration {
+
+    @Bean
+    AccessibilityDecisions accessibilityDecisions() {
+        return new AccessibilityDecisions();
+    }
+
+    @Bean
+    MeterBinder accessibilityDecisionsMetrics(MemoizingActivitiesAccessibilityVerifier activitiesVerifier,
+                                              MemoizingTagsAccessibilityVerifier tagsVerifier,
+                                              MemoizingMetricsAccessibilityVerifier metricsVerifier,
+                                              MemoizingTagSetsAccessibilityVerifier tagSetsVerifier) {
+
+        return meterRegistry -> {
+            register(meterRegistry, "activities", activitiesVerifier.memoizedAccessibility());
+            register(meterRegistry, "tags", tagsVerifier.memoizedAccessibility());
+            register(meterRegistry, "metrics", metricsVerifier.memoizedAccessibility());
+            register(meterRegistry, "tagSets", tagSetsVerifier.memoizedAccessibility());
+        };
+    }
+
+    private void register(MeterRegistry meterRegistry, String verifier, MemoizedAccessibility memoizedAccessibility) {
+        FunctionCounter.builder("accessibility.decisions", memoizedAccessibility, MemoizedAccessibility::getHits)
+                .description("Accessibility decisions remembered within the application service call")
+                .tags("verifier", verifier, "result", "hit")
+                .register(meterRegistry);
+        FunctionCounter.builder("accessibility.decisions", memoizedAccessibility, MemoizedAccessibility::getMisses)
+                .description("Accessibility decisions verified in the data source")
+                .tags("verifier", verifier, "result", "miss")
+                .register(meterRegistry);
+    }
+}
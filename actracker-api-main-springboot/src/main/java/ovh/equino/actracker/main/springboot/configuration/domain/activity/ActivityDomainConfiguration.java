@@ -1,10 +1,15 @@
 package ovh.equino.actracker.main.springboot.configuration.domain.activity;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Primary;
+import ovh.equino.actracker.domain.AccessibilityDecisions;
 import ovh.equino.actracker.domain.activity.ActivitiesAccessibilityVerifier;
 import ovh.equino.actracker.domain.activity.ActivityFactory;
+import ovh.equino.actracker.domain.activity.MemoizingActivitiesAccessibilityVerifier;
 
 @Configuration
 @ComponentScan(
@@ -15,7 +20,22 @@ import ovh.equino.actracker.domain.activity.ActivityFactory;
                         ActivityFactory.class,
                         ActivitiesAccessibilityVerifier.class,
                 }
+        ),
+        excludeFilters = @ComponentScan.Filter(
+                type = FilterType.ASSIGNABLE_TYPE,
+                classes = {
+                        MemoizingActivitiesAccessibilityVerifier.class,
+                }
         )
 )
 class ActivityDomainConfiguration {
+
+    @Bean
+    @Primary
+    MemoizingActivitiesAccessibilityVerifier memoizingActivitiesAccessibilityVerifier(
+            @Qualifier("activitiesAccessibilityVerifierImpl") ActivitiesAccessibilityVerifier verifier,
+            AccessibilityDecisions decisions) {
+
+        return new MemoizingActivitiesAccessibilityVerifier(verifier, decisions);
+    }
 }
@@ -1,8 +1,14 @@
 package ovh.equino.actracker.main.springboot.configuration.domain.tag;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Primary;
+import ovh.equino.actracker.domain.AccessibilityDecisions;
+import ovh.equino.actracker.domain.tag.MemoizingMetricsAccessibilityVerifier;
+import ovh.equino.actracker.domain.tag.MemoizingTagsAccessibilityVerifier;
 import ovh.equino.actracker.domain.tag.MetricFactory;
 import ovh.equino.actracker.domain.tag.MetricsAccessibilityVerifier;
 import ovh.equino.actracker.domain.tag.TagFactory;
@@ -19,7 +25,32 @@ import ovh.equino.actracker.domain.tag.TagsAccessibilityVerifier;
                         TagsAccessibilityVerifier.class,
                         MetricsAccessibilityVerifier.class,
                 }
+        ),
+        excludeFilters = @ComponentScan.Filter(
+                type = FilterType.ASSIGNABLE_TYPE,
+                classes = {
+                        MemoizingTagsAccessibilityVerifier.class,
+                        MemoizingMetricsAccessibilityVerifier.class,
+                }
         )
 )
 class TagDomainConfiguration {
+
+    @Bean
+    @Primary
+    MemoizingTagsAccessibilityVerifier memoizingTagsAccessibilityVerifier(
+            @Qualifier("tagsAccessibilityVerifierImpl") TagsAccessibilityVerifier verifier,
+            AccessibilityDecisions decisions) {
+
+        return new MemoizingTagsAccessibilityVerifier(verifier, decisions);
+    }
+
+    @Bean
+    @Primary
+    MemoizingMetricsAccessibilityVerifier memoizingMetricsAccessibilityVerifier(
+            @Qualifier("metricsAccessibilityVerifierImpl") MetricsAccessibilityVerifier verifier,
+            AccessibilityDecisions decisions) {
+
+        return new MemoizingMetricsAccessibilityVerifier(verifier, decisions);
+    }
 }
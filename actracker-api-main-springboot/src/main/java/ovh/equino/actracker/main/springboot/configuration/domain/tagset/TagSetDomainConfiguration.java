@@ -1,8 +1,13 @@
 package ovh.equino.actracker.main.springboot.configuration.domain.tagset;
 
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.context.annotation.Primary;
+import ovh.equino.actracker.domain.AccessibilityDecisions;
+import ovh.equino.actracker.domain.tagset.MemoizingTagSetsAccessibilityVerifier;
 import ovh.equino.actracker.domain.tagset.TagSetFactory;
 import ovh.equino.actracker.domain.tagset.TagSetsAccessibilityVerifier;
 
@@ -15,7 +20,22 @@ import ovh.equino.actracker.domain.tagset.TagSetsAccessibilityVerifier;
                         TagSetFactory.class,
                         TagSetsAccessibilityVerifier.class,
                 }
+        ),
+        excludeFilters = @ComponentScan.Filter(
+                type = FilterType.ASSIGNABLE_TYPE,
+                classes = {
+                        MemoizingTagSetsAccessibilityVerifier.class,
+                }
         )
 )
 class TagSetDomainConfiguration {
+
+    @Bean
+    @Primary
+    MemoizingTagSetsAccessibilityVerifier memoizingTagSetsAccessibilityVerifier(
+            @Qualifier("tagSetsAccessibilityVerifierImpl") TagSetsAccessibilityVerifier verifier,
+            AccessibilityDecisions decisions) {
+
+        return new MemoizingTagSetsAccessibilityVerifier(verifier, decisions);
+    }
 }
@@ -0,0 +1,32 @@
+package ovh.equino.actracker.main.springboot.configuration.instrumentation;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.config.MeterFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import ovh.equino.actracker.instrumentation.ApplicationServiceTimerFilter;
+import ovh.equino.actracker.instrumentation.MetricsCollector;
+
+@Configuration
+class InstrumentationConfiguration {
+
+    @Bean
+    MetricsCollector metricsCollector(
+            MeterRegistry meterRegistry,
+            @Value("${actracker-api-metrics.applicationService.histogramSampleRate:0.1}") double histogramSampleRate) {
+
+        return new MetricsCollector(meterRegistry, histogramSampleRate);
+    }
+
+    /**
+     * Removes percentiles, enabled for all meters in properties, from timers of all calls of application services.
+     * Ordered after the filter applying properties, to override them.
+     */
+    @Bean
+    @Order(1)
+    MeterFilter applicationServiceTimerFilter() {
+        return new ApplicationServiceTimerFilter();
+    }
+}
@@ -1,10 +1,18 @@
 package ovh.equino.actracker.main.springboot.configuration.messaging;
 
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.*;
 import ovh.equino.actracker.notification.outbox.NotificationPublisher;
 import ovh.equino.actracker.publisher.rabbitmq.RabbitMqChannelFactory;
+import ovh.equino.actracker.publisher.rabbitmq.RabbitMqChannelPool;
+import ovh.equino.actracker.publisher.rabbitmq.RabbitMqChannelPoolProperties;
 import ovh.equino.actracker.publisher.rabbitmq.RabbitMqConnectionProperties;
+import ovh.equino.actracker.publisher.rabbitmq.RabbitMqPublisherProperties;
+
+import java.time.Duration;
 
 import static java.lang.Integer.parseInt;
 
@@ -36,10 +44,71 @@ class RabbitMqConfiguration {
     @Value("${actracker-api-publisher-rabbitmq.password:guest}")
     private String password;
 
+    @Value("${actracker-api-publisher-rabbitmq.networkRecoveryInterval:5s}")
+    private Duration networkRecoveryInterval;
+
+    @Value("${actracker-api-publisher-rabbitmq.confirmTimeout:5s}")
+    private Duration confirmTimeout;
+
+    @Value("${actracker-api-publisher-rabbitmq.pool.maxSize:4}")
+    private int poolMaxSize;
+
+    @Value("${actracker-api-publisher-rabbitmq.pool.borrowTimeout:5s}")
+    private Duration poolBorrowTimeout;
+
     @Bean
     RabbitMqChannelFactory rabbitMqChannelFactory() {
         RabbitMqConnectionProperties connectionProperties =
-                new RabbitMqConnectionProperties(host, parseInt(port), vhost, username, password);
+                new RabbitMqConnectionProperties(
+                        host,
+                        parseInt(port),
+                        vhost,
+                        username,
+                        password,
+                        networkRecoveryInterval
+                );
         return new RabbitMqChannelFactory(connectionProperties);
     }
+
+    @Bean
+    RabbitMqChannelPool rabbitMqChannelPool(RabbitMqChannelFactory channelFactory) {
+        RabbitMqChannelPoolProperties poolProperties =
+                new RabbitMqChannelPoolProperties(poolMaxSize, poolBorrowTimeout);
+        return new RabbitMqChannelPool(channelFactory, poolProperties);
+    }
+
+    @Bean
+    MeterBinder rabbitMqChannelPoolMetrics(RabbitMqChannelPool channelPool) {
+        return meterRegistry -> {
+            Gauge.builder("rabbitmq.channel.pool.max", channelPool, RabbitMqChannelPool::getMaxSize)
+                    .register(meterRegistry);
+            Gauge.builder("rabbitmq.channel.pool.open", channelPool, RabbitMqChannelPool::getOpenChannelsCount)
+                    .register(meterRegistry);
+            Gauge.builder("rabbitmq.channel.pool.idle", channelPool, RabbitMqChannelPool::getIdleChannelsCount)
+                    .register(meterRegistry);
+            Gauge.builder("rabbitmq.channel.pool.borrowed", channelPool, RabbitMqChannelPool::getBorrowedChannelsCount)
+                    .register(meterRegistry);
+            Gauge.builder("rabbitmq.channel.pool.pending", channelPool, RabbitMqChannelPool::getPendingBorrowsCount)
+                    .description("Threads waiting for a channel")
+                    .register(meterRegistry);
+            FunctionCounter.builder(
+                            "rabbitmq.channel.pool.created",
+                            channelPool,
+                            RabbitMqChannelPool::getCreatedChannelsCount
+                    )
+                    .register(meterRegistry);
+            FunctionCounter.builder(
+                            "rabbitmq.channel.pool.discarded",
+                            channelPool,
+                            RabbitMqChannelPool::getDiscardedChannelsCount
+                    )
+                    .description("Channels closed by the broker or after a publishing failure")
+                    .register(meterRegistry);
+        };
+    }
+
+    @Bean
+    RabbitMqPublisherProperties rabbitMqPublisherProperties() {
+        return new RabbitMqPublisherProperties(confirmTimeout);
+    }
 }
@@ -1,8 +1,14 @@
 package ovh.equino.actracker.main.springboot.configuration.scheduling;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import ovh.equino.actracker.notification.outbox.NotificationsOutboxService;
+import ovh.equino.actracker.notification.outbox.OutboxBacklog;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.concurrent.TimeUnit.SECONDS;
 
@@ -11,8 +17,34 @@ class NotificationsPublishTask {
     @Autowired
     private NotificationsOutboxService notificationsService;
 
-    @Scheduled(initialDelay = 20, fixedDelay = 10, timeUnit = SECONDS)
+    @Value("${actracker-api-outbox.batchSize:500}")
+    private int batchSize;
+
+    /**
+     * Time after which draining the outbox stops, even if it's not empty. Remaining notifications are published
+     * in the next run.
+     */
+    @Value("${actracker-api-outbox.timeBudget:5s}")
+    private Duration timeBudget;
+
+    private final AtomicReference<OutboxBacklog> backlog = new AtomicReference<>();
+
+    /**
+     * Interval must be given in ISO-8601 format (e.g. PT10S), as it's parsed by the scheduler.
+     */
+    @Scheduled(initialDelay = 20, fixedDelayString = "${actracker-api-outbox.interval:PT10S}", timeUnit = SECONDS)
     void publishNotifications() {
-        notificationsService.publishOutboxedNotifications(3);
+        try {
+            notificationsService.drainOutboxedNotifications(batchSize, timeBudget);
+        } finally {
+            backlog.set(notificationsService.getBacklog());
+        }
+    }
+
+    /**
+     * @return backlog left after the last run, empty before the first one
+     */
+    Optional<OutboxBacklog> lastBacklog() {
+        return Optional.ofNullable(backlog.get());
     }
 }
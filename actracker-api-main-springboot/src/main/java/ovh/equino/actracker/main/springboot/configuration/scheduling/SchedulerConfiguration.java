@@ -1,10 +1,15 @@
 package ovh.equino.actracker.main.springboot.configuration.scheduling;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
 import ovh.equino.actracker.main.springboot.configuration.scheduling.NotificationsPublishTask;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
 @Configuration
 @EnableScheduling
 class SchedulerConfiguration {
@@ -13,4 +18,33 @@ class SchedulerConfiguration {
     NotificationsPublishTask notificationsPublishTask() {
         return new NotificationsPublishTask();
     }
+
+    /**
+     * Backlog is queried once after each run of publishing notifications, and gauges show it as of the last run. They
+     * show no value before the first run.
+     */
+    @Bean
+    MeterBinder outboxMetrics(NotificationsPublishTask notificationsPublishTask) {
+        return meterRegistry -> {
+            Gauge.builder(
+                            "outbox.backlog.size",
+                            notificationsPublishTask,
+                            task -> task.lastBacklog()
+                                    .map(backlog -> (double) backlog.size())
+                                    .orElse(Double.NaN)
+                    )
+                    .description("Number of notifications waiting for publication")
+                    .register(meterRegistry);
+            TimeGauge.builder(
+                            "outbox.lag",
+                            notificationsPublishTask,
+                            MILLISECONDS,
+                            task -> task.lastBacklog()
+                                    .map(backlog -> (double) backlog.lag().toMillis())
+                                    .orElse(Double.NaN)
+                    )
+                    .description("Age of the oldest notification waiting for publication")
+                    .register(meterRegistry);
+        };
+    }
 }
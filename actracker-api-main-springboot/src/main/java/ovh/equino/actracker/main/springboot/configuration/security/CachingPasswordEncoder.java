@@ -0,0 +1,157 @@
+package ovh.equino.actracker.main.springboot.configuration.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Remembers passwords successfully verified by the delegate for a limited time, so that subsequent requests of
+ * a tenant, authenticated with HTTP Basic, are not verified with BCrypt again.
+ * <p>
+ * Neither raw nor encoded passwords are kept. Entries are keyed by HMAC of the encoded and raw password, with a key
+ * generated at startup and kept in memory only. The encoded password is read from the tenant's data on each request
+ * and is salted per tenant, so entries of a tenant never match another tenant, nor the tenant once the password has
+ * changed. Failed verifications are not remembered.
+ */
+final class CachingPasswordEncoder implements PasswordEncoder {
+
+    private static final String MAC_ALGORITHM = "HmacSHA256";
+    private static final int MAC_KEY_BYTES = 32;
+
+    private final PasswordEncoder delegate;
+    private final int maxEntries;
+    private final long timeToLiveNanos;
+    private final SecretKeySpec macKey;
+    private final ThreadLocal<Mac> macs = ThreadLocal.withInitial(this::newMac);
+    private final Map<String, Long> verifiedNanosByKey;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder verificationCount = new LongAdder();
+    private final LongAdder verificationNanos = new LongAdder();
+
+    /**
+     * @param maxEntries number of verified passwords remembered, passwords are verified each time with 0
+     */
+    CachingPasswordEncoder(PasswordEncoder delegate, int maxEntries, Duration timeToLive) {
+        this.delegate = delegate;
+        this.maxEntries = maxEntries;
+        this.timeToLiveNanos = timeToLive.toNanos();
+        byte[] keyBytes = new byte[MAC_KEY_BYTES];
+        new SecureRandom().nextBytes(keyBytes);
+        this.macKey = new SecretKeySpec(keyBytes, MAC_ALGORITHM);
+        this.verifiedNanosByKey = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > CachingPasswordEncoder.this.maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (maxEntries <= 0 || rawPassword == null || encodedPassword == null) {
+            return verify(rawPassword, encodedPassword);
+        }
+        String key = key(rawPassword, encodedPassword);
+        if (isVerified(key)) {
+            hits.increment();
+            return true;
+        }
+        misses.increment();
+        boolean matches = verify(rawPassword, encodedPassword);
+        if (matches) {
+            synchronized (verifiedNanosByKey) {
+                verifiedNanosByKey.put(key, System.nanoTime());
+            }
+        }
+        return matches;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    long getHits() {
+        return hits.sum();
+    }
+
+    long getMisses() {
+        return misses.sum();
+    }
+
+    int getSize() {
+        synchronized (verifiedNanosByKey) {
+            return verifiedNanosByKey.size();
+        }
+    }
+
+    /**
+     * @return number of passwords verified by the delegate
+     */
+    long getVerificationCount() {
+        return verificationCount.sum();
+    }
+
+    double getVerificationNanos() {
+        return verificationNanos.sum();
+    }
+
+    private boolean isVerified(String key) {
+        synchronized (verifiedNanosByKey) {
+            Long verifiedNanos = verifiedNanosByKey.get(key);
+            if (verifiedNanos == null) {
+                return false;
+            }
+            if (System.nanoTime() - verifiedNanos >= timeToLiveNanos) {
+                verifiedNanosByKey.remove(key);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    private boolean verify(CharSequence rawPassword, String encodedPassword) {
+        long startNanos = System.nanoTime();
+        try {
+            return delegate.matches(rawPassword, encodedPassword);
+        } finally {
+            verificationCount.increment();
+            verificationNanos.add(System.nanoTime() - startNanos);
+        }
+    }
+
+    private String key(CharSequence rawPassword, String encodedPassword) {
+        Mac mac = macs.get();
+        mac.update(encodedPassword.getBytes(UTF_8));
+        mac.update((byte) 0);
+        byte[] digest = mac.doFinal(rawPassword.toString().getBytes(UTF_8));
+        return Base64.getEncoder().encodeToString(digest);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(MAC_ALGORITHM);
+            mac.init(macKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
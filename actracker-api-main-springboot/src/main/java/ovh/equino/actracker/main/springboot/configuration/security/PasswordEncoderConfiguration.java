@@ -0,0 +1,66 @@
+package ovh.equino.actracker.main.springboot.configuration.security;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import ovh.equino.security.spring.basic.crypto.BCryptPasswordEncoder;
+
+import java.time.Duration;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+@Configuration
+class PasswordEncoderConfiguration {
+
+    /**
+     * Number of verified passwords remembered. Passwords are verified with BCrypt on each request with 0.
+     */
+    @Value("${actracker-api-security.credentialsCache.maxSize:10000}")
+    private int maxSize;
+
+    @Value("${actracker-api-security.credentialsCache.timeToLive:5m}")
+    private Duration timeToLive;
+
+    @Bean
+    CachingPasswordEncoder passwordEncoder() {
+        return new CachingPasswordEncoder(new BCryptPasswordEncoder(), maxSize, timeToLive);
+    }
+
+    @Bean
+    MeterBinder credentialsCacheMetrics(CachingPasswordEncoder passwordEncoder) {
+        return meterRegistry -> {
+            FunctionCounter.builder(
+                            "security.credentials.cache.requests",
+                            passwordEncoder,
+                            CachingPasswordEncoder::getHits
+                    )
+                    .description("Passwords found verified in cache")
+                    .tags("result", "hit")
+                    .register(meterRegistry);
+            FunctionCounter.builder(
+                            "security.credentials.cache.requests",
+                            passwordEncoder,
+                            CachingPasswordEncoder::getMisses
+                    )
+                    .description("Passwords verified, as not found in cache")
+                    .tags("result", "miss")
+                    .register(meterRegistry);
+            Gauge.builder("security.credentials.cache.size", passwordEncoder, CachingPasswordEncoder::getSize)
+                    .description("Number of verified passwords in cache")
+                    .register(meterRegistry);
+            FunctionTimer.builder(
+                            "security.password.verification",
+                            passwordEncoder,
+                            CachingPasswordEncoder::getVerificationCount,
+                            CachingPasswordEncoder::getVerificationNanos,
+                            NANOSECONDS
+                    )
+                    .description("Time of verifying a password with BCrypt")
+                    .register(meterRegistry);
+        };
+    }
+}
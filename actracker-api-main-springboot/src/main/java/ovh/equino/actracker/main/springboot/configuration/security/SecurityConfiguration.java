@@ -6,18 +6,19 @@ import org.springframework.security.config.annotation.authentication.builders.Au
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.web.SecurityFilterChain;
 import ovh.equino.security.spring.basic.config.UserDetailsService;
-import ovh.equino.security.spring.basic.crypto.BCryptPasswordEncoder;
 
 import static org.springframework.security.config.http.SessionCreationPolicy.STATELESS;
 
 @Configuration
 class SecurityConfiguration {
 
-    SecurityConfiguration(AuthenticationManagerBuilder auth, UserDetailsService userDetailsService) throws Exception {
+    SecurityConfiguration(AuthenticationManagerBuilder auth,
+                          UserDetailsService userDetailsService,
+                          CachingPasswordEncoder passwordEncoder) throws Exception {
 
         auth
                 .userDetailsService(userDetailsService)
-                .passwordEncoder(new BCryptPasswordEncoder());
+                .passwordEncoder(passwordEncoder);
     }
 
     @Bean
@@ -0,0 +1,132 @@
+package ovh.equino.actracker.main.springboot.configuration.security;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingPasswordEncoderTest {
+
+    private static final int MAX_ENTRIES = 2;
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(5);
+    private static final String ENCODED_PASSWORD = "$2a$10$encodedPassword";
+
+    @Mock
+    private PasswordEncoder delegate;
+
+    @Test
+    void shouldNotVerifyRememberedPasswordAgain() {
+        // given
+        when(delegate.matches(any(), anyString())).thenReturn(true);
+        CachingPasswordEncoder encoder = new CachingPasswordEncoder(delegate, MAX_ENTRIES, TIME_TO_LIVE);
+        encoder.matches("password", ENCODED_PASSWORD);
+
+        // when
+        boolean matches = encoder.matches("password", ENCODED_PASSWORD);
+
+        // then
+        assertThat(matches).isTrue();
+        verify(delegate, times(1)).matches("password", ENCODED_PASSWORD);
+        assertThat(encoder.getHits()).isEqualTo(1);
+        assertThat(encoder.getMisses()).isEqualTo(1);
+        assertThat(encoder.getVerificationCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldNotRememberFailedVerification() {
+        // given
+        when(delegate.matches(any(), anyString())).thenReturn(false);
+        CachingPasswordEncoder encoder = new CachingPasswordEncoder(delegate, MAX_ENTRIES, TIME_TO_LIVE);
+        encoder.matches("wrong password", ENCODED_PASSWORD);
+
+        // when
+        boolean matches = encoder.matches("wrong password", ENCODED_PASSWORD);
+
+        // then
+        assertThat(matches).isFalse();
+        verify(delegate, times(2)).matches("wrong password", ENCODED_PASSWORD);
+        assertThat(encoder.getHits()).isZero();
+        assertThat(encoder.getSize()).isZero();
+    }
+
+    @Test
+    void shouldVerifyPasswordAgainAfterTimeToLive() {
+        // given
+        when(delegate.matches(any(), anyString())).thenReturn(true);
+        CachingPasswordEncoder encoder = new CachingPasswordEncoder(delegate, MAX_ENTRIES, Duration.ZERO);
+        encoder.matches("password", ENCODED_PASSWORD);
+
+        // when
+        boolean matches = encoder.matches("password", ENCODED_PASSWORD);
+
+        // then
+        assertThat(matches).isTrue();
+        verify(delegate, times(2)).matches("password", ENCODED_PASSWORD);
+        assertThat(encoder.getHits()).isZero();
+    }
+
+    @Test
+    void shouldForgetLeastRecentlyUsedPasswordsExceedingMaxEntries() {
+        // given
+        when(delegate.matches(any(), anyString())).thenReturn(true);
+        CachingPasswordEncoder encoder = new CachingPasswordEncoder(delegate, MAX_ENTRIES, TIME_TO_LIVE);
+        encoder.matches("first", ENCODED_PASSWORD);
+        encoder.matches("second", ENCODED_PASSWORD);
+        encoder.matches("first", ENCODED_PASSWORD);
+
+        // when
+        encoder.matches("third", ENCODED_PASSWORD);
+
+        // then
+        assertThat(encoder.getSize()).isEqualTo(MAX_ENTRIES);
+        encoder.matches("first", ENCODED_PASSWORD);
+        encoder.matches("second", ENCODED_PASSWORD);
+        verify(delegate, times(1)).matches("first", ENCODED_PASSWORD);
+        verify(delegate, times(2)).matches("second", ENCODED_PASSWORD);
+        verify(delegate, times(1)).matches("third", ENCODED_PASSWORD);
+    }
+
+    @Test
+    void shouldAlwaysVerifyPasswordsWithoutEntries() {
+        // given
+        when(delegate.matches(any(), anyString())).thenReturn(true);
+        CachingPasswordEncoder encoder = new CachingPasswordEncoder(delegate, 0, TIME_TO_LIVE);
+        encoder.matches("password", ENCODED_PASSWORD);
+
+        // when
+        boolean matches = encoder.matches("password", ENCODED_PASSWORD);
+
+        // then
+        assertThat(matches).isTrue();
+        verify(delegate, times(2)).matches("password", ENCODED_PASSWORD);
+        assertThat(encoder.getSize()).isZero();
+        assertThat(encoder.getHits()).isZero();
+    }
+
+    @Test
+    void shouldVerifyPasswordAgainWhenEncodedPasswordChanged() {
+        // given
+        String changedEncodedPassword = "$2a$10$changedPassword";
+        when(delegate.matches(any(), anyString())).thenReturn(true);
+        CachingPasswordEncoder encoder = new CachingPasswordEncoder(delegate, MAX_ENTRIES, TIME_TO_LIVE);
+        encoder.matches("password", ENCODED_PASSWORD);
+
+        // when
+        encoder.matches("password", changedEncodedPassword);
+
+        // then
+        verify(delegate).matches("password", ENCODED_PASSWORD);
+        verify(delegate).matches("password", changedEncodedPassword);
+        assertThat(encoder.getHits()).isZero();
+        assertThat(encoder.getMisses()).isEqualTo(2);
+    }
+}
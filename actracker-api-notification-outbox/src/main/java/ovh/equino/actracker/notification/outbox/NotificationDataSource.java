@@ -6,5 +6,16 @@ import java.util.List;
 
 public interface NotificationDataSource {
 
+    /**
+     * @return the oldest notifications, ordered by version
+     */
     List<Notification<?>> getPage(int limit);
+
+    /**
+     * @return the oldest notifications, ordered by version, with data left as stored, in
+     * {@link ovh.equino.actracker.domain.EncodedNotificationData}
+     */
+    List<Notification<?>> getEncodedPage(int limit);
+
+    OutboxBacklog getBacklog();
 }
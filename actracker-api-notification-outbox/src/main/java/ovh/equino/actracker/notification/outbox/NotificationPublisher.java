@@ -2,7 +2,26 @@ package ovh.equino.actracker.notification.outbox;
 
 import ovh.equino.actracker.domain.Notification;
 
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static java.util.stream.Collectors.toSet;
+
 public interface NotificationPublisher {
 
     void publishNotification(Notification<?> notification);
+
+    /**
+     * Publishes the notifications in the given order. Returns after all of them have been either confirmed
+     * by the broker, or considered failed.
+     *
+     * @return IDs of notifications confirmed by the broker, only these may be removed from the outbox
+     */
+    default Set<UUID> publishNotifications(List<Notification<?>> notifications) {
+        notifications.forEach(this::publishNotification);
+        return notifications.stream()
+                .map(Notification::id)
+                .collect(toSet());
+    }
 }
@@ -2,6 +2,7 @@ package ovh.equino.actracker.notification.outbox;
 
 import ovh.equino.actracker.domain.Notification;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -12,4 +13,10 @@ public interface NotificationRepository {
     Optional<Notification<?>> get(UUID notificationId);
 
     void delete(UUID notificationId);
+
+    /**
+     * Deletes the notifications with a single statement. A notification is deleted only in the version it was read
+     * in, so one saved again after being read, and thus having a newer version, is not deleted.
+     */
+    void deleteAll(Collection<Notification<?>> notifications);
 }
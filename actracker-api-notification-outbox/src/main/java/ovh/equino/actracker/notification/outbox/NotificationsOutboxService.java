@@ -2,28 +2,70 @@ package ovh.equino.actracker.notification.outbox;
 
 import ovh.equino.actracker.domain.Notification;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
 public class NotificationsOutboxService {
 
     private final NotificationRepository notificationRepository;
     private final NotificationDataSource notificationDataSource;
     private final NotificationPublisher notificationPublisher;
+    private final boolean lazyDecoding;
 
+    /**
+     * @param lazyDecoding whether notifications are published with data as stored, without decoding it
+     */
     public NotificationsOutboxService(NotificationRepository notificationRepository,
                                       NotificationDataSource notificationDataSource,
-                                      NotificationPublisher notificationPublisher) {
+                                      NotificationPublisher notificationPublisher,
+                                      boolean lazyDecoding) {
 
         this.notificationRepository = notificationRepository;
         this.notificationDataSource = notificationDataSource;
         this.notificationPublisher = notificationPublisher;
+        this.lazyDecoding = lazyDecoding;
+    }
+
+    /**
+     * Publishes outboxed notifications in batches, oldest first, until the outbox is drained or the time budget is
+     * exhausted. A batch being published is always completed, so the budget may be exceeded by the time of one batch.
+     * Draining stops early if any notification of a batch has not been confirmed by the broker. Unconfirmed
+     * notifications stay in the outbox and are published again in the next run.
+     *
+     * @return number of published and confirmed notifications
+     */
+    public int drainOutboxedNotifications(int batchSize, Duration timeBudget) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        long deadline = System.nanoTime() + timeBudget.toNanos();
+        int publishedCount = 0;
+        int batchCount;
+        do {
+            batchCount = publishBatch(batchSize);
+            publishedCount += batchCount;
+        } while (batchCount == batchSize && System.nanoTime() - deadline < 0);
+        return publishedCount;
     }
 
-    public void publishOutboxedNotifications(int messagesCount) {
-        notificationDataSource.getPage(messagesCount)
-                .forEach(this::publishAndDelete);
+    public OutboxBacklog getBacklog() {
+        return notificationDataSource.getBacklog();
     }
 
-    private void publishAndDelete(Notification<?> notification) {
-        notificationPublisher.publishNotification(notification);
-        notificationRepository.delete(notification.id());
+    private int publishBatch(int batchSize) {
+        List<Notification<?>> notifications = lazyDecoding
+                ? notificationDataSource.getEncodedPage(batchSize)
+                : notificationDataSource.getPage(batchSize);
+        if (notifications.isEmpty()) {
+            return 0;
+        }
+        Set<UUID> confirmedIds = notificationPublisher.publishNotifications(notifications);
+        List<Notification<?>> confirmedNotifications = notifications.stream()
+                .filter(notification -> confirmedIds.contains(notification.id()))
+                .toList();
+        notificationRepository.deleteAll(confirmedNotifications);
+        return confirmedNotifications.size();
     }
 }
@@ -0,0 +1,10 @@
+package ovh.equino.actracker.notification.outbox;
+
+import java.time.Duration;
+
+/**
+ * @param size number of notifications waiting for publication
+ * @param lag  age of the oldest notification waiting for publication, zero if there is none
+ */
+public record OutboxBacklog(long size, Duration lag) {
+}
@@ -0,0 +1,186 @@
+package ovh.equino.actracker.notification.outbox;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import ovh.equino.actracker.domain.EncodedNotificationData;
+import ovh.equino.actracker.domain.Notification;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static java.util.Collections.emptyList;
+import static java.util.UUID.randomUUID;
+import static java.util.stream.Collectors.toSet;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationsOutboxServiceTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final Duration UNLIMITED_BUDGET = Duration.ofMinutes(1);
+
+    @Mock
+    private NotificationRepository notificationRepository;
+    @Mock
+    private NotificationDataSource notificationDataSource;
+    @Mock
+    private NotificationPublisher notificationPublisher;
+
+    private NotificationsOutboxService outboxService;
+
+    @BeforeEach
+    void init() {
+        outboxService = new NotificationsOutboxService(
+                notificationRepository,
+                notificationDataSource,
+                notificationPublisher,
+                false
+        );
+    }
+
+    @Test
+    void shouldPublishAndDeleteBatchesUntilDrained() {
+        // given
+        List<Notification<?>> firstBatch = List.of(notification(), notification());
+        List<Notification<?>> secondBatch = List.of(notification(), notification());
+        List<Notification<?>> lastBatch = List.of(notification());
+        when(notificationDataSource.getPage(BATCH_SIZE)).thenReturn(firstBatch, secondBatch, lastBatch);
+        when(notificationPublisher.publishNotifications(any())).thenAnswer(confirmingAll());
+
+        // when
+        int publishedCount = outboxService.drainOutboxedNotifications(BATCH_SIZE, UNLIMITED_BUDGET);
+
+        // then
+        assertThat(publishedCount).isEqualTo(5);
+        InOrder inOrder = inOrder(notificationPublisher, notificationRepository);
+        inOrder.verify(notificationPublisher).publishNotifications(firstBatch);
+        inOrder.verify(notificationRepository).deleteAll(firstBatch);
+        inOrder.verify(notificationPublisher).publishNotifications(secondBatch);
+        inOrder.verify(notificationRepository).deleteAll(secondBatch);
+        inOrder.verify(notificationPublisher).publishNotifications(lastBatch);
+        inOrder.verify(notificationRepository).deleteAll(lastBatch);
+        verify(notificationDataSource, times(3)).getPage(BATCH_SIZE);
+    }
+
+    @Test
+    void shouldStopWhenPageIsEmpty() {
+        // given
+        List<Notification<?>> firstBatch = List.of(notification(), notification());
+        when(notificationDataSource.getPage(BATCH_SIZE)).thenReturn(firstBatch, emptyList());
+        when(notificationPublisher.publishNotifications(any())).thenAnswer(confirmingAll());
+
+        // when
+        int publishedCount = outboxService.drainOutboxedNotifications(BATCH_SIZE, UNLIMITED_BUDGET);
+
+        // then
+        assertThat(publishedCount).isEqualTo(2);
+        verify(notificationPublisher).publishNotifications(firstBatch);
+        verify(notificationRepository).deleteAll(firstBatch);
+        verifyNoMoreInteractions(notificationPublisher, notificationRepository);
+    }
+
+    @Test
+    void shouldPublishSingleBatchWhenBudgetExhausted() {
+        // given
+        List<Notification<?>> firstBatch = List.of(notification(), notification());
+        when(notificationDataSource.getPage(BATCH_SIZE)).thenReturn(firstBatch);
+        when(notificationPublisher.publishNotifications(any())).thenAnswer(confirmingAll());
+
+        // when
+        int publishedCount = outboxService.drainOutboxedNotifications(BATCH_SIZE, Duration.ZERO);
+
+        // then
+        assertThat(publishedCount).isEqualTo(2);
+        verify(notificationDataSource).getPage(BATCH_SIZE);
+        verify(notificationRepository).deleteAll(firstBatch);
+    }
+
+    @Test
+    void shouldDeleteOnlyConfirmedNotificationsAndStop() {
+        // given
+        Notification<?> confirmedNotification = notification();
+        Notification<?> unconfirmedNotification = notification();
+        when(notificationDataSource.getPage(BATCH_SIZE))
+                .thenReturn(List.of(confirmedNotification, unconfirmedNotification));
+        when(notificationPublisher.publishNotifications(any())).thenReturn(Set.of(confirmedNotification.id()));
+
+        // when
+        int publishedCount = outboxService.drainOutboxedNotifications(BATCH_SIZE, UNLIMITED_BUDGET);
+
+        // then
+        assertThat(publishedCount).isEqualTo(1);
+        verify(notificationRepository).deleteAll(List.of(confirmedNotification));
+        verify(notificationDataSource).getPage(BATCH_SIZE);
+    }
+
+    @Test
+    void shouldNotDeleteNotificationsWhenPublishingFailed() {
+        // given
+        when(notificationDataSource.getPage(BATCH_SIZE)).thenReturn(List.of(notification()));
+        doThrow(new IllegalStateException()).when(notificationPublisher).publishNotifications(any());
+
+        // then
+        assertThatThrownBy(() -> outboxService.drainOutboxedNotifications(BATCH_SIZE, UNLIMITED_BUDGET))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(notificationRepository);
+    }
+
+    @Test
+    void shouldPublishEncodedNotificationsWhenDecodingLazily() {
+        // given
+        NotificationsOutboxService lazyDecodingOutboxService = new NotificationsOutboxService(
+                notificationRepository,
+                notificationDataSource,
+                notificationPublisher,
+                true
+        );
+        List<Notification<?>> firstBatch = List.of(encodedNotification());
+        when(notificationDataSource.getEncodedPage(BATCH_SIZE)).thenReturn(firstBatch);
+        when(notificationPublisher.publishNotifications(any())).thenAnswer(confirmingAll());
+
+        // when
+        int publishedCount = lazyDecodingOutboxService.drainOutboxedNotifications(BATCH_SIZE, UNLIMITED_BUDGET);
+
+        // then
+        assertThat(publishedCount).isEqualTo(1);
+        verify(notificationPublisher).publishNotifications(firstBatch);
+        verify(notificationRepository).deleteAll(firstBatch);
+        verify(notificationDataSource, never()).getPage(anyInt());
+    }
+
+    @Test
+    void shouldFailWhenBatchSizeNotPositive() {
+        // then
+        assertThatThrownBy(() -> outboxService.drainOutboxedNotifications(0, UNLIMITED_BUDGET))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(notificationDataSource);
+    }
+
+    private Answer<Set<UUID>> confirmingAll() {
+        return invocation -> {
+            List<Notification<?>> notifications = invocation.getArgument(0);
+            return notifications.stream()
+                    .map(Notification::id)
+                    .collect(toSet());
+        };
+    }
+
+    private Notification<?> notification() {
+        return new Notification<>(randomUUID(), "data");
+    }
+
+    private Notification<?> encodedNotification() {
+        return new Notification<>(randomUUID(), 0L, new EncodedNotificationData("\"data\""), String.class);
+    }
+}
@@ -0,0 +1,63 @@
+package ovh.equino.actracker.publisher.rabbitmq;
+
+import com.rabbitmq.client.AMQP.BasicProperties;
+import com.rabbitmq.client.AlreadyClosedException;
+import com.rabbitmq.client.BuiltinExchangeType;
+import com.rabbitmq.client.Channel;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Channel in confirm mode, tracking its outstanding confirms. Not thread safe, must be used by one thread at a time.
+ */
+final class ConfirmChannel {
+
+    private final Channel channel;
+    private final OutstandingConfirms outstandingConfirms = new OutstandingConfirms();
+
+    ConfirmChannel(Channel channel) {
+        this.channel = channel;
+        try {
+            this.channel.confirmSelect();
+        } catch (IOException e) {
+            close();
+            throw new IllegalStateException(e);
+        }
+        this.channel.addConfirmListener(outstandingConfirms);
+        this.channel.addShutdownListener(cause -> outstandingConfirms.rejectAll());
+    }
+
+    void declareExchange(String exchangeName, BuiltinExchangeType exchangeType, boolean durable) throws IOException {
+        channel.exchangeDeclare(exchangeName, exchangeType, durable);
+    }
+
+    void publish(UUID notificationId, String exchangeName, String routingKey, BasicProperties properties, byte[] body)
+            throws IOException {
+
+        outstandingConfirms.track(channel.getNextPublishSeqNo(), notificationId);
+        channel.basicPublish(exchangeName, routingKey, properties, body);
+    }
+
+    /**
+     * @see OutstandingConfirms#awaitConfirmed(Duration)
+     */
+    Set<UUID> awaitConfirmed(Duration timeout) throws InterruptedException {
+        return outstandingConfirms.awaitConfirmed(timeout);
+    }
+
+    boolean isOpen() {
+        return channel.isOpen();
+    }
+
+    void close() {
+        try {
+            channel.close();
+        } catch (IOException | TimeoutException | AlreadyClosedException e) {
+            // Channel is discarded anyway
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package ovh.equino.actracker.publisher.rabbitmq;
+
+import com.rabbitmq.client.ConfirmListener;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Notifications published on a channel in confirm mode and not yet confirmed by the broker, by delivery tag.
+ * Acknowledgements arrive asynchronously on the connection thread, possibly confirming multiple delivery tags at once.
+ */
+final class OutstandingConfirms implements ConfirmListener {
+
+    private final NavigableMap<Long, UUID> outstanding = new TreeMap<>();
+    private final Set<UUID> confirmed = new HashSet<>();
+
+    synchronized void track(long deliveryTag, UUID notificationId) {
+        outstanding.put(deliveryTag, notificationId);
+    }
+
+    /**
+     * Waits until all tracked notifications are either acknowledged or rejected by the broker, or the timeout passes.
+     * Notifications still outstanding after the timeout are forgotten, late acknowledgements are ignored.
+     *
+     * @return IDs of notifications acknowledged since the previous call
+     */
+    synchronized Set<UUID> awaitConfirmed(Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        long remainingNanos = timeout.toNanos();
+        while (!outstanding.isEmpty() && remainingNanos > 0) {
+            wait(remainingNanos / 1_000_000, (int) (remainingNanos % 1_000_000));
+            remainingNanos = deadline - System.nanoTime();
+        }
+        Set<UUID> confirmedSinceLastCall = new HashSet<>(confirmed);
+        confirmed.clear();
+        outstanding.clear();
+        return confirmedSinceLastCall;
+    }
+
+    /**
+     * Rejects all outstanding notifications, e.g. after the channel has been closed and no confirmation will arrive.
+     */
+    synchronized void rejectAll() {
+        outstanding.clear();
+        notifyAll();
+    }
+
+    @Override
+    public synchronized void handleAck(long deliveryTag, boolean multiple) {
+        Map<Long, UUID> acknowledged = settled(deliveryTag, multiple);
+        confirmed.addAll(acknowledged.values());
+        acknowledged.clear();
+        notifyAll();
+    }
+
+    @Override
+    public synchronized void handleNack(long deliveryTag, boolean multiple) {
+        settled(deliveryTag, multiple).clear();
+        notifyAll();
+    }
+
+    private Map<Long, UUID> settled(long deliveryTag, boolean multiple) {
+        if (multiple) {
+            return outstanding.headMap(deliveryTag, true);
+        }
+        return outstanding.subMap(deliveryTag, true, deliveryTag, true);
+    }
+}
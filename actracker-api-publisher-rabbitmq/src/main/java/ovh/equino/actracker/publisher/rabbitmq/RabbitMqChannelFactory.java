@@ -6,6 +6,10 @@ import com.rabbitmq.client.ConnectionFactory;
 
 import java.io.IOException;
 
+/**
+ * Opens channels on a single connection. The connection is recovered automatically after network failures,
+ * together with its open channels.
+ */
 public class RabbitMqChannelFactory {
 
     private final Connection connection;
@@ -17,6 +21,9 @@ public class RabbitMqChannelFactory {
         connectionFactory.setPort(connectionProperties.port());
         connectionFactory.setUsername(connectionProperties.username());
         connectionFactory.setPassword(connectionProperties.password());
+        connectionFactory.setAutomaticRecoveryEnabled(true);
+        connectionFactory.setTopologyRecoveryEnabled(true);
+        connectionFactory.setNetworkRecoveryInterval(connectionProperties.networkRecoveryInterval().toMillis());
 
         try {
             this.connection = connectionFactory.newConnection();
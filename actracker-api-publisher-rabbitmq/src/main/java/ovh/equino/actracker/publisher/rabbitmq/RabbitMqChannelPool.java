@@ -0,0 +1,133 @@
+package ovh.equino.actracker.publisher.rabbitmq;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.Objects.isNull;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+/**
+ * Bounded pool of channels in confirm mode, shared by publishing threads. A borrowed channel is used by a single
+ * thread until returned. Channels closed by the broker (e.g. after a channel-level exception) are discarded when
+ * returned or borrowed, and new ones are opened in their place.
+ */
+public class RabbitMqChannelPool implements AutoCloseable {
+
+    private final RabbitMqChannelFactory channelFactory;
+    private final RabbitMqChannelPoolProperties poolProperties;
+    private final Semaphore permits;
+    private final Deque<ConfirmChannel> idleChannels = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger openChannelsCount = new AtomicInteger();
+    private final AtomicLong createdChannelsCount = new AtomicLong();
+    private final AtomicLong discardedChannelsCount = new AtomicLong();
+
+    public RabbitMqChannelPool(RabbitMqChannelFactory channelFactory, RabbitMqChannelPoolProperties poolProperties) {
+        if (poolProperties.maxSize() < 1) {
+            throw new IllegalArgumentException("Channel pool size must be positive");
+        }
+        this.channelFactory = channelFactory;
+        this.poolProperties = poolProperties;
+        this.permits = new Semaphore(poolProperties.maxSize(), true);
+    }
+
+    /**
+     * Waits until a channel is available, for at most borrow timeout. Returned channel must be given back with
+     * {@link #returnChannel(ConfirmChannel)} or {@link #invalidateChannel(ConfirmChannel)}.
+     */
+    ConfirmChannel borrowChannel() {
+        acquirePermit();
+        try {
+            ConfirmChannel channel = idleChannels.pollFirst();
+            while (channel != null && !channel.isOpen()) {
+                discard(channel);
+                channel = idleChannels.pollFirst();
+            }
+            return isNull(channel) ? openChannel() : channel;
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    void returnChannel(ConfirmChannel channel) {
+        if (channel.isOpen()) {
+            idleChannels.offerFirst(channel);
+        } else {
+            discard(channel);
+        }
+        permits.release();
+    }
+
+    /**
+     * Closes and discards the channel, e.g. after publishing on it failed.
+     */
+    void invalidateChannel(ConfirmChannel channel) {
+        discard(channel);
+        permits.release();
+    }
+
+    public int getMaxSize() {
+        return poolProperties.maxSize();
+    }
+
+    public int getOpenChannelsCount() {
+        return openChannelsCount.get();
+    }
+
+    public int getIdleChannelsCount() {
+        return idleChannels.size();
+    }
+
+    public int getBorrowedChannelsCount() {
+        return poolProperties.maxSize() - permits.availablePermits();
+    }
+
+    public int getPendingBorrowsCount() {
+        return permits.getQueueLength();
+    }
+
+    public long getCreatedChannelsCount() {
+        return createdChannelsCount.get();
+    }
+
+    public long getDiscardedChannelsCount() {
+        return discardedChannelsCount.get();
+    }
+
+    @Override
+    public void close() {
+        ConfirmChannel channel;
+        while ((channel = idleChannels.pollFirst()) != null) {
+            discard(channel);
+        }
+    }
+
+    private void acquirePermit() {
+        try {
+            if (!permits.tryAcquire(poolProperties.borrowTimeout().toNanos(), NANOSECONDS)) {
+                throw new IllegalStateException(
+                        "No RabbitMQ channel available within %s".formatted(poolProperties.borrowTimeout())
+                );
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private ConfirmChannel openChannel() {
+        ConfirmChannel channel = new ConfirmChannel(channelFactory.createChannel());
+        openChannelsCount.incrementAndGet();
+        createdChannelsCount.incrementAndGet();
+        return channel;
+    }
+
+    private void discard(ConfirmChannel channel) {
+        channel.close();
+        openChannelsCount.decrementAndGet();
+        discardedChannelsCount.incrementAndGet();
+    }
+}
@@ -0,0 +1,10 @@
+package ovh.equino.actracker.publisher.rabbitmq;
+
+import java.time.Duration;
+
+/**
+ * @param maxSize       maximum number of open channels, and thus of threads publishing concurrently
+ * @param borrowTimeout time to wait for a channel when all of them are borrowed
+ */
+public record RabbitMqChannelPoolProperties(int maxSize, Duration borrowTimeout) {
+}
@@ -1,9 +1,12 @@
 package ovh.equino.actracker.publisher.rabbitmq;
 
+import java.time.Duration;
+
 public record RabbitMqConnectionProperties(
         String host,
         int port,
         String vhost,
         String username,
-        String password) {
+        String password,
+        Duration networkRecoveryInterval) {
 }
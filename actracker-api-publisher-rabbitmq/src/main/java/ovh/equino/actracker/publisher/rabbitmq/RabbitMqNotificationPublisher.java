@@ -1,42 +1,89 @@
 package ovh.equino.actracker.publisher.rabbitmq;
 
-import com.rabbitmq.client.Channel;
 import com.rabbitmq.client.MessageProperties;
 import ovh.equino.actracker.domain.Notification;
 import ovh.equino.actracker.domain.exception.ParseException;
 import ovh.equino.actracker.notification.outbox.NotificationPublisher;
 
 import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
 
 import static com.rabbitmq.client.BuiltinExchangeType.TOPIC;
 
+/**
+ * Publishes notifications on channels in confirm mode, borrowed from the pool, so that multiple threads can publish
+ * concurrently. Notifications of a batch are published one after another without waiting, then the broker's
+ * confirmations are awaited for the whole batch at once.
+ * <p>
+ * Notifications are published in UTF-8. Encoded data of notifications read from the outbox is put into the message as
+ * it is, see {@link ovh.equino.actracker.domain.NotificationCodec#encodeBytes(Notification)}.
+ */
 class RabbitMqNotificationPublisher implements NotificationPublisher {
 
     public static final String EXCHANGE_NAME = "notification.X.topic";
-    private final Channel channel;
+    private final RabbitMqChannelPool channelPool;
+    private final Duration confirmTimeout;
 
-    RabbitMqNotificationPublisher(RabbitMqChannelFactory channelFactory) {
-        this.channel = channelFactory.createChannel();
+    RabbitMqNotificationPublisher(RabbitMqChannelPool channelPool, RabbitMqPublisherProperties publisherProperties) {
+        this.channelPool = channelPool;
+        this.confirmTimeout = publisherProperties.confirmTimeout();
+        ConfirmChannel channel = channelPool.borrowChannel();
         try {
             boolean durable = true;
-            this.channel.exchangeDeclare(EXCHANGE_NAME, TOPIC, durable);
+            channel.declareExchange(EXCHANGE_NAME, TOPIC, durable);
         } catch (IOException e) {
+            channelPool.invalidateChannel(channel);
             throw new IllegalStateException(e);
         }
+        channelPool.returnChannel(channel);
     }
 
     @Override
     public void publishNotification(Notification<?> notification) {
-        try {
-            String message = notification.toJson();
-            channel.basicPublish(
-                    EXCHANGE_NAME,
-                    notification.notificationType().getCanonicalName(),
-                    MessageProperties.PERSISTENT_TEXT_PLAIN,
-                    message.getBytes()
+        Set<UUID> confirmedIds = publishNotifications(List.of(notification));
+        if (!confirmedIds.contains(notification.id())) {
+            throw new IllegalStateException(
+                    "Notification with ID=%s not confirmed by broker".formatted(notification.id())
             );
-        } catch (IOException | ParseException e) {
+        }
+    }
+
+    /**
+     * If publishing fails, the channel is discarded and the failure is rethrown. Notifications published before
+     * the failure stay in the outbox and are published again.
+     */
+    @Override
+    public Set<UUID> publishNotifications(List<Notification<?>> notifications) {
+        ConfirmChannel channel = channelPool.borrowChannel();
+        Set<UUID> confirmedIds;
+        try {
+            for (Notification<?> notification : notifications) {
+                publish(notification, channel);
+            }
+            confirmedIds = channel.awaitConfirmed(confirmTimeout);
+        } catch (IOException | ParseException | RuntimeException e) {
+            channelPool.invalidateChannel(channel);
+            throw new IllegalStateException(e);
+        } catch (InterruptedException e) {
+            channelPool.invalidateChannel(channel);
+            Thread.currentThread().interrupt();
             throw new IllegalStateException(e);
         }
+        channelPool.returnChannel(channel);
+        return confirmedIds;
+    }
+
+    private void publish(Notification<?> notification, ConfirmChannel channel) throws IOException, ParseException {
+        byte[] message = notification.toJsonBytes();
+        channel.publish(
+                notification.id(),
+                EXCHANGE_NAME,
+                notification.notificationType().getCanonicalName(),
+                MessageProperties.PERSISTENT_TEXT_PLAIN,
+                message
+        );
     }
 }
@@ -0,0 +1,10 @@
+package ovh.equino.actracker.publisher.rabbitmq;
+
+import java.time.Duration;
+
+/**
+ * @param confirmTimeout time to wait for the broker to confirm a batch of published notifications. Notifications not
+ *                       confirmed in time are considered failed.
+ */
+public record RabbitMqPublisherProperties(Duration confirmTimeout) {
+}
@@ -0,0 +1,150 @@
+package ovh.equino.actracker.publisher.rabbitmq;
+
+import com.rabbitmq.client.Channel;
+import com.rabbitmq.client.ConfirmListener;
+import com.rabbitmq.client.ShutdownListener;
+import com.rabbitmq.client.ShutdownSignalException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * In-process channel in confirm mode. Replies of the broker to published messages are sent asynchronously, from
+ * a separate thread, as done by the client library.
+ */
+final class FakeChannel {
+
+    enum BrokerReply {ACK, NACK, NONE, SHUTDOWN}
+
+    private final Channel channel = mock(Channel.class);
+    private final ExecutorService brokerThread = newSingleThreadExecutor();
+    private final AtomicLong nextPublishSeqNo = new AtomicLong(1);
+    private final AtomicBoolean open = new AtomicBoolean(true);
+    private final List<String> publishedRoutingKeys = new ArrayList<>();
+    private final List<byte[]> publishedBodies = new ArrayList<>();
+    private final List<ConfirmListener> confirmListeners = new ArrayList<>();
+    private final List<ShutdownListener> shutdownListeners = new ArrayList<>();
+
+    private List<BrokerReply> replies = List.of();
+    private boolean multipleAck;
+    private int failingPublication = -1;
+
+    FakeChannel() {
+        try {
+            when(channel.getNextPublishSeqNo()).thenAnswer(invocation -> nextPublishSeqNo.get());
+            when(channel.isOpen()).thenAnswer(invocation -> open.get());
+            doAnswer(invocation -> {
+                open.set(false);
+                return null;
+            }).when(channel).close();
+            doAnswer(invocation -> {
+                confirmListeners.add(invocation.getArgument(0));
+                return null;
+            }).when(channel).addConfirmListener(any(ConfirmListener.class));
+            doAnswer(invocation -> {
+                shutdownListeners.add(invocation.getArgument(0));
+                return null;
+            }).when(channel).addShutdownListener(any());
+            doAnswer(invocation -> {
+                publish(invocation.getArgument(1), invocation.getArgument(3));
+                return null;
+            }).when(channel).basicPublish(anyString(), anyString(), any(), any(byte[].class));
+        } catch (IOException | TimeoutException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    Channel channel() {
+        return channel;
+    }
+
+    /**
+     * Replies of the broker to subsequently published messages, in order of publication.
+     */
+    void replyWith(BrokerReply... replies) {
+        this.replies = List.of(replies);
+    }
+
+    /**
+     * Acknowledges all messages with a single reply, after the last of them has been published.
+     */
+    void acknowledgeMultiple() {
+        this.multipleAck = true;
+    }
+
+    void failPublishing(int publicationNumber) {
+        this.failingPublication = publicationNumber;
+    }
+
+    /**
+     * Closes the channel, as done by the broker after a channel-level exception.
+     */
+    void closeByBroker() {
+        open.set(false);
+    }
+
+    List<String> publishedRoutingKeys() {
+        return publishedRoutingKeys;
+    }
+
+    List<byte[]> publishedBodies() {
+        return publishedBodies;
+    }
+
+    private void publish(String routingKey, byte[] body) throws IOException {
+        int publicationNumber = publishedRoutingKeys.size();
+        if (publicationNumber == failingPublication) {
+            throw new IOException("Publishing failed");
+        }
+        publishedRoutingKeys.add(routingKey);
+        publishedBodies.add(body);
+        long deliveryTag = nextPublishSeqNo.getAndIncrement();
+        BrokerReply reply = publicationNumber < replies.size() ? replies.get(publicationNumber) : BrokerReply.NONE;
+        if (multipleAck) {
+            if (publicationNumber == replies.size() - 1) {
+                brokerThread.execute(() -> confirmListeners.forEach(listener -> handleAck(listener, deliveryTag, true)));
+            }
+            return;
+        }
+        switch (reply) {
+            case ACK -> brokerThread.execute(
+                    () -> confirmListeners.forEach(listener -> handleAck(listener, deliveryTag, false))
+            );
+            case NACK -> brokerThread.execute(
+                    () -> confirmListeners.forEach(listener -> handleNack(listener, deliveryTag))
+            );
+            case SHUTDOWN -> brokerThread.execute(() -> {
+                open.set(false);
+                ShutdownSignalException cause = new ShutdownSignalException(false, false, null, channel);
+                shutdownListeners.forEach(listener -> listener.shutdownCompleted(cause));
+            });
+            case NONE -> {
+            }
+        }
+    }
+
+    private void handleAck(ConfirmListener listener, long deliveryTag, boolean multiple) {
+        try {
+            listener.handleAck(deliveryTag, multiple);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void handleNack(ConfirmListener listener, long deliveryTag) {
+        try {
+            listener.handleNack(deliveryTag, false);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package ovh.equino.actracker.publisher.rabbitmq;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class RabbitMqChannelPoolTest {
+
+    private static final int MAX_SIZE = 2;
+    private static final Duration BORROW_TIMEOUT = Duration.ofMillis(200);
+
+    private final List<FakeChannel> openedChannels = new ArrayList<>();
+    private RabbitMqChannelPool channelPool;
+
+    @BeforeEach
+    void init() {
+        RabbitMqChannelFactory channelFactory = mock(RabbitMqChannelFactory.class);
+        when(channelFactory.createChannel()).thenAnswer(invocation -> {
+            FakeChannel channel = new FakeChannel();
+            openedChannels.add(channel);
+            return channel.channel();
+        });
+        channelPool = new RabbitMqChannelPool(
+                channelFactory,
+                new RabbitMqChannelPoolProperties(MAX_SIZE, BORROW_TIMEOUT)
+        );
+    }
+
+    @Test
+    void shouldReuseReturnedChannel() {
+        // given
+        ConfirmChannel borrowedChannel = channelPool.borrowChannel();
+        channelPool.returnChannel(borrowedChannel);
+
+        // when
+        ConfirmChannel reborrowedChannel = channelPool.borrowChannel();
+
+        // then
+        assertThat(reborrowedChannel).isSameAs(borrowedChannel);
+        assertThat(channelPool.getCreatedChannelsCount()).isEqualTo(1);
+        assertThat(channelPool.getBorrowedChannelsCount()).isEqualTo(1);
+        assertThat(channelPool.getIdleChannelsCount()).isZero();
+    }
+
+    @Test
+    void shouldFailBorrowingWhenAllChannelsBorrowed() {
+        // given
+        channelPool.borrowChannel();
+        channelPool.borrowChannel();
+
+        // then
+        assertThatThrownBy(() -> channelPool.borrowChannel())
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(channelPool.getOpenChannelsCount()).isEqualTo(MAX_SIZE);
+    }
+
+    @Test
+    void shouldReplaceChannelClosedByBrokerWhileIdle() {
+        // given
+        ConfirmChannel borrowedChannel = channelPool.borrowChannel();
+        channelPool.returnChannel(borrowedChannel);
+        openedChannels.get(0).closeByBroker();
+
+        // when
+        ConfirmChannel reborrowedChannel = channelPool.borrowChannel();
+
+        // then
+        assertThat(reborrowedChannel).isNotSameAs(borrowedChannel);
+        assertThat(reborrowedChannel.isOpen()).isTrue();
+        assertThat(channelPool.getDiscardedChannelsCount()).isEqualTo(1);
+        assertThat(channelPool.getOpenChannelsCount()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldDiscardChannelClosedByBrokerWhileBorrowed() {
+        // given
+        ConfirmChannel borrowedChannel = channelPool.borrowChannel();
+        openedChannels.get(0).closeByBroker();
+
+        // when
+        channelPool.returnChannel(borrowedChannel);
+
+        // then
+        assertThat(channelPool.getIdleChannelsCount()).isZero();
+        assertThat(channelPool.getOpenChannelsCount()).isZero();
+        assertThat(channelPool.getBorrowedChannelsCount()).isZero();
+    }
+
+    @Test
+    void shouldCloseInvalidatedChannel() {
+        // given
+        ConfirmChannel borrowedChannel = channelPool.borrowChannel();
+
+        // when
+        channelPool.invalidateChannel(borrowedChannel);
+
+        // then
+        assertThat(borrowedChannel.isOpen()).isFalse();
+        assertThat(channelPool.getOpenChannelsCount()).isZero();
+        assertThat(channelPool.getBorrowedChannelsCount()).isZero();
+    }
+
+    @Test
+    void shouldNotExceedMaxSizeWhenBorrowedConcurrently() throws Exception {
+        // given
+        int threadsCount = 8;
+        ExecutorService executor = newFixedThreadPool(threadsCount);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger concurrentlyBorrowed = new AtomicInteger();
+        AtomicInteger maxConcurrentlyBorrowed = new AtomicInteger();
+        RabbitMqChannelPool sharedChannelPool = new RabbitMqChannelPool(
+                mockChannelFactory(),
+                new RabbitMqChannelPoolProperties(MAX_SIZE, Duration.ofSeconds(10))
+        );
+
+        // when
+        List<Future<?>> borrowers = new ArrayList<>();
+        for (int i = 0; i < threadsCount; i++) {
+            borrowers.add(executor.submit(() -> {
+                start.await();
+                for (int j = 0; j < 50; j++) {
+                    ConfirmChannel channel = sharedChannelPool.borrowChannel();
+                    maxConcurrentlyBorrowed.accumulateAndGet(concurrentlyBorrowed.incrementAndGet(), Math::max);
+                    Thread.yield();
+                    concurrentlyBorrowed.decrementAndGet();
+                    sharedChannelPool.returnChannel(channel);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> borrower : borrowers) {
+            borrower.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(maxConcurrentlyBorrowed).hasValueLessThanOrEqualTo(MAX_SIZE);
+        assertThat(sharedChannelPool.getCreatedChannelsCount()).isLessThanOrEqualTo(MAX_SIZE);
+        assertThat(sharedChannelPool.getBorrowedChannelsCount()).isZero();
+    }
+
+    private RabbitMqChannelFactory mockChannelFactory() {
+        RabbitMqChannelFactory channelFactory = mock(RabbitMqChannelFactory.class);
+        when(channelFactory.createChannel()).thenAnswer(invocation -> new FakeChannel().channel());
+        return channelFactory;
+    }
+}
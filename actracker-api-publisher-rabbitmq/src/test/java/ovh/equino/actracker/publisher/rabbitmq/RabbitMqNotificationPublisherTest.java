@@ -0,0 +1,178 @@
+package ovh.equino.actracker.publisher.rabbitmq;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import ovh.equino.actracker.domain.EncodedNotificationData;
+import ovh.equino.actracker.domain.Notification;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.UUID.randomUUID;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+import static ovh.equino.actracker.publisher.rabbitmq.FakeChannel.BrokerReply.*;
+
+class RabbitMqNotificationPublisherTest {
+
+    private static final Duration CONFIRM_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration LONG_CONFIRM_TIMEOUT = Duration.ofMinutes(1);
+
+    private static final Notification<?> NOTIFICATION_1 = new Notification<>(randomUUID(), BigDecimal.ONE);
+    private static final Notification<?> NOTIFICATION_2 = new Notification<>(randomUUID(), BigDecimal.TEN);
+    private static final Notification<?> NOTIFICATION_3 = new Notification<>(randomUUID(), BigDecimal.ZERO);
+
+    private FakeChannel fakeChannel;
+    private RabbitMqChannelFactory channelFactory;
+    private RabbitMqChannelPool channelPool;
+
+    @BeforeEach
+    void init() {
+        fakeChannel = new FakeChannel();
+        channelFactory = mock(RabbitMqChannelFactory.class);
+        when(channelFactory.createChannel()).thenReturn(fakeChannel.channel());
+        channelPool = new RabbitMqChannelPool(channelFactory, new RabbitMqChannelPoolProperties(1, CONFIRM_TIMEOUT));
+    }
+
+    @Test
+    void shouldPublishBatchInConfirmMode() throws Exception {
+        // given
+        fakeChannel.replyWith(ACK, ACK, ACK);
+        RabbitMqNotificationPublisher publisher = publisher(CONFIRM_TIMEOUT);
+
+        // when
+        Set<UUID> confirmedIds = publisher.publishNotifications(List.of(NOTIFICATION_1, NOTIFICATION_2, NOTIFICATION_3));
+
+        // then
+        assertThat(confirmedIds).containsExactlyInAnyOrder(NOTIFICATION_1.id(), NOTIFICATION_2.id(), NOTIFICATION_3.id());
+        assertThat(fakeChannel.publishedRoutingKeys())
+                .hasSize(3)
+                .containsOnly(BigDecimal.class.getCanonicalName());
+        verify(fakeChannel.channel()).confirmSelect();
+    }
+
+    @Test
+    void shouldPublishNotificationsWithEncodedDataAsDecodedOnes() throws Exception {
+        // given
+        fakeChannel.replyWith(ACK, ACK);
+        RabbitMqNotificationPublisher publisher = publisher(CONFIRM_TIMEOUT);
+        Notification<?> encodedNotification = new Notification<>(
+                NOTIFICATION_1.id(),
+                NOTIFICATION_1.version(),
+                new EncodedNotificationData(NOTIFICATION_1.toJsonData()),
+                NOTIFICATION_1.notificationType()
+        );
+
+        // when
+        publisher.publishNotifications(List.of(NOTIFICATION_1, encodedNotification));
+
+        // then
+        assertThat(fakeChannel.publishedBodies())
+                .hasSize(2)
+                .allSatisfy(body -> assertThat(body).isEqualTo(NOTIFICATION_1.toJson().getBytes(UTF_8)));
+        assertThat(fakeChannel.publishedRoutingKeys())
+                .containsExactly(BigDecimal.class.getCanonicalName(), BigDecimal.class.getCanonicalName());
+    }
+
+    @Test
+    void shouldConfirmNotificationsAcknowledgedWithSingleReply() {
+        // given
+        fakeChannel.replyWith(ACK, ACK, ACK);
+        fakeChannel.acknowledgeMultiple();
+        RabbitMqNotificationPublisher publisher = publisher(CONFIRM_TIMEOUT);
+
+        // when
+        Set<UUID> confirmedIds = publisher.publishNotifications(List.of(NOTIFICATION_1, NOTIFICATION_2, NOTIFICATION_3));
+
+        // then
+        assertThat(confirmedIds).containsExactlyInAnyOrder(NOTIFICATION_1.id(), NOTIFICATION_2.id(), NOTIFICATION_3.id());
+    }
+
+    @Test
+    void shouldNotConfirmRejectedNotifications() {
+        // given
+        fakeChannel.replyWith(ACK, NACK, ACK);
+        RabbitMqNotificationPublisher publisher = publisher(CONFIRM_TIMEOUT);
+
+        // when
+        Set<UUID> confirmedIds = publisher.publishNotifications(List.of(NOTIFICATION_1, NOTIFICATION_2, NOTIFICATION_3));
+
+        // then
+        assertThat(confirmedIds).containsExactlyInAnyOrder(NOTIFICATION_1.id(), NOTIFICATION_3.id());
+    }
+
+    @Test
+    void shouldNotConfirmNotificationsNotAcknowledgedInTime() {
+        // given
+        fakeChannel.replyWith(ACK, ACK, NONE);
+        RabbitMqNotificationPublisher publisher = publisher(CONFIRM_TIMEOUT);
+
+        // when
+        Set<UUID> confirmedIds = publisher.publishNotifications(List.of(NOTIFICATION_1, NOTIFICATION_2, NOTIFICATION_3));
+
+        // then
+        assertThat(confirmedIds).containsExactlyInAnyOrder(NOTIFICATION_1.id(), NOTIFICATION_2.id());
+    }
+
+    @Test
+    void shouldNotReportConfirmationsOfPreviousBatch() {
+        // given
+        fakeChannel.replyWith(NONE, ACK, ACK);
+        RabbitMqNotificationPublisher publisher = publisher(CONFIRM_TIMEOUT);
+        publisher.publishNotifications(List.of(NOTIFICATION_1));
+
+        // when
+        Set<UUID> confirmedIds = publisher.publishNotifications(List.of(NOTIFICATION_2, NOTIFICATION_3));
+
+        // then
+        assertThat(confirmedIds).containsExactlyInAnyOrder(NOTIFICATION_2.id(), NOTIFICATION_3.id());
+    }
+
+    @Test
+    void shouldStopWaitingForConfirmationsWhenChannelShutDown() {
+        // given
+        fakeChannel.replyWith(ACK, SHUTDOWN);
+        RabbitMqNotificationPublisher publisher = publisher(LONG_CONFIRM_TIMEOUT);
+
+        // when
+        Set<UUID> confirmedIds = publisher.publishNotifications(List.of(NOTIFICATION_1, NOTIFICATION_2));
+
+        // then
+        assertThat(confirmedIds).containsExactly(NOTIFICATION_1.id());
+    }
+
+    @Test
+    void shouldFailWhenPublishingFailed() {
+        // given
+        fakeChannel.replyWith(ACK, ACK, ACK);
+        fakeChannel.failPublishing(1);
+        RabbitMqNotificationPublisher publisher = publisher(CONFIRM_TIMEOUT);
+
+        // then
+        assertThatThrownBy(() -> publisher.publishNotifications(List.of(NOTIFICATION_1, NOTIFICATION_2)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(fakeChannel.channel().isOpen()).isFalse();
+        assertThat(channelPool.getDiscardedChannelsCount()).isEqualTo(1);
+        assertThat(channelPool.getBorrowedChannelsCount()).isZero();
+    }
+
+    @Test
+    void shouldFailPublishingSingleNotificationWhenRejected() {
+        // given
+        fakeChannel.replyWith(NACK);
+        RabbitMqNotificationPublisher publisher = publisher(CONFIRM_TIMEOUT);
+
+        // then
+        assertThatThrownBy(() -> publisher.publishNotification(NOTIFICATION_1))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private RabbitMqNotificationPublisher publisher(Duration confirmTimeout) {
+        return new RabbitMqNotificationPublisher(channelPool, new RabbitMqPublisherProperties(confirmTimeout));
+    }
+}
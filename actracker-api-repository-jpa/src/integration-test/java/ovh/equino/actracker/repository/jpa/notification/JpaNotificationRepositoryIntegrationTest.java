@@ -6,9 +6,11 @@ import ovh.equino.actracker.domain.Notification;
 import ovh.equino.actracker.jpa.JpaIntegrationTest;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.util.UUID.randomUUID;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -87,4 +89,85 @@ abstract class JpaNotificationRepositoryIntegrationTest extends JpaIntegrationTe
             assertThat(foundNotification).isNotPresent();
         });
     }
+
+    @Test
+    void shouldDeleteAllNotifications() {
+        UUID firstNotificationId = nextUUID();
+        UUID secondNotificationId = nextUUID();
+        UUID notDeletedNotificationId = nextUUID();
+        inTransaction(() -> {
+            repository.save(new Notification<>(firstNotificationId, BigDecimal.ONE));
+            repository.save(new Notification<>(secondNotificationId, BigDecimal.TEN));
+            repository.save(new Notification<>(notDeletedNotificationId, BigDecimal.ZERO));
+        });
+
+        inTransaction(() -> {
+            List<Notification<?>> notifications = List.of(
+                    repository.get(firstNotificationId).orElseThrow(),
+                    repository.get(secondNotificationId).orElseThrow()
+            );
+            repository.deleteAll(notifications);
+        });
+        entityManager.clear();  // bulk delete bypasses persistence context
+
+        inTransaction(() -> {
+            assertThat(repository.get(firstNotificationId)).isNotPresent();
+            assertThat(repository.get(secondNotificationId)).isNotPresent();
+            assertThat(repository.get(notDeletedNotificationId)).isPresent();
+        });
+    }
+
+    @Test
+    void shouldNotDeleteNotificationSavedAgainAfterRead() {
+        UUID notificationId = nextUUID();
+        Notification<?> notification = new Notification<>(notificationId, BigDecimal.ONE);
+        AtomicReference<Notification<?>> readNotification = new AtomicReference<>();
+        inTransaction(() -> {
+            repository.save(notification);
+            readNotification.set(repository.get(notificationId).orElseThrow());
+        });
+
+        inTransaction(() -> repository.save(notification));
+        inTransaction(() -> repository.deleteAll(List.of(readNotification.get())));
+        entityManager.clear();
+
+        inTransaction(() -> {
+            Optional<Notification<?>> foundNotification = repository.get(notificationId);
+            assertThat(foundNotification).isPresent();
+            assertThat(foundNotification.get().version()).isGreaterThan(readNotification.get().version());
+        });
+    }
+
+    @Test
+    void shouldNotDeleteNotificationSavedAgainWithVersionWithinBatch() {
+        UUID savedAgainNotificationId = nextUUID();
+        UUID laterNotificationId = nextUUID();
+        Notification<?> savedAgainNotification = new Notification<>(savedAgainNotificationId, BigDecimal.ONE);
+        AtomicReference<Notification<?>> readSavedAgainNotification = new AtomicReference<>();
+        AtomicReference<Notification<?>> readLaterNotification = new AtomicReference<>();
+        inTransaction(() -> {
+            repository.save(savedAgainNotification);
+            readSavedAgainNotification.set(repository.get(savedAgainNotificationId).orElseThrow());
+        });
+        // Saved again with a version between the read versions of the deleted notifications
+        inTransaction(() -> repository.save(savedAgainNotification));
+        inTransaction(() -> {
+            repository.save(new Notification<>(laterNotificationId, BigDecimal.TEN));
+            readLaterNotification.set(repository.get(laterNotificationId).orElseThrow());
+        });
+
+        inTransaction(() -> repository.deleteAll(
+                List.of(readSavedAgainNotification.get(), readLaterNotification.get())
+        ));
+        entityManager.clear();
+
+        inTransaction(() -> {
+            Optional<Notification<?>> foundNotification = repository.get(savedAgainNotificationId);
+            assertThat(foundNotification).isPresent();
+            assertThat(foundNotification.get().version())
+                    .isGreaterThan(readSavedAgainNotification.get().version())
+                    .isLessThan(readLaterNotification.get().version());
+            assertThat(repository.get(laterNotificationId)).isNotPresent();
+        });
+    }
 }
@@ -1,12 +1,16 @@
 package ovh.equino.actracker.repository.jpa.notification;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
 import ovh.equino.actracker.domain.Notification;
 import ovh.equino.actracker.jpa.notification.NotificationEntity;
 import ovh.equino.actracker.notification.outbox.NotificationRepository;
 import ovh.equino.actracker.jpa.JpaDAO;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import java.util.StringJoiner;
 import java.util.UUID;
 
 import static java.util.Objects.isNull;
@@ -42,4 +46,23 @@ class JpaNotificationRepository extends JpaDAO implements NotificationRepository
         NotificationEntity notification = entityManager.find(NotificationEntity.class, notificationId.toString());
         entityManager.remove(notification);
     }
+
+    @Override
+    public void deleteAll(Collection<Notification<?>> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        List<Notification<?>> deletedNotifications = List.copyOf(notifications);
+        StringJoiner readVersions = new StringJoiner(" OR ");
+        for (int i = 0; i < deletedNotifications.size(); i++) {
+            readVersions.add("(n.id = :notificationId%d AND n.version = :version%d)".formatted(i, i));
+        }
+        Query query = entityManager.createQuery("DELETE FROM NotificationEntity n WHERE " + readVersions);
+        for (int i = 0; i < deletedNotifications.size(); i++) {
+            Notification<?> notification = deletedNotifications.get(i);
+            query.setParameter("notificationId%d".formatted(i), notification.id().toString());
+            query.setParameter("version%d".formatted(i), notification.version());
+        }
+        query.executeUpdate();
+    }
 }
@@ -1,6 +1,7 @@
 package ovh.equino.actracker.repository.jpa.notification;
 
 import ovh.equino.actracker.domain.Notification;
+import ovh.equino.actracker.domain.NotificationCodec;
 import ovh.equino.actracker.domain.exception.ParseException;
 import ovh.equino.actracker.jpa.notification.NotificationEntity;
 
@@ -13,10 +14,10 @@ class NotificationMapper {
 
     Notification<?> toDomainObject(NotificationEntity entity) {
         try {
-            Class<?> notificationType = Class.forName(entity.getDataType());
+            Class<?> notificationType = NotificationCodec.typeOfCode(entity.getDataType());
             Object data = Notification.fromJsonData(entity.getData(), notificationType);
             return new Notification<>(UUID.fromString(entity.getId()), entity.getVersion(), data, notificationType);
-        } catch (ParseException | ClassNotFoundException e) {
+        } catch (ParseException e) {
             throw new RuntimeException(e);
         }
     }
@@ -26,7 +27,7 @@ class NotificationMapper {
             NotificationEntity entity = new NotificationEntity();
             entity.setId(dto.id().toString());
             entity.setData(dto.toJsonData());
-            entity.setDataType(dto.notificationType().getCanonicalName());
+            entity.setDataType(NotificationCodec.typeCode(dto.notificationType()));
             return entity;
         } catch (ParseException e) {
             throw new RuntimeException(e);
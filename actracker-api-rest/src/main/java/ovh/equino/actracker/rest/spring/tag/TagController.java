@@ -66,13 +66,15 @@ class TagController {
     SearchResponse<Tag> searchTags(@RequestParam(name = "pageId", required = false) String pageId,
                                    @RequestParam(name = "pageSize", required = false) Integer pageSize,
                                    @RequestParam(name = "term", required = false) String term,
-                                   @RequestParam(name = "excludedTags", required = false) String excludedTags) {
+                                   @RequestParam(name = "excludedTags", required = false) String excludedTags,
+                                   @RequestParam(name = "orderBy", required = false) String orderBy) {
 
         SearchTagsQuery searchTagsQuery = new SearchTagsQuery(
                 pageSize,
                 pageId,
                 term,
-                tagMapper.parseIds(excludedTags)
+                tagMapper.parseIds(excludedTags),
+                orderBy
         );
         SearchResult<TagResult> searchResult = tagApplicationService.searchTags(searchTagsQuery);
         List<Tag> foundResults = searchResult.results().stream()
@@ -0,0 +1,52 @@
+package ovh.equino.actracker.search.datasource;
+
+import ovh.equino.actracker.domain.EntitySearchCriteria;
+import ovh.equino.actracker.domain.EntitySearchResult;
+import ovh.equino.actracker.domain.PageCursor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Pages continue after the sort key of the last entity of the previous page, encoded as the next page ID.
+ */
+public final class KeysetPages {
+
+    private KeysetPages() {
+    }
+
+    /**
+     * @return criteria finding one entity more than requested, to find out whether there is a next page.
+     */
+    public static EntitySearchCriteria withLookahead(EntitySearchCriteria searchCriteria) {
+        return new EntitySearchCriteria(
+                searchCriteria.searcher(),
+                searchCriteria.pageSize() + 1,
+                searchCriteria.pageId(),
+                searchCriteria.term(),
+                searchCriteria.timeRangeStart(),
+                searchCriteria.timeRangeEnd(),
+                searchCriteria.excludeFilter(),
+                searchCriteria.tags(),
+                searchCriteria.sortCriteria()
+        );
+    }
+
+    /**
+     * @param foundEntities entities found with {@link #withLookahead(EntitySearchCriteria)}.
+     * @param cursorOf      sort key of an entity, in the order of search criteria.
+     */
+    public static <T> EntitySearchResult<T> toSearchResult(List<T> foundEntities,
+                                                           int pageSize,
+                                                           Function<T, PageCursor> cursorOf) {
+
+        if (foundEntities.size() <= pageSize) {
+            return new EntitySearchResult<>(null, foundEntities);
+        }
+        List<T> results = foundEntities.subList(0, pageSize);
+        String nextPageId = pageSize == 0
+                ? null
+                : cursorOf.apply(results.get(pageSize - 1)).encode();
+        return new EntitySearchResult<>(nextPageId, results);
+    }
+}
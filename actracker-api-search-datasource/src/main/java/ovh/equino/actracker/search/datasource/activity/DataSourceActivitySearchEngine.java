@@ -2,12 +2,19 @@ package ovh.equino.actracker.search.datasource.activity;
 
 import ovh.equino.actracker.domain.EntitySearchCriteria;
 import ovh.equino.actracker.domain.EntitySearchResult;
+import ovh.equino.actracker.domain.EntitySortCriteria;
+import ovh.equino.actracker.domain.PageCursor;
 import ovh.equino.actracker.domain.activity.ActivityDataSource;
 import ovh.equino.actracker.domain.activity.ActivityDto;
 import ovh.equino.actracker.domain.activity.ActivitySearchEngine;
 
-import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Consumer;
+
+import static java.util.Objects.isNull;
+import static ovh.equino.actracker.domain.activity.ActivitySortField.START_TIME;
+import static ovh.equino.actracker.search.datasource.KeysetPages.toSearchResult;
+import static ovh.equino.actracker.search.datasource.KeysetPages.withLookahead;
 
 class DataSourceActivitySearchEngine implements ActivitySearchEngine {
 
@@ -19,31 +26,30 @@ class DataSourceActivitySearchEngine implements ActivitySearchEngine {
 
     @Override
     public EntitySearchResult<ActivityDto> findActivities(EntitySearchCriteria searchCriteria) {
-        EntitySearchCriteria forNextPageIdSearchCriteria = new EntitySearchCriteria(
-                searchCriteria.searcher(),
-                searchCriteria.pageSize() + 1,   // additional one to calculate next page ID
-                searchCriteria.pageId(),
-                searchCriteria.term(),
-                searchCriteria.timeRangeStart(),
-                searchCriteria.timeRangeEnd(),
-                searchCriteria.excludeFilter(),
-                searchCriteria.tags()
+        List<ActivityDto> foundActivities = activityDataSource.find(withLookahead(searchCriteria));
+        return toSearchResult(
+                foundActivities,
+                searchCriteria.pageSize(),
+                activity -> cursorOf(activity, searchCriteria.sortCriteria())
         );
+    }
 
-        List<ActivityDto> foundActivities = activityDataSource.find(forNextPageIdSearchCriteria);
-        String nextPageId = getNextPageId(foundActivities, searchCriteria.pageSize());
-        List<ActivityDto> results = foundActivities.stream()
-                .limit(searchCriteria.pageSize())
-                .toList();
-
-        return new EntitySearchResult<>(nextPageId, results);
+    @Override
+    public void forEachStartedActivity(EntitySearchCriteria searchCriteria, Consumer<ActivityDto> consumer) {
+        activityDataSource.forEachStarted(searchCriteria, consumer);
     }
 
-    private String getNextPageId(List<ActivityDto> foundActivities, int pageSize) {
-        if (foundActivities.size() <= pageSize) {
-            return null;
+    private PageCursor cursorOf(ActivityDto activity, EntitySortCriteria sortCriteria) {
+        if (isSortedByStartTime(sortCriteria)) {
+            String startTime = isNull(activity.startTime()) ? null : activity.startTime().toString();
+            return new PageCursor(startTime, activity.id().toString());
         }
-        ActivityDto lastActivity = new LinkedList<>(foundActivities).get(pageSize);
-        return lastActivity.id().toString();
+        return new PageCursor(activity.id().toString());
+    }
+
+    private boolean isSortedByStartTime(EntitySortCriteria sortCriteria) {
+        return sortCriteria.levels()
+                .stream()
+                .anyMatch(level -> level.field() == START_TIME);
     }
 }
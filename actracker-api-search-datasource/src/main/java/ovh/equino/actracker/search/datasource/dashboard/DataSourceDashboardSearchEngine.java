@@ -2,13 +2,16 @@ package ovh.equino.actracker.search.datasource.dashboard;
 
 import ovh.equino.actracker.domain.EntitySearchCriteria;
 import ovh.equino.actracker.domain.EntitySearchResult;
+import ovh.equino.actracker.domain.PageCursor;
 import ovh.equino.actracker.domain.dashboard.DashboardDataSource;
 import ovh.equino.actracker.domain.dashboard.DashboardDto;
 import ovh.equino.actracker.domain.dashboard.DashboardSearchEngine;
 
-import java.util.LinkedList;
 import java.util.List;
 
+import static ovh.equino.actracker.search.datasource.KeysetPages.toSearchResult;
+import static ovh.equino.actracker.search.datasource.KeysetPages.withLookahead;
+
 class DataSourceDashboardSearchEngine implements DashboardSearchEngine {
 
     private final DashboardDataSource dashboardDataSource;
@@ -19,31 +22,11 @@ class DataSourceDashboardSearchEngine implements DashboardSearchEngine {
 
     @Override
     public EntitySearchResult<DashboardDto> findDashboards(EntitySearchCriteria searchCriteria) {
-        EntitySearchCriteria forNextPageIdSearchCriteria = new EntitySearchCriteria(
-                searchCriteria.searcher(),
-                searchCriteria.pageSize() + 1,   // additional one to calculate next page ID
-                searchCriteria.pageId(),
-                searchCriteria.term(),
-                searchCriteria.timeRangeStart(),
-                searchCriteria.timeRangeEnd(),
-                searchCriteria.excludeFilter(),
-                searchCriteria.tags()
+        List<DashboardDto> foundDashboards = dashboardDataSource.find(withLookahead(searchCriteria));
+        return toSearchResult(
+                foundDashboards,
+                searchCriteria.pageSize(),
+                dashboard -> new PageCursor(dashboard.id().toString())
         );
-
-        List<DashboardDto> foundDashboards = dashboardDataSource.find(forNextPageIdSearchCriteria);
-        String nextPageId = getNextPageId(foundDashboards, searchCriteria.pageSize());
-        List<DashboardDto> results = foundDashboards.stream()
-                .limit(searchCriteria.pageSize())
-                .toList();
-
-        return new EntitySearchResult<>(nextPageId, results);
-    }
-
-    private String getNextPageId(List<DashboardDto> foundDashboards, int pageSize) {
-        if (foundDashboards.size() <= pageSize) {
-            return null;
-        }
-        DashboardDto lastDashboard = new LinkedList<>(foundDashboards).get(pageSize);
-        return lastDashboard.id().toString();
     }
 }
@@ -2,13 +2,18 @@ package ovh.equino.actracker.search.datasource.tag;
 
 import ovh.equino.actracker.domain.EntitySearchCriteria;
 import ovh.equino.actracker.domain.EntitySearchResult;
+import ovh.equino.actracker.domain.EntitySortCriteria;
+import ovh.equino.actracker.domain.PageCursor;
 import ovh.equino.actracker.domain.tag.TagDataSource;
 import ovh.equino.actracker.domain.tag.TagDto;
 import ovh.equino.actracker.domain.tag.TagSearchEngine;
 
-import java.util.LinkedList;
 import java.util.List;
 
+import static ovh.equino.actracker.domain.tag.TagSortField.NAME;
+import static ovh.equino.actracker.search.datasource.KeysetPages.toSearchResult;
+import static ovh.equino.actracker.search.datasource.KeysetPages.withLookahead;
+
 class DataSourceTagSearchEngine implements TagSearchEngine {
 
     private final TagDataSource tagDataSource;
@@ -19,32 +24,24 @@ class DataSourceTagSearchEngine implements TagSearchEngine {
 
     @Override
     public EntitySearchResult<TagDto> findTags(EntitySearchCriteria searchCriteria) {
-
-        EntitySearchCriteria forNextPageIdSearchCriteria = new EntitySearchCriteria(
-                searchCriteria.searcher(),
-                searchCriteria.pageSize() + 1,   // additional one to calculate next page ID
-                searchCriteria.pageId(),
-                searchCriteria.term(),
-                searchCriteria.timeRangeStart(),
-                searchCriteria.timeRangeEnd(),
-                searchCriteria.excludeFilter(),
-                searchCriteria.tags()
+        List<TagDto> foundTags = tagDataSource.find(withLookahead(searchCriteria));
+        return toSearchResult(
+                foundTags,
+                searchCriteria.pageSize(),
+                tag -> cursorOf(tag, searchCriteria.sortCriteria())
         );
-
-        List<TagDto> foundTags = tagDataSource.find(forNextPageIdSearchCriteria);
-        String nextPageId = getNextPageId(foundTags, searchCriteria.pageSize());
-        List<TagDto> results = foundTags.stream()
-                .limit(searchCriteria.pageSize())
-                .toList();
-
-        return new EntitySearchResult<>(nextPageId, results);
     }
 
-    private String getNextPageId(List<TagDto> foundTags, int pageSize) {
-        if (foundTags.size() <= pageSize) {
-            return null;
+    private PageCursor cursorOf(TagDto tag, EntitySortCriteria sortCriteria) {
+        if (isSortedByName(sortCriteria)) {
+            return new PageCursor(tag.name(), tag.id().toString());
         }
-        TagDto lastTag = new LinkedList<>(foundTags).get(pageSize);
-        return lastTag.id().toString();
+        return new PageCursor(tag.id().toString());
+    }
+
+    private boolean isSortedByName(EntitySortCriteria sortCriteria) {
+        return sortCriteria.levels()
+                .stream()
+                .anyMatch(level -> level.field() == NAME);
     }
 }
@@ -2,13 +2,16 @@ package ovh.equino.actracker.search.datasource.tagset;
 
 import ovh.equino.actracker.domain.EntitySearchCriteria;
 import ovh.equino.actracker.domain.EntitySearchResult;
+import ovh.equino.actracker.domain.PageCursor;
 import ovh.equino.actracker.domain.tagset.TagSetDataSource;
 import ovh.equino.actracker.domain.tagset.TagSetDto;
 import ovh.equino.actracker.domain.tagset.TagSetSearchEngine;
 
-import java.util.LinkedList;
 import java.util.List;
 
+import static ovh.equino.actracker.search.datasource.KeysetPages.toSearchResult;
+import static ovh.equino.actracker.search.datasource.KeysetPages.withLookahead;
+
 class DataSourceTagSetSearchEngine implements TagSetSearchEngine {
 
     private final TagSetDataSource tagSetDataSource;
@@ -19,31 +22,11 @@ class DataSourceTagSetSearchEngine implements TagSetSearchEngine {
 
     @Override
     public EntitySearchResult<TagSetDto> findTagSets(EntitySearchCriteria searchCriteria) {
-        EntitySearchCriteria forNextPageIdSearchCriteria = new EntitySearchCriteria(
-                searchCriteria.searcher(),
-                searchCriteria.pageSize() + 1,   // additional one to calculate next page ID
-                searchCriteria.pageId(),
-                searchCriteria.term(),
-                searchCriteria.timeRangeStart(),
-                searchCriteria.timeRangeEnd(),
-                searchCriteria.excludeFilter(),
-                searchCriteria.tags()
+        List<TagSetDto> foundTagSets = tagSetDataSource.find(withLookahead(searchCriteria));
+        return toSearchResult(
+                foundTagSets,
+                searchCriteria.pageSize(),
+                tagSet -> new PageCursor(tagSet.id().toString())
         );
-
-        List<TagSetDto> foundTagSets = tagSetDataSource.find(forNextPageIdSearchCriteria);
-        String nextPageId = getNextPageId(foundTagSets, searchCriteria.pageSize());
-        List<TagSetDto> results = foundTagSets.stream()
-                .limit(searchCriteria.pageSize())
-                .toList();
-
-        return new EntitySearchResult<>(nextPageId, results);
-    }
-
-    private String getNextPageId(List<TagSetDto> foundTagSets, int pageSize) {
-        if (foundTagSets.size() <= pageSize) {
-            return null;
-        }
-        TagSetDto lastTagSet = new LinkedList<>(foundTagSets).get(pageSize);
-        return lastTagSet.id().toString();
     }
 }